@@ -2,8 +2,10 @@ package br.com.actios.actios_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ActiosBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,79 @@
+package br.com.actios.actios_backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+// Cache de segundo nível do Hibernate em memória (JCache sobre Caffeine), com limite de entradas por região.
+// O cache é local a cada nó: o TTL limita por quanto tempo uma alteração feita em outro nó fica invisível
+// (categorias, faculdades e cursos são invalidados antes, pela versão do DadosReferenciaCache).
+// Evento fica fora: data, local e ativo mudam com frequência, e o outbox entrega cada alteração a um
+// único nó, então não há como invalidar a cópia dos demais; uma inscrição não pode ver um evento velho.
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    public static final String REGIAO_CATEGORIA = "categoria";
+    public static final String REGIAO_FACULDADE = "faculdade";
+    public static final String REGIAO_FACULDADE_CURSOS = "faculdade.cursos";
+    public static final String REGIAO_PALESTRANTE = "palestrante";
+    public static final String REGIAO_CURSO = "curso";
+    public static final String REGIAO_CONSULTAS = "default-query-results-region";
+    public static final String REGIAO_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> REGIOES = List.of(REGIAO_CATEGORIA, REGIAO_FACULDADE,
+            REGIAO_FACULDADE_CURSOS, REGIAO_PALESTRANTE, REGIAO_CURSO, REGIAO_CONSULTAS, REGIAO_TIMESTAMPS);
+
+    @Value("${actios.cache-l2.ttl-segundos:300}")
+    private long ttlSegundos;
+
+    @Value("${actios.cache-l2.max-referencia:5000}")
+    private long maxReferencia;
+
+    @Value("${actios.cache-l2.max-consultas:2000}")
+    private long maxConsultas;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerSegundoNivel() {
+        // Provider próprio em vez do singleton de Caching: cada contexto Spring fica com os seus caches
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        criar(cacheManager, REGIAO_CATEGORIA, maxReferencia, ttlSegundos);
+        criar(cacheManager, REGIAO_FACULDADE, maxReferencia, ttlSegundos);
+        criar(cacheManager, REGIAO_FACULDADE_CURSOS, maxReferencia, ttlSegundos);
+        criar(cacheManager, REGIAO_PALESTRANTE, maxReferencia, ttlSegundos);
+        criar(cacheManager, REGIAO_CURSO, maxReferencia, ttlSegundos);
+        criar(cacheManager, REGIAO_CONSULTAS, maxConsultas, ttlSegundos);
+        // Timestamps invalidam as consultas em cache; não podem expirar nem ser despejados antes delas
+        criar(cacheManager, REGIAO_TIMESTAMPS, Long.MAX_VALUE, 0);
+        return cacheManager;
+    }
+
+    // Região não criada aqui derruba a inicialização (missing_cache_strategy: fail) em vez de nascer sem limite
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivel(CacheManager cacheManagerSegundoNivel) {
+        return propriedades -> propriedades.put("hibernate.javax.cache.cache_manager", cacheManagerSegundoNivel);
+    }
+
+    private void criar(CacheManager cacheManager, String regiao, long maximo, long ttlSegundos) {
+        if (cacheManager.getCache(regiao) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+        if (maximo < Long.MAX_VALUE) {
+            configuracao.setMaximumSize(OptionalLong.of(maximo));
+        }
+        if (ttlSegundos > 0) {
+            configuracao.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSegundos)));
+        }
+        cacheManager.createCache(regiao, configuracao);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.actios.actios_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Transações readOnly vão para a réplica; todo o resto vai para o primário.
+// A escolha acontece quando a conexão é de fato aberta (por isso o LazyConnectionDataSourceProxy na frente),
+// momento em que o readOnly da transação já está definido. Réplica fora do ar ou atrasada: leitura no primário.
+public class RoteadorDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARIO = "primario";
+    public static final String REPLICA = "replica";
+
+    private final HikariDataSource primario;
+    private final HikariDataSource replica;
+    private final DataSource leitura;
+
+    private volatile boolean replicaDisponivel;
+    private volatile long atrasoReplicaSegundos = -1;
+
+    private final LongAdder conexoesPrimario = new LongAdder();
+    private final LongAdder conexoesReplica = new LongAdder();
+    private final LongAdder leiturasDesviadas = new LongAdder();
+
+    // replica pode ser nula: sem réplica configurada tudo vai para o primário
+    public RoteadorDataSource(HikariDataSource primario, HikariDataSource replica) {
+        this.primario = primario;
+        this.replica = replica;
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        if (replica != null) {
+            destinos.put(REPLICA, replica);
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+
+        this.leitura = new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return destinoLeitura().getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String usuario, String senha) throws SQLException {
+                return destinoLeitura().getConnection(usuario, senha);
+            }
+        };
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return escolher(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    // Para leituras fora de transação (ex.: consultas paralelas do dashboard), que sempre preferem a réplica
+    public DataSource leitura() {
+        return leitura;
+    }
+
+    public void atualizarReplica(boolean disponivel, long atrasoSegundos) {
+        this.atrasoReplicaSegundos = atrasoSegundos;
+        this.replicaDisponivel = disponivel;
+    }
+
+    public HikariDataSource getPrimario() {
+        return primario;
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isReplicaDisponivel() {
+        return replicaDisponivel;
+    }
+
+    public long getAtrasoReplicaSegundos() {
+        return atrasoReplicaSegundos;
+    }
+
+    public long getConexoesPrimario() {
+        return conexoesPrimario.sum();
+    }
+
+    public long getConexoesReplica() {
+        return conexoesReplica.sum();
+    }
+
+    public long getLeiturasDesviadas() {
+        return leiturasDesviadas.sum();
+    }
+
+    @Override
+    public void close() {
+        primario.close();
+        if (replica != null) {
+            replica.close();
+        }
+    }
+
+    private DataSource destinoLeitura() {
+        return REPLICA.equals(escolher(true)) ? replica : primario;
+    }
+
+    private String escolher(boolean somenteLeitura) {
+        if (somenteLeitura && replica != null) {
+            if (replicaDisponivel) {
+                conexoesReplica.increment();
+                return REPLICA;
+            }
+            leiturasDesviadas.increment();
+        }
+        conexoesPrimario.increment();
+        return PRIMARIO;
+    }
+}
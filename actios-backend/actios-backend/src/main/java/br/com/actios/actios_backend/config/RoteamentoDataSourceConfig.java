@@ -0,0 +1,67 @@
+package br.com.actios.actios_backend.config;
+
+import br.com.actios.actios_backend.service.TelemetriaSqlService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class RoteamentoDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public RoteadorDataSource roteadorDataSource(DataSourceProperties propriedades,
+                                                 ObjectProvider<JdbcConnectionDetails> detalhesConexao,
+                                                 @Value("${actios.banco.max-conexoes:10}") int maxConexoes,
+                                                 @Value("${actios.replica.url:}") String urlReplica,
+                                                 @Value("${actios.replica.usuario:}") String usuarioReplica,
+                                                 @Value("${actios.replica.senha:}") String senhaReplica,
+                                                 @Value("${actios.replica.max-conexoes:20}") int maxConexoesReplica) {
+        // Conexão declarada por @ServiceConnection (testes) tem precedência sobre spring.datasource
+        JdbcConnectionDetails detalhes = detalhesConexao.getIfAvailable();
+        String url = detalhes != null ? detalhes.getJdbcUrl() : propriedades.determineUrl();
+        String usuario = detalhes != null ? detalhes.getUsername() : propriedades.determineUsername();
+        String senha = detalhes != null ? detalhes.getPassword() : propriedades.determinePassword();
+        String driver = detalhes != null ? detalhes.getDriverClassName() : propriedades.determineDriverClassName();
+
+        HikariDataSource primario = pool(RoteadorDataSource.PRIMARIO, url, usuario, senha, driver, maxConexoes);
+
+        HikariDataSource replica = null;
+        if (!urlReplica.isBlank()) {
+            replica = pool(RoteadorDataSource.REPLICA, urlReplica,
+                    usuarioReplica.isBlank() ? usuario : usuarioReplica,
+                    usuarioReplica.isBlank() ? senha : senhaReplica,
+                    null, maxConexoesReplica);
+            // Escrita que escapar para a réplica falha na hora em vez de divergir dela
+            replica.setReadOnly(true);
+        }
+
+        return new RoteadorDataSource(primario, replica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteadorDataSource roteadorDataSource, TelemetriaSqlService telemetriaSqlService) {
+        return new LazyConnectionDataSourceProxy(telemetriaSqlService.observar(roteadorDataSource));
+    }
+
+    private HikariDataSource pool(String nome, String url, String usuario, String senha, String driver, int maxConexoes) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(nome);
+        pool.setJdbcUrl(url);
+        pool.setUsername(usuario);
+        pool.setPassword(senha);
+        if (driver != null) {
+            pool.setDriverClassName(driver);
+        }
+        pool.setMaximumPoolSize(maxConexoes);
+        return pool;
+    }
+}
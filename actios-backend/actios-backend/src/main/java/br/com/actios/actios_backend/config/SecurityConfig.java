@@ -0,0 +1,47 @@
+package br.com.actios.actios_backend.config;
+
+import br.com.actios.actios_backend.enums.TipoUsuario;
+import br.com.actios.actios_backend.service.TokenService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+// API sem sessão: toda requisição protegida se autentica pelo token de acesso
+@Configuration
+public class SecurityConfig {
+
+    private static final String ADMINISTRADOR = TipoUsuario.FACULDADE.name();
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
+        http
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(rotas -> rotas
+                        .requestMatchers(HttpMethod.POST, "/api/usuarios/login", "/api/usuarios/cadastrar").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/certificados/validar", "/api/certificados/verificar").permitAll()
+                        .requestMatchers("/error").permitAll()
+                        // Operações administrativas: só contas de faculdade
+                        .requestMatchers(HttpMethod.POST, "/api/certificados/*/revogar",
+                                "/api/certificados/curso/*/emissao-em-lote", "/api/certificados/curso/*/pdf",
+                                "/api/vinculos-curso-usuario/lote").hasRole(ADMINISTRADOR)
+                        .requestMatchers("/api/certificados/emissoes/**", "/api/certificados/curso/*/zip",
+                                "/api/usuarios/importacoes/**", "/api/faculdades/estatisticas/**",
+                                "/api/outbox/**", "/api/banco-dados/**").hasRole(ADMINISTRADOR)
+                        .anyRequest().authenticated())
+                .exceptionHandling(erros -> erros.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterBefore(new TokenAutenticacaoFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
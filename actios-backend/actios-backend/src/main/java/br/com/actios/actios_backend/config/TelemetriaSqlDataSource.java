@@ -0,0 +1,151 @@
+package br.com.actios.actios_backend.config;
+
+import br.com.actios.actios_backend.service.TelemetriaSqlService;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+
+// Mede cada comando SQL na thread que o executa (um nanoTime antes e outro depois) e só entrega à
+// TelemetriaSqlService os sorteados pela amostragem e os que passaram do limite de lentidão.
+// Fingerprint, agregação e log acontecem depois, na thread da própria telemetria.
+public class TelemetriaSqlDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUCOES = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final TelemetriaSqlService telemetria;
+
+    public TelemetriaSqlDataSource(DataSource alvo, TelemetriaSqlService telemetria) {
+        super(alvo);
+        this.telemetria = telemetria;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conexao(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String usuario, String senha) throws SQLException {
+        return conexao(super.getConnection(usuario, senha));
+    }
+
+    private Connection conexao(Connection conexao) {
+        return proxy(Connection.class, (proxy, metodo, argumentos) -> {
+            Object resultado = invocar(metodo, conexao, argumentos);
+            // Procedures ficam de fora: o proxy de PreparedStatement não serviria como CallableStatement
+            if (resultado instanceof Statement statement && !(resultado instanceof CallableStatement)) {
+                return statement(statement, sqlDe(argumentos));
+            }
+            return resultado;
+        });
+    }
+
+    private Statement statement(Statement statement, String sqlPreparado) {
+        Class<? extends Statement> tipo = statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(tipo, (proxy, metodo, argumentos) -> {
+            if (!EXECUCOES.contains(metodo.getName())) {
+                return invocar(metodo, statement, argumentos);
+            }
+
+            long inicio = System.nanoTime();
+            Object resultado = invocar(metodo, statement, argumentos);
+            long duracao = System.nanoTime() - inicio;
+
+            boolean lenta = duracao >= telemetria.getLimiteLentaNanos();
+            if (!lenta && !telemetria.amostrar()) {
+                return resultado;
+            }
+
+            String sql = argumentos != null ? sqlDe(argumentos) : sqlPreparado;
+            // A pilha só faz sentido na thread de quem executou; o resto da captura é assíncrono
+            List<String> pilha = telemetria.capturarPilha(lenta);
+            if (resultado instanceof ResultSet rs) {
+                return proxy(ResultSet.class, new ContadorLinhas(rs, sql, duracao, pilha, lenta));
+            }
+            telemetria.registrar(sql, duracao, linhasAfetadas(resultado), pilha, lenta);
+            return resultado;
+        });
+    }
+
+    // Consultas são registradas no fechamento do ResultSet, quando o total de linhas lidas é conhecido
+    private class ContadorLinhas implements InvocationHandler {
+
+        private final ResultSet rs;
+        private final String sql;
+        private final long duracao;
+        private final List<String> pilha;
+        private final boolean lenta;
+        private long linhas;
+        private boolean registrado;
+
+        ContadorLinhas(ResultSet rs, String sql, long duracao, List<String> pilha, boolean lenta) {
+            this.rs = rs;
+            this.sql = sql;
+            this.duracao = duracao;
+            this.pilha = pilha;
+            this.lenta = lenta;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+            Object resultado = invocar(metodo, rs, argumentos);
+            if (metodo.getName().equals("next") && Boolean.TRUE.equals(resultado)) {
+                linhas++;
+            } else if (metodo.getName().equals("close") && !registrado) {
+                registrado = true;
+                telemetria.registrar(sql, duracao, linhas, pilha, lenta);
+            }
+            return resultado;
+        }
+    }
+
+    private static String sqlDe(Object[] argumentos) {
+        return argumentos != null && argumentos.length > 0 && argumentos[0] instanceof String sql ? sql : null;
+    }
+
+    // -1 quando o driver não informa (ex.: execute() que devolve ResultSet)
+    private static long linhasAfetadas(Object resultado) {
+        if (resultado instanceof Number numero) {
+            return numero.longValue();
+        }
+        long total = -1;
+        if (resultado instanceof int[] contagens) {
+            total = 0;
+            for (int contagem : contagens) {
+                total += Math.max(contagem, 0);
+            }
+        } else if (resultado instanceof long[] contagens) {
+            total = 0;
+            for (long contagem : contagens) {
+                total += Math.max(contagem, 0);
+            }
+        }
+        return total;
+    }
+
+    private static Object invocar(Method metodo, Object alvo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(alvo, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(TelemetriaSqlDataSource.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.actios.actios_backend.config;
+
+import br.com.actios.actios_backend.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Autentica a requisição a partir do token Bearer sem acessar o banco.
+// Token ausente ou inválido apenas deixa a requisição anônima; as regras do SecurityConfig decidem o resto.
+public class TokenAutenticacaoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAutenticacaoFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String cabecalho = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (cabecalho != null && cabecalho.startsWith(PREFIXO)) {
+            UsuarioAutenticado usuario = tokenService.verificar(cabecalho.substring(PREFIXO.length()).trim());
+            if (usuario != null) {
+                List<SimpleGrantedAuthority> perfis = usuario.tipo() != null
+                        ? List.of(new SimpleGrantedAuthority("ROLE_" + usuario.tipo()))
+                        : List.of();
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(usuario, null, perfis));
+            }
+        }
+
+        chain.doFilter(request, response);
+    }
+}
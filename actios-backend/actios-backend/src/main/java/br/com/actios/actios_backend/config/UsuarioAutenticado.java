@@ -0,0 +1,6 @@
+package br.com.actios.actios_backend.config;
+
+// Principal das requisições autenticadas, montado só com o conteúdo do token de acesso
+public record UsuarioAutenticado(Integer idUsuario, String tipo, Integer idFaculdade,
+                                 String idToken, long emitidoEm, long expiraEm) {
+}
@@ -0,0 +1,56 @@
+package br.com.actios.actios_backend.controllers;
+
+import br.com.actios.actios_backend.dto.ConsultaLentaDTO;
+import br.com.actios.actios_backend.dto.ConsultaSqlMetricasDTO;
+import br.com.actios.actios_backend.dto.PoolConexoesMetricasDTO;
+import br.com.actios.actios_backend.dto.RegiaoCacheMetricasDTO;
+import br.com.actios.actios_backend.service.CacheSegundoNivelService;
+import br.com.actios.actios_backend.service.ReplicaMonitorService;
+import br.com.actios.actios_backend.service.TelemetriaSqlService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/banco-dados")
+public class BancoDadosController {
+
+    private final ReplicaMonitorService replicaMonitorService;
+    private final CacheSegundoNivelService cacheSegundoNivelService;
+    private final TelemetriaSqlService telemetriaSqlService;
+
+    @Autowired
+    public BancoDadosController(ReplicaMonitorService replicaMonitorService,
+                                CacheSegundoNivelService cacheSegundoNivelService,
+                                TelemetriaSqlService telemetriaSqlService) {
+        this.replicaMonitorService = replicaMonitorService;
+        this.cacheSegundoNivelService = cacheSegundoNivelService;
+        this.telemetriaSqlService = telemetriaSqlService;
+    }
+
+    @GetMapping("/pools")
+    public ResponseEntity<List<PoolConexoesMetricasDTO>> pools() {
+        return ResponseEntity.ok(replicaMonitorService.obterMetricas());
+    }
+
+    @GetMapping("/cache")
+    public ResponseEntity<List<RegiaoCacheMetricasDTO>> cache() {
+        return ResponseEntity.ok(cacheSegundoNivelService.obterMetricas());
+    }
+
+    @GetMapping("/consultas")
+    public ResponseEntity<List<ConsultaSqlMetricasDTO>> consultasMaisLentas(
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(telemetriaSqlService.obterMaisLentas(limite));
+    }
+
+    @GetMapping("/consultas/lentas")
+    public ResponseEntity<List<ConsultaLentaDTO>> consultasLentas() {
+        return ResponseEntity.ok(telemetriaSqlService.obterLentasRecentes());
+    }
+}
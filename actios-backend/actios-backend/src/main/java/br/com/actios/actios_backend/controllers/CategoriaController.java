@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.controllers;
 
+import br.com.actios.actios_backend.dto.CategoriaDTO;
 import br.com.actios.actios_backend.model.Categoria;
 import br.com.actios.actios_backend.service.CategoriaService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,8 +27,8 @@ public class CategoriaController {
     }
 
     @GetMapping({"/listar", "/listarTodas"})
-    public ResponseEntity<List<Categoria>> listar() {
-        List<Categoria> categorias = categoriaService.listarTodas();
+    public ResponseEntity<List<CategoriaDTO>> listar() {
+        List<CategoriaDTO> categorias = categoriaService.listarTodas();
         return ResponseEntity.ok(categorias);
     }
 
@@ -0,0 +1,29 @@
+package br.com.actios.actios_backend.controllers;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.dto.DashboardDTO;
+import br.com.actios.actios_backend.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/me")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Autowired
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // GET: Inscrições, notificações, participações e certificados do usuário logado numa chamada
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardDTO> dashboard(@AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(dashboardService.montar(usuario.idUsuario()));
+    }
+}
@@ -1,10 +1,16 @@
 package br.com.actios.actios_backend.controllers;
 
+import br.com.actios.actios_backend.dto.EstatisticaFaculdadeDTO;
+import br.com.actios.actios_backend.dto.FaculdadeDTO;
+import br.com.actios.actios_backend.dto.RecalculoRollupDTO;
 import br.com.actios.actios_backend.model.Faculdade;
 import br.com.actios.actios_backend.service.FaculdadeService;
+import br.com.actios.actios_backend.service.RollupFaculdadeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -12,10 +18,12 @@ import java.util.List;
 public class FaculdadeController {
 
     private final FaculdadeService faculdadeService;
+    private final RollupFaculdadeService rollupFaculdadeService;
 
     @Autowired
-    public FaculdadeController(FaculdadeService faculdadeService) {
+    public FaculdadeController(FaculdadeService faculdadeService, RollupFaculdadeService rollupFaculdadeService) {
         this.faculdadeService = faculdadeService;
+        this.rollupFaculdadeService = rollupFaculdadeService;
     }
 
     // POST - Cadastrar nova faculdade
@@ -26,7 +34,7 @@ public class FaculdadeController {
 
     // GET - Listar todas as faculdades
     @GetMapping("/listar")
-    public List<Faculdade> listarFaculdades() {
+    public List<FaculdadeDTO> listarFaculdades() {
         return faculdadeService.listarTodas();
     }
 
@@ -47,4 +55,26 @@ public class FaculdadeController {
     public void excluirFaculdade(@PathVariable Integer id) throws Exception {
         faculdadeService.excluir(id);
     }
+
+    // GET - Estatísticas da faculdade no período, agrupadas por dia, mes ou total
+    @GetMapping("/{id}/estatisticas")
+    public List<EstatisticaFaculdadeDTO> estatisticas(@PathVariable Integer id,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                                                      @RequestParam(defaultValue = "mes") String agrupamento) {
+        return rollupFaculdadeService.consultar(id, de, ate, agrupamento);
+    }
+
+    // POST - Recalcular as estatísticas de um período a partir das tabelas de origem
+    @PostMapping("/estatisticas/recalcular")
+    public RecalculoRollupDTO recalcularEstatisticas(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        return rollupFaculdadeService.recalcular(de, ate);
+    }
+
+    // GET - Progresso do recálculo em andamento (ou do último)
+    @GetMapping("/estatisticas/recalculo")
+    public RecalculoRollupDTO progressoRecalculo() {
+        return rollupFaculdadeService.consultarRecalculo();
+    }
 }
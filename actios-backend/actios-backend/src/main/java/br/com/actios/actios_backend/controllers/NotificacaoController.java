@@ -22,8 +22,10 @@ public class NotificacaoController {
             @RequestParam Integer idUsuario,
             @RequestParam Integer idEvento,
             @RequestParam String mensagem) {
-        Notificacao notificacao = notificacaoService.criarNotificacao(idUsuario, idEvento, mensagem);
-        return ResponseEntity.ok(notificacao);
+        // 202 sem corpo: usuário em modo resumo, a notificação sai no próximo resumo
+        return notificacaoService.criarNotificacao(idUsuario, idEvento, mensagem)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.accepted().build());
     }
 
     @GetMapping("/usuario/{idUsuario}")
@@ -69,6 +71,14 @@ public class NotificacaoController {
         return ResponseEntity.ok(total);
     }
 
+    @PutMapping("/usuario/{idUsuario}/resumo")
+    public ResponseEntity<Void> definirModoResumo(
+            @PathVariable Integer idUsuario,
+            @RequestParam boolean ativo) {
+        notificacaoService.definirModoResumo(idUsuario, ativo);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/usuario/{idUsuario}/evento/{idEvento}")
     public ResponseEntity<List<Notificacao>> listarPorUsuarioEEvento(
             @PathVariable Integer idUsuario,
@@ -0,0 +1,26 @@
+package br.com.actios.actios_backend.controllers;
+
+import br.com.actios.actios_backend.dto.OutboxMetricasDTO;
+import br.com.actios.actios_backend.service.OutboxDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/outbox")
+public class OutboxController {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    public OutboxController(OutboxDispatcher outboxDispatcher) {
+        this.outboxDispatcher = outboxDispatcher;
+    }
+
+    @GetMapping("/metricas")
+    public ResponseEntity<OutboxMetricasDTO> metricas() {
+        return ResponseEntity.ok(outboxDispatcher.obterMetricas());
+    }
+}
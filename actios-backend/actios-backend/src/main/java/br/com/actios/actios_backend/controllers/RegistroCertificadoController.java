@@ -1,10 +1,21 @@
 package br.com.actios.actios_backend.controllers;
 
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.dto.EmissaoCertificadoLoteDTO;
 import br.com.actios.actios_backend.dto.RegistroCertificadoDTO;
+import br.com.actios.actios_backend.dto.RenderizacaoPdfLoteDTO;
+import br.com.actios.actios_backend.dto.VerificacaoCertificadoDTO;
+import br.com.actios.actios_backend.service.CertificadoPdfService;
+import br.com.actios.actios_backend.service.EmissaoCertificadoLoteService;
+import br.com.actios.actios_backend.service.ExportacaoCertificadoService;
 import br.com.actios.actios_backend.service.RegistroCertificadoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,6 +26,15 @@ public class RegistroCertificadoController {
     @Autowired
     private RegistroCertificadoService registroCertificadoService;
 
+    @Autowired
+    private EmissaoCertificadoLoteService emissaoCertificadoLoteService;
+
+    @Autowired
+    private CertificadoPdfService certificadoPdfService;
+
+    @Autowired
+    private ExportacaoCertificadoService exportacaoCertificadoService;
+
     @PostMapping("/criar")
     public ResponseEntity<RegistroCertificadoDTO> criarRegistroCertificado(
             @RequestParam Integer idUsuario,
@@ -30,6 +50,21 @@ public class RegistroCertificadoController {
         return ResponseEntity.ok(dto);
     }
 
+    @GetMapping("/verificar")
+    public ResponseEntity<VerificacaoCertificadoDTO> verificarCodigo(
+            @RequestParam String codigoValidacao) {
+        VerificacaoCertificadoDTO dto = registroCertificadoService.verificarCodigo(codigoValidacao);
+        return ResponseEntity.ok(dto);
+    }
+
+    @PostMapping("/{idCertificado}/revogar")
+    public ResponseEntity<Void> revogar(
+            @PathVariable Integer idCertificado,
+            @RequestParam(required = false) String motivo) {
+        registroCertificadoService.revogar(idCertificado, motivo);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/usuario/{idUsuario}")
     public ResponseEntity<List<RegistroCertificadoDTO>> listarPorUsuario(@PathVariable Integer idUsuario) {
         List<RegistroCertificadoDTO> lista = registroCertificadoService.listarPorUsuario(idUsuario);
@@ -61,4 +96,51 @@ public class RegistroCertificadoController {
         List<RegistroCertificadoDTO> lista = registroCertificadoService.listarPorUsuarioECurso(idUsuario, idCurso);
         return ResponseEntity.ok(lista);
     }
+
+    @PostMapping("/curso/{idCurso}/emissao-em-lote")
+    public ResponseEntity<EmissaoCertificadoLoteDTO> emitirEmLote(@PathVariable Integer idCurso) {
+        EmissaoCertificadoLoteDTO dto = emissaoCertificadoLoteService.iniciar(idCurso);
+        return ResponseEntity.accepted().body(dto);
+    }
+
+    @GetMapping("/emissoes/{idEmissao}")
+    public ResponseEntity<EmissaoCertificadoLoteDTO> consultarEmissao(@PathVariable Long idEmissao) {
+        EmissaoCertificadoLoteDTO dto = emissaoCertificadoLoteService.consultar(idEmissao);
+        return ResponseEntity.ok(dto);
+    }
+
+    @PostMapping("/emissoes/{idEmissao}/retomar")
+    public ResponseEntity<EmissaoCertificadoLoteDTO> retomarEmissao(@PathVariable Long idEmissao) {
+        EmissaoCertificadoLoteDTO dto = emissaoCertificadoLoteService.retomar(idEmissao);
+        return ResponseEntity.accepted().body(dto);
+    }
+
+    @GetMapping("/{idCertificado}/pdf")
+    public ResponseEntity<StreamingResponseBody> baixarPdf(@PathVariable Integer idCertificado,
+                                                           @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        CertificadoPdfService.DadosCertificado dados = certificadoPdfService.buscarDadosAutorizados(idCertificado, usuario);
+        StreamingResponseBody corpo = saida -> certificadoPdfService.renderizar(dados, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"certificado-" + idCertificado + ".pdf\"")
+                .body(corpo);
+    }
+
+    @GetMapping("/curso/{idCurso}/zip")
+    public ResponseEntity<StreamingResponseBody> exportarZipDoCurso(@PathVariable Integer idCurso,
+                                                                    @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        exportacaoCertificadoService.validarCurso(idCurso, usuario);
+        StreamingResponseBody corpo = saida -> exportacaoCertificadoService.exportarZipCurso(idCurso, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"certificados-curso-" + idCurso + ".zip\"")
+                .body(corpo);
+    }
+
+    @PostMapping("/curso/{idCurso}/pdf")
+    public ResponseEntity<RenderizacaoPdfLoteDTO> renderizarPdfsDoCurso(@PathVariable Integer idCurso,
+                                                                        @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        RenderizacaoPdfLoteDTO dto = certificadoPdfService.renderizarCurso(idCurso, usuario);
+        return ResponseEntity.ok(dto);
+    }
 }
@@ -1,24 +1,39 @@
 package br.com.actios.actios_backend.controllers;
 
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.dto.ImportacaoUsuariosDTO;
+import br.com.actios.actios_backend.dto.PaginaDTO;
+import br.com.actios.actios_backend.dto.TokenDTO;
 import br.com.actios.actios_backend.dto.UsuarioDTO;
+import br.com.actios.actios_backend.enums.TipoUsuario;
 import br.com.actios.actios_backend.model.Usuario;
+import br.com.actios.actios_backend.service.ImportacaoUsuariosService;
+import br.com.actios.actios_backend.service.TokenService;
 import br.com.actios.actios_backend.service.UsuarioService;
-import java.util.stream.Collectors;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/usuarios")
 public class UsuarioController {
 
     private final UsuarioService usuarioService;
+    private final TokenService tokenService;
+    private final ImportacaoUsuariosService importacaoUsuariosService;
 
     @Autowired
-    public UsuarioController(UsuarioService usuarioService) {
+    public UsuarioController(UsuarioService usuarioService, TokenService tokenService,
+                             ImportacaoUsuariosService importacaoUsuariosService) {
         this.usuarioService = usuarioService;
+        this.tokenService = tokenService;
+        this.importacaoUsuariosService = importacaoUsuariosService;
     }
 
     // POST: Cadastrar novo usuário
@@ -28,14 +43,16 @@ public class UsuarioController {
         return ResponseEntity.ok(novoUsuario);
     }
 
-    // GET: Listar todos os usuários
+    // GET: Diretório de usuários paginado, com filtros opcionais e busca por prefixo do nome
     @GetMapping("/listar")
-    public ResponseEntity<List<UsuarioDTO>> listarUsuarios() {
-        List<Usuario> usuarios = usuarioService.listarTodos();
-        List<UsuarioDTO> usuariosDTO = usuarios.stream()
-            .map(UsuarioDTO::fromUsuario)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(usuariosDTO);
+    public ResponseEntity<PaginaDTO<UsuarioDTO>> listarUsuarios(
+            @RequestParam(required = false) Integer idFaculdade,
+            @RequestParam(required = false) TipoUsuario tipo,
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        return ResponseEntity.ok(usuarioService.listarDiretorio(idFaculdade, tipo, ativo, nome, cursor, tamanho));
     }
 
     // GET: Buscar por ID
@@ -59,10 +76,48 @@ public class UsuarioController {
         return ResponseEntity.noContent().build();
     }
 
-    // POST: Autenticar usuário
+    // POST: Autenticar usuário e emitir token de acesso
     @PostMapping("/login")
-    public ResponseEntity<Usuario> autenticar(@RequestParam String email, @RequestParam String senha) throws Exception {
-        Usuario usuario = usuarioService.autenticar(email, senha);
-        return ResponseEntity.ok(usuario);
+    public ResponseEntity<TokenDTO> autenticar(@RequestParam String email, @RequestParam String senha,
+                                               HttpServletRequest request) throws Exception {
+        Usuario usuario = usuarioService.autenticar(email, senha, request.getRemoteAddr());
+        return ResponseEntity.ok(tokenService.emitir(usuario));
+    }
+
+    // POST: Revogar o token de acesso atual
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UsuarioAutenticado usuario) {
+        tokenService.revogar(usuario);
+        return ResponseEntity.noContent().build();
+    }
+
+    // POST: Importar alunos de uma faculdade a partir de um CSV (processado em segundo plano)
+    @PostMapping(value = "/importacoes", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportacaoUsuariosDTO> importar(@RequestParam Integer idFaculdade,
+                                                          @RequestParam MultipartFile arquivo) {
+        return ResponseEntity.accepted().body(importacaoUsuariosService.iniciar(idFaculdade, arquivo));
+    }
+
+    // GET: Progresso da importação
+    @GetMapping("/importacoes/{idImportacao}")
+    public ResponseEntity<ImportacaoUsuariosDTO> consultarImportacao(@PathVariable Long idImportacao) {
+        return ResponseEntity.ok(importacaoUsuariosService.consultar(idImportacao));
+    }
+
+    // POST: Retomar uma importação interrompida a partir do último chunk gravado
+    @PostMapping("/importacoes/{idImportacao}/retomar")
+    public ResponseEntity<ImportacaoUsuariosDTO> retomarImportacao(@PathVariable Long idImportacao) {
+        return ResponseEntity.accepted().body(importacaoUsuariosService.retomar(idImportacao));
+    }
+
+    // GET: Relatório CSV das linhas rejeitadas
+    @GetMapping("/importacoes/{idImportacao}/erros")
+    public ResponseEntity<StreamingResponseBody> baixarErrosImportacao(@PathVariable Long idImportacao) {
+        importacaoUsuariosService.consultar(idImportacao);
+        StreamingResponseBody corpo = saida -> importacaoUsuariosService.escreverRelatorioErros(idImportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"importacao-" + idImportacao + "-erros.csv\"")
+                .body(corpo);
     }
 }
@@ -1,15 +1,27 @@
 package br.com.actios.actios_backend.controllers;
 
 import br.com.actios.actios_backend.dto.CursoDTO;
-import br.com.actios.actios_backend.dto.UsuarioDTO;
+import br.com.actios.actios_backend.dto.MembroCursoDTO;
+import br.com.actios.actios_backend.dto.PaginaDTO;
+import br.com.actios.actios_backend.enums.OperacaoVinculoLote;
 import br.com.actios.actios_backend.model.Curso;
-import br.com.actios.actios_backend.model.Usuario;
+import br.com.actios.actios_backend.service.ElegibilidadeCertificadoService;
+import br.com.actios.actios_backend.service.VinculoCursoUsuarioLoteService;
 import br.com.actios.actios_backend.service.VinculoCursoUsuarioService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/vinculos-curso-usuario")
@@ -18,6 +30,12 @@ public class VinculoCursoUsuarioController {
     @Autowired
     private VinculoCursoUsuarioService vinculoService;
 
+    @Autowired
+    private ElegibilidadeCertificadoService elegibilidadeService;
+
+    @Autowired
+    private VinculoCursoUsuarioLoteService vinculoLoteService;
+
     @PostMapping("/vincular")
     public ResponseEntity<Void> vincular(
             @RequestParam Integer idUsuario,
@@ -26,6 +44,20 @@ public class VinculoCursoUsuarioController {
         return ResponseEntity.ok().build();
     }
 
+    // Vínculos ou conclusões em massa a partir de um CSV; a resposta é um CSV com o resultado de cada linha,
+    // enviado chunk a chunk enquanto a entrada é processada e fechado por uma linha "fim" com a situação final
+    @PostMapping(value = "/lote", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public void processarLote(@RequestParam OperacaoVinculoLote operacao,
+                              @RequestParam MultipartFile arquivo,
+                              HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"vinculos-" + operacao.name().toLowerCase() + "-resultado.csv\"");
+        try (InputStream entrada = arquivo.getInputStream()) {
+            vinculoLoteService.processar(operacao, entrada, response.getOutputStream());
+        }
+    }
+
     @DeleteMapping("/desvincular")
     public ResponseEntity<Void> desvincular(
             @RequestParam Integer idUsuario,
@@ -48,11 +80,30 @@ public class VinculoCursoUsuarioController {
 
 
     @GetMapping("/usuarios/{idCurso}")
-    public ResponseEntity<List<UsuarioDTO>> getUsuariosDoCurso(@PathVariable Integer idCurso) {
-        List<Usuario> usuarios = vinculoService.getUsuariosDoCurso(idCurso);
-        List<UsuarioDTO> dtos = usuarios.stream()
-                .map(UsuarioDTO::fromUsuario)
-                .toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<PaginaDTO<MembroCursoDTO>> getUsuariosDoCurso(
+            @PathVariable Integer idCurso,
+            @RequestParam(required = false) Boolean concluido,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int tamanho) {
+        return ResponseEntity.ok(vinculoService.getUsuariosDoCurso(idCurso, concluido, cursor, tamanho));
+    }
+
+    @GetMapping("/usuarios/{idCurso}/contagem")
+    public ResponseEntity<Long> contarUsuariosDoCurso(
+            @PathVariable Integer idCurso,
+            @RequestParam(required = false) Boolean concluido) {
+        return ResponseEntity.ok(vinculoService.contarUsuariosDoCurso(idCurso, concluido));
+    }
+
+    @GetMapping("/concluidos")
+    public ResponseEntity<Map<Integer, Set<Integer>>> getCursosConcluidos(
+            @RequestParam List<Integer> idsUsuarios,
+            @RequestParam List<Integer> idsCursos) {
+        return ResponseEntity.ok(elegibilidadeService.cursosConcluidos(idsUsuarios, idsCursos));
+    }
+
+    @GetMapping("/concluintes/contagem")
+    public ResponseEntity<Map<Integer, Long>> contarConcluintes(@RequestParam List<Integer> idsCursos) {
+        return ResponseEntity.ok(elegibilidadeService.contarConcluintesPorCurso(idsCursos));
     }
 }
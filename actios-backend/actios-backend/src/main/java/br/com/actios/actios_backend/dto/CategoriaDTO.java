@@ -0,0 +1,20 @@
+package br.com.actios.actios_backend.dto;
+
+// Imutável: as mesmas instâncias são compartilhadas por todas as leituras do cache de referência
+public class CategoriaDTO {
+    private final Integer idCategoria;
+    private final String nome;
+
+    public CategoriaDTO(Integer idCategoria, String nome) {
+        this.idCategoria = idCategoria;
+        this.nome = nome;
+    }
+
+    public Integer getIdCategoria() {
+        return idCategoria;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
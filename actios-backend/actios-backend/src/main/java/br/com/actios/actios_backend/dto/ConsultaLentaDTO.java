@@ -0,0 +1,55 @@
+package br.com.actios.actios_backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ConsultaLentaDTO {
+    private LocalDateTime dataHora;
+    private double duracaoMs;
+    private long linhas;
+    private String sql;
+    private String fingerprint;
+    private String thread;
+    private List<String> pilha;
+
+    public ConsultaLentaDTO() {}
+
+    public ConsultaLentaDTO(LocalDateTime dataHora, double duracaoMs, long linhas, String sql, String fingerprint,
+                            String thread, List<String> pilha) {
+        this.dataHora = dataHora;
+        this.duracaoMs = duracaoMs;
+        this.linhas = linhas;
+        this.sql = sql;
+        this.fingerprint = fingerprint;
+        this.thread = thread;
+        this.pilha = pilha;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public double getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public List<String> getPilha() {
+        return pilha;
+    }
+}
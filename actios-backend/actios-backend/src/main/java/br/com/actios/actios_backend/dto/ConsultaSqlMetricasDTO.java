@@ -0,0 +1,58 @@
+package br.com.actios.actios_backend.dto;
+
+public class ConsultaSqlMetricasDTO {
+    private String id;
+    private String fingerprint;
+    private int execucoes;
+    private int lentas;
+    private double tempoMedioMs;
+    private double tempoMaximoMs;
+    private double linhasMedias;
+    private String origem;
+
+    public ConsultaSqlMetricasDTO() {}
+
+    public ConsultaSqlMetricasDTO(String id, String fingerprint, int execucoes, int lentas, double tempoMedioMs,
+                                  double tempoMaximoMs, double linhasMedias, String origem) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.execucoes = execucoes;
+        this.lentas = lentas;
+        this.tempoMedioMs = tempoMedioMs;
+        this.tempoMaximoMs = tempoMaximoMs;
+        this.linhasMedias = linhasMedias;
+        this.origem = origem;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public int getExecucoes() {
+        return execucoes;
+    }
+
+    public int getLentas() {
+        return lentas;
+    }
+
+    public double getTempoMedioMs() {
+        return tempoMedioMs;
+    }
+
+    public double getTempoMaximoMs() {
+        return tempoMaximoMs;
+    }
+
+    public double getLinhasMedias() {
+        return linhasMedias;
+    }
+
+    public String getOrigem() {
+        return origem;
+    }
+}
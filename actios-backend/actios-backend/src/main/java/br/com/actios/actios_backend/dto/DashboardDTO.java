@@ -0,0 +1,101 @@
+package br.com.actios.actios_backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Tela inicial do estudante numa resposta só. Seções que estouraram o tempo ou falharam
+// vêm nulas e listadas em secoesIndisponiveis, para o cliente diferenciar de "vazio".
+public class DashboardDTO {
+
+    public record Usuario(Integer idUsuario, String nome, String email, String tipo, String nomeFaculdade) {
+    }
+
+    public record Inscricao(Integer idInscricao, String numeroInscricao, LocalDateTime dataInscricao,
+                            Integer idEvento, String tituloEvento, LocalDate dataEvento) {
+    }
+
+    public record Notificacao(Integer idNotificacao, String mensagem, LocalDateTime dataEnvio,
+                              boolean lida, String tituloEvento) {
+    }
+
+    public record Participacao(Integer idParticipacao, Integer idEvento, String tituloEvento, Boolean checkin) {
+    }
+
+    public record Certificado(Integer idCertificado, Integer idCurso, String nomeCurso,
+                              LocalDate dataEmissao, String codigoValidacao) {
+    }
+
+    private Usuario usuario;
+    private List<Inscricao> inscricoes;
+    private List<Notificacao> notificacoesRecentes;
+    private Long notificacoesNaoLidas;
+    private List<Participacao> participacoes;
+    private List<Certificado> certificados;
+    private List<String> secoesIndisponiveis;
+    private long duracaoMs;
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public void setUsuario(Usuario usuario) {
+        this.usuario = usuario;
+    }
+
+    public List<Inscricao> getInscricoes() {
+        return inscricoes;
+    }
+
+    public void setInscricoes(List<Inscricao> inscricoes) {
+        this.inscricoes = inscricoes;
+    }
+
+    public List<Notificacao> getNotificacoesRecentes() {
+        return notificacoesRecentes;
+    }
+
+    public void setNotificacoesRecentes(List<Notificacao> notificacoesRecentes) {
+        this.notificacoesRecentes = notificacoesRecentes;
+    }
+
+    public Long getNotificacoesNaoLidas() {
+        return notificacoesNaoLidas;
+    }
+
+    public void setNotificacoesNaoLidas(Long notificacoesNaoLidas) {
+        this.notificacoesNaoLidas = notificacoesNaoLidas;
+    }
+
+    public List<Participacao> getParticipacoes() {
+        return participacoes;
+    }
+
+    public void setParticipacoes(List<Participacao> participacoes) {
+        this.participacoes = participacoes;
+    }
+
+    public List<Certificado> getCertificados() {
+        return certificados;
+    }
+
+    public void setCertificados(List<Certificado> certificados) {
+        this.certificados = certificados;
+    }
+
+    public List<String> getSecoesIndisponiveis() {
+        return secoesIndisponiveis;
+    }
+
+    public void setSecoesIndisponiveis(List<String> secoesIndisponiveis) {
+        this.secoesIndisponiveis = secoesIndisponiveis;
+    }
+
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public void setDuracaoMs(long duracaoMs) {
+        this.duracaoMs = duracaoMs;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.actios.actios_backend.dto;
+
+import br.com.actios.actios_backend.enums.StatusEmissaoLote;
+import br.com.actios.actios_backend.model.EmissaoCertificadoLote;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class EmissaoCertificadoLoteDTO {
+    private Long idEmissao;
+    private Integer idCurso;
+    private StatusEmissaoLote status;
+    private long totalElegiveis;
+    private long emitidos;
+    private double percentual;
+    private double certificadosPorSegundo;
+    private Integer ultimoIdUsuario;
+    private LocalDateTime dataInicio;
+    private LocalDateTime dataAtualizacao;
+    private LocalDateTime dataFim;
+    private String erro;
+
+    public EmissaoCertificadoLoteDTO() {}
+
+    public EmissaoCertificadoLoteDTO(EmissaoCertificadoLote emissao) {
+        this.idEmissao = emissao.getIdEmissao();
+        this.idCurso = emissao.getIdCurso();
+        this.status = emissao.getStatus();
+        this.totalElegiveis = emissao.getTotalElegiveis();
+        this.emitidos = emissao.getEmitidos();
+        this.percentual = emissao.getTotalElegiveis() > 0
+                ? Math.min(100.0, emissao.getEmitidos() * 100.0 / emissao.getTotalElegiveis())
+                : 100.0;
+        this.ultimoIdUsuario = emissao.getUltimoIdUsuario();
+        this.dataInicio = emissao.getDataInicio();
+        this.dataAtualizacao = emissao.getDataAtualizacao();
+        this.dataFim = emissao.getDataFim();
+        this.erro = emissao.getErro();
+
+        if (emissao.getDataInicio() != null && emissao.getDataAtualizacao() != null) {
+            long ms = Duration.between(emissao.getDataInicio(), emissao.getDataAtualizacao()).toMillis();
+            this.certificadosPorSegundo = ms > 0 ? emissao.getEmitidos() * 1000.0 / ms : 0;
+        }
+    }
+
+    public Long getIdEmissao() {
+        return idEmissao;
+    }
+
+    public Integer getIdCurso() {
+        return idCurso;
+    }
+
+    public StatusEmissaoLote getStatus() {
+        return status;
+    }
+
+    public long getTotalElegiveis() {
+        return totalElegiveis;
+    }
+
+    public long getEmitidos() {
+        return emitidos;
+    }
+
+    public double getPercentual() {
+        return percentual;
+    }
+
+    public double getCertificadosPorSegundo() {
+        return certificadosPorSegundo;
+    }
+
+    public Integer getUltimoIdUsuario() {
+        return ultimoIdUsuario;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+}
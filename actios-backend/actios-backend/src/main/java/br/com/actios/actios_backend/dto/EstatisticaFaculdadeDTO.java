@@ -0,0 +1,71 @@
+package br.com.actios.actios_backend.dto;
+
+public class EstatisticaFaculdadeDTO {
+    private String periodo;
+    private long eventos;
+    private long inscricoes;
+    private long cancelamentos;
+    private long participacoes;
+    private long checkins;
+    private double taxaCheckin;
+    private long feedbacks;
+    private Double notaMedia;
+    private long certificadosEmitidos;
+
+    public EstatisticaFaculdadeDTO() {}
+
+    public EstatisticaFaculdadeDTO(String periodo, long eventos, long inscricoes, long cancelamentos,
+                                   long participacoes, long checkins, long feedbacks, long somaNotas,
+                                   long certificadosEmitidos) {
+        this.periodo = periodo;
+        this.eventos = eventos;
+        this.inscricoes = inscricoes;
+        this.cancelamentos = cancelamentos;
+        this.participacoes = participacoes;
+        this.checkins = checkins;
+        this.taxaCheckin = participacoes > 0 ? (double) checkins / participacoes : 0;
+        this.feedbacks = feedbacks;
+        this.notaMedia = feedbacks > 0 ? (double) somaNotas / feedbacks : null;
+        this.certificadosEmitidos = certificadosEmitidos;
+    }
+
+    public String getPeriodo() {
+        return periodo;
+    }
+
+    public long getEventos() {
+        return eventos;
+    }
+
+    public long getInscricoes() {
+        return inscricoes;
+    }
+
+    public long getCancelamentos() {
+        return cancelamentos;
+    }
+
+    public long getParticipacoes() {
+        return participacoes;
+    }
+
+    public long getCheckins() {
+        return checkins;
+    }
+
+    public double getTaxaCheckin() {
+        return taxaCheckin;
+    }
+
+    public long getFeedbacks() {
+        return feedbacks;
+    }
+
+    public Double getNotaMedia() {
+        return notaMedia;
+    }
+
+    public long getCertificadosEmitidos() {
+        return certificadosEmitidos;
+    }
+}
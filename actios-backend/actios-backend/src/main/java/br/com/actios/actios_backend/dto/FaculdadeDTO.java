@@ -0,0 +1,32 @@
+package br.com.actios.actios_backend.dto;
+
+// Imutável e sem organizadores/cursos: a listagem não carrega as coleções da entidade
+public class FaculdadeDTO {
+    private final Integer idFaculdade;
+    private final String nome;
+    private final String localizacao;
+    private final String site;
+
+    public FaculdadeDTO(Integer idFaculdade, String nome, String localizacao, String site) {
+        this.idFaculdade = idFaculdade;
+        this.nome = nome;
+        this.localizacao = localizacao;
+        this.site = site;
+    }
+
+    public Integer getIdFaculdade() {
+        return idFaculdade;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getLocalizacao() {
+        return localizacao;
+    }
+
+    public String getSite() {
+        return site;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.actios.actios_backend.dto;
+
+import br.com.actios.actios_backend.enums.StatusImportacao;
+import br.com.actios.actios_backend.model.ImportacaoUsuarios;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ImportacaoUsuariosDTO {
+    private Long idImportacao;
+    private Integer idFaculdade;
+    private StatusImportacao status;
+    private long linhasProcessadas;
+    private long importados;
+    private long rejeitados;
+    private double linhasPorSegundo;
+    private LocalDateTime dataInicio;
+    private LocalDateTime dataAtualizacao;
+    private LocalDateTime dataFim;
+    private String erro;
+
+    public ImportacaoUsuariosDTO() {}
+
+    public ImportacaoUsuariosDTO(ImportacaoUsuarios importacao) {
+        this.idImportacao = importacao.getIdImportacao();
+        this.idFaculdade = importacao.getIdFaculdade();
+        this.status = importacao.getStatus();
+        this.linhasProcessadas = importacao.getLinhasProcessadas();
+        this.importados = importacao.getImportados();
+        this.rejeitados = importacao.getRejeitados();
+        this.dataInicio = importacao.getDataInicio();
+        this.dataAtualizacao = importacao.getDataAtualizacao();
+        this.dataFim = importacao.getDataFim();
+        this.erro = importacao.getErro();
+
+        if (importacao.getDataInicio() != null && importacao.getDataAtualizacao() != null) {
+            long ms = Duration.between(importacao.getDataInicio(), importacao.getDataAtualizacao()).toMillis();
+            this.linhasPorSegundo = ms > 0 ? importacao.getLinhasProcessadas() * 1000.0 / ms : 0;
+        }
+    }
+
+    public Long getIdImportacao() {
+        return idImportacao;
+    }
+
+    public Integer getIdFaculdade() {
+        return idFaculdade;
+    }
+
+    public StatusImportacao getStatus() {
+        return status;
+    }
+
+    public long getLinhasProcessadas() {
+        return linhasProcessadas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public double getLinhasPorSegundo() {
+        return linhasPorSegundo;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.actios.actios_backend.dto;
+
+public class MembroCursoDTO {
+    private Integer idUsuario;
+    private String nome;
+    private String email;
+    private boolean concluido;
+
+    public MembroCursoDTO() {}
+
+    public MembroCursoDTO(Integer idUsuario, String nome, String email, boolean concluido) {
+        this.idUsuario = idUsuario;
+        this.nome = nome;
+        this.email = email;
+        this.concluido = concluido;
+    }
+
+    public Integer getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Integer idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public boolean isConcluido() {
+        return concluido;
+    }
+
+    public void setConcluido(boolean concluido) {
+        this.concluido = concluido;
+    }
+}
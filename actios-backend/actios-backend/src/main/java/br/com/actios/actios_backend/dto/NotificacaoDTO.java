@@ -10,13 +10,19 @@ public class NotificacaoDTO {
     private LocalDateTime dataEnvio;
     private String nomeEvento;
     private String nomeFaculdade;
+    private boolean resumo;
 
     public NotificacaoDTO(Notificacao n) {
-        this.id = n.getIdNotificacao().longValue();
+        this.id = n.getIdNotificacao() != null ? n.getIdNotificacao().longValue() : null;
         this.mensagem = n.getMensagem();
         this.dataEnvio = n.getDataEnvio();
-        this.nomeEvento = n.getEvento().getTitulo();
-        this.nomeFaculdade = n.getEvento().getFaculdade().getNome();
+        this.resumo = n.isResumo();
+
+        // Resumos que agrupam vários eventos não têm evento associado
+        if (n.getEvento() != null) {
+            this.nomeEvento = n.getEvento().getTitulo();
+            this.nomeFaculdade = n.getEvento().getFaculdade() != null ? n.getEvento().getFaculdade().getNome() : null;
+        }
     }
 
     public Long getId() {
@@ -58,5 +64,13 @@ public class NotificacaoDTO {
     public void setNomeFaculdade(String nomeFaculdade) {
         this.nomeFaculdade = nomeFaculdade;
     }
+
+    public boolean isResumo() {
+        return resumo;
+    }
+
+    public void setResumo(boolean resumo) {
+        this.resumo = resumo;
+    }
 }
 
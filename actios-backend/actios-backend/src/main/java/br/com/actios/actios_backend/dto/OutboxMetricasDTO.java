@@ -0,0 +1,90 @@
+package br.com.actios.actios_backend.dto;
+
+public class OutboxMetricasDTO {
+    private String no;
+    private long eventosEntregues;
+    private long falhas;
+    private long descartados;
+    private long pendentes;
+    private long lagMaisAntigoMs;
+    private long lagUltimaEntregaMs;
+    private double vazaoEventosPorSegundo;
+
+    public OutboxMetricasDTO() {}
+
+    public OutboxMetricasDTO(String no, long eventosEntregues, long falhas, long descartados, long pendentes,
+                             long lagMaisAntigoMs, long lagUltimaEntregaMs, double vazaoEventosPorSegundo) {
+        this.no = no;
+        this.eventosEntregues = eventosEntregues;
+        this.falhas = falhas;
+        this.descartados = descartados;
+        this.pendentes = pendentes;
+        this.lagMaisAntigoMs = lagMaisAntigoMs;
+        this.lagUltimaEntregaMs = lagUltimaEntregaMs;
+        this.vazaoEventosPorSegundo = vazaoEventosPorSegundo;
+    }
+
+    public String getNo() {
+        return no;
+    }
+
+    public void setNo(String no) {
+        this.no = no;
+    }
+
+    public long getEventosEntregues() {
+        return eventosEntregues;
+    }
+
+    public void setEventosEntregues(long eventosEntregues) {
+        this.eventosEntregues = eventosEntregues;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    public void setFalhas(long falhas) {
+        this.falhas = falhas;
+    }
+
+    public long getDescartados() {
+        return descartados;
+    }
+
+    public void setDescartados(long descartados) {
+        this.descartados = descartados;
+    }
+
+    public long getPendentes() {
+        return pendentes;
+    }
+
+    public void setPendentes(long pendentes) {
+        this.pendentes = pendentes;
+    }
+
+    public long getLagMaisAntigoMs() {
+        return lagMaisAntigoMs;
+    }
+
+    public void setLagMaisAntigoMs(long lagMaisAntigoMs) {
+        this.lagMaisAntigoMs = lagMaisAntigoMs;
+    }
+
+    public long getLagUltimaEntregaMs() {
+        return lagUltimaEntregaMs;
+    }
+
+    public void setLagUltimaEntregaMs(long lagUltimaEntregaMs) {
+        this.lagUltimaEntregaMs = lagUltimaEntregaMs;
+    }
+
+    public double getVazaoEventosPorSegundo() {
+        return vazaoEventosPorSegundo;
+    }
+
+    public void setVazaoEventosPorSegundo(double vazaoEventosPorSegundo) {
+        this.vazaoEventosPorSegundo = vazaoEventosPorSegundo;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.actios.actios_backend.dto;
+
+import java.util.List;
+
+// Página de uma listagem por keyset: proximoCursor é opaco e vai de volta no parâmetro cursor
+public class PaginaDTO<T> {
+    private List<T> itens;
+    private String proximoCursor;
+
+    public PaginaDTO() {}
+
+    public PaginaDTO(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean isTemMais() {
+        return proximoCursor != null;
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.actios.actios_backend.dto;
+
+public class PoolConexoesMetricasDTO {
+    private String pool;
+    private boolean disponivel;
+    private long atrasoSegundos;
+    private int conexoesAtivas;
+    private int conexoesOciosas;
+    private int conexoesTotais;
+    private int threadsAguardando;
+    private int tamanhoMaximo;
+    private long conexoesRoteadas;
+    private long leiturasDesviadas;
+
+    public PoolConexoesMetricasDTO() {}
+
+    public PoolConexoesMetricasDTO(String pool, boolean disponivel, long atrasoSegundos, int conexoesAtivas,
+                                   int conexoesOciosas, int conexoesTotais, int threadsAguardando,
+                                   int tamanhoMaximo, long conexoesRoteadas, long leiturasDesviadas) {
+        this.pool = pool;
+        this.disponivel = disponivel;
+        this.atrasoSegundos = atrasoSegundos;
+        this.conexoesAtivas = conexoesAtivas;
+        this.conexoesOciosas = conexoesOciosas;
+        this.conexoesTotais = conexoesTotais;
+        this.threadsAguardando = threadsAguardando;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.conexoesRoteadas = conexoesRoteadas;
+        this.leiturasDesviadas = leiturasDesviadas;
+    }
+
+    public String getPool() {
+        return pool;
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    public long getAtrasoSegundos() {
+        return atrasoSegundos;
+    }
+
+    public int getConexoesAtivas() {
+        return conexoesAtivas;
+    }
+
+    public int getConexoesOciosas() {
+        return conexoesOciosas;
+    }
+
+    public int getConexoesTotais() {
+        return conexoesTotais;
+    }
+
+    public int getThreadsAguardando() {
+        return threadsAguardando;
+    }
+
+    public int getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public long getConexoesRoteadas() {
+        return conexoesRoteadas;
+    }
+
+    public long getLeiturasDesviadas() {
+        return leiturasDesviadas;
+    }
+}
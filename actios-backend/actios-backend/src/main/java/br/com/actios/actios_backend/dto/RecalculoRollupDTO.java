@@ -0,0 +1,68 @@
+package br.com.actios.actios_backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class RecalculoRollupDTO {
+    private boolean emAndamento;
+    private LocalDate de;
+    private LocalDate ate;
+    private LocalDate processadoAte;
+    private long diasProcessados;
+    private long totalDias;
+    private LocalDateTime dataInicio;
+    private LocalDateTime dataFim;
+    private String erro;
+
+    public RecalculoRollupDTO() {}
+
+    public RecalculoRollupDTO(boolean emAndamento, LocalDate de, LocalDate ate, LocalDate processadoAte,
+                              long diasProcessados, long totalDias, LocalDateTime dataInicio,
+                              LocalDateTime dataFim, String erro) {
+        this.emAndamento = emAndamento;
+        this.de = de;
+        this.ate = ate;
+        this.processadoAte = processadoAte;
+        this.diasProcessados = diasProcessados;
+        this.totalDias = totalDias;
+        this.dataInicio = dataInicio;
+        this.dataFim = dataFim;
+        this.erro = erro;
+    }
+
+    public boolean isEmAndamento() {
+        return emAndamento;
+    }
+
+    public LocalDate getDe() {
+        return de;
+    }
+
+    public LocalDate getAte() {
+        return ate;
+    }
+
+    public LocalDate getProcessadoAte() {
+        return processadoAte;
+    }
+
+    public long getDiasProcessados() {
+        return diasProcessados;
+    }
+
+    public long getTotalDias() {
+        return totalDias;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+}
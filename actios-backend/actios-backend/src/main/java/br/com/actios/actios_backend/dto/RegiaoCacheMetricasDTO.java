@@ -0,0 +1,46 @@
+package br.com.actios.actios_backend.dto;
+
+public class RegiaoCacheMetricasDTO {
+    private String regiao;
+    private long acertos;
+    private long falhas;
+    private long insercoes;
+    private long elementos;
+    private double taxaAcerto;
+
+    public RegiaoCacheMetricasDTO() {}
+
+    public RegiaoCacheMetricasDTO(String regiao, long acertos, long falhas, long insercoes, long elementos,
+                                  double taxaAcerto) {
+        this.regiao = regiao;
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.insercoes = insercoes;
+        this.elementos = elementos;
+        this.taxaAcerto = taxaAcerto;
+    }
+
+    public String getRegiao() {
+        return regiao;
+    }
+
+    public long getAcertos() {
+        return acertos;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    public long getInsercoes() {
+        return insercoes;
+    }
+
+    public long getElementos() {
+        return elementos;
+    }
+
+    public double getTaxaAcerto() {
+        return taxaAcerto;
+    }
+}
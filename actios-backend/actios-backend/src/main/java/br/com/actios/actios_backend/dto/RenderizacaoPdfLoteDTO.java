@@ -0,0 +1,46 @@
+package br.com.actios.actios_backend.dto;
+
+public class RenderizacaoPdfLoteDTO {
+    private long quantidade;
+    private long bytesTotais;
+    private long duracaoMs;
+    private double pdfsPorSegundo;
+    private double picoHeapMb;
+    private String diretorio;
+
+    public RenderizacaoPdfLoteDTO() {}
+
+    public RenderizacaoPdfLoteDTO(long quantidade, long bytesTotais, long duracaoMs,
+                                  double picoHeapMb, String diretorio) {
+        this.quantidade = quantidade;
+        this.bytesTotais = bytesTotais;
+        this.duracaoMs = duracaoMs;
+        this.pdfsPorSegundo = duracaoMs > 0 ? quantidade * 1000.0 / duracaoMs : quantidade;
+        this.picoHeapMb = picoHeapMb;
+        this.diretorio = diretorio;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public long getBytesTotais() {
+        return bytesTotais;
+    }
+
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public double getPdfsPorSegundo() {
+        return pdfsPorSegundo;
+    }
+
+    public double getPicoHeapMb() {
+        return picoHeapMb;
+    }
+
+    public String getDiretorio() {
+        return diretorio;
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.actios.actios_backend.dto;
+
+import java.time.LocalDateTime;
+
+public class TokenDTO {
+    private String token;
+    private String tipoToken = "Bearer";
+    private LocalDateTime expiraEm;
+    private UsuarioDTO usuario;
+
+    public TokenDTO() {}
+
+    public TokenDTO(String token, LocalDateTime expiraEm, UsuarioDTO usuario) {
+        this.token = token;
+        this.expiraEm = expiraEm;
+        this.usuario = usuario;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getTipoToken() {
+        return tipoToken;
+    }
+
+    public LocalDateTime getExpiraEm() {
+        return expiraEm;
+    }
+
+    public UsuarioDTO getUsuario() {
+        return usuario;
+    }
+}
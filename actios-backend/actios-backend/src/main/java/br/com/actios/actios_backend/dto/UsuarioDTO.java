@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.dto;
 
+import br.com.actios.actios_backend.enums.TipoUsuario;
 import br.com.actios.actios_backend.model.Usuario;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,8 @@ public class UsuarioDTO {
     private String curso;
     private String faculdade;
     private LocalDateTime dataCadastro;
+    private TipoUsuario tipo;
+    private boolean ativo;
 
     public static UsuarioDTO fromUsuario(Usuario usuario) {
         if (usuario == null) return null;
@@ -29,6 +32,8 @@ public class UsuarioDTO {
                 .curso(usuario.getCurso())
                 .faculdade(usuario.getFaculdade() != null ? usuario.getFaculdade().getNome() : null)
                 .dataCadastro(usuario.getDataCadastro())
+                .tipo(usuario.getTipo())
+                .ativo(usuario.isAtivo())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package br.com.actios.actios_backend.dto;
+
+import java.time.LocalDate;
+
+// Resultado da verificação offline de um código assinado: não consulta o banco
+public class VerificacaoCertificadoDTO {
+    private boolean valido;
+    private String motivo;
+    private Integer idCertificado;
+    private Integer idUsuario;
+    private Integer idCurso;
+    private LocalDate dataEmissao;
+    private LocalDate dataValidade;
+
+    public VerificacaoCertificadoDTO() {}
+
+    public static VerificacaoCertificadoDTO invalido(String motivo) {
+        VerificacaoCertificadoDTO dto = new VerificacaoCertificadoDTO();
+        dto.valido = false;
+        dto.motivo = motivo;
+        return dto;
+    }
+
+    public boolean isValido() {
+        return valido;
+    }
+
+    public void setValido(boolean valido) {
+        this.valido = valido;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+
+    public Integer getIdCertificado() {
+        return idCertificado;
+    }
+
+    public void setIdCertificado(Integer idCertificado) {
+        this.idCertificado = idCertificado;
+    }
+
+    public Integer getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Integer idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public Integer getIdCurso() {
+        return idCurso;
+    }
+
+    public void setIdCurso(Integer idCurso) {
+        this.idCurso = idCurso;
+    }
+
+    public LocalDate getDataEmissao() {
+        return dataEmissao;
+    }
+
+    public void setDataEmissao(LocalDate dataEmissao) {
+        this.dataEmissao = dataEmissao;
+    }
+
+    public LocalDate getDataValidade() {
+        return dataValidade;
+    }
+
+    public void setDataValidade(LocalDate dataValidade) {
+        this.dataValidade = dataValidade;
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.actios.actios_backend.enums;
+
+public enum OperacaoVinculoLote {
+    // Cria os vínculos que faltam; a coluna concluido, se vier, também atualiza os existentes
+    VINCULAR,
+    // Só altera concluido em vínculos que já existem
+    CONCLUIR
+}
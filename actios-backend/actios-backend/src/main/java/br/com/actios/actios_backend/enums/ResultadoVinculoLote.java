@@ -0,0 +1,9 @@
+package br.com.actios.actios_backend.enums;
+
+public enum ResultadoVinculoLote {
+    CRIADO,
+    ATUALIZADO,
+    INALTERADO,
+    NAO_ENCONTRADO,
+    INVALIDO
+}
@@ -0,0 +1,8 @@
+package br.com.actios.actios_backend.enums;
+
+public enum StatusEmissaoLote {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDA,
+    FALHOU
+}
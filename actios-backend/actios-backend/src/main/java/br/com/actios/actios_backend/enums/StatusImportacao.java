@@ -0,0 +1,8 @@
+package br.com.actios.actios_backend.enums;
+
+public enum StatusImportacao {
+    PENDENTE,
+    EM_ANDAMENTO,
+    CONCLUIDA,
+    FALHOU
+}
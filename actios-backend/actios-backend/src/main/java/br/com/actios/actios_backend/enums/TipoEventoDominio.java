@@ -0,0 +1,23 @@
+package br.com.actios.actios_backend.enums;
+
+public enum TipoEventoDominio {
+    EVENTO_CRIADO("EVENTO"),
+    EVENTO_ATUALIZADO("EVENTO"),
+    EVENTO_EXCLUIDO("EVENTO"),
+    INSCRICAO_CRIADA("INSCRICAO"),
+    INSCRICAO_CANCELADA("INSCRICAO"),
+    PARTICIPACAO_REGISTRADA("PARTICIPACAO"),
+    CHECKIN_REALIZADO("PARTICIPACAO"),
+    FEEDBACK_PARTICIPACAO_ADICIONADO("PARTICIPACAO"),
+    FEEDBACK_EVENTO_CRIADO("FEEDBACK_EVENTO");
+
+    private final String tipoAgregado;
+
+    TipoEventoDominio(String tipoAgregado) {
+        this.tipoAgregado = tipoAgregado;
+    }
+
+    public String getTipoAgregado() {
+        return tipoAgregado;
+    }
+}
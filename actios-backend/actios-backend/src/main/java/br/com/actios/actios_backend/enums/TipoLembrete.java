@@ -0,0 +1,24 @@
+package br.com.actios.actios_backend.enums;
+
+import java.time.Duration;
+
+public enum TipoLembrete {
+    VINTE_E_QUATRO_HORAS(Duration.ofHours(24), "Lembrete: o evento '%s' começa em 24 horas."),
+    UMA_HORA(Duration.ofHours(1), "Lembrete: o evento '%s' começa em 1 hora.");
+
+    private final Duration antecedencia;
+    private final String mensagem;
+
+    TipoLembrete(Duration antecedencia, String mensagem) {
+        this.antecedencia = antecedencia;
+        this.mensagem = mensagem;
+    }
+
+    public Duration getAntecedencia() {
+        return antecedencia;
+    }
+
+    public String formatarMensagem(String tituloEvento) {
+        return String.format(mensagem, tituloEvento);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.actios.actios_backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class LimiteTentativasException extends RuntimeException {
+
+    public LimiteTentativasException(String mensagem) {
+        super(mensagem);
+    }
+}
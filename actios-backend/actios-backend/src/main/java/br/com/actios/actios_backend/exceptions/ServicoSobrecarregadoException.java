@@ -0,0 +1,16 @@
+package br.com.actios.actios_backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    public ServicoSobrecarregadoException(String mensagem) {
+        super(mensagem);
+    }
+
+    public ServicoSobrecarregadoException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "certificados_revogados")
+public class CertificadoRevogado {
+
+    @Id
+    @Column(name = "id_certificado")
+    private Integer idCertificado;
+
+    @Column(name = "motivo", length = 255)
+    private String motivo;
+
+    @Column(name = "data_revogacao", nullable = false)
+    private LocalDateTime dataRevogacao;
+
+    public CertificadoRevogado() {
+        this.dataRevogacao = LocalDateTime.now();
+    }
+
+    public CertificadoRevogado(Integer idCertificado, String motivo) {
+        this();
+        this.idCertificado = idCertificado;
+        this.motivo = motivo;
+    }
+
+    public Integer getIdCertificado() {
+        return idCertificado;
+    }
+
+    public void setIdCertificado(Integer idCertificado) {
+        this.idCertificado = idCertificado;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public void setMotivo(String motivo) {
+        this.motivo = motivo;
+    }
+
+    public LocalDateTime getDataRevogacao() {
+        return dataRevogacao;
+    }
+
+    public void setDataRevogacao(LocalDateTime dataRevogacao) {
+        this.dataRevogacao = dataRevogacao;
+    }
+}
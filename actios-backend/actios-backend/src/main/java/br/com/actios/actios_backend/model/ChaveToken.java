@@ -0,0 +1,79 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Chave HMAC dos tokens de acesso. Fica visível para todos os nós antes da ativação,
+// e continua aceita na verificação até o último token assinado com ela expirar.
+@Entity
+@Table(name = "chaves_token")
+public class ChaveToken {
+
+    @Id
+    @Column(name = "id_chave", length = 16)
+    private String idChave;
+
+    @Column(name = "segredo", nullable = false, length = 128)
+    private String segredo;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_ativacao", nullable = false)
+    private LocalDateTime dataAtivacao;
+
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+
+    public ChaveToken() {
+        this.dataCriacao = LocalDateTime.now();
+    }
+
+    public ChaveToken(String idChave, String segredo, LocalDateTime dataAtivacao, LocalDateTime dataExpiracao) {
+        this();
+        this.idChave = idChave;
+        this.segredo = segredo;
+        this.dataAtivacao = dataAtivacao;
+        this.dataExpiracao = dataExpiracao;
+    }
+
+    public String getIdChave() {
+        return idChave;
+    }
+
+    public void setIdChave(String idChave) {
+        this.idChave = idChave;
+    }
+
+    public String getSegredo() {
+        return segredo;
+    }
+
+    public void setSegredo(String segredo) {
+        this.segredo = segredo;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataAtivacao() {
+        return dataAtivacao;
+    }
+
+    public void setDataAtivacao(LocalDateTime dataAtivacao) {
+        this.dataAtivacao = dataAtivacao;
+    }
+
+    public LocalDateTime getDataExpiracao() {
+        return dataExpiracao;
+    }
+
+    public void setDataExpiracao(LocalDateTime dataExpiracao) {
+        this.dataExpiracao = dataExpiracao;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+
+// Contagem de tentativas de login por chave (hash do e-mail ou IP) e fatia de tempo,
+// somada entre os nós no modo compartilhado do limitador de login
+@Entity
+@Table(name = "contadores_login", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_contadores_login_chave_periodo", columnNames = {"chave", "periodo"})
+})
+public class ContadorLogin {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_contador")
+    private Long idContador;
+
+    @Column(name = "chave", nullable = false, length = 70)
+    private String chave;
+
+    @Column(name = "periodo", nullable = false)
+    private long periodo;
+
+    @Column(name = "contagem", nullable = false)
+    private int contagem;
+
+    public ContadorLogin() {}
+
+    public Long getIdContador() {
+        return idContador;
+    }
+
+    public void setIdContador(Long idContador) {
+        this.idContador = idContador;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public long getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(long periodo) {
+        this.periodo = periodo;
+    }
+
+    public int getContagem() {
+        return contagem;
+    }
+
+    public void setContagem(int contagem) {
+        this.contagem = contagem;
+    }
+}
@@ -2,12 +2,16 @@ package br.com.actios.actios_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "cursos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "curso")
 public class Curso {
 
     @Id
@@ -81,6 +85,8 @@ public class Curso {
         this.vinculosUsuarios = vinculosUsuarios;
     }
 
+    // Percorre o vínculo inteiro; listagens devem usar o roster paginado do VinculoCursoUsuarioService
+    @JsonIgnore
     public List<Usuario> getUsuarios() {
         return vinculosUsuarios.stream()
                 .map(VinculoCursoUsuario::getUsuario)
@@ -0,0 +1,152 @@
+package br.com.actios.actios_backend.model;
+
+import br.com.actios.actios_backend.enums.StatusEmissaoLote;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "emissoes_certificados_lote")
+public class EmissaoCertificadoLote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_emissao")
+    private Long idEmissao;
+
+    @Column(name = "id_curso", nullable = false)
+    private Integer idCurso;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusEmissaoLote status;
+
+    // Checkpoint: os usuários são processados em ordem de ID; a retomada continua a partir daqui
+    @Column(name = "ultimo_id_usuario", nullable = false)
+    private Integer ultimoIdUsuario;
+
+    @Column(name = "total_elegiveis", nullable = false)
+    private long totalElegiveis;
+
+    @Column(name = "emitidos", nullable = false)
+    private long emitidos;
+
+    @Column(name = "executor", length = 100)
+    private String executor;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_inicio")
+    private LocalDateTime dataInicio;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    @Column(name = "data_fim")
+    private LocalDateTime dataFim;
+
+    @Column(name = "erro", length = 500)
+    private String erro;
+
+    public EmissaoCertificadoLote() {
+        this.dataCriacao = LocalDateTime.now();
+        this.status = StatusEmissaoLote.PENDENTE;
+        this.ultimoIdUsuario = 0;
+    }
+
+    public Long getIdEmissao() {
+        return idEmissao;
+    }
+
+    public void setIdEmissao(Long idEmissao) {
+        this.idEmissao = idEmissao;
+    }
+
+    public Integer getIdCurso() {
+        return idCurso;
+    }
+
+    public void setIdCurso(Integer idCurso) {
+        this.idCurso = idCurso;
+    }
+
+    public StatusEmissaoLote getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEmissaoLote status) {
+        this.status = status;
+    }
+
+    public Integer getUltimoIdUsuario() {
+        return ultimoIdUsuario;
+    }
+
+    public void setUltimoIdUsuario(Integer ultimoIdUsuario) {
+        this.ultimoIdUsuario = ultimoIdUsuario;
+    }
+
+    public long getTotalElegiveis() {
+        return totalElegiveis;
+    }
+
+    public void setTotalElegiveis(long totalElegiveis) {
+        this.totalElegiveis = totalElegiveis;
+    }
+
+    public long getEmitidos() {
+        return emitidos;
+    }
+
+    public void setEmitidos(long emitidos) {
+        this.emitidos = emitidos;
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public void setDataInicio(LocalDateTime dataInicio) {
+        this.dataInicio = dataInicio;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public void setDataFim(LocalDateTime dataFim) {
+        this.dataFim = dataFim;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.actios.actios_backend.model;
+
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "eventos_outbox")
+public class EventoOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_evento_outbox")
+    private Long idEventoOutbox;
+
+    @Column(name = "tipo_agregado", nullable = false, length = 50)
+    private String tipoAgregado;
+
+    @Column(name = "id_agregado", nullable = false)
+    private Integer idAgregado;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_evento", nullable = false, length = 60)
+    private TipoEventoDominio tipoEvento;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_processamento")
+    private LocalDateTime dataProcessamento;
+
+    @Column(name = "processado", nullable = false)
+    private boolean processado;
+
+    @Column(name = "tentativas", nullable = false)
+    private int tentativas;
+
+    // Reserva temporária do evento por um nó; expirada, o evento volta a ficar disponível
+    @Column(name = "bloqueado_ate")
+    private LocalDateTime bloqueadoAte;
+
+    @Column(name = "bloqueado_por", length = 100)
+    private String bloqueadoPor;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    public EventoOutbox() {
+        this.dataCriacao = LocalDateTime.now();
+        this.processado = false;
+        this.tentativas = 0;
+    }
+
+    public Long getIdEventoOutbox() {
+        return idEventoOutbox;
+    }
+
+    public void setIdEventoOutbox(Long idEventoOutbox) {
+        this.idEventoOutbox = idEventoOutbox;
+    }
+
+    public String getTipoAgregado() {
+        return tipoAgregado;
+    }
+
+    public void setTipoAgregado(String tipoAgregado) {
+        this.tipoAgregado = tipoAgregado;
+    }
+
+    public Integer getIdAgregado() {
+        return idAgregado;
+    }
+
+    public void setIdAgregado(Integer idAgregado) {
+        this.idAgregado = idAgregado;
+    }
+
+    public TipoEventoDominio getTipoEvento() {
+        return tipoEvento;
+    }
+
+    public void setTipoEvento(TipoEventoDominio tipoEvento) {
+        this.tipoEvento = tipoEvento;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataProcessamento() {
+        return dataProcessamento;
+    }
+
+    public void setDataProcessamento(LocalDateTime dataProcessamento) {
+        this.dataProcessamento = dataProcessamento;
+    }
+
+    public boolean isProcessado() {
+        return processado;
+    }
+
+    public void setProcessado(boolean processado) {
+        this.processado = processado;
+    }
+
+    public int getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(int tentativas) {
+        this.tentativas = tentativas;
+    }
+
+    public LocalDateTime getBloqueadoAte() {
+        return bloqueadoAte;
+    }
+
+    public void setBloqueadoAte(LocalDateTime bloqueadoAte) {
+        this.bloqueadoAte = bloqueadoAte;
+    }
+
+    public String getBloqueadoPor() {
+        return bloqueadoPor;
+    }
+
+    public void setBloqueadoPor(String bloqueadoPor) {
+        this.bloqueadoPor = bloqueadoPor;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+
+    public void setUltimoErro(String ultimoErro) {
+        this.ultimoErro = ultimoErro;
+    }
+}
@@ -2,11 +2,15 @@ package br.com.actios.actios_backend.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.*;
 
 @Entity
 @Table(name = "faculdades")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculdade")
 public class Faculdade {
 
     @Id
@@ -29,6 +33,7 @@ public class Faculdade {
 
     @OneToMany(mappedBy = "faculdade", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculdade.cursos")
     private Set<Curso> cursos = new HashSet<>();
 
     // Getters e Setters
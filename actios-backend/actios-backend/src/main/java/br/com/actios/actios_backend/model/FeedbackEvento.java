@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 public class FeedbackEvento {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seq_feedback_eventos")
+    @TableGenerator(name = "seq_feedback_eventos", table = "sequencias_id", pkColumnName = "nome",
+            valueColumnName = "proximo_valor", pkColumnValue = "feedback_eventos", allocationSize = 50)
     @Column(name = "id_feedback")
     private Integer idFeedback;
     
@@ -0,0 +1,163 @@
+package br.com.actios.actios_backend.model;
+
+import br.com.actios.actios_backend.enums.StatusImportacao;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "importacoes_usuarios")
+public class ImportacaoUsuarios {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_importacao")
+    private Long idImportacao;
+
+    @Column(name = "id_faculdade", nullable = false)
+    private Integer idFaculdade;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusImportacao status;
+
+    // CSV enviado, guardado em disco no nó que recebeu o upload
+    @Column(name = "arquivo", nullable = false, length = 500)
+    private String arquivo;
+
+    // Checkpoint: linhas de dados (sem o cabeçalho) já gravadas; a retomada pula essas linhas
+    @Column(name = "linhas_processadas", nullable = false)
+    private long linhasProcessadas;
+
+    @Column(name = "importados", nullable = false)
+    private long importados;
+
+    @Column(name = "rejeitados", nullable = false)
+    private long rejeitados;
+
+    @Column(name = "executor", length = 100)
+    private String executor;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_inicio")
+    private LocalDateTime dataInicio;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    @Column(name = "data_fim")
+    private LocalDateTime dataFim;
+
+    @Column(name = "erro", length = 500)
+    private String erro;
+
+    public ImportacaoUsuarios() {
+        this.dataCriacao = LocalDateTime.now();
+        this.status = StatusImportacao.PENDENTE;
+    }
+
+    public Long getIdImportacao() {
+        return idImportacao;
+    }
+
+    public void setIdImportacao(Long idImportacao) {
+        this.idImportacao = idImportacao;
+    }
+
+    public Integer getIdFaculdade() {
+        return idFaculdade;
+    }
+
+    public void setIdFaculdade(Integer idFaculdade) {
+        this.idFaculdade = idFaculdade;
+    }
+
+    public StatusImportacao getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusImportacao status) {
+        this.status = status;
+    }
+
+    public String getArquivo() {
+        return arquivo;
+    }
+
+    public void setArquivo(String arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    public long getLinhasProcessadas() {
+        return linhasProcessadas;
+    }
+
+    public void setLinhasProcessadas(long linhasProcessadas) {
+        this.linhasProcessadas = linhasProcessadas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+
+    public void setDataInicio(LocalDateTime dataInicio) {
+        this.dataInicio = dataInicio;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    public LocalDateTime getDataFim() {
+        return dataFim;
+    }
+
+    public void setDataFim(LocalDateTime dataFim) {
+        this.dataFim = dataFim;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
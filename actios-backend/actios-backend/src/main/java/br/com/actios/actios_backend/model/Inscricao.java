@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
 public class Inscricao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seq_inscricoes")
+    @TableGenerator(name = "seq_inscricoes", table = "sequencias_id", pkColumnName = "nome",
+            valueColumnName = "proximo_valor", pkColumnValue = "inscricoes", allocationSize = 50)
     @Column(name = "id_inscricao")
     private Integer idInscricao;
 
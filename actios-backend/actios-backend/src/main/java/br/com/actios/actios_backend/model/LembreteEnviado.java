@@ -0,0 +1,93 @@
+package br.com.actios.actios_backend.model;
+
+import br.com.actios.actios_backend.enums.TipoLembrete;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lembretes_enviados", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"id_evento", "tipo", "inicio_evento"})
+})
+public class LembreteEnviado {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_lembrete")
+    private Long idLembrete;
+
+    @Column(name = "id_evento", nullable = false)
+    private Integer idEvento;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 30)
+    private TipoLembrete tipo;
+
+    // Início do evento considerado no envio; se a data mudar, um novo lembrete pode ser enviado
+    @Column(name = "inicio_evento", nullable = false)
+    private LocalDateTime inicioEvento;
+
+    @Column(name = "data_envio", nullable = false)
+    private LocalDateTime dataEnvio;
+
+    @Column(name = "total_destinatarios", nullable = false)
+    private int totalDestinatarios;
+
+    public LembreteEnviado() {
+        this.dataEnvio = LocalDateTime.now();
+    }
+
+    public LembreteEnviado(Integer idEvento, TipoLembrete tipo, LocalDateTime inicioEvento) {
+        this();
+        this.idEvento = idEvento;
+        this.tipo = tipo;
+        this.inicioEvento = inicioEvento;
+    }
+
+    public Long getIdLembrete() {
+        return idLembrete;
+    }
+
+    public void setIdLembrete(Long idLembrete) {
+        this.idLembrete = idLembrete;
+    }
+
+    public Integer getIdEvento() {
+        return idEvento;
+    }
+
+    public void setIdEvento(Integer idEvento) {
+        this.idEvento = idEvento;
+    }
+
+    public TipoLembrete getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoLembrete tipo) {
+        this.tipo = tipo;
+    }
+
+    public LocalDateTime getInicioEvento() {
+        return inicioEvento;
+    }
+
+    public void setInicioEvento(LocalDateTime inicioEvento) {
+        this.inicioEvento = inicioEvento;
+    }
+
+    public LocalDateTime getDataEnvio() {
+        return dataEnvio;
+    }
+
+    public void setDataEnvio(LocalDateTime dataEnvio) {
+        this.dataEnvio = dataEnvio;
+    }
+
+    public int getTotalDestinatarios() {
+        return totalDestinatarios;
+    }
+
+    public void setTotalDestinatarios(int totalDestinatarios) {
+        this.totalDestinatarios = totalDestinatarios;
+    }
+}
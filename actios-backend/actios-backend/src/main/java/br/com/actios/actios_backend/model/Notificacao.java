@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 public class Notificacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seq_notificacoes")
+    @TableGenerator(name = "seq_notificacoes", table = "sequencias_id", pkColumnName = "nome",
+            valueColumnName = "proximo_valor", pkColumnValue = "notificacoes", allocationSize = 50)
     @Column(name = "id_notificacao")
     private Integer idNotificacao;
 
@@ -32,6 +34,9 @@ public class Notificacao {
     @Column(name = "lida", nullable = false)
     private boolean lida;
 
+    @Column(name = "resumo", nullable = false)
+    private boolean resumo;
+
     public Notificacao() {
         this.dataEnvio = LocalDateTime.now();
         this.lida = false;
@@ -84,5 +89,13 @@ public class Notificacao {
     public void setLida(boolean lida) {
         this.lida = lida;
     }
+
+    public boolean isResumo() {
+        return resumo;
+    }
+
+    public void setResumo(boolean resumo) {
+        this.resumo = resumo;
+    }
 }
 
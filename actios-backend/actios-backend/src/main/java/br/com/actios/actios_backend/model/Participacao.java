@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 public class Participacao {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seq_participacoes")
+    @TableGenerator(name = "seq_participacoes", table = "sequencias_id", pkColumnName = "nome",
+            valueColumnName = "proximo_valor", pkColumnValue = "participacoes", allocationSize = 50)
     @Column(name = "id_participacao")
     private Integer idParticipacao;
     
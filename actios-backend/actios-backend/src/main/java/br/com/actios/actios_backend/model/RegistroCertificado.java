@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "registro_certificados")
+@Table(name = "registro_certificados", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"id_usuario", "id_curso"})
+})
 public class RegistroCertificado {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "seq_registro_certificados")
+    @TableGenerator(name = "seq_registro_certificados", table = "sequencias_id", pkColumnName = "nome",
+            valueColumnName = "proximo_valor", pkColumnValue = "registro_certificados", allocationSize = 50)
     @Column(name = "id_certificado")
     private Integer idCertificado;
     
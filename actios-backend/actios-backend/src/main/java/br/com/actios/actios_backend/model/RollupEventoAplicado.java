@@ -0,0 +1,35 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Eventos de outbox já somados aos rollups; torna a reentrega do outbox inofensiva
+@Entity
+@Table(name = "rollups_eventos_aplicados")
+public class RollupEventoAplicado {
+
+    @Id
+    @Column(name = "id_evento_outbox")
+    private Long idEventoOutbox;
+
+    @Column(name = "data_aplicacao", nullable = false)
+    private LocalDateTime dataAplicacao;
+
+    public RollupEventoAplicado() {}
+
+    public Long getIdEventoOutbox() {
+        return idEventoOutbox;
+    }
+
+    public void setIdEventoOutbox(Long idEventoOutbox) {
+        this.idEventoOutbox = idEventoOutbox;
+    }
+
+    public LocalDateTime getDataAplicacao() {
+        return dataAplicacao;
+    }
+
+    public void setDataAplicacao(LocalDateTime dataAplicacao) {
+        this.dataAplicacao = dataAplicacao;
+    }
+}
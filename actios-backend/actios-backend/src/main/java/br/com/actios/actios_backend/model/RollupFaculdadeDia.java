@@ -0,0 +1,152 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Agregados diários por faculdade, mantidos incrementalmente pelo RollupFaculdadeService.
+// Inscrições, participações e feedbacks contam no dia em que foram criados (cancelamentos e
+// check-ins no dia da inscrição/participação original); eventos no dia em que acontecem.
+@Entity
+@Table(name = "rollups_faculdade_dia", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollups_faculdade_dia", columnNames = {"id_faculdade", "dia"})
+})
+public class RollupFaculdadeDia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_rollup")
+    private Long idRollup;
+
+    @Column(name = "id_faculdade", nullable = false)
+    private Integer idFaculdade;
+
+    @Column(name = "dia", nullable = false)
+    private LocalDate dia;
+
+    @Column(name = "eventos", nullable = false)
+    private long eventos;
+
+    @Column(name = "inscricoes", nullable = false)
+    private long inscricoes;
+
+    @Column(name = "cancelamentos", nullable = false)
+    private long cancelamentos;
+
+    @Column(name = "participacoes", nullable = false)
+    private long participacoes;
+
+    @Column(name = "checkins", nullable = false)
+    private long checkins;
+
+    @Column(name = "feedbacks", nullable = false)
+    private long feedbacks;
+
+    @Column(name = "soma_notas", nullable = false)
+    private long somaNotas;
+
+    @Column(name = "certificados", nullable = false)
+    private long certificados;
+
+    // Último recálculo a partir das tabelas de origem; incrementos mais antigos que isso já estão contados
+    @Column(name = "recalculado_em")
+    private LocalDateTime recalculadoEm;
+
+    public RollupFaculdadeDia() {}
+
+    public Long getIdRollup() {
+        return idRollup;
+    }
+
+    public void setIdRollup(Long idRollup) {
+        this.idRollup = idRollup;
+    }
+
+    public Integer getIdFaculdade() {
+        return idFaculdade;
+    }
+
+    public void setIdFaculdade(Integer idFaculdade) {
+        this.idFaculdade = idFaculdade;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public void setDia(LocalDate dia) {
+        this.dia = dia;
+    }
+
+    public long getEventos() {
+        return eventos;
+    }
+
+    public void setEventos(long eventos) {
+        this.eventos = eventos;
+    }
+
+    public long getInscricoes() {
+        return inscricoes;
+    }
+
+    public void setInscricoes(long inscricoes) {
+        this.inscricoes = inscricoes;
+    }
+
+    public long getCancelamentos() {
+        return cancelamentos;
+    }
+
+    public void setCancelamentos(long cancelamentos) {
+        this.cancelamentos = cancelamentos;
+    }
+
+    public long getParticipacoes() {
+        return participacoes;
+    }
+
+    public void setParticipacoes(long participacoes) {
+        this.participacoes = participacoes;
+    }
+
+    public long getCheckins() {
+        return checkins;
+    }
+
+    public void setCheckins(long checkins) {
+        this.checkins = checkins;
+    }
+
+    public long getFeedbacks() {
+        return feedbacks;
+    }
+
+    public void setFeedbacks(long feedbacks) {
+        this.feedbacks = feedbacks;
+    }
+
+    public long getSomaNotas() {
+        return somaNotas;
+    }
+
+    public void setSomaNotas(long somaNotas) {
+        this.somaNotas = somaNotas;
+    }
+
+    public long getCertificados() {
+        return certificados;
+    }
+
+    public void setCertificados(long certificados) {
+        this.certificados = certificados;
+    }
+
+    public LocalDateTime getRecalculadoEm() {
+        return recalculadoEm;
+    }
+
+    public void setRecalculadoEm(LocalDateTime recalculadoEm) {
+        this.recalculadoEm = recalculadoEm;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Entrada da deny-list de tokens. "identificador" é o jti de um token ou "usuario:<id>" para
+// revogar todos os tokens do usuário emitidos até "dataRevogacao".
+@Entity
+@Table(name = "tokens_revogados")
+public class TokenRevogado {
+
+    @Id
+    @Column(name = "identificador", length = 64)
+    private String identificador;
+
+    @Column(name = "id_usuario")
+    private Integer idUsuario;
+
+    @Column(name = "data_revogacao", nullable = false)
+    private LocalDateTime dataRevogacao;
+
+    @Column(name = "data_expiracao", nullable = false)
+    private LocalDateTime dataExpiracao;
+
+    public TokenRevogado() {
+        this.dataRevogacao = LocalDateTime.now();
+    }
+
+    public TokenRevogado(String identificador, Integer idUsuario, LocalDateTime dataExpiracao) {
+        this();
+        this.identificador = identificador;
+        this.idUsuario = idUsuario;
+        this.dataExpiracao = dataExpiracao;
+    }
+
+    public String getIdentificador() {
+        return identificador;
+    }
+
+    public void setIdentificador(String identificador) {
+        this.identificador = identificador;
+    }
+
+    public Integer getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Integer idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public LocalDateTime getDataRevogacao() {
+        return dataRevogacao;
+    }
+
+    public void setDataRevogacao(LocalDateTime dataRevogacao) {
+        this.dataRevogacao = dataRevogacao;
+    }
+
+    public LocalDateTime getDataExpiracao() {
+        return dataExpiracao;
+    }
+
+    public void setDataExpiracao(LocalDateTime dataExpiracao) {
+        this.dataExpiracao = dataExpiracao;
+    }
+}
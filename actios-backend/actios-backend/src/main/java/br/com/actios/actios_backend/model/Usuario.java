@@ -3,6 +3,7 @@ package br.com.actios.actios_backend.model;
 import br.com.actios.actios_backend.enums.TipoUsuario;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -37,6 +38,7 @@ public class Usuario {
     private String email;
 
     @Column(name = "senha")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String senha;
 
     @Column(name = "curso")
@@ -56,6 +58,15 @@ public class Usuario {
     @Column(name = "ativo")
     private boolean ativo = true;
 
+    // Opt-in: notificações acumuladas e entregues em um único resumo por período
+    @Column(name = "resumo_notificacoes", nullable = false)
+    private boolean resumoNotificacoes = false;
+
+    // Se o corpo da requisição trouxe resumoNotificacoes; sem o campo, a atualização mantém o valor gravado
+    @Transient
+    @JsonIgnore
+    private boolean resumoNotificacoesInformado;
+
     // Getters e Setters
 
     public Integer getIdUsuario() {
@@ -130,6 +141,19 @@ public class Usuario {
         this.ativo = ativo;
     }
 
+    public boolean isResumoNotificacoes() {
+        return resumoNotificacoes;
+    }
+
+    public void setResumoNotificacoes(boolean resumoNotificacoes) {
+        this.resumoNotificacoes = resumoNotificacoes;
+        this.resumoNotificacoesInformado = true;
+    }
+
+    public boolean isResumoNotificacoesInformado() {
+        return resumoNotificacoesInformado;
+    }
+
     public Set<Curso> getCursosCompletos() {
         return vinculosCursos.stream()
                 .filter(VinculoCursoUsuario::isConcluido)
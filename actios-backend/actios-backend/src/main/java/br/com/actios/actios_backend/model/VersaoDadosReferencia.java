@@ -0,0 +1,47 @@
+package br.com.actios.actios_backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Linha única com a versão dos dados de referência (categorias, faculdades, cursos).
+// Cada escrita incrementa a versão; os nós comparam com a do snapshot em memória.
+@Entity
+@Table(name = "versoes_dados_referencia")
+public class VersaoDadosReferencia {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    public VersaoDadosReferencia() {}
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+}
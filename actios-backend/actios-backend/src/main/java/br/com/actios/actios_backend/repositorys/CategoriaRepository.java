@@ -1,11 +1,16 @@
 package br.com.actios.actios_backend.repositorys;
 
 import br.com.actios.actios_backend.model.Categoria;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface CategoriaRepository extends JpaRepository<Categoria, Integer> {
     boolean existsByNome(String nome);
+    // Consultas de dados de referência ficam no cache de consultas do Hibernate
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Categoria> findByNome(String nome);
 }
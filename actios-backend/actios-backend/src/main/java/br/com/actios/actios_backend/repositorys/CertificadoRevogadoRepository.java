@@ -0,0 +1,16 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.model.CertificadoRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CertificadoRevogadoRepository extends JpaRepository<CertificadoRevogado, Integer> {
+
+    // Apenas os IDs: é tudo o que o conjunto em memória precisa
+    @Query("SELECT c.idCertificado FROM CertificadoRevogado c")
+    List<Integer> findAllIds();
+}
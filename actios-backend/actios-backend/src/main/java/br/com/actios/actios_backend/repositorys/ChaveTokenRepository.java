@@ -0,0 +1,22 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.model.ChaveToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChaveTokenRepository extends JpaRepository<ChaveToken, String> {
+
+    // Chaves que ainda podem verificar tokens (inclui as publicadas e ainda não ativas)
+    List<ChaveToken> findByDataExpiracaoAfter(LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM ChaveToken c WHERE c.dataExpiracao < :limite")
+    int removerExpiradas(@Param("limite") LocalDateTime limite);
+}
@@ -1,7 +1,10 @@
 package br.com.actios.actios_backend.repositorys;
 
 import br.com.actios.actios_backend.model.Curso;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,9 +15,11 @@ public interface CursoRepository extends JpaRepository<Curso, Integer> {
     // Verifica se já existe um curso com o nome informado
     boolean existsByNome(String nome);
 
-    // Busca cursos por nome (contendo, ignorando caixa)
+    // Busca cursos por nome (contendo, ignorando caixa); resultado no cache de consultas
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Curso> findByNomeContainingIgnoreCase(String nome);
 
-    // Busca cursos por área acadêmica
+    // Busca cursos por área acadêmica; resultado no cache de consultas
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Curso> findByAreaAcademicaIgnoreCase(String areaAcademica);
 }
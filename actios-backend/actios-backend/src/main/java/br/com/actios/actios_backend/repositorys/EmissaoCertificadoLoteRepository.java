@@ -0,0 +1,42 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.enums.StatusEmissaoLote;
+import br.com.actios.actios_backend.model.EmissaoCertificadoLote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmissaoCertificadoLoteRepository extends JpaRepository<EmissaoCertificadoLote, Long> {
+
+    boolean existsByIdCursoAndStatusIn(Integer idCurso, Collection<StatusEmissaoLote> status);
+
+    List<EmissaoCertificadoLote> findByStatusAndDataAtualizacaoBefore(StatusEmissaoLote status, LocalDateTime limite);
+
+    // Reserva a execução para um nó; só tem efeito se a emissão estiver livre ou abandonada
+    @Modifying
+    @Query("UPDATE EmissaoCertificadoLote e SET e.status = :emAndamento, e.executor = :executor, " +
+            "e.dataAtualizacao = :agora, e.dataInicio = COALESCE(e.dataInicio, :agora) " +
+            "WHERE e.idEmissao = :id AND (e.status <> :emAndamento OR e.dataAtualizacao < :abandonadaAntesDe)")
+    int reservar(@Param("id") Long id,
+                 @Param("executor") String executor,
+                 @Param("agora") LocalDateTime agora,
+                 @Param("abandonadaAntesDe") LocalDateTime abandonadaAntesDe,
+                 @Param("emAndamento") StatusEmissaoLote emAndamento);
+
+    // Renova a reserva antes de gravar um chunk. O UPDATE trava a linha até o commit, então outro nó
+    // que tente reservar espera e já lê o checkpoint novo; 0 quer dizer que a reserva foi perdida.
+    @Modifying
+    @Query("UPDATE EmissaoCertificadoLote e SET e.dataAtualizacao = :agora " +
+            "WHERE e.idEmissao = :id AND e.executor = :executor AND e.status = :emAndamento")
+    int renovar(@Param("id") Long id,
+                @Param("executor") String executor,
+                @Param("agora") LocalDateTime agora,
+                @Param("emAndamento") StatusEmissaoLote emAndamento);
+}
@@ -0,0 +1,41 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.model.EventoOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    // Reserva apenas o evento mais antigo pendente de cada agregado, garantindo a ordem por agregado.
+    // SKIP LOCKED permite que vários nós consumam a mesma tabela sem disputar as mesmas linhas.
+    @Query(value = "SELECT o.* FROM eventos_outbox o " +
+            "WHERE o.processado = false " +
+            "AND (o.bloqueado_ate IS NULL OR o.bloqueado_ate < :agora) " +
+            "AND NOT EXISTS (SELECT 1 FROM eventos_outbox a " +
+            "WHERE a.tipo_agregado = o.tipo_agregado " +
+            "AND a.id_agregado = o.id_agregado " +
+            "AND a.processado = false " +
+            "AND a.id_evento_outbox < o.id_evento_outbox) " +
+            "ORDER BY o.id_evento_outbox " +
+            "LIMIT :limite " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EventoOutbox> reservarPendentes(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+
+    @Modifying
+    @Query("UPDATE EventoOutbox o SET o.processado = true, o.dataProcessamento = :agora, " +
+            "o.bloqueadoAte = null, o.bloqueadoPor = null " +
+            "WHERE o.idEventoOutbox = :id")
+    int marcarProcessado(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    Optional<EventoOutbox> findFirstByProcessadoFalseOrderByIdEventoOutboxAsc();
+
+    long countByProcessadoFalse();
+}
@@ -3,7 +3,11 @@ package br.com.actios.actios_backend.repositorys;
 import br.com.actios.actios_backend.model.Evento;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
+import java.util.List;
+
 public interface EventoRepository extends JpaRepository<Evento, Integer> {
     boolean existsByTitulo(String titulo);
+    List<Evento> findByAtivoTrueAndDataBetween(LocalDate inicio, LocalDate fim);
 }
 
@@ -0,0 +1,39 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.enums.StatusImportacao;
+import br.com.actios.actios_backend.model.ImportacaoUsuarios;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportacaoUsuariosRepository extends JpaRepository<ImportacaoUsuarios, Long> {
+
+    List<ImportacaoUsuarios> findByStatusAndDataAtualizacaoBefore(StatusImportacao status, LocalDateTime limite);
+
+    // Reserva a execução para um nó; só tem efeito se a importação estiver livre ou abandonada
+    @Modifying
+    @Query("UPDATE ImportacaoUsuarios i SET i.status = :emAndamento, i.executor = :executor, " +
+            "i.dataAtualizacao = :agora, i.dataInicio = COALESCE(i.dataInicio, :agora) " +
+            "WHERE i.idImportacao = :id AND (i.status <> :emAndamento OR i.dataAtualizacao < :abandonadaAntesDe)")
+    int reservar(@Param("id") Long id,
+                 @Param("executor") String executor,
+                 @Param("agora") LocalDateTime agora,
+                 @Param("abandonadaAntesDe") LocalDateTime abandonadaAntesDe,
+                 @Param("emAndamento") StatusImportacao emAndamento);
+
+    // Renova a reserva antes de gravar um chunk. O UPDATE trava a linha até o commit, então outro nó
+    // que tente reservar espera e já lê o checkpoint novo; 0 quer dizer que a reserva foi perdida.
+    @Modifying
+    @Query("UPDATE ImportacaoUsuarios i SET i.dataAtualizacao = :agora " +
+            "WHERE i.idImportacao = :id AND i.executor = :executor AND i.status = :emAndamento")
+    int renovar(@Param("id") Long id,
+                @Param("executor") String executor,
+                @Param("agora") LocalDateTime agora,
+                @Param("emAndamento") StatusImportacao emAndamento);
+}
@@ -3,16 +3,26 @@ package br.com.actios.actios_backend.repositorys;
 import br.com.actios.actios_backend.model.Inscricao;
 import br.com.actios.actios_backend.model.Usuario;
 import br.com.actios.actios_backend.model.Evento;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.List;
 
 public interface InscricaoRepository extends JpaRepository<Inscricao, Integer> {
+    // Listagem completa monta InscricaoDTO com usuário e evento: vêm no mesmo SELECT
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "evento"})
+    List<Inscricao> findAll();
+
     Optional<Inscricao> findByUsuarioAndEvento(Usuario usuario, Evento evento);
     List<Inscricao> findByUsuarioId(Integer idUsuario);
     List<Inscricao> findByEventoId(Integer idEvento);
     boolean existsByNumeroInscricao(String numeroInscricao);
     long countByEvento(Evento evento);
+
+    @Query("SELECT i.usuario.idUsuario FROM Inscricao i WHERE i.evento.idEvento = :idEvento AND i.ativo = true")
+    List<Integer> findIdsUsuariosAtivosPorEvento(@Param("idEvento") Integer idEvento);
 }
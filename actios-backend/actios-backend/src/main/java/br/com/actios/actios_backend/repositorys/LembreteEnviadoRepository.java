@@ -0,0 +1,15 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.model.LembreteEnviado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LembreteEnviadoRepository extends JpaRepository<LembreteEnviado, Long> {
+
+    // Lembretes já enviados para eventos que ainda não começaram (usado na reconstrução da roda)
+    List<LembreteEnviado> findByInicioEventoGreaterThanEqual(LocalDateTime inicio);
+}
@@ -1,11 +1,20 @@
 package br.com.actios.actios_backend.repositorys;
 
 import br.com.actios.actios_backend.model.Palestrante;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PalestranteRepository extends JpaRepository<Palestrante, Integer> {
     boolean existsByEmail(String email);
+    // Consultas de dados de referência ficam no cache de consultas do Hibernate
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Palestrante> findByEmail(String email);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Palestrante> findAll();
 }
\ No newline at end of file
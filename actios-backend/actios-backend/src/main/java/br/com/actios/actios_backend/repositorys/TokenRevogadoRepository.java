@@ -0,0 +1,21 @@
+package br.com.actios.actios_backend.repositorys;
+
+import br.com.actios.actios_backend.model.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, String> {
+
+    List<TokenRevogado> findByDataExpiracaoAfter(LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevogado t WHERE t.dataExpiracao < :limite")
+    int removerExpirados(@Param("limite") LocalDateTime limite);
+}
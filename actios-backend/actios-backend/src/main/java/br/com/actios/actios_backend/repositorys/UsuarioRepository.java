@@ -2,6 +2,10 @@ package br.com.actios.actios_backend.repositorys;
 
 import br.com.actios.actios_backend.model.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -13,4 +17,12 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Integer> {
 
     Optional<Usuario> findByEmail(String email);
 
+    // Regrava o hash só se a senha não mudou desde a leitura (evita sobrescrever uma troca concorrente)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Usuario u SET u.senha = :novoHash WHERE u.idUsuario = :idUsuario AND u.senha = :senhaAnterior")
+    int atualizarHashSenha(@Param("idUsuario") Integer idUsuario,
+                           @Param("senhaAnterior") String senhaAnterior,
+                           @Param("novoHash") String novoHash);
+
 }
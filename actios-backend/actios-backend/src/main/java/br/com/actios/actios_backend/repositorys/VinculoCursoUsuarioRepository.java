@@ -5,8 +5,11 @@ import br.com.actios.actios_backend.model.Usuario;
 import br.com.actios.actios_backend.model.VinculoCursoUsuario;
 import br.com.actios.actios_backend.model.VinculoCursoUsuarioId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +23,34 @@ public interface VinculoCursoUsuarioRepository extends JpaRepository<VinculoCurs
 
     // Verificar se existe um vínculo específico
     boolean existsById(VinculoCursoUsuarioId id);
+
+    // Usuários que concluíram o curso e ainda não têm certificado, em ordem de ID a partir do checkpoint
+    @Query(value = "SELECT v.id_usuario FROM vinculo_curso_usuario v " +
+            "WHERE v.id_curso = :idCurso AND v.concluido = true AND v.id_usuario > :aPartirDe " +
+            "AND NOT EXISTS (SELECT 1 FROM registro_certificados r " +
+            "WHERE r.id_usuario = v.id_usuario AND r.id_curso = v.id_curso) " +
+            "ORDER BY v.id_usuario LIMIT :limite", nativeQuery = true)
+    List<Integer> findIdsUsuariosElegiveisSemCertificado(@Param("idCurso") Integer idCurso,
+                                                         @Param("aPartirDe") Integer aPartirDe,
+                                                         @Param("limite") int limite);
+
+    @Query(value = "SELECT COUNT(*) FROM vinculo_curso_usuario v " +
+            "WHERE v.id_curso = :idCurso AND v.concluido = true " +
+            "AND NOT EXISTS (SELECT 1 FROM registro_certificados r " +
+            "WHERE r.id_usuario = v.id_usuario AND r.id_curso = v.id_curso)", nativeQuery = true)
+    long countElegiveisSemCertificado(@Param("idCurso") Integer idCurso);
+
+    // Consultas de conclusão usadas pelo motor de elegibilidade; cobertas pelos índices (curso|usuário, concluido, ...)
+    @Query("SELECT COUNT(v) > 0 FROM VinculoCursoUsuario v " +
+            "WHERE v.usuario.idUsuario = :idUsuario AND v.curso.id = :idCurso AND v.concluido = true")
+    boolean existsConcluido(@Param("idUsuario") Integer idUsuario, @Param("idCurso") Integer idCurso);
+
+    @Query("SELECT v.usuario.idUsuario, v.curso.id FROM VinculoCursoUsuario v " +
+            "WHERE v.concluido = true AND v.usuario.idUsuario IN :idsUsuarios AND v.curso.id IN :idsCursos")
+    List<Object[]> findParesConcluidos(@Param("idsUsuarios") Collection<Integer> idsUsuarios,
+                                       @Param("idsCursos") Collection<Integer> idsCursos);
+
+    @Query("SELECT v.curso.id, COUNT(v) FROM VinculoCursoUsuario v " +
+            "WHERE v.concluido = true AND v.curso.id IN :idsCursos GROUP BY v.curso.id")
+    List<Object[]> countConcluintesPorCurso(@Param("idsCursos") Collection<Integer> idsCursos);
 }
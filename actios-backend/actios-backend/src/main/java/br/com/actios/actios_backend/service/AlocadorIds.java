@@ -0,0 +1,83 @@
+package br.com.actios.actios_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+// IDs das tabelas de maior volume vêm de blocos reservados na tabela sequencias_id (otimizador pooled
+// do @TableGenerator) em vez de AUTO_INCREMENT. Com o ID conhecido antes do INSERT, o Hibernate consegue
+// agrupar os inserts em batch. Cada linha guarda o topo do próximo bloco: quem lê o valor V usa
+// V - BLOCO + 1 .. V e grava V + BLOCO, então nós diferentes nunca recebem o mesmo intervalo.
+@Component
+public class AlocadorIds implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AlocadorIds.class);
+
+    // Deve ser igual ao allocationSize dos @TableGenerator
+    public static final int BLOCO = 50;
+
+    // Sequência -> tabela e coluna de ID
+    private static final Map<String, String[]> SEQUENCIAS = Map.of(
+            "inscricoes", new String[]{"inscricoes", "id_inscricao"},
+            "notificacoes", new String[]{"notificacoes", "id_notificacao"},
+            "participacoes", new String[]{"participacoes", "id_participacao"},
+            "feedback_eventos", new String[]{"feedback_eventos", "id_feedback"},
+            "registro_certificados", new String[]{"registro_certificados", "id_certificado"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacaoPropria;
+
+    @Autowired
+    public AlocadorIds(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Como o gerador do Hibernate, a reserva confirma sozinha e não segura o lock da sequência
+        // até o fim da transação de quem chamou
+        this.transacaoPropria = new TransactionTemplate(transactionManager);
+        this.transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Roda depois do schema update e antes do servidor web aceitar requisições. Bancos que vieram do
+    // AUTO_INCREMENT já têm linhas; a sequência começa acima do maior ID existente e nunca é reduzida.
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCIAS.forEach((sequencia, destino) -> {
+            jdbcTemplate.update("INSERT INTO sequencias_id (nome, proximo_valor) " +
+                    "SELECT ?, COALESCE(MAX(" + destino[1] + "), 0) + ? FROM " + destino[0] + " " +
+                    "ON DUPLICATE KEY UPDATE proximo_valor = GREATEST(proximo_valor, VALUES(proximo_valor))",
+                    sequencia, BLOCO);
+        });
+        log.info("Sequências de ID alinhadas aos dados existentes: {}", SEQUENCIAS.keySet());
+    }
+
+    // Reserva quantidade IDs contíguos para inserts via JDBC e devolve o primeiro.
+    // O intervalo segue a mesma convenção do otimizador pooled, então não colide com os blocos do Hibernate.
+    public long reservar(String sequencia, int quantidade) {
+        if (!SEQUENCIAS.containsKey(sequencia)) {
+            throw new IllegalArgumentException("Sequência desconhecida: " + sequencia);
+        }
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("Quantidade deve ser positiva");
+        }
+
+        Long topo = transacaoPropria.execute(status -> {
+            int alteradas = jdbcTemplate.update(
+                    "UPDATE sequencias_id SET proximo_valor = LAST_INSERT_ID(proximo_valor + ?) WHERE nome = ?",
+                    quantidade, sequencia);
+            // Sem a linha o LAST_INSERT_ID() devolveria um valor antigo da conexão
+            if (alteradas != 1) {
+                throw new IllegalStateException("Sequência " + sequencia + " não inicializada");
+            }
+            return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        });
+        // Valor anterior V: blocos entregues vão até V - BLOCO, e o bloco reservado começa logo depois
+        return topo - quantidade - BLOCO + 1;
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.actios.actios_backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Códigos de validação autoverificáveis: carregam ID do certificado, usuário, curso e data de emissão,
+// assinados com HMAC-SHA256 (truncado em 128 bits) pela chave ativa. O ID da chave vai no código,
+// então chaves antigas continuam verificando enquanto estiverem configuradas.
+// Chaves aposentadas por vazamento não verificam mais em CPU: seus códigos são tratados como não assinados
+// e só valem se estiverem gravados no banco, o que impede forjar certificados que não existem.
+//
+// Formato (base64url, 46 caracteres): versão(1) | chave(1) | certificado(4) | usuário(4) | curso(4) | dia(4) | mac(16)
+@Service
+public class AssinaturaCertificadoService {
+
+    private static final byte VERSAO = 1;
+    private static final int TAMANHO_DADOS = 18;
+    private static final int TAMANHO_MAC = 16;
+    private static final int TAMANHO_CODIGO = 46;
+
+    private final Map<Integer, ThreadLocal<Mac>> chaves = new HashMap<>();
+    private final Set<Integer> chavesAposentadas = new HashSet<>();
+    private final int chaveAtiva;
+
+    public record CodigoCertificado(int idChave, Integer idCertificado, Integer idUsuario,
+                                    Integer idCurso, LocalDate dataEmissao, boolean autentico) {}
+
+    // chaves no formato "id:segredoBase64,id:segredoBase64"; para rotacionar, adicione uma chave e troque a ativa.
+    // Os segredos vêm só do ambiente: sem eles a aplicação não sobe.
+    @Autowired
+    public AssinaturaCertificadoService(@Value("${actios.certificados.assinatura.chaves}") String chavesConfiguradas,
+                                        @Value("${actios.certificados.assinatura.chave-ativa}") int chaveAtiva,
+                                        @Value("${actios.certificados.assinatura.chaves-aposentadas:}") String aposentadas) {
+        if (chavesConfiguradas == null || chavesConfiguradas.isBlank()) {
+            throw new IllegalStateException("Chaves de assinatura de certificado não configuradas (ACTIOS_CERT_KEYS)");
+        }
+        for (String item : aposentadas.split(",")) {
+            if (!item.isBlank()) {
+                chavesAposentadas.add(Integer.parseInt(item.trim()));
+            }
+        }
+
+        for (String item : chavesConfiguradas.split(",")) {
+            String[] partes = item.trim().split(":", 2);
+            if (partes.length != 2) {
+                throw new IllegalStateException("Chave de assinatura de certificado mal configurada: " + item);
+            }
+
+            int idChave = Integer.parseInt(partes[0].trim());
+            if (idChave < 0 || idChave > 255) {
+                throw new IllegalStateException("ID de chave de assinatura deve estar entre 0 e 255");
+            }
+            if (chavesAposentadas.contains(idChave)) {
+                throw new IllegalStateException("Chave de assinatura " + idChave + " está aposentada e não pode ser configurada");
+            }
+
+            SecretKeySpec segredo = new SecretKeySpec(Base64.getDecoder().decode(partes[1].trim()), "HmacSHA256");
+            chaves.put(idChave, ThreadLocal.withInitial(() -> criarMac(segredo)));
+        }
+
+        if (!chaves.containsKey(chaveAtiva)) {
+            throw new IllegalStateException("Chave ativa de assinatura de certificado " + chaveAtiva + " não configurada");
+        }
+        this.chaveAtiva = chaveAtiva;
+    }
+
+    public String gerarCodigo(Integer idCertificado, Integer idUsuario, Integer idCurso, LocalDate dataEmissao) {
+        ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_DADOS + TAMANHO_MAC);
+        buffer.put(VERSAO)
+                .put((byte) chaveAtiva)
+                .putInt(idCertificado)
+                .putInt(idUsuario)
+                .putInt(idCurso)
+                .putInt((int) dataEmissao.toEpochDay());
+
+        byte[] bytes = buffer.array();
+        System.arraycopy(calcularMac(chaveAtiva, bytes), 0, bytes, TAMANHO_DADOS, TAMANHO_MAC);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // Retorna null quando o código não está no formato assinado (ex.: códigos UUID antigos) ou foi
+    // assinado por chave aposentada; nos dois casos vale o caminho de validação pelo banco
+    public CodigoCertificado verificar(String codigo) {
+        if (codigo.length() != TAMANHO_CODIGO) {
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(codigo);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (bytes.length != TAMANHO_DADOS + TAMANHO_MAC || bytes[0] != VERSAO) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        int idChave = Byte.toUnsignedInt(buffer.get());
+        if (chavesAposentadas.contains(idChave)) {
+            return null;
+        }
+        int idCertificado = buffer.getInt();
+        int idUsuario = buffer.getInt();
+        int idCurso = buffer.getInt();
+        LocalDate dataEmissao = LocalDate.ofEpochDay(buffer.getInt());
+
+        boolean autentico = false;
+        if (chaves.containsKey(idChave)) {
+            byte[] esperado = calcularMac(idChave, bytes);
+            byte[] recebido = new byte[TAMANHO_MAC];
+            System.arraycopy(bytes, TAMANHO_DADOS, recebido, 0, TAMANHO_MAC);
+            autentico = MessageDigest.isEqual(esperado, recebido);
+        }
+
+        return new CodigoCertificado(idChave, idCertificado, idUsuario, idCurso, dataEmissao, autentico);
+    }
+
+    private byte[] calcularMac(int idChave, byte[] bytes) {
+        Mac mac = chaves.get(idChave).get();
+        mac.update(bytes, 0, TAMANHO_DADOS);
+        byte[] completo = mac.doFinal();
+
+        byte[] truncado = new byte[TAMANHO_MAC];
+        System.arraycopy(completo, 0, truncado, 0, TAMANHO_MAC);
+        return truncado;
+    }
+
+    private static Mac criarMac(SecretKeySpec segredo) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(segredo);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 indisponível", e);
+        }
+    }
+}
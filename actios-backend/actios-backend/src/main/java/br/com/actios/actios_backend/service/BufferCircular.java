@@ -0,0 +1,44 @@
+package br.com.actios.actios_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Guarda só os últimos N itens: ao encher, cada inserção sobrescreve o mais antigo.
+// A memória é fixa desde a criação, não importa quanto tempo a aplicação fique no ar.
+public class BufferCircular<T> {
+
+    private final Object[] itens;
+    private long total;
+
+    public BufferCircular(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do buffer deve ser positiva");
+        }
+        this.itens = new Object[capacidade];
+    }
+
+    public synchronized void adicionar(T item) {
+        itens[(int) (total % itens.length)] = item;
+        total++;
+    }
+
+    // Cópia do conteúdo atual, do mais recente para o mais antigo
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> listar() {
+        int tamanho = (int) Math.min(total, itens.length);
+        List<T> copia = new ArrayList<>(tamanho);
+        for (long i = total - 1; i >= total - tamanho; i--) {
+            copia.add((T) itens[(int) (i % itens.length)]);
+        }
+        return copia;
+    }
+
+    // Quantos itens já passaram pelo buffer, inclusive os sobrescritos
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public int getCapacidade() {
+        return itens.length;
+    }
+}
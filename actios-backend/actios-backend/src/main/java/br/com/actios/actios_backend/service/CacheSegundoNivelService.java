@@ -0,0 +1,57 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.CacheSegundoNivelConfig;
+import br.com.actios.actios_backend.dto.RegiaoCacheMetricasDTO;
+import br.com.actios.actios_backend.model.Categoria;
+import br.com.actios.actios_backend.model.Curso;
+import br.com.actios.actios_backend.model.Faculdade;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CacheSegundoNivelService {
+
+    private final SessionFactory sessionFactory;
+
+    @Autowired
+    public CacheSegundoNivelService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public List<RegiaoCacheMetricasDTO> obterMetricas() {
+        Statistics estatisticas = sessionFactory.getStatistics();
+        List<RegiaoCacheMetricasDTO> metricas = new ArrayList<>();
+
+        for (String regiao : CacheSegundoNivelConfig.REGIOES) {
+            CacheRegionStatistics regiaoEstatisticas = estatisticas.getCacheRegionStatistics(regiao);
+            if (regiaoEstatisticas == null) {
+                continue;
+            }
+
+            long acertos = regiaoEstatisticas.getHitCount();
+            long falhas = regiaoEstatisticas.getMissCount();
+            long consultas = acertos + falhas;
+            metricas.add(new RegiaoCacheMetricasDTO(regiao, acertos, falhas, regiaoEstatisticas.getPutCount(),
+                    regiaoEstatisticas.getElementCountInMemory(), consultas > 0 ? (double) acertos / consultas : 0));
+        }
+        return metricas;
+    }
+
+    // Alteração feita por outro nó: descarta o que este nó guardou de categorias, faculdades e cursos
+    public void invalidarDadosReferencia() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Categoria.class);
+        cache.evictEntityData(Faculdade.class);
+        cache.evictEntityData(Curso.class);
+        cache.evictRegion(CacheSegundoNivelConfig.REGIAO_FACULDADE_CURSOS);
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -1,11 +1,13 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.dto.CategoriaDTO;
 import br.com.actios.actios_backend.exceptions.RecursoExistenteException;
 import br.com.actios.actios_backend.exceptions.RecursoNaoEncontradoException;
 import br.com.actios.actios_backend.model.Categoria;
 import br.com.actios.actios_backend.repositorys.CategoriaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,39 +15,51 @@ import java.util.List;
 public class CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final DadosReferenciaCache dadosReferenciaCache;
 
     @Autowired
-    public CategoriaService(CategoriaRepository categoriaRepository) {
+    public CategoriaService(CategoriaRepository categoriaRepository, DadosReferenciaCache dadosReferenciaCache) {
         this.categoriaRepository = categoriaRepository;
+        this.dadosReferenciaCache = dadosReferenciaCache;
     }
 
+    @Transactional
     public Categoria cadastrar(Categoria categoria) {
         if (categoriaRepository.existsByNome(categoria.getNome())) {
             throw new RecursoExistenteException("Categoria já cadastrada com esse nome.");
         }
-        return categoriaRepository.save(categoria);
+        Categoria salva = categoriaRepository.save(categoria);
+        dadosReferenciaCache.registrarAlteracao();
+        return salva;
     }
 
-    public List<Categoria> listarTodas() {
-        return categoriaRepository.findAll();
+    // Servido pelo snapshot em memória, sem consulta ao banco
+    public List<CategoriaDTO> listarTodas() {
+        return dadosReferenciaCache.categorias();
     }
 
+    @Transactional(readOnly = true)
     public Categoria buscarPorId(Integer id) {
         return categoriaRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Categoria não encontrada."));
     }
 
+    @Transactional
     public Categoria atualizar(Categoria categoria) {
         if (!categoriaRepository.existsById(categoria.getIdCategoria())) {
             throw new RecursoNaoEncontradoException("Categoria não encontrada para atualização.");
         }
-        return categoriaRepository.save(categoria);
+        Categoria atualizada = categoriaRepository.save(categoria);
+        dadosReferenciaCache.registrarAlteracao();
+        return atualizada;
     }
 
+    @Transactional
     public void excluir(Integer id) {
         if (!categoriaRepository.existsById(id)) {
             throw new RecursoNaoEncontradoException("Categoria não encontrada para exclusão.");
         }
         categoriaRepository.deleteById(id);
+        dadosReferenciaCache.registrarAlteracao();
     }
 }
\ No newline at end of file
@@ -0,0 +1,320 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.dto.RenderizacaoPdfLoteDTO;
+import br.com.actios.actios_backend.enums.TipoUsuario;
+import br.com.actios.actios_backend.exceptions.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static br.com.actios.actios_backend.service.GeradorPdfCertificado.*;
+
+// Renderização dos certificados em PDF. A parte fixa de cada modelo (moldura, faculdade, curso) é
+// montada uma vez por Curso/Faculdade e reaproveitada; por certificado só entram nome, data e código.
+// Lotes rodam num pool limitado cuja fila cheia faz o chamador renderizar, segurando a produção.
+@Service
+public class CertificadoPdfService {
+
+    private static final Logger log = LoggerFactory.getLogger(CertificadoPdfService.class);
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final float LARGURA_TEXTO = 700;
+    private static final int MAXIMO_MODELOS = 1000;
+    static final String SELECT_DADOS =
+            "SELECT r.id_certificado, r.codigo_validacao, r.data_emissao, r.id_usuario, u.nome, u.email, " +
+            "c.id_curso, c.nome AS nome_curso, f.id_faculdade, f.nome AS nome_faculdade " +
+            "FROM registro_certificados r " +
+            "JOIN usuarios u ON u.id_usuario = r.id_usuario " +
+            "JOIN cursos c ON c.id_curso = r.id_curso " +
+            "JOIN faculdades f ON f.id_faculdade = c.id_faculdade ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, byte[]> modelos = new ConcurrentHashMap<>();
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    private final ThreadPoolExecutor executor;
+
+    @Value("${actios.certificados.pdf.diretorio:certificados-pdf}")
+    private String diretorio;
+
+    @Value("${actios.certificados.pdf.gerar-na-emissao:false}")
+    private boolean gerarNaEmissao;
+
+    @Value("${actios.certificados.pdf.tamanho-pagina:500}")
+    private int tamanhoPagina;
+
+    public record DadosCertificado(Integer idCertificado, String codigoValidacao, LocalDate dataEmissao,
+                                   Integer idUsuario, String nomeUsuario, String emailUsuario, Integer idCurso, String nomeCurso,
+                                   Integer idFaculdade, String nomeFaculdade) {}
+
+    @Autowired
+    public CertificadoPdfService(JdbcTemplate jdbcTemplate,
+                                 @Value("${actios.certificados.pdf.threads:0}") int threads,
+                                 @Value("${actios.certificados.pdf.fila:1000}") int fila) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        int totalThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(totalThreads, totalThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread thread = new Thread(r, "certificados-pdf-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public long renderizar(DadosCertificado dados, OutputStream saida) throws IOException {
+        Buffer conteudo = buffers.get();
+        conteudo.reset();
+        conteudo.writeBytes(modelo(dados));
+
+        textoCentralizado(conteudo, dados.nomeUsuario(), FONTE_NEGRITO, 30, 330, LARGURA_TEXTO);
+        textoCentralizado(conteudo, "Emitido em " + dados.dataEmissao().format(FORMATO_DATA),
+                FONTE_NORMAL, 12, 150, LARGURA_TEXTO);
+        textoCentralizado(conteudo, "Código de validação: " + dados.codigoValidacao(),
+                FONTE_NORMAL, 10, 80, LARGURA_TEXTO);
+
+        return escrever(saida, conteudo.interno(), conteudo.size());
+    }
+
+    public void renderizarCertificado(Integer idCertificado, OutputStream saida) throws IOException {
+        renderizar(buscarDados(idCertificado), saida);
+    }
+
+    public DadosCertificado buscarDados(Integer idCertificado) {
+        if (idCertificado == null || idCertificado <= 0) {
+            throw new CampoObrigatorioException("ID do certificado é inválido");
+        }
+
+        List<DadosCertificado> dados = jdbcTemplate.query(SELECT_DADOS + "WHERE r.id_certificado = ?",
+                mapeador(), idCertificado);
+        if (dados.isEmpty()) {
+            throw new RecursoNaoEncontradoException("Certificado com ID " + idCertificado + " não encontrado");
+        }
+        return dados.get(0);
+    }
+
+    // Só o dono do certificado ou a faculdade que oferece o curso podem baixá-lo. Para os demais
+    // responde como inexistente, sem revelar quais IDs existem.
+    public DadosCertificado buscarDadosAutorizados(Integer idCertificado, UsuarioAutenticado usuario) {
+        DadosCertificado dados = buscarDados(idCertificado);
+        boolean dono = usuario != null && dados.idUsuario().equals(usuario.idUsuario());
+        boolean faculdade = usuario != null && TipoUsuario.FACULDADE.name().equals(usuario.tipo())
+                && dados.idFaculdade().equals(usuario.idFaculdade());
+        if (!dono && !faculdade) {
+            throw new RecursoNaoEncontradoException("Certificado com ID " + idCertificado + " não encontrado");
+        }
+        return dados;
+    }
+
+    // Operações sobre todos os certificados de um curso ficam com a faculdade que o oferece. Para as
+    // demais, como em buscarDadosAutorizados, o curso responde como inexistente.
+    public void autorizarCurso(Integer idCurso, UsuarioAutenticado usuario) {
+        if (idCurso == null || idCurso <= 0) {
+            throw new CampoObrigatorioException("ID do curso é inválido");
+        }
+
+        List<Integer> faculdades = jdbcTemplate.queryForList(
+                "SELECT id_faculdade FROM cursos WHERE id_curso = ?", Integer.class, idCurso);
+        boolean faculdade = usuario != null && TipoUsuario.FACULDADE.name().equals(usuario.tipo())
+                && !faculdades.isEmpty() && faculdades.get(0).equals(usuario.idFaculdade());
+        if (!faculdade) {
+            throw new RecursoNaoEncontradoException("Curso com ID " + idCurso + " não encontrado");
+        }
+    }
+
+    // Gera o arquivo depois do commit da emissão, quando habilitado
+    public void renderizarAposEmissao(Integer idCertificado) {
+        if (!gerarNaEmissao) {
+            return;
+        }
+
+        Runnable tarefa = () -> executor.execute(() -> {
+            try {
+                DadosCertificado dados = buscarDados(idCertificado);
+                gravarEmDisco(dados);
+            } catch (RuntimeException | IOException e) {
+                log.warn("Falha ao gerar PDF do certificado {}", idCertificado, e);
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tarefa.run();
+                }
+            });
+        } else {
+            tarefa.run();
+        }
+    }
+
+    // Percorre os certificados do curso por páginas de ID crescente; só uma página fica em memória
+    public RenderizacaoPdfLoteDTO renderizarCurso(Integer idCurso, UsuarioAutenticado usuario) {
+        autorizarCurso(idCurso, usuario);
+
+        redefinirPicoHeap();
+        long inicio = System.currentTimeMillis();
+        AtomicLong bytes = new AtomicLong();
+        long quantidade = 0;
+        int ultimoId = 0;
+
+        while (true) {
+            List<DadosCertificado> pagina = jdbcTemplate.query(
+                    SELECT_DADOS + "WHERE r.id_curso = ? AND r.id_certificado > ? ORDER BY r.id_certificado LIMIT ?",
+                    mapeador(), idCurso, ultimoId, tamanhoPagina);
+            if (pagina.isEmpty()) {
+                break;
+            }
+
+            List<Future<?>> tarefas = new ArrayList<>(pagina.size());
+            for (DadosCertificado dados : pagina) {
+                tarefas.add(executor.submit(() -> {
+                    try {
+                        bytes.addAndGet(gravarEmDisco(dados));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            aguardar(tarefas);
+
+            quantidade += pagina.size();
+            ultimoId = pagina.get(pagina.size() - 1).idCertificado();
+        }
+
+        return new RenderizacaoPdfLoteDTO(quantidade, bytes.get(), System.currentTimeMillis() - inicio,
+                picoHeapMb(), Paths.get(diretorio, "curso-" + idCurso).toAbsolutePath().toString());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    private long gravarEmDisco(DadosCertificado dados) throws IOException {
+        Path pasta = Paths.get(diretorio, "curso-" + dados.idCurso());
+        Files.createDirectories(pasta);
+
+        try (OutputStream saida = new BufferedOutputStream(
+                Files.newOutputStream(pasta.resolve("certificado-" + dados.idCertificado() + ".pdf")))) {
+            return renderizar(dados, saida);
+        }
+    }
+
+    // A chave inclui os nomes: renomear curso ou faculdade gera um modelo novo sem invalidação explícita
+    private byte[] modelo(DadosCertificado dados) {
+        String chave = dados.idCurso() + ":" + dados.idFaculdade() + ":" + dados.nomeCurso() + ":" + dados.nomeFaculdade();
+        byte[] modelo = modelos.get(chave);
+        if (modelo != null) {
+            return modelo;
+        }
+
+        if (modelos.size() >= MAXIMO_MODELOS) {
+            modelos.clear();
+        }
+        return modelos.computeIfAbsent(chave, k -> montarModelo(dados));
+    }
+
+    private byte[] montarModelo(DadosCertificado dados) {
+        ByteArrayOutputStream conteudo = new ByteArrayOutputStream(1024);
+        escreverAscii(conteudo, "0.15 0.25 0.45 RG 4 w 30 30 782 535 re S 1 w 40 40 762 515 re S\n");
+        textoCentralizado(conteudo, "CERTIFICADO", FONTE_NEGRITO, 40, 470, LARGURA_TEXTO);
+        textoCentralizado(conteudo, dados.nomeFaculdade(), FONTE_NORMAL, 16, 420, LARGURA_TEXTO);
+        textoCentralizado(conteudo, "Certificamos que", FONTE_NORMAL, 16, 375, LARGURA_TEXTO);
+        textoCentralizado(conteudo, "concluiu o curso", FONTE_NORMAL, 16, 285, LARGURA_TEXTO);
+        textoCentralizado(conteudo, dados.nomeCurso(), FONTE_NEGRITO, 22, 245, LARGURA_TEXTO);
+        return conteudo.toByteArray();
+    }
+
+    private void aguardar(List<Future<?>> tarefas) {
+        try {
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperacaoNaoPermitidaException("Renderização de certificados interrompida", e);
+        } catch (ExecutionException e) {
+            throw new OperacaoNaoPermitidaException("Falha ao renderizar certificados em PDF", e.getCause());
+        }
+    }
+
+    private void redefinirPicoHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    // Soma dos picos de cada região do heap: limite superior do pico real
+    private double picoHeapMb() {
+        long pico = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                pico += pool.getPeakUsage().getUsed();
+            }
+        }
+        return pico / (1024.0 * 1024.0);
+    }
+
+    static RowMapper<DadosCertificado> mapeador() {
+        return (rs, linha) -> new DadosCertificado(
+                rs.getInt("id_certificado"),
+                rs.getString("codigo_validacao"),
+                rs.getDate("data_emissao").toLocalDate(),
+                rs.getInt("id_usuario"),
+                rs.getString("nome"),
+                rs.getString("email"),
+                rs.getInt("id_curso"),
+                rs.getString("nome_curso"),
+                rs.getInt("id_faculdade"),
+                rs.getString("nome_faculdade"));
+    }
+
+    // Expõe o array interno para escrever o conteúdo sem cópia
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(4096);
+        }
+
+        byte[] interno() {
+            return buf;
+        }
+    }
+}
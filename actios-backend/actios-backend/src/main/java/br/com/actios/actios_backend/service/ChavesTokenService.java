@@ -0,0 +1,230 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.model.ChaveToken;
+import br.com.actios.actios_backend.repositorys.ChaveTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+// Chaves HMAC dos tokens de acesso, compartilhadas entre nós pela tabela chaves_token e mantidas
+// em memória. A rotação publica a próxima chave alguns minutos antes de ativá-la, então todos os
+// nós já a conhecem quando o primeiro token assinado com ela chega.
+// Os segredos ficam cifrados na tabela (AES-GCM, com o ID da chave como dado associado) por uma chave
+// que só vem do ambiente: quem lê o banco não consegue assinar tokens.
+@Service
+public class ChavesTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChavesTokenService.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String PREFIXO_CIFRADO = "v1:";
+    private static final int TAMANHO_IV = 12;
+    private static final int TAMANHO_TAG_BITS = 128;
+
+    private final ChaveTokenRepository chaveTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecretKeySpec chaveCifragem;
+
+    // Indexadas pelo cabeçalho já codificado: a verificação não precisa decodificar o JSON do cabeçalho
+    private volatile Map<String, Chave> porCabecalho = Map.of();
+    private volatile List<Chave> ordenadas = List.of();
+
+    @Value("${actios.auth.rotacao-chave-horas:24}")
+    private long rotacaoHoras;
+
+    @Value("${actios.auth.publicacao-chave-minutos:5}")
+    private long publicacaoMinutos;
+
+    @Value("${actios.auth.validade-token-minutos:15}")
+    private long validadeTokenMinutos;
+
+    // cifragem: 32 bytes em base64. Só do ambiente: sem ela a aplicação não sobe
+    @Autowired
+    public ChavesTokenService(ChaveTokenRepository chaveTokenRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${actios.auth.cifragem-chaves}") String cifragem) {
+        if (cifragem == null || cifragem.isBlank()) {
+            throw new IllegalStateException("Chave de cifragem dos segredos de token não configurada (ACTIOS_TOKEN_KEY)");
+        }
+        byte[] bytes = Base64.getDecoder().decode(cifragem.trim());
+        if (bytes.length != 32) {
+            throw new IllegalStateException("A chave de cifragem dos segredos de token deve ter 32 bytes (ACTIOS_TOKEN_KEY)");
+        }
+
+        this.chaveTokenRepository = chaveTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chaveCifragem = new SecretKeySpec(bytes, "AES");
+    }
+
+    // Chave de assinatura: a ativada mais recentemente
+    public Chave ativa() {
+        long agora = System.currentTimeMillis();
+        for (Chave chave : ordenadas) {
+            if (chave.ativacaoMs <= agora) {
+                return chave;
+            }
+        }
+
+        sincronizar();
+        for (Chave chave : ordenadas) {
+            if (chave.ativacaoMs <= agora) {
+                return chave;
+            }
+        }
+        throw new IllegalStateException("Nenhuma chave de token ativa");
+    }
+
+    public Chave porCabecalho(String cabecalho) {
+        Chave chave = porCabecalho.get(cabecalho);
+        return chave != null && chave.expiracaoMs > System.currentTimeMillis() ? chave : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${actios.auth.recarga-chaves-ms:60000}",
+            initialDelayString = "${actios.auth.recarga-chaves-ms:60000}")
+    public synchronized void sincronizar() {
+        List<ChaveToken> chaves = transactionTemplate.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            chaveTokenRepository.removerExpiradas(agora.minusDays(1));
+
+            List<ChaveToken> validas = new ArrayList<>(chaveTokenRepository.findByDataExpiracaoAfter(agora));
+            // Segredos gravados em claro antes da cifragem são cifrados na primeira sincronização
+            for (ChaveToken chave : validas) {
+                if (!chave.getSegredo().startsWith(PREFIXO_CIFRADO)) {
+                    chave.setSegredo(cifrar(chave.getIdChave(), Base64.getDecoder().decode(chave.getSegredo())));
+                    chaveTokenRepository.save(chave);
+                }
+            }
+            LocalDateTime ultimaAtivacao = validas.stream()
+                    .map(ChaveToken::getDataAtivacao)
+                    .max(LocalDateTime::compareTo)
+                    .orElse(null);
+
+            if (ultimaAtivacao == null) {
+                validas.add(chaveTokenRepository.save(novaChave(agora)));
+            } else if (!ultimaAtivacao.plusHours(rotacaoHoras).isAfter(agora.plusMinutes(publicacaoMinutos))) {
+                validas.add(chaveTokenRepository.save(novaChave(agora.plusMinutes(publicacaoMinutos))));
+                log.info("Nova chave de token publicada; ativa em {} minutos", publicacaoMinutos);
+            }
+            return validas;
+        });
+
+        Map<String, Chave> novoIndice = new HashMap<>();
+        List<Chave> novas = chaves.stream()
+                .map(chave -> new Chave(chave, decifrar(chave)))
+                .sorted((a, b) -> Long.compare(b.ativacaoMs, a.ativacaoMs))
+                .toList();
+        novas.forEach(chave -> novoIndice.put(chave.cabecalho, chave));
+
+        porCabecalho = novoIndice;
+        ordenadas = novas;
+    }
+
+    private ChaveToken novaChave(LocalDateTime ativacao) {
+        byte[] segredo = new byte[32];
+        RANDOM.nextBytes(segredo);
+        byte[] id = new byte[6];
+        RANDOM.nextBytes(id);
+
+        // Vale enquanto assina (até a próxima rotação) mais a vida do último token assinado
+        LocalDateTime expiracao = ativacao.plusHours(rotacaoHoras)
+                .plusMinutes(2 * publicacaoMinutos + validadeTokenMinutos);
+        String idChave = HexFormat.of().formatHex(id);
+        return new ChaveToken(idChave, cifrar(idChave, segredo), ativacao, expiracao);
+    }
+
+    // "v1:" + base64(iv | texto cifrado | tag)
+    private String cifrar(String idChave, byte[] segredo) {
+        byte[] iv = new byte[TAMANHO_IV];
+        RANDOM.nextBytes(iv);
+        try {
+            Cipher cifra = Cipher.getInstance("AES/GCM/NoPadding");
+            cifra.init(Cipher.ENCRYPT_MODE, chaveCifragem, new GCMParameterSpec(TAMANHO_TAG_BITS, iv));
+            cifra.updateAAD(idChave.getBytes(StandardCharsets.UTF_8));
+            byte[] cifrado = cifra.doFinal(segredo);
+
+            byte[] saida = new byte[TAMANHO_IV + cifrado.length];
+            System.arraycopy(iv, 0, saida, 0, TAMANHO_IV);
+            System.arraycopy(cifrado, 0, saida, TAMANHO_IV, cifrado.length);
+            return PREFIXO_CIFRADO + Base64.getEncoder().encodeToString(saida);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Falha ao cifrar segredo de token", e);
+        }
+    }
+
+    // Falha com chave de cifragem errada ou segredo trocado entre linhas (o ID entra na tag)
+    private byte[] decifrar(ChaveToken chave) {
+        byte[] entrada = Base64.getDecoder().decode(chave.getSegredo().substring(PREFIXO_CIFRADO.length()));
+        try {
+            Cipher cifra = Cipher.getInstance("AES/GCM/NoPadding");
+            cifra.init(Cipher.DECRYPT_MODE, chaveCifragem, new GCMParameterSpec(TAMANHO_TAG_BITS, entrada, 0, TAMANHO_IV));
+            cifra.updateAAD(chave.getIdChave().getBytes(StandardCharsets.UTF_8));
+            return cifra.doFinal(entrada, TAMANHO_IV, entrada.length - TAMANHO_IV);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Segredo da chave de token " + chave.getIdChave() + " não decifra com ACTIOS_TOKEN_KEY", e);
+        }
+    }
+
+    public static final class Chave {
+        private final String idChave;
+        private final String cabecalho;
+        private final long ativacaoMs;
+        private final long expiracaoMs;
+        private final ThreadLocal<Mac> mac;
+
+        private Chave(ChaveToken chave, byte[] bytesSegredo) {
+            this.idChave = chave.getIdChave();
+            this.cabecalho = BASE64_URL.encodeToString(
+                    ("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + idChave + "\"}").getBytes(StandardCharsets.UTF_8));
+            this.ativacaoMs = chave.getDataAtivacao().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            this.expiracaoMs = chave.getDataExpiracao().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+            SecretKeySpec segredo = new SecretKeySpec(bytesSegredo, "HmacSHA256");
+            this.mac = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac instancia = Mac.getInstance("HmacSHA256");
+                    instancia.init(segredo);
+                    return instancia;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HmacSHA256 indisponível", e);
+                }
+            });
+        }
+
+        public String getIdChave() {
+            return idChave;
+        }
+
+        public String getCabecalho() {
+            return cabecalho;
+        }
+
+        public byte[] assinar(byte[] conteudo, int tamanho) {
+            Mac instancia = mac.get();
+            instancia.update(conteudo, 0, tamanho);
+            return instancia.doFinal();
+        }
+    }
+}
@@ -7,9 +7,9 @@ import br.com.actios.actios_backend.repositorys.CursoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class CursoService {
@@ -17,24 +17,28 @@ public class CursoService {
     @Autowired
     private CursoRepository cursoRepository;
 
+    @Autowired
+    private DadosReferenciaCache dadosReferenciaCache;
+
+    // Servido pelo snapshot em memória, sem consulta ao banco
     public List<CursoDTO> listarTodos() {
-        List<Curso> cursos = cursoRepository.findAll();
+        List<CursoDTO> cursos = dadosReferenciaCache.cursos();
 
         if (cursos.isEmpty()) {
             throw new RecursoNaoEncontradoException("Nenhum curso encontrado");
         }
 
-        return cursos.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return cursos;
     }
 
+    @Transactional(readOnly = true)
     public CursoDTO buscarPorId(Integer id) {
         Curso curso = cursoRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Curso não encontrado com ID: " + id));
         return toDTO(curso);
     }
 
+    @Transactional
     public CursoDTO salvar(Curso curso) {
         validarCurso(curso);
 
@@ -44,12 +48,14 @@ public class CursoService {
 
         try {
             Curso cursoSalvo = cursoRepository.save(curso);
+            dadosReferenciaCache.registrarAlteracao();
             return toDTO(cursoSalvo);
         } catch (Exception e) {
             throw new OperacaoNaoPermitidaException("Falha ao salvar curso: " + e.getMessage());
         }
     }
 
+    @Transactional
     public CursoDTO atualizar(Integer id, Curso cursoAtualizado) {
         validarCurso(cursoAtualizado);
 
@@ -62,11 +68,14 @@ public class CursoService {
                     }
                     curso.setNome(cursoAtualizado.getNome());
                     curso.setAreaAcademica(cursoAtualizado.getAreaAcademica());
-                    return toDTO(cursoRepository.save(curso));
+                    CursoDTO dto = toDTO(cursoRepository.save(curso));
+                    dadosReferenciaCache.registrarAlteracao();
+                    return dto;
                 })
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Curso não encontrado com ID: " + id));
     }
 
+    @Transactional
     public void deletar(Integer id) {
         if (!cursoRepository.existsById(id)) {
             throw new RecursoNaoEncontradoException("Curso não encontrado com ID: " + id);
@@ -74,6 +83,9 @@ public class CursoService {
 
         try {
             cursoRepository.deleteById(id);
+            // Força o DELETE aqui para a violação de FK cair neste catch e não no commit
+            cursoRepository.flush();
+            dadosReferenciaCache.registrarAlteracao();
         } catch (DataIntegrityViolationException e) {
             throw new OperacaoNaoPermitidaException(
                     "Não é possível excluir o curso pois está associado a outras entidades");
@@ -0,0 +1,150 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.CategoriaDTO;
+import br.com.actios.actios_backend.dto.CursoDTO;
+import br.com.actios.actios_backend.dto.FaculdadeDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Near-cache de categorias, faculdades e cursos: um snapshot imutável trocado por inteiro a cada
+// alteração, então as leituras não travam nem vão ao banco. Toda escrita incrementa a versão em
+// versoes_dados_referencia na mesma transação; os outros nós percebem a mudança comparando só esse número.
+@Component
+public class DadosReferenciaCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DadosReferenciaCache.class);
+    private static final int ID_VERSAO = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheSegundoNivelService cacheSegundoNivelService;
+    private final TransactionTemplate leituraConsistente;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @Autowired
+    public DadosReferenciaCache(JdbcTemplate jdbcTemplate, CacheSegundoNivelService cacheSegundoNivelService,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheSegundoNivelService = cacheSegundoNivelService;
+        // Versão e listas lidas na mesma transação enxergam o mesmo estado do banco.
+        // REQUIRES_NEW porque a recarga também roda no afterCommit de uma escrita. Sem readOnly de propósito:
+        // a transação vai para o primário, já que a réplica ainda pode não ter a escrita recém-confirmada
+        // (e gravaria no snapshot uma versão velha). Recargas só acontecem quando a versão muda.
+        this.leituraConsistente = new TransactionTemplate(transactionManager);
+        this.leituraConsistente.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        jdbcTemplate.update("INSERT IGNORE INTO versoes_dados_referencia (id, versao, data_atualizacao) VALUES (?, 1, NOW())",
+                ID_VERSAO);
+        recarregar();
+    }
+
+    public List<CategoriaDTO> categorias() {
+        return atual().categorias();
+    }
+
+    public List<FaculdadeDTO> faculdades() {
+        return atual().faculdades();
+    }
+
+    public List<CursoDTO> cursos() {
+        return atual().cursos();
+    }
+
+    public long getVersao() {
+        Snapshot atual = snapshot.get();
+        return atual != null ? atual.versao() : 0;
+    }
+
+    // Chamado dentro da transação da escrita; o snapshot local só é refeito depois do commit
+    public void registrarAlteracao() {
+        jdbcTemplate.update("INSERT INTO versoes_dados_referencia (id, versao, data_atualizacao) VALUES (?, 1, NOW()) " +
+                "ON DUPLICATE KEY UPDATE versao = versao + 1, data_atualizacao = NOW()", ID_VERSAO);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recarregar();
+                }
+            });
+            return;
+        }
+
+        recarregar();
+    }
+
+    // Consulta barata de uma linha; só recarrega as tabelas quando outro nó mudou a versão
+    @Scheduled(fixedDelayString = "${actios.referencia.verificacao-ms:5000}")
+    public void verificarVersao() {
+        Snapshot atual = snapshot.get();
+        if (atual == null) {
+            return;
+        }
+
+        List<Long> versao = jdbcTemplate.queryForList(
+                "SELECT versao FROM versoes_dados_referencia WHERE id = ?", Long.class, ID_VERSAO);
+        if (!versao.isEmpty() && versao.get(0) != atual.versao()) {
+            // As entidades em cache de segundo nível deste nó também estão velhas
+            cacheSegundoNivelService.invalidarDadosReferencia();
+            recarregar();
+        }
+    }
+
+    private Snapshot atual() {
+        Snapshot atual = snapshot.get();
+        return atual != null ? atual : recarregar();
+    }
+
+    // Serializa só as recargas; as leituras continuam no snapshot anterior enquanto isso
+    private synchronized Snapshot recarregar() {
+        Snapshot novo = leituraConsistente.execute(status -> carregar());
+
+        // Uma recarga atrasada nunca substitui um snapshot de versão mais nova
+        Snapshot instalado = snapshot.accumulateAndGet(novo,
+                (anterior, candidato) -> anterior == null || candidato.versao() >= anterior.versao() ? candidato : anterior);
+        log.debug("Dados de referência na versão {}: {} categorias, {} faculdades, {} cursos", instalado.versao(),
+                instalado.categorias().size(), instalado.faculdades().size(), instalado.cursos().size());
+        return instalado;
+    }
+
+    private Snapshot carregar() {
+        List<Long> versao = jdbcTemplate.queryForList(
+                "SELECT versao FROM versoes_dados_referencia WHERE id = ?", Long.class, ID_VERSAO);
+
+        List<CategoriaDTO> categorias = jdbcTemplate.query(
+                "SELECT id_categoria, nome FROM categorias ORDER BY id_categoria",
+                (rs, i) -> new CategoriaDTO(rs.getInt("id_categoria"), rs.getString("nome")));
+
+        List<FaculdadeDTO> faculdades = jdbcTemplate.query(
+                "SELECT id_faculdade, nome, localizacao, site FROM faculdades ORDER BY id_faculdade",
+                (rs, i) -> new FaculdadeDTO(rs.getInt("id_faculdade"), rs.getString("nome"),
+                        rs.getString("localizacao"), rs.getString("site")));
+
+        List<CursoDTO> cursos = jdbcTemplate.query(
+                "SELECT id_curso, nome, area_academica FROM cursos ORDER BY id_curso",
+                (rs, i) -> new CursoDTO(rs.getInt("id_curso"), rs.getString("nome"), rs.getString("area_academica")));
+
+        return new Snapshot(versao.isEmpty() ? 0 : versao.get(0),
+                List.copyOf(categorias), List.copyOf(faculdades), List.copyOf(cursos));
+    }
+
+    private record Snapshot(long versao, List<CategoriaDTO> categorias, List<FaculdadeDTO> faculdades,
+                            List<CursoDTO> cursos) {
+    }
+}
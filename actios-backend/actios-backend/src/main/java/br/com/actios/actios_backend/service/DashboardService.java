@@ -0,0 +1,241 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.RoteadorDataSource;
+import br.com.actios.actios_backend.dto.DashboardDTO;
+import br.com.actios.actios_backend.exceptions.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+// Monta a tela inicial do estudante com as leituras em paralelo, cada uma numa virtual thread.
+// Todas as seções partem do id que vem no token, então o usuário é carregado uma vez só, junto
+// com as demais. Cada seção tem seu próprio tempo: a que estourar vem nula e o resto é entregue.
+// Cada leitura ocupa uma conexão do pool; um semáforo único para todas as requisições limita quantas
+// rodam ao mesmo tempo, para que vários painéis abertos juntos não esgotem o pool do resto da aplicação.
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final String SELECT_USUARIO =
+            "SELECT u.id_usuario, u.nome, u.email, u.tipo, f.nome AS nome_faculdade FROM usuarios u " +
+            "LEFT JOIN faculdades f ON f.id_faculdade = u.faculdade_id WHERE u.id_usuario = ? AND u.ativo = true";
+    private static final String SELECT_INSCRICOES =
+            "SELECT i.id_inscricao, i.numero_inscricao, i.data_inscricao, e.id_evento, e.titulo, e.data " +
+            "FROM inscricoes i JOIN eventos e ON e.id_evento = i.evento_id " +
+            "WHERE i.usuario_id = ? AND i.ativo = true ORDER BY e.data DESC LIMIT ?";
+    private static final String SELECT_NOTIFICACOES =
+            "SELECT n.id_notificacao, n.mensagem, n.data_envio, n.lida, e.titulo FROM notificacoes n " +
+            "LEFT JOIN eventos e ON e.id_evento = n.id_evento " +
+            "WHERE n.id_usuario = ? ORDER BY n.data_envio DESC LIMIT ?";
+    private static final String COUNT_NAO_LIDAS =
+            "SELECT COUNT(*) FROM notificacoes WHERE id_usuario = ? AND lida = false";
+    private static final String SELECT_PARTICIPACOES =
+            "SELECT p.id_participacao, e.id_evento, e.titulo, p.checkin FROM participacoes p " +
+            "JOIN eventos e ON e.id_evento = p.id_evento " +
+            "WHERE p.id_usuario = ? ORDER BY p.data_criacao DESC LIMIT ?";
+    private static final String SELECT_CERTIFICADOS =
+            "SELECT r.id_certificado, c.id_curso, c.nome, r.data_emissao, r.codigo_validacao " +
+            "FROM registro_certificados r JOIN cursos c ON c.id_curso = r.id_curso " +
+            "WHERE r.id_usuario = ? ORDER BY r.data_emissao DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore conexoes;
+
+    @Value("${actios.dashboard.itens-por-secao:20}")
+    private int itensPorSecao;
+
+    @Value("${actios.dashboard.timeout-ms.usuario:1000}")
+    private long timeoutUsuarioMs;
+
+    @Value("${actios.dashboard.timeout-ms.inscricoes:800}")
+    private long timeoutInscricoesMs;
+
+    @Value("${actios.dashboard.timeout-ms.notificacoes:500}")
+    private long timeoutNotificacoesMs;
+
+    @Value("${actios.dashboard.timeout-ms.participacoes:800}")
+    private long timeoutParticipacoesMs;
+
+    @Value("${actios.dashboard.timeout-ms.certificados:800}")
+    private long timeoutCertificadosMs;
+
+    @Autowired
+    public DashboardService(RoteadorDataSource roteadorDataSource,
+                            TelemetriaSqlService telemetriaSqlService,
+                            @Value("${actios.dashboard.timeout-consulta-segundos:2}") int timeoutConsultaSegundos,
+                            @Value("${actios.dashboard.max-consultas-simultaneas:4}") int maxConsultasSimultaneas) {
+        // Só leituras, fora de transação: vão para a réplica quando ela está em dia
+        this.jdbcTemplate = new JdbcTemplate(telemetriaSqlService.observar(roteadorDataSource.leitura()));
+        // Consulta abandonada por timeout também é cortada no banco, devolvendo a conexão ao pool
+        this.jdbcTemplate.setQueryTimeout(timeoutConsultaSegundos);
+        this.conexoes = new Semaphore(Math.max(1, maxConsultasSimultaneas));
+    }
+
+    public DashboardDTO montar(Integer idUsuario) {
+        if (idUsuario == null || idUsuario <= 0) {
+            throw new CampoObrigatorioException("ID do usuário é inválido.");
+        }
+
+        long inicio = System.nanoTime();
+        Future<DashboardDTO.Usuario> usuario = ler(() -> buscarUsuario(idUsuario));
+        Future<List<DashboardDTO.Inscricao>> inscricoes = ler(() -> buscarInscricoes(idUsuario));
+        Future<List<DashboardDTO.Notificacao>> notificacoes = ler(() -> buscarNotificacoes(idUsuario));
+        Future<Long> naoLidas = ler(() -> jdbcTemplate.queryForObject(COUNT_NAO_LIDAS, Long.class, idUsuario));
+        Future<List<DashboardDTO.Participacao>> participacoes = ler(() -> buscarParticipacoes(idUsuario));
+        Future<List<DashboardDTO.Certificado>> certificados = ler(() -> buscarCertificados(idUsuario));
+
+        // O usuário é obrigatório: sem ele não há painel, e as outras leituras são descartadas
+        DashboardDTO.Usuario dadosUsuario;
+        try {
+            dadosUsuario = aguardar(usuario, inicio, timeoutUsuarioMs);
+        } catch (TimeoutException e) {
+            cancelar(inscricoes, notificacoes, naoLidas, participacoes, certificados);
+            throw new ServicoSobrecarregadoException("Tempo esgotado ao carregar o usuário.", e);
+        } catch (ExecutionException e) {
+            cancelar(inscricoes, notificacoes, naoLidas, participacoes, certificados);
+            throw new OperacaoNaoPermitidaException("Falha ao carregar o usuário", e.getCause());
+        }
+        if (dadosUsuario == null) {
+            cancelar(inscricoes, notificacoes, naoLidas, participacoes, certificados);
+            throw new RecursoNaoEncontradoException("Usuário não encontrado.");
+        }
+
+        DashboardDTO dashboard = new DashboardDTO();
+        List<String> indisponiveis = new ArrayList<>();
+        dashboard.setUsuario(dadosUsuario);
+        secao("inscricoes", inscricoes, inicio, timeoutInscricoesMs, dashboard::setInscricoes, indisponiveis);
+        secao("notificacoes", notificacoes, inicio, timeoutNotificacoesMs, dashboard::setNotificacoesRecentes, indisponiveis);
+        secao("notificacoesNaoLidas", naoLidas, inicio, timeoutNotificacoesMs, dashboard::setNotificacoesNaoLidas, indisponiveis);
+        secao("participacoes", participacoes, inicio, timeoutParticipacoesMs, dashboard::setParticipacoes, indisponiveis);
+        secao("certificados", certificados, inicio, timeoutCertificadosMs, dashboard::setCertificados, indisponiveis);
+
+        dashboard.setSecoesIndisponiveis(indisponiveis);
+        dashboard.setDuracaoMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return dashboard;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // A espera pela permissão conta no prazo da seção; a seção cancelada por tempo é interrompida ainda na fila
+    private <T> Future<T> ler(Callable<T> leitura) {
+        return executor.submit(() -> {
+            conexoes.acquire();
+            try {
+                return leitura.call();
+            } finally {
+                conexoes.release();
+            }
+        });
+    }
+
+    private <T> void secao(String nome, Future<T> futuro, long inicio, long timeoutMs,
+                           Consumer<T> destino, List<String> indisponiveis) {
+        try {
+            destino.accept(aguardar(futuro, inicio, timeoutMs));
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            indisponiveis.add(nome);
+            log.warn("Seção {} do painel excedeu {} ms", nome, timeoutMs);
+        } catch (ExecutionException e) {
+            indisponiveis.add(nome);
+            log.warn("Falha ao carregar a seção {} do painel", nome, e.getCause());
+        }
+    }
+
+    // Os prazos contam a partir do início da requisição, não do momento em que a seção é aguardada
+    private <T> T aguardar(Future<T> futuro, long inicio, long timeoutMs) throws TimeoutException, ExecutionException {
+        long restanteNs = TimeUnit.MILLISECONDS.toNanos(timeoutMs) - (System.nanoTime() - inicio);
+        try {
+            return futuro.get(Math.max(0, restanteNs), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(true);
+            throw new TimeoutException("Interrompido");
+        }
+    }
+
+    private void cancelar(Future<?>... futuros) {
+        for (Future<?> futuro : futuros) {
+            futuro.cancel(true);
+        }
+    }
+
+    private DashboardDTO.Usuario buscarUsuario(Integer idUsuario) {
+        List<DashboardDTO.Usuario> encontrados = jdbcTemplate.query(SELECT_USUARIO, (rs, i) -> new DashboardDTO.Usuario(
+                rs.getInt("id_usuario"),
+                rs.getString("nome"),
+                rs.getString("email"),
+                rs.getString("tipo"),
+                rs.getString("nome_faculdade")), idUsuario);
+        return encontrados.isEmpty() ? null : encontrados.get(0);
+    }
+
+    private List<DashboardDTO.Inscricao> buscarInscricoes(Integer idUsuario) {
+        return jdbcTemplate.query(SELECT_INSCRICOES, (rs, i) -> new DashboardDTO.Inscricao(
+                rs.getInt("id_inscricao"),
+                rs.getString("numero_inscricao"),
+                dataHora(rs.getTimestamp("data_inscricao")),
+                rs.getInt("id_evento"),
+                rs.getString("titulo"),
+                data(rs.getDate("data"))), idUsuario, itensPorSecao);
+    }
+
+    private List<DashboardDTO.Notificacao> buscarNotificacoes(Integer idUsuario) {
+        return jdbcTemplate.query(SELECT_NOTIFICACOES, (rs, i) -> new DashboardDTO.Notificacao(
+                rs.getInt("id_notificacao"),
+                rs.getString("mensagem"),
+                dataHora(rs.getTimestamp("data_envio")),
+                rs.getBoolean("lida"),
+                rs.getString("titulo")), idUsuario, itensPorSecao);
+    }
+
+    private List<DashboardDTO.Participacao> buscarParticipacoes(Integer idUsuario) {
+        return jdbcTemplate.query(SELECT_PARTICIPACOES, (rs, i) -> new DashboardDTO.Participacao(
+                rs.getInt("id_participacao"),
+                rs.getInt("id_evento"),
+                rs.getString("titulo"),
+                rs.getObject("checkin", Boolean.class)), idUsuario, itensPorSecao);
+    }
+
+    private List<DashboardDTO.Certificado> buscarCertificados(Integer idUsuario) {
+        return jdbcTemplate.query(SELECT_CERTIFICADOS, (rs, i) -> new DashboardDTO.Certificado(
+                rs.getInt("id_certificado"),
+                rs.getInt("id_curso"),
+                rs.getString("nome"),
+                data(rs.getDate("data_emissao")),
+                rs.getString("codigo_validacao")), idUsuario, itensPorSecao);
+    }
+
+    private static LocalDateTime dataHora(Timestamp valor) {
+        return valor != null ? valor.toLocalDateTime() : null;
+    }
+
+    private static LocalDate data(Date valor) {
+        return valor != null ? valor.toLocalDate() : null;
+    }
+}
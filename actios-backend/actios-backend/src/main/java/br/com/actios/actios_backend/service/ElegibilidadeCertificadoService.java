@@ -0,0 +1,86 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.repositorys.VinculoCursoUsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Responde "quais destes usuários concluíram estes cursos" com consultas de conjunto sobre
+// vinculo_curso_usuario(concluido), sem carregar coleções de Usuario ou Curso.
+// Usado pela emissão individual, pela emissão em lote e por relatórios.
+@Service
+public class ElegibilidadeCertificadoService {
+
+    // Limite de parâmetros por IN para manter os planos estáveis
+    private static final int TAMANHO_BLOCO = 1000;
+
+    private final VinculoCursoUsuarioRepository vinculoRepository;
+
+    @Autowired
+    public ElegibilidadeCertificadoService(VinculoCursoUsuarioRepository vinculoRepository) {
+        this.vinculoRepository = vinculoRepository;
+    }
+
+    public boolean concluiu(Integer idUsuario, Integer idCurso) {
+        return vinculoRepository.existsConcluido(idUsuario, idCurso);
+    }
+
+    // Para cada usuário, os cursos (dentre os informados) que ele concluiu; usuários sem conclusão ficam de fora
+    public Map<Integer, Set<Integer>> cursosConcluidos(Collection<Integer> idsUsuarios, Collection<Integer> idsCursos) {
+        Map<Integer, Set<Integer>> resultado = new HashMap<>();
+        if (idsUsuarios.isEmpty() || idsCursos.isEmpty()) {
+            return resultado;
+        }
+
+        List<Integer> cursos = new ArrayList<>(new LinkedHashSet<>(idsCursos));
+        for (List<Integer> blocoUsuarios : blocos(new ArrayList<>(new LinkedHashSet<>(idsUsuarios)))) {
+            for (List<Integer> blocoCursos : blocos(cursos)) {
+                for (Object[] par : vinculoRepository.findParesConcluidos(blocoUsuarios, blocoCursos)) {
+                    resultado.computeIfAbsent((Integer) par[0], id -> new HashSet<>()).add((Integer) par[1]);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    public Set<Integer> concluintes(Collection<Integer> idsUsuarios, Integer idCurso) {
+        return cursosConcluidos(idsUsuarios, List.of(idCurso)).keySet();
+    }
+
+    public List<Integer> elegiveisSemCertificado(Integer idCurso, Integer aPartirDeUsuario, int limite) {
+        return vinculoRepository.findIdsUsuariosElegiveisSemCertificado(idCurso, aPartirDeUsuario, limite);
+    }
+
+    public long contarElegiveisSemCertificado(Integer idCurso) {
+        return vinculoRepository.countElegiveisSemCertificado(idCurso);
+    }
+
+    public Map<Integer, Long> contarConcluintesPorCurso(Collection<Integer> idsCursos) {
+        Map<Integer, Long> resultado = new HashMap<>();
+        for (Integer idCurso : idsCursos) {
+            resultado.put(idCurso, 0L);
+        }
+        for (List<Integer> bloco : blocos(new ArrayList<>(resultado.keySet()))) {
+            for (Object[] linha : vinculoRepository.countConcluintesPorCurso(bloco)) {
+                resultado.put((Integer) linha[0], ((Number) linha[1]).longValue());
+            }
+        }
+        return resultado;
+    }
+
+    private static List<List<Integer>> blocos(List<Integer> ids) {
+        List<List<Integer>> blocos = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += TAMANHO_BLOCO) {
+            blocos.add(ids.subList(i, Math.min(ids.size(), i + TAMANHO_BLOCO)));
+        }
+        return blocos;
+    }
+}
@@ -0,0 +1,243 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.EmissaoCertificadoLoteDTO;
+import br.com.actios.actios_backend.enums.StatusEmissaoLote;
+import br.com.actios.actios_backend.exceptions.*;
+import br.com.actios.actios_backend.model.EmissaoCertificadoLote;
+import br.com.actios.actios_backend.repositorys.CursoRepository;
+import br.com.actios.actios_backend.repositorys.EmissaoCertificadoLoteRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class EmissaoCertificadoLoteService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmissaoCertificadoLoteService.class);
+    private static final String INSERT_CERTIFICADO =
+            "INSERT INTO registro_certificados (id_certificado, id_usuario, id_curso, data_emissao, codigo_validacao) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final EmissaoCertificadoLoteRepository emissaoRepository;
+    private final ElegibilidadeCertificadoService elegibilidadeCertificadoService;
+    private final CursoRepository cursoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ValidacaoCertificadoCache validacaoCache;
+    private final AssinaturaCertificadoService assinaturaCertificadoService;
+    private final RollupFaculdadeService rollupFaculdadeService;
+    private final AlocadorIds alocadorIds;
+    private final String idNo = ManagementFactory.getRuntimeMXBean().getName();
+
+    // Uma emissão por vez por nó: o gargalo é o banco, não a CPU
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "emissao-certificados-lote");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Emissões já na fila deste nó: a varredura e o retomar não as enfileiram de novo
+    private final Set<Long> agendadas = ConcurrentHashMap.newKeySet();
+
+    @Value("${actios.certificados.lote.tamanho-chunk:1000}")
+    private int tamanhoChunk;
+
+    @Value("${actios.certificados.lote.abandono-minutos:5}")
+    private long abandonoMinutos;
+
+    @Autowired
+    public EmissaoCertificadoLoteService(EmissaoCertificadoLoteRepository emissaoRepository,
+                                         ElegibilidadeCertificadoService elegibilidadeCertificadoService,
+                                         CursoRepository cursoRepository,
+                                         JdbcTemplate jdbcTemplate,
+                                         TransactionTemplate transactionTemplate,
+                                         ValidacaoCertificadoCache validacaoCache,
+                                         AssinaturaCertificadoService assinaturaCertificadoService,
+                                         RollupFaculdadeService rollupFaculdadeService,
+                                         AlocadorIds alocadorIds) {
+        this.emissaoRepository = emissaoRepository;
+        this.elegibilidadeCertificadoService = elegibilidadeCertificadoService;
+        this.cursoRepository = cursoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validacaoCache = validacaoCache;
+        this.assinaturaCertificadoService = assinaturaCertificadoService;
+        this.rollupFaculdadeService = rollupFaculdadeService;
+        this.alocadorIds = alocadorIds;
+    }
+
+    public EmissaoCertificadoLoteDTO iniciar(Integer idCurso) {
+        if (idCurso == null || idCurso <= 0) {
+            throw new CampoObrigatorioException("ID do curso é inválido");
+        }
+        if (!cursoRepository.existsById(idCurso)) {
+            throw new RecursoNaoEncontradoException("Curso com ID " + idCurso + " não encontrado");
+        }
+        if (emissaoRepository.existsByIdCursoAndStatusIn(idCurso,
+                List.of(StatusEmissaoLote.PENDENTE, StatusEmissaoLote.EM_ANDAMENTO))) {
+            throw new RecursoExistenteException("Já existe uma emissão em lote em andamento para este curso");
+        }
+
+        EmissaoCertificadoLote emissao = new EmissaoCertificadoLote();
+        emissao.setIdCurso(idCurso);
+        emissao.setTotalElegiveis(elegibilidadeCertificadoService.contarElegiveisSemCertificado(idCurso));
+        EmissaoCertificadoLote salva = emissaoRepository.save(emissao);
+
+        agendar(salva.getIdEmissao());
+        return new EmissaoCertificadoLoteDTO(salva);
+    }
+
+    public EmissaoCertificadoLoteDTO consultar(Long idEmissao) {
+        return new EmissaoCertificadoLoteDTO(buscar(idEmissao));
+    }
+
+    public EmissaoCertificadoLoteDTO retomar(Long idEmissao) {
+        EmissaoCertificadoLote emissao = buscar(idEmissao);
+
+        if (emissao.getStatus() == StatusEmissaoLote.CONCLUIDA) {
+            throw new OperacaoNaoPermitidaException("Esta emissão em lote já foi concluída");
+        }
+
+        agendar(idEmissao);
+        return new EmissaoCertificadoLoteDTO(emissao);
+    }
+
+    // Emissões interrompidas por queda de um nó são retomadas do último checkpoint. A varredura é
+    // periódica, e não só na subida, para que um nó que continua no ar assuma as de um nó que caiu.
+    @Scheduled(fixedDelayString = "${actios.certificados.lote.varredura-ms:60000}")
+    public void retomarAbandonadas() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(abandonoMinutos);
+        emissaoRepository.findByStatusAndDataAtualizacaoBefore(StatusEmissaoLote.EM_ANDAMENTO, limite)
+                .forEach(emissao -> agendar(emissao.getIdEmissao()));
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void agendar(Long idEmissao) {
+        if (agendadas.add(idEmissao)) {
+            executor.submit(() -> {
+                try {
+                    executar(idEmissao);
+                } finally {
+                    agendadas.remove(idEmissao);
+                }
+            });
+        }
+    }
+
+    private void executar(Long idEmissao) {
+        LocalDateTime agora = LocalDateTime.now();
+        Integer reservada = transactionTemplate.execute(status -> emissaoRepository.reservar(
+                idEmissao, idNo, agora, agora.minusMinutes(abandonoMinutos), StatusEmissaoLote.EM_ANDAMENTO));
+
+        if (reservada == null || reservada == 0) {
+            log.info("Emissão em lote {} já está sendo executada por outro nó", idEmissao);
+            return;
+        }
+
+        try {
+            int processados;
+            do {
+                List<String> codigos = transactionTemplate.execute(status -> processarChunk(idEmissao));
+                if (codigos == null) {
+                    // Outro nó assumiu a emissão (esta ficou parada além do prazo de abandono); ele continua do checkpoint
+                    log.warn("Emissão em lote {} foi assumida por outro nó; execução local encerrada", idEmissao);
+                    return;
+                }
+                validacaoCache.registrarEmitidos(codigos);
+                processados = codigos.size();
+            } while (processados > 0 && !Thread.currentThread().isInterrupted());
+
+            if (processados == 0) {
+                finalizar(idEmissao, StatusEmissaoLote.CONCLUIDA, null);
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha na emissão em lote {}", idEmissao, e);
+            finalizar(idEmissao, StatusEmissaoLote.FALHOU, e.getMessage());
+        }
+    }
+
+    // Cada chunk grava os certificados e o checkpoint na mesma transação, só se a reserva ainda é deste
+    // nó; sem ela devolve null e nada é gravado
+    private List<String> processarChunk(Long idEmissao) {
+        if (emissaoRepository.renovar(idEmissao, idNo, LocalDateTime.now(), StatusEmissaoLote.EM_ANDAMENTO) == 0) {
+            return null;
+        }
+
+        EmissaoCertificadoLote emissao = buscar(idEmissao);
+        List<Integer> idsUsuarios = elegibilidadeCertificadoService.elegiveisSemCertificado(
+                emissao.getIdCurso(), emissao.getUltimoIdUsuario(), tamanhoChunk);
+
+        if (idsUsuarios.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate hoje = LocalDate.now();
+        Date dataEmissao = Date.valueOf(hoje);
+        Integer idCurso = emissao.getIdCurso();
+        // O código assinado precisa do ID: com o bloco de IDs reservado antes, cada linha já entra
+        // com o código definitivo, sem código provisório nem releitura
+        long primeiroId = alocadorIds.reservar("registro_certificados", idsUsuarios.size());
+        List<Object[]> linhas = new ArrayList<>(idsUsuarios.size());
+        List<String> codigos = new ArrayList<>(idsUsuarios.size());
+        for (int i = 0; i < idsUsuarios.size(); i++) {
+            int idCertificado = Math.toIntExact(primeiroId + i);
+            Integer idUsuario = idsUsuarios.get(i);
+            String codigo = assinaturaCertificadoService.gerarCodigo(idCertificado, idUsuario, idCurso, hoje);
+            linhas.add(new Object[]{idCertificado, idUsuario, idCurso, dataEmissao, codigo});
+            codigos.add(codigo);
+        }
+        jdbcTemplate.batchUpdate(INSERT_CERTIFICADO, linhas);
+        rollupFaculdadeService.registrarCertificados(idCurso, hoje, idsUsuarios.size());
+
+        emissao.setUltimoIdUsuario(idsUsuarios.get(idsUsuarios.size() - 1));
+        emissao.setEmitidos(emissao.getEmitidos() + idsUsuarios.size());
+        emissao.setDataAtualizacao(LocalDateTime.now());
+        emissaoRepository.save(emissao);
+
+        return codigos;
+    }
+
+    private void finalizar(Long idEmissao, StatusEmissaoLote status, String erro) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            EmissaoCertificadoLote emissao = buscar(idEmissao);
+            emissao.setStatus(status);
+            emissao.setDataAtualizacao(LocalDateTime.now());
+            if (status == StatusEmissaoLote.CONCLUIDA) {
+                emissao.setDataFim(LocalDateTime.now());
+            }
+            if (erro != null) {
+                emissao.setErro(erro.length() > 500 ? erro.substring(0, 500) : erro);
+            }
+            emissaoRepository.save(emissao);
+        });
+    }
+
+    private EmissaoCertificadoLote buscar(Long idEmissao) {
+        if (idEmissao == null || idEmissao <= 0) {
+            throw new CampoObrigatorioException("ID da emissão é inválido");
+        }
+
+        return emissaoRepository.findById(idEmissao)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Emissão em lote com ID " + idEmissao + " não encontrada"));
+    }
+}
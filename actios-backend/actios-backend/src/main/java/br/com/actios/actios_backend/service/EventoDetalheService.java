@@ -48,6 +48,7 @@ public class EventoDetalheService {
         }
     }
 
+    @Transactional(readOnly = true)
     public EventoDetalhe buscarPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -57,6 +58,7 @@ public class EventoDetalheService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Detalhes do evento não encontrados"));
     }
 
+    @Transactional(readOnly = true)
     public List<EventoDetalhe> listarTodos() {
         List<EventoDetalhe> detalhes = detalheRepository.findAll();
         if (detalhes.isEmpty()) {
@@ -65,6 +67,7 @@ public class EventoDetalheService {
         return detalhes;
     }
 
+    @Transactional(readOnly = true)
     public List<EventoDetalhe> listarPorFormato(FormatoEvento formato) {
         if (formato == null) {
             throw new CampoObrigatorioException("Formato do evento é obrigatório");
@@ -77,6 +80,7 @@ public class EventoDetalheService {
         return detalhes;
     }
 
+    @Transactional(readOnly = true)
     public List<EventoDetalhe> listarPorCertificado(Boolean certificado) {
         if (certificado == null) {
             throw new CampoObrigatorioException("Parâmetro certificado é obrigatório");
@@ -90,6 +94,7 @@ public class EventoDetalheService {
         return detalhes;
     }
 
+    @Transactional(readOnly = true)
     public List<EventoDetalhe> listarPorValorMaximo(BigDecimal valorMax) {
         if (valorMax == null) {
             throw new CampoObrigatorioException("Valor máximo é obrigatório");
@@ -105,6 +110,7 @@ public class EventoDetalheService {
         return detalhes;
     }
 
+    @Transactional(readOnly = true)
     public List<EventoDetalhe> listarPorDataFimApos(LocalDate data) {
         if (data == null) {
             throw new CampoObrigatorioException("Data de referência é obrigatória");
@@ -15,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import java.util.Optional;
     @Autowired
     private PalestranteRepository palestranteRepository;
 
+    @Transactional(readOnly = true)
     public Page<EventoDTO> buscarEventosFuturosPorNomePalestrante(String nome, Pageable pageable) {
         if (nome == null || nome.trim().isEmpty()) {
             throw new CampoObrigatorioException("O nome do palestrante deve ser informado.");
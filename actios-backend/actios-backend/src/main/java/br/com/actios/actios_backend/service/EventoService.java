@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.Evento;
 import br.com.actios.actios_backend.repositorys.EventoRepository;
@@ -12,6 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -19,11 +22,15 @@ public class EventoService {
 
     private final EventoRepository eventoRepository;
     private final EventoPalestranteRepository eventoPalestranteRepository;
+    private final OutboxService outboxService;
 
     @Autowired
-    public EventoService(EventoRepository eventoRepository, EventoPalestranteRepository eventoPalestranteRepository) {
+    public EventoService(EventoRepository eventoRepository,
+                         EventoPalestranteRepository eventoPalestranteRepository,
+                         OutboxService outboxService) {
         this.eventoRepository = eventoRepository;
         this.eventoPalestranteRepository = eventoPalestranteRepository;
+        this.outboxService = outboxService;
     }
 
     @Transactional
@@ -35,12 +42,15 @@ public class EventoService {
                 throw new RecursoExistenteException("Já existe um evento com este título");
             }
 
-            return eventoRepository.save(evento);
+            Evento salvo = eventoRepository.save(evento);
+            registrarEvento(TipoEventoDominio.EVENTO_CRIADO, salvo);
+            return salvo;
         } catch (DataIntegrityViolationException e) {
             throw new OperacaoNaoPermitidaException("Erro ao cadastrar evento: " + e.getMessage());
         }
     }
 
+    @Transactional(readOnly = true)
     public Page<Evento> listarTodos(Pageable pageable) {
         Page<Evento> eventos = eventoRepository.findAll(pageable);
         if (eventos.isEmpty()) {
@@ -49,6 +59,7 @@ public class EventoService {
         return eventos;
     }
 
+    @Transactional(readOnly = true)
     public Evento buscarPorId(Integer id) {
         if (id == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -70,6 +81,9 @@ public class EventoService {
                         }
                     }
 
+                    LocalDate dataAnterior = eventoExistente.getData();
+                    boolean dataAlterada = !Objects.equals(dataAnterior, evento.getData());
+
                     eventoExistente.setTitulo(evento.getTitulo());
                     eventoExistente.setDescricao(evento.getDescricao());
                     eventoExistente.setData(evento.getData());
@@ -77,7 +91,11 @@ public class EventoService {
                     // Atualize outros campos conforme necessário
 
                     try {
-                        return eventoRepository.save(eventoExistente);
+                        Evento atualizado = eventoRepository.save(eventoExistente);
+                        if (dataAlterada) {
+                            registrarEvento(TipoEventoDominio.EVENTO_ATUALIZADO, atualizado, dataAnterior);
+                        }
+                        return atualizado;
                     } catch (DataIntegrityViolationException e) {
                         throw new OperacaoNaoPermitidaException("Erro ao atualizar evento: " + e.getMessage());
                     }
@@ -95,12 +113,21 @@ public class EventoService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Evento não encontrado para exclusão"));
 
         try {
+            // Faculdade e data vão no payload: quando o consumidor rodar, a linha já não existe
+            Map<String, Object> dados = new HashMap<>();
+            dados.put("idEvento", evento.getIdEvento());
+            dados.put("data", evento.getData().toString());
+            dados.put("idFaculdade", evento.getFaculdade() != null ? evento.getFaculdade().getIdFaculdade() : null);
+
             eventoRepository.delete(evento);
+            eventoRepository.flush();
+            outboxService.registrar(TipoEventoDominio.EVENTO_EXCLUIDO, evento.getIdEvento(), dados);
         } catch (DataIntegrityViolationException e) {
             throw new OperacaoNaoPermitidaException("Não é possível excluir o evento pois está associado a outras entidades");
         }
     }
 
+    @Transactional(readOnly = true)
     public Page<Evento> listarEventosFuturosPorNomePalestrante(String nome, Pageable pageable) {
         if (nome == null || nome.isBlank()) {
             throw new CampoObrigatorioException("Nome do palestrante é obrigatório");
@@ -116,6 +143,20 @@ public class EventoService {
         return eventos;
     }
 
+    private void registrarEvento(TipoEventoDominio tipoEvento, Evento evento) {
+        outboxService.registrar(tipoEvento, evento.getIdEvento(), Map.of(
+                "idEvento", evento.getIdEvento(),
+                "data", evento.getData().toString()));
+    }
+
+    // A data anterior permite aos consumidores (ex.: rollups por dia) desfazer o que foi somado no dia antigo
+    private void registrarEvento(TipoEventoDominio tipoEvento, Evento evento, LocalDate dataAnterior) {
+        outboxService.registrar(tipoEvento, evento.getIdEvento(), Map.of(
+                "idEvento", evento.getIdEvento(),
+                "data", evento.getData().toString(),
+                "dataAnterior", dataAnterior.toString()));
+    }
+
     private void validarEvento(Evento evento) {
         if (evento == null) {
             throw new CampoObrigatorioException("Evento é obrigatório");
@@ -0,0 +1,141 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Exporta todos os certificados de um curso num ZIP (manifesto CSV + um PDF por certificado) escrito
+// direto na resposta. As linhas vêm em páginas por ID crescente, cada uma numa transação curta de
+// leitura, então nenhuma conexão fica presa enquanto o cliente consome o arquivo. O maior ID do curso
+// é fixado no início e limita as duas passadas, para manifesto e PDFs listarem os mesmos certificados.
+@Service
+public class ExportacaoCertificadoService {
+
+    private static final String CABECALHO_MANIFESTO =
+            "id_certificado;codigo_validacao;nome;email;data_emissao;arquivo\n";
+    private static final String WHERE_PAGINA =
+            "WHERE r.id_curso = ? AND r.id_certificado > ? AND r.id_certificado <= ? ORDER BY r.id_certificado LIMIT ?";
+
+    private final CertificadoPdfService certificadoPdfService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leitura;
+    private final int tamanhoPagina;
+
+    @Autowired
+    public ExportacaoCertificadoService(CertificadoPdfService certificadoPdfService,
+                                        JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${actios.certificados.exportacao.tamanho-pagina:500}") int tamanhoPagina) {
+        this.certificadoPdfService = certificadoPdfService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanhoPagina = tamanhoPagina;
+
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    // O ZIP traz nomes e e-mails de todos os alunos do curso: só a faculdade dona do curso exporta
+    public void validarCurso(Integer idCurso, UsuarioAutenticado usuario) {
+        certificadoPdfService.autorizarCurso(idCurso, usuario);
+    }
+
+    public void exportarZipCurso(Integer idCurso, OutputStream saida) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(saida, 64 * 1024));
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        Integer ultimoId = leitura.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT MAX(id_certificado) FROM registro_certificados WHERE id_curso = ?", Integer.class, idCurso));
+        int limite = ultimoId != null ? ultimoId : 0;
+
+        escreverManifesto(idCurso, limite, zip);
+        escreverPdfs(idCurso, limite, zip);
+
+        zip.finish();
+        zip.flush();
+    }
+
+    private void escreverManifesto(Integer idCurso, int limite, ZipOutputStream zip) throws IOException {
+        zip.putNextEntry(new ZipEntry("manifesto.csv"));
+        zip.write(CABECALHO_MANIFESTO.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder linha = new StringBuilder(256);
+        percorrer(idCurso, limite, dados -> {
+            linha.setLength(0);
+            linha.append(dados.idCertificado()).append(';')
+                    .append(csv(dados.codigoValidacao())).append(';')
+                    .append(csv(dados.nomeUsuario())).append(';')
+                    .append(csv(dados.emailUsuario())).append(';')
+                    .append(dados.dataEmissao()).append(';')
+                    .append(nomeArquivo(dados)).append('\n');
+            zip.write(linha.toString().getBytes(StandardCharsets.UTF_8));
+        });
+
+        zip.closeEntry();
+    }
+
+    private void escreverPdfs(Integer idCurso, int limite, ZipOutputStream zip) throws IOException {
+        percorrer(idCurso, limite, dados -> {
+            zip.putNextEntry(new ZipEntry(nomeArquivo(dados)));
+            certificadoPdfService.renderizar(dados, zip);
+            zip.closeEntry();
+        });
+    }
+
+    // Cada página é lida e a transação fecha antes de escrever na resposta
+    private void percorrer(Integer idCurso, int limite, EscritorLinha escritor) throws IOException {
+        RowMapper<CertificadoPdfService.DadosCertificado> mapeador = CertificadoPdfService.mapeador();
+        int ultimoId = 0;
+
+        while (ultimoId < limite) {
+            int depoisDe = ultimoId;
+            List<CertificadoPdfService.DadosCertificado> pagina = leitura.execute(status -> jdbcTemplate.query(
+                    CertificadoPdfService.SELECT_DADOS + WHERE_PAGINA, mapeador, idCurso, depoisDe, limite, tamanhoPagina));
+            if (pagina == null || pagina.isEmpty()) {
+                break;
+            }
+
+            for (CertificadoPdfService.DadosCertificado dados : pagina) {
+                escritor.escrever(dados);
+            }
+            ultimoId = pagina.get(pagina.size() - 1).idCertificado();
+        }
+    }
+
+    private static String nomeArquivo(CertificadoPdfService.DadosCertificado dados) {
+        return "certificados/certificado-" + dados.idCertificado() + ".pdf";
+    }
+
+    // Células que começam com =, +, - ou @ (ou tab/CR) viram fórmula no Excel/LibreOffice; o apóstrofo
+    // à frente faz a planilha tratá-las como texto
+    static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (!valor.isEmpty() && "=+-@\t\r".indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        if (valor.indexOf(';') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface EscritorLinha {
+        void escrever(CertificadoPdfService.DadosCertificado dados) throws IOException;
+    }
+}
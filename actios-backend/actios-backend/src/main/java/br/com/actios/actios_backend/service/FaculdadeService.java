@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.dto.FaculdadeDTO;
 import br.com.actios.actios_backend.exceptions.CampoObrigatorioException;
 import br.com.actios.actios_backend.exceptions.RecursoExistenteException;
 import br.com.actios.actios_backend.exceptions.RecursoNaoEncontradoException;
@@ -8,6 +9,7 @@ import br.com.actios.actios_backend.model.Faculdade;
 import br.com.actios.actios_backend.repositorys.FaculdadeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,12 +18,15 @@ import java.util.Optional;
 public class FaculdadeService {
 
     private final FaculdadeRepository faculdadeRepository;
+    private final DadosReferenciaCache dadosReferenciaCache;
 
     @Autowired
-    public FaculdadeService(FaculdadeRepository faculdadeRepository) {
+    public FaculdadeService(FaculdadeRepository faculdadeRepository, DadosReferenciaCache dadosReferenciaCache) {
         this.faculdadeRepository = faculdadeRepository;
+        this.dadosReferenciaCache = dadosReferenciaCache;
     }
 
+    @Transactional
     public Faculdade cadastrar(Faculdade faculdade) {
         validarFaculdadeParaCadastro(faculdade);
 
@@ -29,9 +34,12 @@ public class FaculdadeService {
             throw new RecursoExistenteException("Já existe uma faculdade com este nome.");
         }
 
-        return faculdadeRepository.save(faculdade);
+        Faculdade salva = faculdadeRepository.save(faculdade);
+        dadosReferenciaCache.registrarAlteracao();
+        return salva;
     }
 
+    @Transactional(readOnly = true)
     public Faculdade buscarPorId(Integer id) {
         if (id == null) {
             throw new CampoObrigatorioException("ID da faculdade é obrigatório.");
@@ -41,8 +49,9 @@ public class FaculdadeService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Faculdade não encontrada com o ID: " + id));
     }
 
-    public List<Faculdade> listarTodas() {
-        List<Faculdade> faculdades = faculdadeRepository.findAll();
+    // Servido pelo snapshot em memória, sem organizadores e cursos
+    public List<FaculdadeDTO> listarTodas() {
+        List<FaculdadeDTO> faculdades = dadosReferenciaCache.faculdades();
 
         if (faculdades.isEmpty()) {
             throw new RecursoNaoEncontradoException("Nenhuma faculdade cadastrada.");
@@ -51,6 +60,7 @@ public class FaculdadeService {
         return faculdades;
     }
 
+    @Transactional
     public Faculdade atualizar(Faculdade faculdade) {
         validarFaculdadeParaAtualizacao(faculdade);
 
@@ -65,9 +75,12 @@ public class FaculdadeService {
             throw new RecursoExistenteException("Já existe outra faculdade com este nome.");
         }
 
-        return faculdadeRepository.save(faculdade);
+        Faculdade atualizada = faculdadeRepository.save(faculdade);
+        dadosReferenciaCache.registrarAlteracao();
+        return atualizada;
     }
 
+    @Transactional
     public void excluir(Integer id) {
         if (id == null) {
             throw new CampoObrigatorioException("ID da faculdade é obrigatório.");
@@ -82,6 +95,7 @@ public class FaculdadeService {
         }
 
         faculdadeRepository.deleteById(id);
+        dadosReferenciaCache.registrarAlteracao();
     }
 
     private void validarFaculdadeParaCadastro(Faculdade faculdade) {
@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.FeedbackEvento;
 import br.com.actios.actios_backend.model.Usuario;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class FeedbackEventoService {
@@ -21,14 +23,17 @@ public class FeedbackEventoService {
     private final FeedbackEventoRepository feedbackEventoRepository;
     private final UsuarioRepository usuarioRepository;
     private final EventoRepository eventoRepository;
+    private final OutboxService outboxService;
 
     @Autowired
     public FeedbackEventoService(FeedbackEventoRepository feedbackEventoRepository,
                                  UsuarioRepository usuarioRepository,
-                                 EventoRepository eventoRepository) {
+                                 EventoRepository eventoRepository,
+                                 OutboxService outboxService) {
         this.feedbackEventoRepository = feedbackEventoRepository;
         this.usuarioRepository = usuarioRepository;
         this.eventoRepository = eventoRepository;
+        this.outboxService = outboxService;
     }
 
     @Transactional
@@ -79,9 +84,17 @@ public class FeedbackEventoService {
 
 // Então pode simplesmente remover esta linha, porque já é setado no construtor.
 
-        return feedbackEventoRepository.save(feedback);
+        FeedbackEvento salvo = feedbackEventoRepository.save(feedback);
+        outboxService.registrar(TipoEventoDominio.FEEDBACK_EVENTO_CRIADO, salvo.getIdFeedback(), Map.of(
+                "idFeedback", salvo.getIdFeedback(),
+                "idUsuario", usuario.getIdUsuario(),
+                "idEvento", evento.getIdEvento(),
+                "nota", nota));
+
+        return salvo;
     }
 
+    @Transactional(readOnly = true)
     public List<FeedbackEvento> listarPorUsuario(Integer idUsuario) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -99,6 +112,7 @@ public class FeedbackEventoService {
         return feedbacks;
     }
 
+    @Transactional(readOnly = true)
     public List<FeedbackEvento> listarPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -116,6 +130,7 @@ public class FeedbackEventoService {
         return feedbacks;
     }
 
+    @Transactional(readOnly = true)
     public FeedbackEvento buscarPorUsuarioEEvento(Integer idUsuario, Integer idEvento) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -134,6 +149,7 @@ public class FeedbackEventoService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Feedback não encontrado para o usuário e evento informados"));
     }
 
+    @Transactional(readOnly = true)
     public long contarFeedbacksPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -145,6 +161,7 @@ public class FeedbackEventoService {
         return feedbackEventoRepository.countByEvento(evento);
     }
 
+    @Transactional(readOnly = true)
     public double calcularMediaNotasPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -162,6 +179,7 @@ public class FeedbackEventoService {
         return media;
     }
 
+    @Transactional(readOnly = true)
     public long contarFeedbacksPorNota(Integer nota) {
         if (nota == null) {
             throw new CampoObrigatorioException("Nota é obrigatória");
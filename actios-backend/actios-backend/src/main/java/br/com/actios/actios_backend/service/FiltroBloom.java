@@ -0,0 +1,87 @@
+package br.com.actios.actios_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Filtro de Bloom thread-safe: "não contém" é definitivo, "talvez contém" precisa ser confirmado.
+// As k posições vêm de duplo hashing (Kirsch-Mitzenmacher) sobre dois hashes de 64 bits derivados do mesmo valor.
+public class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funcoesHash;
+    private final long capacidade;
+
+    public FiltroBloom(long capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0 || taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidade e taxa de falso positivo do filtro são inválidas");
+        }
+
+        long bitsIdeais = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palavras = (int) Math.min(Integer.MAX_VALUE - 8, (bitsIdeais + 63) / 64);
+
+        this.bits = new AtomicLongArray(palavras);
+        this.totalBits = (long) palavras * 64;
+        this.funcoesHash = Math.max(1, (int) Math.round((double) totalBits / capacidade * Math.log(2)));
+        this.capacidade = capacidade;
+    }
+
+    public void adicionar(String valor) {
+        long[] hash = hash(valor);
+        for (int i = 0; i < funcoesHash; i++) {
+            long posicao = Math.floorMod(hash[0] + i * hash[1], totalBits);
+            int palavra = (int) (posicao >>> 6);
+            long mascara = 1L << posicao;
+
+            long atual = bits.get(palavra);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                atual = bits.get(palavra);
+            }
+        }
+    }
+
+    public boolean talvezContenha(String valor) {
+        long[] hash = hash(valor);
+        for (int i = 0; i < funcoesHash; i++) {
+            long posicao = Math.floorMod(hash[0] + i * hash[1], totalBits);
+            if ((bits.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getCapacidade() {
+        return capacidade;
+    }
+
+    public long getTotalBits() {
+        return totalBits;
+    }
+
+    public int getFuncoesHash() {
+        return funcoesHash;
+    }
+
+    // FNV-1a de 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits
+    static long[] hash(String valor) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+
+        long h1 = misturar(h);
+        long h2 = misturar(h ^ 0x9e3779b97f4a7c15L) | 1;
+        return new long[]{h1, h2};
+    }
+
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.actios.actios_backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Arrays;
+
+// Escritor mínimo de PDF para certificados: uma página A4 paisagem com as fontes padrão Helvetica,
+// que não precisam ser embutidas. Catálogo, página, fontes e tabela xref têm tamanho fixo, então
+// ficam pré-codificados; por documento só o fluxo de conteúdo é gerado.
+public final class GeradorPdfCertificado {
+
+    public static final float LARGURA_PAGINA = 842;
+    public static final float ALTURA_PAGINA = 595;
+
+    public static final int FONTE_NORMAL = 0;
+    public static final int FONTE_NEGRITO = 1;
+
+    private static final byte[] PREFIXO;
+    private static final byte[] SUFIXO_CONTEUDO = ascii("\nendstream\nendobj\n");
+    private static final byte[] XREF;
+    private static final int OFFSET_CONTEUDO;
+
+    // Larguras AFM (1/1000 em) dos caracteres 32..126 de Helvetica e Helvetica-Bold
+    private static final short[] LARGURAS_HELVETICA = {
+            278, 278, 355, 556, 556, 889, 667, 191, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 278, 278, 584, 584, 584, 556,
+            1015, 667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 278, 278, 278, 469, 556,
+            333, 556, 556, 500, 556, 556, 278, 556, 556, 222, 222, 500, 222, 833, 556, 556,
+            556, 556, 333, 500, 278, 556, 500, 722, 500, 500, 500, 334, 260, 334, 584
+    };
+    private static final short[] LARGURAS_HELVETICA_NEGRITO = {
+            278, 333, 474, 556, 556, 889, 722, 238, 333, 333, 389, 584, 278, 333, 278, 278,
+            556, 556, 556, 556, 556, 556, 556, 556, 556, 556, 333, 333, 584, 584, 584, 611,
+            975, 722, 722, 722, 722, 667, 611, 778, 722, 278, 556, 722, 611, 833, 722, 778,
+            667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611, 333, 278, 333, 584, 556,
+            333, 556, 611, 556, 611, 556, 333, 611, 611, 278, 278, 556, 278, 889, 611, 611,
+            611, 611, 389, 556, 333, 611, 556, 778, 556, 556, 500, 389, 280, 389, 584
+    };
+    private static final short[][] METRICAS = {
+            expandirLatin1(LARGURAS_HELVETICA), expandirLatin1(LARGURAS_HELVETICA_NEGRITO)
+    };
+
+    static {
+        String[] objetos = {
+                "1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n",
+                "2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 1 >>\nendobj\n",
+                "3 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 842 595] "
+                        + "/Resources << /Font << /F0 4 0 R /F1 5 0 R >> >> /Contents 6 0 R >>\nendobj\n",
+                "4 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>\nendobj\n",
+                "5 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>\nendobj\n"
+        };
+
+        StringBuilder prefixo = new StringBuilder("%PDF-1.4\n");
+        StringBuilder xref = new StringBuilder("xref\n0 7\n0000000000 65535 f \n");
+        for (String objeto : objetos) {
+            xref.append(String.format("%010d 00000 n \n", prefixo.length()));
+            prefixo.append(objeto);
+        }
+        OFFSET_CONTEUDO = prefixo.length();
+        xref.append(String.format("%010d 00000 n \n", OFFSET_CONTEUDO));
+        xref.append("trailer\n<< /Size 7 /Root 1 0 R >>\nstartxref\n");
+
+        prefixo.append("6 0 obj\n<< /Length ");
+        PREFIXO = ascii(prefixo.toString());
+        XREF = ascii(xref.toString());
+    }
+
+    private GeradorPdfCertificado() {}
+
+    // Escreve o documento completo; "conteudo" é o fluxo de operadores de desenho da página
+    public static long escrever(OutputStream saida, byte[] conteudo, int tamanhoConteudo) throws IOException {
+        byte[] cabecalho = ascii(tamanhoConteudo + " >>\nstream\n");
+        long offsetXref = PREFIXO.length + cabecalho.length + tamanhoConteudo + SUFIXO_CONTEUDO.length;
+        byte[] rodape = ascii(offsetXref + "\n%%EOF\n");
+
+        saida.write(PREFIXO);
+        saida.write(cabecalho);
+        saida.write(conteudo, 0, tamanhoConteudo);
+        saida.write(SUFIXO_CONTEUDO);
+        saida.write(XREF);
+        saida.write(rodape);
+        return offsetXref + XREF.length + rodape.length;
+    }
+
+    public static float larguraTexto(String texto, int fonte, float tamanho) {
+        short[] larguras = METRICAS[fonte];
+        long total = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            total += c < 256 ? larguras[c] : larguras['?'];
+        }
+        return total * tamanho / 1000f;
+    }
+
+    // Texto centralizado horizontalmente; reduz a fonte quando a linha não cabe na largura disponível
+    public static void textoCentralizado(ByteArrayOutputStream destino, String texto, int fonte,
+                                         float tamanho, float y, float larguraMaxima) {
+        float largura = larguraTexto(texto, fonte, tamanho);
+        if (largura > larguraMaxima) {
+            tamanho = tamanho * larguraMaxima / largura;
+            largura = larguraMaxima;
+        }
+
+        float x = (LARGURA_PAGINA - largura) / 2;
+        escreverAscii(destino, "BT /F" + fonte + " " + formatar(tamanho) + " Tf "
+                + formatar(x) + " " + formatar(y) + " Td (");
+        escreverTexto(destino, texto);
+        escreverAscii(destino, ") Tj ET\n");
+    }
+
+    public static void escreverAscii(ByteArrayOutputStream destino, String operadores) {
+        destino.writeBytes(operadores.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // WinAnsiEncoding coincide com Latin-1 nos acentos do português; o resto vira '?'
+    private static void escreverTexto(ByteArrayOutputStream destino, String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                destino.write('\\');
+                destino.write(c);
+            } else if (c >= 32 && c < 256 && (c < 127 || c >= 160)) {
+                destino.write(c);
+            } else {
+                destino.write('?');
+            }
+        }
+    }
+
+    // Coordenadas e tamanhos são sempre positivos na página
+    private static String formatar(float valor) {
+        int centesimos = Math.round(valor * 100);
+        int resto = centesimos % 100;
+        return (centesimos / 100) + (resto < 10 ? ".0" : ".") + resto;
+    }
+
+    // Letras acentuadas têm a mesma largura da letra base nas fontes padrão
+    private static short[] expandirLatin1(short[] ascii) {
+        short[] larguras = new short[256];
+        Arrays.fill(larguras, (short) 556);
+        System.arraycopy(ascii, 0, larguras, 32, ascii.length);
+        for (char c = 160; c < 256; c++) {
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            if (base >= 32 && base < 127) {
+                larguras[c] = ascii[base - 32];
+            }
+        }
+        return larguras;
+    }
+
+    private static byte[] ascii(String texto) {
+        return texto.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,443 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.ImportacaoUsuariosDTO;
+import br.com.actios.actios_backend.enums.StatusImportacao;
+import br.com.actios.actios_backend.enums.TipoUsuario;
+import br.com.actios.actios_backend.exceptions.*;
+import br.com.actios.actios_backend.model.ImportacaoUsuarios;
+import br.com.actios.actios_backend.repositorys.FaculdadeRepository;
+import br.com.actios.actios_backend.repositorys.ImportacaoUsuariosRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Importação de alunos por CSV (cabeçalho com nome e email; curso e tipo opcionais, tipo só ALUNO; separador ; ou ,).
+// O arquivo é lido em streaming, um chunk por vez: a existência dos e-mails é checada com um IN por
+// chunk, os válidos entram num batch JDBC e o checkpoint e as linhas rejeitadas são gravados na mesma transação. A memória
+// depende só do tamanho do chunk, e uma importação interrompida continua do último chunk gravado.
+// As contas chegam sem senha (o login falha até uma ser definida), pois ninguém envia senhas em CSV.
+@Service
+public class ImportacaoUsuariosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoUsuariosService.class);
+    private static final String INSERT_USUARIO =
+            "INSERT INTO usuarios (nome, email, curso, faculdade_id, tipo, data_cadastro, ativo, resumo_notificacoes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, true, false)";
+    private static final String INSERT_ERRO =
+            "INSERT INTO importacoes_usuarios_erros (id_importacao, linha, email, motivo) VALUES (?, ?, ?, ?)";
+    private static final String CABECALHO_ERROS = "linha;email;motivo\n";
+    private static final int ERROS_POR_PAGINA = 1000;
+
+    private final ImportacaoUsuariosRepository importacaoRepository;
+    private final FaculdadeRepository faculdadeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String idNo = ManagementFactory.getRuntimeMXBean().getName();
+
+    // Uma importação por vez por nó: o gargalo é o banco, não a CPU
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "importacao-usuarios");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Importações já na fila deste nó: a varredura e o retomar não as enfileiram de novo
+    private final Set<Long> agendadas = ConcurrentHashMap.newKeySet();
+
+    @Value("${actios.usuarios.importacao.diretorio:${java.io.tmpdir}/actios-importacoes}")
+    private String diretorio;
+
+    @Value("${actios.usuarios.importacao.tamanho-chunk:1000}")
+    private int tamanhoChunk;
+
+    @Value("${actios.usuarios.importacao.abandono-minutos:5}")
+    private long abandonoMinutos;
+
+    @Autowired
+    public ImportacaoUsuariosService(ImportacaoUsuariosRepository importacaoRepository,
+                                     FaculdadeRepository faculdadeRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate) {
+        this.importacaoRepository = importacaoRepository;
+        this.faculdadeRepository = faculdadeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public ImportacaoUsuariosDTO iniciar(Integer idFaculdade, MultipartFile arquivo) {
+        if (idFaculdade == null || idFaculdade <= 0) {
+            throw new CampoObrigatorioException("ID da faculdade é inválido");
+        }
+        if (arquivo == null || arquivo.isEmpty()) {
+            throw new CampoObrigatorioException("Arquivo CSV é obrigatório");
+        }
+        // A faculdade é resolvida uma vez aqui; os inserts usam só o ID
+        if (!faculdadeRepository.existsById(idFaculdade)) {
+            throw new RecursoNaoEncontradoException("Faculdade com ID " + idFaculdade + " não encontrada");
+        }
+
+        // O upload vai para o disco sem passar pela memória; a retomada relê o mesmo arquivo
+        Path destino = Paths.get(diretorio, "importacao-" + UUID.randomUUID() + ".csv");
+        try {
+            Files.createDirectories(destino.getParent());
+            arquivo.transferTo(destino);
+        } catch (IOException e) {
+            throw new OperacaoNaoPermitidaException("Falha ao armazenar o arquivo de importação", e);
+        }
+
+        ImportacaoUsuarios importacao = new ImportacaoUsuarios();
+        importacao.setIdFaculdade(idFaculdade);
+        importacao.setArquivo(destino.toString());
+        ImportacaoUsuarios salva = importacaoRepository.save(importacao);
+
+        agendar(salva.getIdImportacao());
+        return new ImportacaoUsuariosDTO(salva);
+    }
+
+    public ImportacaoUsuariosDTO consultar(Long idImportacao) {
+        return new ImportacaoUsuariosDTO(buscar(idImportacao));
+    }
+
+    public ImportacaoUsuariosDTO retomar(Long idImportacao) {
+        ImportacaoUsuarios importacao = buscar(idImportacao);
+
+        if (importacao.getStatus() == StatusImportacao.CONCLUIDA) {
+            throw new OperacaoNaoPermitidaException("Esta importação já foi concluída");
+        }
+        if (!Files.exists(Paths.get(importacao.getArquivo()))) {
+            throw new OperacaoNaoPermitidaException("O arquivo desta importação não está disponível neste servidor");
+        }
+
+        agendar(idImportacao);
+        return new ImportacaoUsuariosDTO(importacao);
+    }
+
+    // Relatório com uma linha por registro rejeitado: número da linha no CSV, e-mail e motivo.
+    // Lido em páginas pela chave primária, sem prender conexão enquanto o cliente consome a resposta.
+    public void escreverRelatorioErros(Long idImportacao, OutputStream saida) throws IOException {
+        buscar(idImportacao);
+        saida.write(CABECALHO_ERROS.getBytes(StandardCharsets.UTF_8));
+
+        long ultimaLinha = 0;
+        while (true) {
+            List<ErroLinha> pagina = jdbcTemplate.query(
+                    "SELECT linha, email, motivo FROM importacoes_usuarios_erros " +
+                    "WHERE id_importacao = ? AND linha > ? ORDER BY linha LIMIT ?",
+                    (rs, i) -> new ErroLinha(rs.getLong("linha"), rs.getString("email"), rs.getString("motivo")),
+                    idImportacao, ultimaLinha, ERROS_POR_PAGINA);
+            if (pagina.isEmpty()) {
+                break;
+            }
+
+            StringBuilder bloco = new StringBuilder(pagina.size() * 64);
+            for (ErroLinha erro : pagina) {
+                bloco.append(erro.linha()).append(';')
+                        .append(ExportacaoCertificadoService.csv(erro.email())).append(';')
+                        .append(erro.motivo()).append('\n');
+            }
+            saida.write(bloco.toString().getBytes(StandardCharsets.UTF_8));
+            ultimaLinha = pagina.get(pagina.size() - 1).linha();
+        }
+        saida.flush();
+    }
+
+    // Importações interrompidas são retomadas do último checkpoint, se o arquivo estiver aqui. A varredura
+    // é periódica, e não só na subida, para pegar também as que pararam sem reinício deste nó.
+    @Scheduled(fixedDelayString = "${actios.usuarios.importacao.varredura-ms:60000}")
+    public void retomarAbandonadas() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(abandonoMinutos);
+        importacaoRepository.findByStatusAndDataAtualizacaoBefore(StatusImportacao.EM_ANDAMENTO, limite).stream()
+                .filter(importacao -> Files.exists(Paths.get(importacao.getArquivo())))
+                .forEach(importacao -> agendar(importacao.getIdImportacao()));
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void agendar(Long idImportacao) {
+        if (agendadas.add(idImportacao)) {
+            executor.submit(() -> {
+                try {
+                    executar(idImportacao);
+                } finally {
+                    agendadas.remove(idImportacao);
+                }
+            });
+        }
+    }
+
+    private void executar(Long idImportacao) {
+        LocalDateTime agora = LocalDateTime.now();
+        Integer reservada = transactionTemplate.execute(status -> importacaoRepository.reservar(
+                idImportacao, idNo, agora, agora.minusMinutes(abandonoMinutos), StatusImportacao.EM_ANDAMENTO));
+
+        if (reservada == null || reservada == 0) {
+            log.info("Importação {} já está sendo executada por outro nó", idImportacao);
+            return;
+        }
+
+        ImportacaoUsuarios importacao = buscar(idImportacao);
+        try (BufferedReader leitor = Files.newBufferedReader(Paths.get(importacao.getArquivo()), StandardCharsets.UTF_8)) {
+            Colunas colunas = lerCabecalho(leitor.readLine());
+
+            long linhaAtual = 0;
+            while (linhaAtual < importacao.getLinhasProcessadas() && leitor.readLine() != null) {
+                linhaAtual++;
+            }
+
+            long inicio = System.nanoTime();
+            long processadasNestaExecucao = 0;
+            List<String> chunk = new ArrayList<>(tamanhoChunk);
+            String linha;
+            do {
+                linha = leitor.readLine();
+                if (linha != null) {
+                    chunk.add(linha);
+                }
+                if (chunk.size() == tamanhoChunk || (linha == null && !chunk.isEmpty())) {
+                    // Linha 1 é o cabeçalho, então a primeira linha de dados do chunk é linhaAtual + 2
+                    long primeiraLinha = linhaAtual + 2;
+                    List<String> linhas = chunk;
+                    Boolean gravado = transactionTemplate.execute(status ->
+                            processarChunk(idImportacao, importacao.getIdFaculdade(), colunas, linhas, primeiraLinha));
+                    if (!Boolean.TRUE.equals(gravado)) {
+                        // Outra execução assumiu a importação (esta ficou parada além do prazo de abandono)
+                        log.warn("Importação {} foi assumida por outra execução; esta foi encerrada", idImportacao);
+                        return;
+                    }
+
+                    linhaAtual += chunk.size();
+                    processadasNestaExecucao += chunk.size();
+                    chunk = new ArrayList<>(tamanhoChunk);
+                }
+            } while (linha != null && !Thread.currentThread().isInterrupted());
+
+            if (linha == null) {
+                finalizar(idImportacao, StatusImportacao.CONCLUIDA, null);
+                removerArquivo(importacao.getArquivo());
+                long ms = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+                log.info("Importação {} concluída: {} linhas em {} ms ({} linhas/s)", idImportacao,
+                        processadasNestaExecucao, ms, ms > 0 ? processadasNestaExecucao * 1000 / ms : processadasNestaExecucao);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha na importação {}", idImportacao, e);
+            finalizar(idImportacao, StatusImportacao.FALHOU, e.getMessage());
+        }
+    }
+
+    // Cada chunk grava os usuários, as linhas rejeitadas e o checkpoint na mesma transação, só se a
+    // reserva ainda é deste nó; sem ela devolve false e nada é gravado
+    private boolean processarChunk(Long idImportacao, Integer idFaculdade, Colunas colunas,
+                                   List<String> linhas, long primeiraLinha) {
+        if (importacaoRepository.renovar(idImportacao, idNo, LocalDateTime.now(), StatusImportacao.EM_ANDAMENTO) == 0) {
+            return false;
+        }
+
+        List<ErroLinha> erros = new ArrayList<>();
+        List<Object[]> candidatos = new ArrayList<>(linhas.size());
+        Map<String, Long> linhaPorEmail = new HashMap<>();
+
+        for (int i = 0; i < linhas.size(); i++) {
+            long numero = primeiraLinha + i;
+            if (linhas.get(i).isBlank()) {
+                continue;
+            }
+
+            List<String> campos = dividir(linhas.get(i), colunas.separador());
+            String nome = campo(campos, colunas.nome());
+            String email = campo(campos, colunas.email());
+            String curso = campo(campos, colunas.curso());
+            String tipo = campo(campos, colunas.tipo());
+
+            if (nome == null) {
+                erros.add(new ErroLinha(numero, email, "Nome é obrigatório"));
+            } else if (email == null || !UsuarioService.EMAIL_PATTERN.matcher(email).matches()) {
+                erros.add(new ErroLinha(numero, email, "Formato de e-mail inválido"));
+            } else if (tipo != null && !TipoUsuario.ALUNO.name().equalsIgnoreCase(tipo)) {
+                // A importação só cria alunos: uma conta FACULDADE teria acesso administrativo
+                erros.add(new ErroLinha(numero, email, "Tipo de usuário não permitido na importação (apenas ALUNO)"));
+            } else if (linhaPorEmail.putIfAbsent(email.toLowerCase(Locale.ROOT), numero) != null) {
+                erros.add(new ErroLinha(numero, email, "E-mail repetido no arquivo (linha " + linhaPorEmail.get(email.toLowerCase(Locale.ROOT)) + ")"));
+            } else {
+                candidatos.add(new Object[]{nome, email, curso, TipoUsuario.ALUNO.name(), numero});
+            }
+        }
+
+        // Uma consulta por chunk para todos os e-mails, em vez de um existsByEmail por linha
+        Set<String> existentes = new HashSet<>();
+        if (!linhaPorEmail.isEmpty()) {
+            String marcadores = String.join(",", Collections.nCopies(linhaPorEmail.size(), "?"));
+            jdbcTemplate.query("SELECT email FROM usuarios WHERE email IN (" + marcadores + ")",
+                    rs -> { existentes.add(rs.getString(1).toLowerCase(Locale.ROOT)); },
+                    linhaPorEmail.keySet().toArray());
+        }
+
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserir = new ArrayList<>(candidatos.size());
+        for (Object[] candidato : candidatos) {
+            String email = (String) candidato[1];
+            if (existentes.contains(email.toLowerCase(Locale.ROOT))) {
+                erros.add(new ErroLinha((Long) candidato[4], email, "E-mail já cadastrado"));
+            } else {
+                inserir.add(new Object[]{candidato[0], email, candidato[2], idFaculdade, candidato[3], agora});
+            }
+        }
+        if (!inserir.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USUARIO, inserir);
+        }
+        if (!erros.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ERRO, erros.stream()
+                    .map(erro -> new Object[]{idImportacao, erro.linha(), truncar(erro.email()), erro.motivo()})
+                    .toList());
+        }
+
+        ImportacaoUsuarios importacao = buscar(idImportacao);
+        importacao.setLinhasProcessadas(importacao.getLinhasProcessadas() + linhas.size());
+        importacao.setImportados(importacao.getImportados() + inserir.size());
+        importacao.setRejeitados(importacao.getRejeitados() + erros.size());
+        importacao.setDataAtualizacao(LocalDateTime.now());
+        importacaoRepository.save(importacao);
+        return true;
+    }
+
+    private Colunas lerCabecalho(String cabecalho) {
+        if (cabecalho == null) {
+            throw new CampoObrigatorioException("Arquivo CSV vazio");
+        }
+        if (cabecalho.startsWith("\uFEFF")) {
+            cabecalho = cabecalho.substring(1);
+        }
+
+        char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+        List<String> nomes = dividir(cabecalho, separador);
+        int nome = -1, email = -1, curso = -1, tipo = -1;
+        for (int i = 0; i < nomes.size(); i++) {
+            switch (nomes.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "nome" -> nome = i;
+                case "email", "e-mail" -> email = i;
+                case "curso" -> curso = i;
+                case "tipo" -> tipo = i;
+                default -> { }
+            }
+        }
+
+        if (nome < 0 || email < 0) {
+            throw new CampoObrigatorioException("O cabeçalho do CSV deve conter as colunas nome e email");
+        }
+        return new Colunas(separador, nome, email, curso, tipo);
+    }
+
+    // Campos entre aspas podem conter o separador; aspas internas vêm duplicadas ("")
+    static List<String> dividir(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private static String campo(List<String> campos, int indice) {
+        if (indice < 0 || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    // O e-mail rejeitado pode ser qualquer coisa que veio no arquivo
+    private static String truncar(String email) {
+        return email != null && email.length() > 255 ? email.substring(0, 255) : email;
+    }
+
+    private void finalizar(Long idImportacao, StatusImportacao status, String erro) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ImportacaoUsuarios importacao = buscar(idImportacao);
+            importacao.setStatus(status);
+            importacao.setDataAtualizacao(LocalDateTime.now());
+            if (status == StatusImportacao.CONCLUIDA) {
+                importacao.setDataFim(LocalDateTime.now());
+            }
+            if (erro != null) {
+                importacao.setErro(erro.length() > 500 ? erro.substring(0, 500) : erro);
+            }
+            importacaoRepository.save(importacao);
+        });
+    }
+
+    // O CSV traz nomes e e-mails; concluída a importação ele não é mais relido
+    private void removerArquivo(String arquivo) {
+        try {
+            Files.deleteIfExists(Paths.get(arquivo));
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo de importação {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    private ImportacaoUsuarios buscar(Long idImportacao) {
+        if (idImportacao == null || idImportacao <= 0) {
+            throw new CampoObrigatorioException("ID da importação é inválido");
+        }
+
+        return importacaoRepository.findById(idImportacao)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Importação com ID " + idImportacao + " não encontrada"));
+    }
+
+    private record Colunas(char separador, int nome, int email, int curso, int tipo) {
+    }
+
+    private record ErroLinha(long linha, String email, String motivo) {
+    }
+}
@@ -7,13 +7,16 @@ import br.com.actios.actios_backend.model.Usuario;
 import br.com.actios.actios_backend.repositorys.EventoRepository;
 import br.com.actios.actios_backend.repositorys.InscricaoRepository;
 import br.com.actios.actios_backend.repositorys.UsuarioRepository;
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
 import br.com.actios.actios_backend.enums.TipoUsuario;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,16 +26,20 @@ public class InscricaoService {
     private final InscricaoRepository inscricaoRepository;
     private final EventoRepository eventoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final OutboxService outboxService;
 
     @Autowired
     public InscricaoService(InscricaoRepository inscricaoRepository,
                             EventoRepository eventoRepository,
-                            UsuarioRepository usuarioRepository) {
+                            UsuarioRepository usuarioRepository,
+                            OutboxService outboxService) {
         this.inscricaoRepository = inscricaoRepository;
         this.eventoRepository = eventoRepository;
         this.usuarioRepository = usuarioRepository;
+        this.outboxService = outboxService;
     }
 
+    @Transactional
     public Inscricao inscrever(Integer idUsuario, Integer idEvento) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório.");
@@ -56,9 +63,16 @@ public class InscricaoService {
         inscricao.setDataInscricao(LocalDateTime.now());
         inscricao.setAtivo(true);
 
-        return inscricaoRepository.save(inscricao);
+        Inscricao salva = inscricaoRepository.save(inscricao);
+        outboxService.registrar(TipoEventoDominio.INSCRICAO_CRIADA, salva.getIdInscricao(), Map.of(
+                "idInscricao", salva.getIdInscricao(),
+                "idUsuario", usuario.getIdUsuario(),
+                "idEvento", evento.getIdEvento()));
+
+        return salva;
     }
 
+    @Transactional(readOnly = true)
     public List<Inscricao> listarTodas() {
         List<Inscricao> inscricoes = inscricaoRepository.findAll();
 
@@ -69,6 +83,7 @@ public class InscricaoService {
         return inscricoes;
     }
 
+    @Transactional(readOnly = true)
     public List<Inscricao> listarPorUsuario(Integer idUsuario) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório.");
@@ -87,6 +102,7 @@ public class InscricaoService {
         return inscricoes;
     }
 
+    @Transactional(readOnly = true)
     public List<Inscricao> listarPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório.");
@@ -105,6 +121,7 @@ public class InscricaoService {
         return inscricoes;
     }
 
+    @Transactional
     public void cancelarInscricao(Integer idInscricao) {
         if (idInscricao == null) {
             throw new CampoObrigatorioException("ID da inscrição é obrigatório.");
@@ -123,6 +140,11 @@ public class InscricaoService {
 
         inscricao.setAtivo(false);
         inscricaoRepository.save(inscricao);
+
+        outboxService.registrar(TipoEventoDominio.INSCRICAO_CANCELADA, inscricao.getIdInscricao(), Map.of(
+                "idInscricao", inscricao.getIdInscricao(),
+                "idUsuario", inscricao.getUsuario().getIdUsuario(),
+                "idEvento", inscricao.getEvento().getIdEvento()));
     }
 
     private void validarInscricao(Usuario usuario, Evento evento) {
@@ -0,0 +1,242 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
+import br.com.actios.actios_backend.enums.TipoLembrete;
+import br.com.actios.actios_backend.model.Evento;
+import br.com.actios.actios_backend.model.EventoOutbox;
+import br.com.actios.actios_backend.model.LembreteEnviado;
+import br.com.actios.actios_backend.repositorys.EventoRepository;
+import br.com.actios.actios_backend.repositorys.InscricaoRepository;
+import br.com.actios.actios_backend.repositorys.LembreteEnviadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class LembreteEventoService implements OutboxHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(LembreteEventoService.class);
+    private static final Pattern HORARIO_PATTERN = Pattern.compile("(\\d{1,2})\\s*[:hH]\\s*(\\d{2})?");
+
+    private final EventoRepository eventoRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final LembreteEnviadoRepository lembreteEnviadoRepository;
+    private final NotificacaoService notificacaoService;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zona = ZoneId.systemDefault();
+
+    private volatile RodaTemporizacaoHierarquica<LembreteAgendado> roda;
+
+    @Value("${actios.lembretes.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${actios.lembretes.horizonte-dias:7}")
+    private int horizonteDias;
+
+    @Value("${actios.lembretes.tick-segundos:60}")
+    private long tickSegundos;
+
+    @Value("${actios.lembretes.tolerancia-atraso-minutos:30}")
+    private long toleranciaAtrasoMinutos;
+
+    @Value("${actios.lembretes.horario-padrao:08:00}")
+    private String horarioPadrao;
+
+    @Autowired
+    public LembreteEventoService(EventoRepository eventoRepository,
+                                 InscricaoRepository inscricaoRepository,
+                                 LembreteEnviadoRepository lembreteEnviadoRepository,
+                                 NotificacaoService notificacaoService,
+                                 TransactionTemplate transactionTemplate) {
+        this.eventoRepository = eventoRepository;
+        this.inscricaoRepository = inscricaoRepository;
+        this.lembreteEnviadoRepository = lembreteEnviadoRepository;
+        this.notificacaoService = notificacaoService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Reconstrói a roda a partir do banco; lembretes já registrados em lembretes_enviados não são reagendados
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        if (!habilitado) {
+            return;
+        }
+
+        roda = new RodaTemporizacaoHierarquica<>(tickSegundos * 1000, 60, agoraMs());
+        sincronizar();
+    }
+
+    // Ressincronização periódica: traz para a roda os eventos que entraram no horizonte
+    @Scheduled(fixedDelayString = "${actios.lembretes.sincronizacao-ms:3600000}",
+            initialDelayString = "${actios.lembretes.sincronizacao-ms:3600000}")
+    public void sincronizar() {
+        if (roda == null) {
+            return;
+        }
+
+        LocalDate hoje = LocalDate.now(zona);
+        List<Evento> eventos = eventoRepository.findByAtivoTrueAndDataBetween(hoje, hoje.plusDays(horizonteDias));
+        Set<String> enviados = lembreteEnviadoRepository.findByInicioEventoGreaterThanEqual(LocalDateTime.now(zona))
+                .stream()
+                .map(l -> chaveEnvio(l.getIdEvento(), l.getTipo(), l.getInicioEvento()))
+                .collect(Collectors.toSet());
+
+        List<LembreteAgendado> imediatos = new ArrayList<>();
+        for (Evento evento : eventos) {
+            imediatos.addAll(agendarEvento(evento, enviados));
+        }
+
+        imediatos.forEach(this::disparar);
+        log.info("Roda de lembretes sincronizada: {} eventos, {} lembretes agendados", eventos.size(), roda.tamanho());
+    }
+
+    @Scheduled(fixedDelayString = "${actios.lembretes.intervalo-ms:30000}")
+    public void processar() {
+        if (roda == null) {
+            return;
+        }
+
+        List<LembreteAgendado> vencidos = roda.avancar(agoraMs());
+        vencidos.forEach(this::disparar);
+    }
+
+    @Override
+    public boolean suporta(TipoEventoDominio tipoEvento) {
+        return tipoEvento == TipoEventoDominio.EVENTO_CRIADO || tipoEvento == TipoEventoDominio.EVENTO_ATUALIZADO
+                || tipoEvento == TipoEventoDominio.EVENTO_EXCLUIDO;
+    }
+
+    // Atualização incremental: só o evento alterado é reagendado; excluído, só sai da roda
+    @Override
+    public void tratar(EventoOutbox eventoOutbox, Map<String, Object> dados) {
+        if (roda == null) {
+            return;
+        }
+
+        Integer idEvento = eventoOutbox.getIdAgregado();
+        for (TipoLembrete tipo : TipoLembrete.values()) {
+            roda.cancelar(chaveRoda(idEvento, tipo));
+        }
+
+        eventoRepository.findById(idEvento)
+                .filter(Evento::isAtivo)
+                .filter(evento -> !evento.getData().isAfter(LocalDate.now(zona).plusDays(horizonteDias)))
+                .ifPresent(evento -> agendarEvento(evento, Set.of()).forEach(this::disparar));
+    }
+
+    private List<LembreteAgendado> agendarEvento(Evento evento, Set<String> enviados) {
+        List<LembreteAgendado> imediatos = new ArrayList<>();
+        LocalDateTime agora = LocalDateTime.now(zona);
+        LocalDateTime inicio = calcularInicio(evento);
+
+        for (TipoLembrete tipo : TipoLembrete.values()) {
+            String chave = chaveRoda(evento.getIdEvento(), tipo);
+            LocalDateTime disparo = inicio.minus(tipo.getAntecedencia());
+
+            boolean jaEnviado = enviados.contains(chaveEnvio(evento.getIdEvento(), tipo, inicio));
+            boolean atrasadoDemais = disparo.isBefore(agora.minusMinutes(toleranciaAtrasoMinutos));
+            if (jaEnviado || atrasadoDemais || !inicio.isAfter(agora)) {
+                roda.cancelar(chave);
+                continue;
+            }
+
+            LembreteAgendado lembrete = new LembreteAgendado(evento.getIdEvento(), tipo, inicio);
+            if (!roda.agendar(chave, disparo.atZone(zona).toInstant().toEpochMilli(), lembrete)) {
+                imediatos.add(lembrete);
+            }
+        }
+
+        return imediatos;
+    }
+
+    private void disparar(LembreteAgendado lembrete) {
+        try {
+            Integer enviados = transactionTemplate.execute(status -> {
+                Evento evento = eventoRepository.findById(lembrete.idEvento).orElse(null);
+
+                // A roda pode estar desatualizada em relação a outro nó; vale o que está no banco
+                if (evento == null || !evento.isAtivo() || !calcularInicio(evento).equals(lembrete.inicio)) {
+                    return 0;
+                }
+
+                List<Integer> idsUsuarios = inscricaoRepository.findIdsUsuariosAtivosPorEvento(lembrete.idEvento);
+
+                // A restrição única em lembretes_enviados impede envio duplicado entre reinícios e entre nós
+                LembreteEnviado registro = new LembreteEnviado(lembrete.idEvento, lembrete.tipo, lembrete.inicio);
+                registro.setTotalDestinatarios(idsUsuarios.size());
+                lembreteEnviadoRepository.saveAndFlush(registro);
+
+                return notificacaoService.criarNotificacoesEmLote(
+                        evento, idsUsuarios, lembrete.tipo.formatarMensagem(evento.getTitulo()));
+            });
+
+            log.debug("Lembrete {} do evento {} enviado para {} usuários", lembrete.tipo, lembrete.idEvento, enviados);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lembrete {} do evento {} já havia sido enviado", lembrete.tipo, lembrete.idEvento);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar lembrete {} do evento {}: {}", lembrete.tipo, lembrete.idEvento, e.getMessage());
+        }
+    }
+
+    private LocalDateTime calcularInicio(Evento evento) {
+        return evento.getData().atTime(interpretarHorario(evento.getHorario()));
+    }
+
+    private LocalTime interpretarHorario(String horario) {
+        String valor = horario != null && !horario.isBlank() ? horario : horarioPadrao;
+        Matcher matcher = HORARIO_PATTERN.matcher(valor);
+
+        if (matcher.find()) {
+            int hora = Integer.parseInt(matcher.group(1));
+            int minuto = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+            if (hora < 24 && minuto < 60) {
+                return LocalTime.of(hora, minuto);
+            }
+        }
+
+        return LocalTime.parse(horarioPadrao);
+    }
+
+    private long agoraMs() {
+        return System.currentTimeMillis();
+    }
+
+    private String chaveRoda(Integer idEvento, TipoLembrete tipo) {
+        return idEvento + ":" + tipo.name();
+    }
+
+    private String chaveEnvio(Integer idEvento, TipoLembrete tipo, LocalDateTime inicio) {
+        return idEvento + ":" + tipo.name() + ":" + inicio;
+    }
+
+    private static final class LembreteAgendado {
+        private final Integer idEvento;
+        private final TipoLembrete tipo;
+        private final LocalDateTime inicio;
+
+        private LembreteAgendado(Integer idEvento, TipoLembrete tipo, LocalDateTime inicio) {
+            this.idEvento = idEvento;
+            this.tipo = tipo;
+            this.inicio = inicio;
+        }
+    }
+}
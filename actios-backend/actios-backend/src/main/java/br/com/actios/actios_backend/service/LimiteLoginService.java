@@ -0,0 +1,166 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limitador de login por janela deslizante, consultado antes de qualquer acesso ao banco.
+// Contam só as falhas, por e-mail e por IP (bots variam o e-mail). O IP por trás de NAT é
+// compartilhado por muitos usuários legítimos, por isso o limite dele é bem mais alto que o do e-mail.
+// Os contadores são sketches de memória fixa, então e-mails aleatórios não esgotam a memória.
+//
+// No modo compartilhado cada nó envia periodicamente suas contagens para contadores_login e
+// traz de volta só as chaves que já passaram do limite somando todos os nós.
+@Service
+public class LimiteLoginService {
+
+    private static final Logger log = LoggerFactory.getLogger(LimiteLoginService.class);
+    private static final String PREFIXO_EMAIL = "e:";
+    private static final String PREFIXO_IP = "i:";
+    private static final String UPSERT =
+            "INSERT INTO contadores_login (chave, periodo, contagem) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE contagem = contagem + VALUES(contagem)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SketchJanelaDeslizante falhasPorEmail;
+    private final SketchJanelaDeslizante falhasPorIp;
+    private final long janelaMs;
+    private final int maxFalhasEmail;
+    private final int maxFalhasIp;
+
+    private final ConcurrentHashMap<String, AtomicInteger> pendentes = new ConcurrentHashMap<>();
+    private volatile Set<String> bloqueadosGlobalmente = Set.of();
+
+    @Value("${actios.limite-login.compartilhado:false}")
+    private boolean compartilhado;
+
+    @Value("${actios.limite-login.max-chaves-pendentes:10000}")
+    private int maxChavesPendentes;
+
+    @Autowired
+    public LimiteLoginService(JdbcTemplate jdbcTemplate,
+                              @Value("${actios.limite-login.janela-minutos:15}") long janelaMinutos,
+                              @Value("${actios.limite-login.max-falhas-email:5}") int maxFalhasEmail,
+                              @Value("${actios.limite-login.max-falhas-ip:50}") int maxFalhasIp,
+                              @Value("${actios.limite-login.largura-sketch:16384}") int largura) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.janelaMs = janelaMinutos * 60_000;
+        this.maxFalhasEmail = maxFalhasEmail;
+        this.maxFalhasIp = maxFalhasIp;
+
+        // Fatias de 1 minuto; 4 linhas mantêm a superestimação baixa com a largura padrão
+        int fatias = (int) Math.max(1, janelaMinutos);
+        this.falhasPorEmail = new SketchJanelaDeslizante(janelaMs, fatias, 4, largura);
+        this.falhasPorIp = new SketchJanelaDeslizante(janelaMs, fatias, 4, largura);
+    }
+
+    public void verificar(String email, String ip) {
+        long agora = System.currentTimeMillis();
+
+        if (falhasPorEmail.estimar(email, agora) >= maxFalhasEmail
+                || bloqueadosGlobalmente.contains(chave(PREFIXO_EMAIL, email))) {
+            throw new LimiteTentativasException("Muitas tentativas de login para este e-mail. Tente novamente mais tarde.");
+        }
+        if (ip != null && (falhasPorIp.estimar(ip, agora) >= maxFalhasIp
+                || bloqueadosGlobalmente.contains(chave(PREFIXO_IP, ip)))) {
+            throw new LimiteTentativasException("Muitas tentativas de login deste endereço. Tente novamente mais tarde.");
+        }
+    }
+
+    public void registrarFalha(String email, String ip) {
+        long agora = System.currentTimeMillis();
+        falhasPorEmail.incrementar(email, agora);
+        acumular(PREFIXO_EMAIL, email);
+
+        if (ip != null) {
+            falhasPorIp.incrementar(ip, agora);
+            acumular(PREFIXO_IP, ip);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${actios.limite-login.sincronizacao-ms:5000}")
+    public void sincronizar() {
+        if (!compartilhado) {
+            return;
+        }
+
+        long periodo = System.currentTimeMillis() / 60_000;
+        List<Object[]> lote = new ArrayList<>();
+        for (String chave : new ArrayList<>(pendentes.keySet())) {
+            AtomicInteger contagem = pendentes.remove(chave);
+            if (contagem != null && contagem.get() > 0) {
+                lote.add(new Object[]{chave, periodo, contagem.get()});
+            }
+        }
+
+        try {
+            if (!lote.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT, lote);
+            }
+
+            long inicioJanela = periodo - janelaMs / 60_000 + 1;
+            jdbcTemplate.update("DELETE FROM contadores_login WHERE periodo < ?", inicioJanela);
+
+            Set<String> bloqueados = new HashSet<>();
+            bloqueados.addAll(chavesAcimaDoLimite(PREFIXO_EMAIL, inicioJanela, maxFalhasEmail));
+            bloqueados.addAll(chavesAcimaDoLimite(PREFIXO_IP, inicioJanela, maxFalhasIp));
+            bloqueadosGlobalmente = bloqueados;
+        } catch (RuntimeException e) {
+            // O limitador local continua valendo; a próxima sincronização tenta de novo
+            log.warn("Falha ao sincronizar contadores de login", e);
+        }
+    }
+
+    private List<String> chavesAcimaDoLimite(String prefixo, long inicioJanela, int limite) {
+        return jdbcTemplate.queryForList(
+                "SELECT chave FROM contadores_login WHERE periodo >= ? AND chave LIKE ? " +
+                "GROUP BY chave HAVING SUM(contagem) >= ?",
+                String.class, inicioJanela, prefixo + "%", limite);
+    }
+
+    // Só acumula no modo compartilhado, e com teto de chaves para a memória continuar limitada
+    private void acumular(String prefixo, String valor) {
+        if (!compartilhado) {
+            return;
+        }
+
+        String chave = chave(prefixo, valor);
+        AtomicInteger contagem = pendentes.get(chave);
+        if (contagem == null) {
+            if (pendentes.size() >= maxChavesPendentes) {
+                return;
+            }
+            contagem = pendentes.computeIfAbsent(chave, k -> new AtomicInteger());
+        }
+        contagem.incrementAndGet();
+    }
+
+    // E-mails e IPs vão para o banco só como hash
+    private String chave(String prefixo, String valor) {
+        if (!compartilhado) {
+            return prefixo + valor;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(valor.getBytes(StandardCharsets.UTF_8));
+            return prefixo + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
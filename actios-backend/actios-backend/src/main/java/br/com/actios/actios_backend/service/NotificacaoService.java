@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class NotificacaoService {
@@ -20,18 +21,22 @@ public class NotificacaoService {
     private final NotificacaoRepository notificacaoRepository;
     private final UsuarioRepository usuarioRepository;
     private final EventoRepository eventoRepository;
+    private final ResumoNotificacaoService resumoNotificacaoService;
 
     @Autowired
     public NotificacaoService(NotificacaoRepository notificacaoRepository,
                               UsuarioRepository usuarioRepository,
-                              EventoRepository eventoRepository) {
+                              EventoRepository eventoRepository,
+                              ResumoNotificacaoService resumoNotificacaoService) {
         this.notificacaoRepository = notificacaoRepository;
         this.usuarioRepository = usuarioRepository;
         this.eventoRepository = eventoRepository;
+        this.resumoNotificacaoService = resumoNotificacaoService;
     }
 
+    // Vazio quando o usuário está em modo resumo: a notificação fica pendente e só vira linha no próximo resumo
     @Transactional
-    public Notificacao criarNotificacao(Integer idUsuario, Integer idEvento, String mensagem) {
+    public Optional<Notificacao> criarNotificacao(Integer idUsuario, Integer idEvento, String mensagem) {
         // Validações básicas
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -64,9 +69,51 @@ public class NotificacaoService {
         notificacao.setDataEnvio(LocalDateTime.now());
         notificacao.setLida(false);
 
-        return notificacaoRepository.save(notificacao);
+        // Usuários em modo resumo não geram uma linha por notificação; ela entra no próximo resumo.
+        // Com o buffer do resumo cheio, a notificação é gravada na hora
+        if (usuario.isResumoNotificacoes()
+                && resumoNotificacaoService.acumular(usuario.getIdUsuario(), evento, mensagem)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(notificacaoRepository.save(notificacao));
+    }
+
+    // Cria a mesma notificação para vários usuários de um evento, sem carregar cada usuário. Usado pelos
+    // lembretes de 24h e 1h: eles ignoram o modo resumo, pois no resumo do dia seguinte chegariam depois do evento
+    @Transactional
+    public int criarNotificacoesEmLote(Evento evento, List<Integer> idsUsuarios, String mensagem) {
+        if (evento == null) {
+            throw new CampoObrigatorioException("Evento é obrigatório");
+        }
+        if (mensagem == null || mensagem.isBlank()) {
+            throw new CampoObrigatorioException("Mensagem da notificação é obrigatória");
+        }
+        if (mensagem.length() > 500) {
+            throw new OperacaoNaoPermitidaException("A mensagem não pode exceder 500 caracteres");
+        }
+        if (idsUsuarios == null || idsUsuarios.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<Notificacao> notificacoes = idsUsuarios.stream()
+                .map(idUsuario -> {
+                    Notificacao notificacao = new Notificacao();
+                    notificacao.setUsuario(usuarioRepository.getReferenceById(idUsuario));
+                    notificacao.setEvento(evento);
+                    notificacao.setMensagem(mensagem);
+                    notificacao.setDataEnvio(agora);
+                    notificacao.setLida(false);
+                    return notificacao;
+                })
+                .toList();
+
+        notificacaoRepository.saveAll(notificacoes);
+        return notificacoes.size();
     }
 
+    @Transactional(readOnly = true)
     public List<Notificacao> listarPorUsuario(Integer idUsuario) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -84,6 +131,7 @@ public class NotificacaoService {
         return notificacoes;
     }
 
+    @Transactional(readOnly = true)
     public List<Notificacao> listarPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -101,6 +149,7 @@ public class NotificacaoService {
         return notificacoes;
     }
 
+    @Transactional(readOnly = true)
     public List<Notificacao> listarPorData(LocalDateTime data) {
         if (data == null) {
             throw new CampoObrigatorioException("Data é obrigatória");
@@ -118,6 +167,7 @@ public class NotificacaoService {
         return notificacoes;
     }
 
+    @Transactional(readOnly = true)
     public long contarPorUsuario(Integer idUsuario) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -129,6 +179,7 @@ public class NotificacaoService {
         return notificacaoRepository.countByUsuario(usuario);
     }
 
+    @Transactional(readOnly = true)
     public long contarPorEvento(Integer idEvento) {
         if (idEvento == null) {
             throw new CampoObrigatorioException("ID do evento é obrigatório");
@@ -140,6 +191,7 @@ public class NotificacaoService {
         return notificacaoRepository.countByEvento(evento);
     }
 
+    @Transactional(readOnly = true)
     public List<Notificacao> listarPorUsuarioEEvento(Integer idUsuario, Integer idEvento) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -163,6 +215,19 @@ public class NotificacaoService {
         return notificacoes;
     }
 
+    @Transactional
+    public void definirModoResumo(Integer idUsuario, boolean ativo) {
+        if (idUsuario == null) {
+            throw new CampoObrigatorioException("ID do usuário é obrigatório");
+        }
+
+        Usuario usuario = usuarioRepository.findById(idUsuario)
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado com ID: " + idUsuario));
+
+        usuario.setResumoNotificacoes(ativo);
+        usuarioRepository.save(usuario);
+    }
+
     @Transactional
     public void marcarComoLida(Integer idNotificacao) {
         if (idNotificacao == null) {
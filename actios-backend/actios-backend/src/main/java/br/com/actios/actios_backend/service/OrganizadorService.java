@@ -108,6 +108,7 @@ public class OrganizadorService {
         return organizadorRepository.save(organizador);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Organizador> buscarPorEmail(String email) {
         if (email == null || email.isBlank()) {
             throw new CampoObrigatorioException("Email é obrigatório");
@@ -119,6 +120,7 @@ public class OrganizadorService {
         return organizadorRepository.findByEmail(email.toLowerCase().trim());
     }
 
+    @Transactional(readOnly = true)
     public List<Organizador> buscarPorNome(String nome) {
         if (nome == null || nome.isBlank()) {
             throw new CampoObrigatorioException("Nome é obrigatório para busca");
@@ -133,6 +135,7 @@ public class OrganizadorService {
         return organizadores;
     }
 
+    @Transactional(readOnly = true)
     public List<Organizador> listarPorFaculdade(Integer idFaculdade) {
         if (idFaculdade == null) {
             throw new CampoObrigatorioException("ID da faculdade é obrigatório");
@@ -150,6 +153,7 @@ public class OrganizadorService {
         return organizadores;
     }
 
+    @Transactional(readOnly = true)
     public long contarOrganizadoresPorFaculdade(Integer idFaculdade) {
         if (idFaculdade == null) {
             throw new CampoObrigatorioException("ID da faculdade é obrigatório");
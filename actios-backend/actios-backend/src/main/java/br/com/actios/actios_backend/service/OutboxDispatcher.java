@@ -0,0 +1,172 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.OutboxMetricasDTO;
+import br.com.actios.actios_backend.model.EventoOutbox;
+import br.com.actios.actios_backend.repositorys.EventoOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final OutboxService outboxService;
+    private final ObjectProvider<OutboxHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final String idNo = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final AtomicLong entregues = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong lagUltimaEntregaMs = new AtomicLong();
+    private volatile double vazaoEventosPorSegundo;
+
+    @Value("${actios.outbox.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${actios.outbox.tamanho-lote:100}")
+    private int tamanhoLote;
+
+    @Value("${actios.outbox.reserva-segundos:30}")
+    private long reservaSegundos;
+
+    @Value("${actios.outbox.max-tentativas:10}")
+    private int maxTentativas;
+
+    @Autowired
+    public OutboxDispatcher(EventoOutboxRepository eventoOutboxRepository,
+                            OutboxService outboxService,
+                            ObjectProvider<OutboxHandler> handlers,
+                            TransactionTemplate transactionTemplate) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.outboxService = outboxService;
+        this.handlers = handlers;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${actios.outbox.intervalo-ms:500}")
+    public void despachar() {
+        if (!habilitado) {
+            return;
+        }
+
+        // Enquanto os lotes vierem cheios há fila acumulada; continua drenando sem esperar o próximo ciclo
+        int processados;
+        do {
+            processados = processarLote();
+        } while (processados == tamanhoLote);
+    }
+
+    public int processarLote() {
+        long inicio = System.nanoTime();
+
+        List<EventoOutbox> lote = transactionTemplate.execute(status -> reservarLote());
+        if (lote == null || lote.isEmpty()) {
+            return 0;
+        }
+
+        for (EventoOutbox evento : lote) {
+            try {
+                entregar(evento);
+                transactionTemplate.executeWithoutResult(status ->
+                        eventoOutboxRepository.marcarProcessado(evento.getIdEventoOutbox(), LocalDateTime.now()));
+                entregues.incrementAndGet();
+                lagUltimaEntregaMs.set(Duration.between(evento.getDataCriacao(), LocalDateTime.now()).toMillis());
+            } catch (RuntimeException e) {
+                falhas.incrementAndGet();
+                registrarFalha(evento, e);
+            }
+        }
+
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        if (segundos > 0) {
+            double vazaoLote = lote.size() / segundos;
+            vazaoEventosPorSegundo = vazaoEventosPorSegundo == 0
+                    ? vazaoLote
+                    : 0.8 * vazaoEventosPorSegundo + 0.2 * vazaoLote;
+        }
+
+        return lote.size();
+    }
+
+    public OutboxMetricasDTO obterMetricas() {
+        long lagMaisAntigoMs = eventoOutboxRepository.findFirstByProcessadoFalseOrderByIdEventoOutboxAsc()
+                .map(e -> Duration.between(e.getDataCriacao(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+
+        return new OutboxMetricasDTO(
+                idNo,
+                entregues.get(),
+                falhas.get(),
+                descartados.get(),
+                eventoOutboxRepository.countByProcessadoFalse(),
+                lagMaisAntigoMs,
+                lagUltimaEntregaMs.get(),
+                vazaoEventosPorSegundo
+        );
+    }
+
+    private List<EventoOutbox> reservarLote() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<EventoOutbox> lote = eventoOutboxRepository.reservarPendentes(agora, tamanhoLote);
+
+        for (EventoOutbox evento : lote) {
+            evento.setBloqueadoAte(agora.plusSeconds(reservaSegundos));
+            evento.setBloqueadoPor(idNo);
+        }
+
+        return lote;
+    }
+
+    private void entregar(EventoOutbox evento) {
+        Map<String, Object> dados = outboxService.lerPayload(evento);
+
+        handlers.orderedStream()
+                .filter(handler -> handler.suporta(evento.getTipoEvento()))
+                .forEach(handler -> handler.tratar(evento, dados));
+    }
+
+    private void registrarFalha(EventoOutbox evento, RuntimeException erro) {
+        transactionTemplate.executeWithoutResult(status ->
+                eventoOutboxRepository.findById(evento.getIdEventoOutbox()).ifPresent(atual -> {
+                    int tentativas = atual.getTentativas() + 1;
+                    atual.setTentativas(tentativas);
+                    atual.setUltimoErro(resumir(erro));
+                    atual.setBloqueadoPor(null);
+
+                    if (tentativas >= maxTentativas) {
+                        // Evita que um evento defeituoso bloqueie o agregado para sempre
+                        atual.setProcessado(true);
+                        atual.setDataProcessamento(LocalDateTime.now());
+                        atual.setBloqueadoAte(null);
+                        descartados.incrementAndGet();
+                        log.error("Evento de outbox {} descartado após {} tentativas", atual.getIdEventoOutbox(), tentativas, erro);
+                    } else {
+                        long esperaSegundos = Math.min(300, 1L << Math.min(tentativas, 8));
+                        atual.setBloqueadoAte(LocalDateTime.now().plusSeconds(esperaSegundos));
+                        log.warn("Falha ao entregar evento de outbox {} (tentativa {}): {}",
+                                atual.getIdEventoOutbox(), tentativas, erro.getMessage());
+                    }
+                }));
+    }
+
+    private String resumir(RuntimeException erro) {
+        String mensagem = erro.getClass().getSimpleName() + ": " + erro.getMessage();
+        return mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem;
+    }
+}
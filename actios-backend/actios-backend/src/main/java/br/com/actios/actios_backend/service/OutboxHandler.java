@@ -0,0 +1,15 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
+import br.com.actios.actios_backend.model.EventoOutbox;
+
+import java.util.Map;
+
+// Consumidor in-process dos eventos do outbox. A entrega é "pelo menos uma vez",
+// portanto as implementações precisam ser idempotentes.
+public interface OutboxHandler {
+
+    boolean suporta(TipoEventoDominio tipoEvento);
+
+    void tratar(EventoOutbox evento, Map<String, Object> dados);
+}
@@ -0,0 +1,58 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
+import br.com.actios.actios_backend.exceptions.OperacaoNaoPermitidaException;
+import br.com.actios.actios_backend.model.EventoOutbox;
+import br.com.actios.actios_backend.repositorys.EventoOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+public class OutboxService {
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OutboxService(EventoOutboxRepository eventoOutboxRepository, ObjectMapper objectMapper) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Deve ser chamado dentro da transação da alteração de negócio, para que ambos
+    // sejam gravados (ou descartados) juntos.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EventoOutbox registrar(TipoEventoDominio tipoEvento, Integer idAgregado, Map<String, Object> dados) {
+        EventoOutbox evento = new EventoOutbox();
+        evento.setTipoAgregado(tipoEvento.getTipoAgregado());
+        evento.setIdAgregado(idAgregado);
+        evento.setTipoEvento(tipoEvento);
+
+        try {
+            evento.setPayload(objectMapper.writeValueAsString(dados));
+        } catch (JsonProcessingException e) {
+            throw new OperacaoNaoPermitidaException("Falha ao serializar evento de domínio " + tipoEvento, e);
+        }
+
+        return eventoOutboxRepository.save(evento);
+    }
+
+    public Map<String, Object> lerPayload(EventoOutbox evento) {
+        if (evento.getPayload() == null) {
+            return Map.of();
+        }
+
+        try {
+            return objectMapper.readValue(evento.getPayload(), new TypeReference<Map<String, Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new OperacaoNaoPermitidaException("Payload inválido no evento " + evento.getIdEventoOutbox(), e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.actios.actios_backend.repositorys.PalestranteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.regex.Pattern;
@@ -41,6 +42,7 @@ public class PalestranteService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Palestrante> listarTodos() {
         try {
             List<Palestrante> palestrantes = palestranteRepository.findAll();
@@ -55,6 +57,7 @@ public class PalestranteService {
         }
     }
 
+    @Transactional(readOnly = true)
     public Palestrante buscarPorId(Integer id) {
         if (id == null || id <= 0) {
             throw new CampoObrigatorioException("ID do palestrante é inválido.");
@@ -1,5 +1,6 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.Participacao;
 import br.com.actios.actios_backend.model.Usuario;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ParticipacaoService {
@@ -20,14 +22,17 @@ public class ParticipacaoService {
     private final ParticipacaoRepository participacaoRepository;
     private final UsuarioRepository usuarioRepository;
     private final EventoRepository eventoRepository;
+    private final OutboxService outboxService;
 
     @Autowired
     public ParticipacaoService(ParticipacaoRepository participacaoRepository,
                                UsuarioRepository usuarioRepository,
-                               EventoRepository eventoRepository) {
+                               EventoRepository eventoRepository,
+                               OutboxService outboxService) {
         this.participacaoRepository = participacaoRepository;
         this.usuarioRepository = usuarioRepository;
         this.eventoRepository = eventoRepository;
+        this.outboxService = outboxService;
     }
 
     @Transactional
@@ -52,7 +57,10 @@ public class ParticipacaoService {
             participacao.setEvento(evento);
             participacao.setCheckin(false);
 
-            return participacaoRepository.save(participacao);
+            Participacao salva = participacaoRepository.save(participacao);
+            registrarEvento(TipoEventoDominio.PARTICIPACAO_REGISTRADA, salva);
+
+            return salva;
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao registrar participação no banco de dados", e);
         }
@@ -74,6 +82,7 @@ public class ParticipacaoService {
 
             participacao.setCheckin(true);
             participacaoRepository.save(participacao);
+            registrarEvento(TipoEventoDominio.CHECKIN_REALIZADO, participacao);
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao realizar check-in no banco de dados", e);
         }
@@ -103,11 +112,13 @@ public class ParticipacaoService {
 
             participacao.setFeedback(feedback);
             participacaoRepository.save(participacao);
+            registrarEvento(TipoEventoDominio.FEEDBACK_PARTICIPACAO_ADICIONADO, participacao);
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao adicionar feedback no banco de dados", e);
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Participacao> listarPorUsuario(Integer idUsuario) {
         if (idUsuario == null || idUsuario <= 0) {
             throw new CampoObrigatorioException("ID do usuário é inválido");
@@ -129,6 +140,7 @@ public class ParticipacaoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Participacao> listarPorEvento(Integer idEvento) {
         if (idEvento == null || idEvento <= 0) {
             throw new CampoObrigatorioException("ID do evento é inválido");
@@ -150,6 +162,7 @@ public class ParticipacaoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public long contarParticipantesPorEvento(Integer idEvento) {
         if (idEvento == null || idEvento <= 0) {
             throw new CampoObrigatorioException("ID do evento é inválido");
@@ -165,6 +178,7 @@ public class ParticipacaoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public long contarCheckinsPorEvento(Integer idEvento) {
         if (idEvento == null || idEvento <= 0) {
             throw new CampoObrigatorioException("ID do evento é inválido");
@@ -190,6 +204,13 @@ public class ParticipacaoService {
         }
     }
 
+    private void registrarEvento(TipoEventoDominio tipoEvento, Participacao participacao) {
+        outboxService.registrar(tipoEvento, participacao.getIdParticipacao(), Map.of(
+                "idParticipacao", participacao.getIdParticipacao(),
+                "idUsuario", participacao.getUsuario().getIdUsuario(),
+                "idEvento", participacao.getEvento().getIdEvento()));
+    }
+
     private void validarTipoUsuario(Usuario usuario) {
         if (usuario.getTipo() != null && usuario.getTipo().equals("ORGANIZADOR")) {
             throw new TipoUsuarioInvalidoException("Organizadores não podem se inscrever como participantes");
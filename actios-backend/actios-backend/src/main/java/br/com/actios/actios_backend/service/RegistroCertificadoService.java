@@ -1,6 +1,7 @@
 package br.com.actios.actios_backend.service;
 
 import br.com.actios.actios_backend.dto.RegistroCertificadoDTO;
+import br.com.actios.actios_backend.dto.VerificacaoCertificadoDTO;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.RegistroCertificado;
 import br.com.actios.actios_backend.model.Usuario;
@@ -21,17 +22,37 @@ import java.util.stream.Collectors;
 @Service
 public class RegistroCertificadoService {
 
+    private static final int VALIDADE_ANOS = 5;
+
     private final RegistroCertificadoRepository registroCertificadoRepository;
     private final UsuarioRepository usuarioRepository;
     private final CursoRepository cursoRepository;
+    private final ValidacaoCertificadoCache validacaoCache;
+    private final AssinaturaCertificadoService assinaturaCertificadoService;
+    private final RevogacaoCertificadoService revogacaoCertificadoService;
+    private final CertificadoPdfService certificadoPdfService;
+    private final ElegibilidadeCertificadoService elegibilidadeCertificadoService;
+    private final RollupFaculdadeService rollupFaculdadeService;
 
     @Autowired
     public RegistroCertificadoService(RegistroCertificadoRepository registroCertificadoRepository,
                                       UsuarioRepository usuarioRepository,
-                                      CursoRepository cursoRepository) {
+                                      CursoRepository cursoRepository,
+                                      ValidacaoCertificadoCache validacaoCache,
+                                      AssinaturaCertificadoService assinaturaCertificadoService,
+                                      RevogacaoCertificadoService revogacaoCertificadoService,
+                                      CertificadoPdfService certificadoPdfService,
+                                      ElegibilidadeCertificadoService elegibilidadeCertificadoService,
+                                      RollupFaculdadeService rollupFaculdadeService) {
         this.registroCertificadoRepository = registroCertificadoRepository;
         this.usuarioRepository = usuarioRepository;
         this.cursoRepository = cursoRepository;
+        this.validacaoCache = validacaoCache;
+        this.assinaturaCertificadoService = assinaturaCertificadoService;
+        this.revogacaoCertificadoService = revogacaoCertificadoService;
+        this.certificadoPdfService = certificadoPdfService;
+        this.elegibilidadeCertificadoService = elegibilidadeCertificadoService;
+        this.rollupFaculdadeService = rollupFaculdadeService;
     }
 
     @Transactional
@@ -54,34 +75,99 @@ public class RegistroCertificadoService {
             RegistroCertificado registro = new RegistroCertificado();
             registro.setUsuario(usuario);
             registro.setCurso(curso);
-            registro.setCodigoValidacao(gerarCodigoUnico());
+            // O código assinado inclui o ID, que a sequência atribui no save; o provisório só cobre o NOT NULL
+            // até a troca, e o INSERT adiado pelo Hibernate já sai com o código definitivo
+            registro.setCodigoValidacao(UUID.randomUUID().toString());
             registro.setDataEmissao(LocalDate.now());
 
             RegistroCertificado salvo = registroCertificadoRepository.save(registro);
-            return toDTO(salvo);
+            salvo.setCodigoValidacao(assinaturaCertificadoService.gerarCodigo(
+                    salvo.getIdCertificado(), idUsuario, idCurso, salvo.getDataEmissao()));
+            rollupFaculdadeService.registrarCertificados(idCurso, salvo.getDataEmissao(), 1);
+            RegistroCertificadoDTO dto = toDTO(salvo);
+            validacaoCache.registrarEmissao(dto);
+            certificadoPdfService.renderizarAposEmissao(salvo.getIdCertificado());
+            return dto;
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao criar registro de certificado", e);
         }
     }
 
+    @Transactional(readOnly = true)
     public RegistroCertificadoDTO validarCertificado(String codigoValidacao) {
         if (codigoValidacao == null || codigoValidacao.trim().isEmpty()) {
             throw new CampoObrigatorioException("Código de validação é obrigatório");
         }
 
+        // Códigos assinados são autenticados em CPU; os antigos passam pelo filtro de Bloom
+        AssinaturaCertificadoService.CodigoCertificado assinado = assinaturaCertificadoService.verificar(codigoValidacao);
+        if (assinado != null) {
+            if (!assinado.autentico()) {
+                throw new RecursoNaoEncontradoException("Certificado com código '" + codigoValidacao + "' não encontrado");
+            }
+            validarSituacaoCertificado(assinado.idCertificado(), assinado.dataEmissao());
+        } else if (!validacaoCache.podeExistir(codigoValidacao)) {
+            throw new RecursoNaoEncontradoException("Certificado com código '" + codigoValidacao + "' não encontrado");
+        }
+
+        RegistroCertificadoDTO emCache = validacaoCache.buscar(codigoValidacao);
+        if (emCache != null) {
+            validarSituacaoCertificado(emCache.getIdCertificado(), emCache.getDataEmissao());
+            return emCache;
+        }
+
         try {
             RegistroCertificado certificado = registroCertificadoRepository.findByCodigoValidacao(codigoValidacao);
             if (certificado == null) {
                 throw new RecursoNaoEncontradoException("Certificado com código '" + codigoValidacao + "' não encontrado");
             }
 
-            validarDataCertificado(certificado);
-            return toDTO(certificado);
+            RegistroCertificadoDTO dto = toDTO(certificado);
+            validacaoCache.guardar(dto);
+            validarSituacaoCertificado(certificado.getIdCertificado(), certificado.getDataEmissao());
+            return dto;
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao validar certificado", e);
         }
     }
 
+    // Verificação para terceiros: usa apenas o conteúdo assinado do código, sem acessar o banco
+    public VerificacaoCertificadoDTO verificarCodigo(String codigoValidacao) {
+        if (codigoValidacao == null || codigoValidacao.trim().isEmpty()) {
+            throw new CampoObrigatorioException("Código de validação é obrigatório");
+        }
+
+        AssinaturaCertificadoService.CodigoCertificado assinado = assinaturaCertificadoService.verificar(codigoValidacao);
+        if (assinado == null) {
+            return VerificacaoCertificadoDTO.invalido("Código não está no formato assinado; use a validação completa");
+        }
+        if (!assinado.autentico()) {
+            return VerificacaoCertificadoDTO.invalido("Assinatura inválida");
+        }
+
+        VerificacaoCertificadoDTO dto = new VerificacaoCertificadoDTO();
+        dto.setIdCertificado(assinado.idCertificado());
+        dto.setIdUsuario(assinado.idUsuario());
+        dto.setIdCurso(assinado.idCurso());
+        dto.setDataEmissao(assinado.dataEmissao());
+        dto.setDataValidade(assinado.dataEmissao().plusYears(VALIDADE_ANOS));
+
+        if (revogacaoCertificadoService.estaRevogado(assinado.idCertificado())) {
+            dto.setMotivo("Certificado revogado");
+        } else if (dto.getDataValidade().isBefore(LocalDate.now())) {
+            dto.setMotivo("Certificado expirado (validade de 5 anos)");
+        } else {
+            dto.setValido(true);
+        }
+        return dto;
+    }
+
+    public void revogar(Integer idCertificado, String motivo) {
+        revogacaoCertificadoService.revogar(idCertificado, motivo);
+        validacaoCache.removerPorId(idCertificado);
+    }
+
+    @Transactional(readOnly = true)
     public List<RegistroCertificadoDTO> listarPorUsuario(Integer idUsuario) {
         if (idUsuario == null || idUsuario <= 0) {
             throw new CampoObrigatorioException("ID do usuário é inválido");
@@ -103,6 +189,7 @@ public class RegistroCertificadoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<RegistroCertificadoDTO> listarPorCurso(Integer idCurso) {
         if (idCurso == null || idCurso <= 0) {
             throw new CampoObrigatorioException("ID do curso é inválido");
@@ -124,6 +211,7 @@ public class RegistroCertificadoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public long contarPorUsuario(Integer idUsuario) {
         if (idUsuario == null || idUsuario <= 0) {
             throw new CampoObrigatorioException("ID do usuário é inválido");
@@ -139,6 +227,7 @@ public class RegistroCertificadoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public long contarPorCurso(Integer idCurso) {
         if (idCurso == null || idCurso <= 0) {
             throw new CampoObrigatorioException("ID do curso é inválido");
@@ -154,6 +243,7 @@ public class RegistroCertificadoService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<RegistroCertificadoDTO> listarPorUsuarioECurso(Integer idUsuario, Integer idCurso) {
         validarIds(idUsuario, idCurso);
 
@@ -186,8 +276,8 @@ public class RegistroCertificadoService {
     }
 
     private void validarElegibilidadeCertificado(Usuario usuario, Curso curso) {
-        // Verifica se o usuário completou o curso
-        if (!usuario.getCursosCompletos().contains(curso)) {
+        // Verifica se o usuário completou o curso (consulta indexada, sem carregar os vínculos do usuário)
+        if (!elegibilidadeCertificadoService.concluiu(usuario.getIdUsuario(), curso.getId())) {
             throw new OperacaoNaoPermitidaException("Usuário não completou o curso necessário para o certificado");
         }
 
@@ -197,20 +287,18 @@ public class RegistroCertificadoService {
         }
     }
 
-    private void validarDataCertificado(RegistroCertificado certificado) {
-        // Validade de 5 anos para o certificado
-        if (certificado.getDataEmissao().plusYears(5).isBefore(LocalDate.now())) {
-            throw new DataInvalidaException("Certificado expirado (validade de 5 anos)");
+    private void validarSituacaoCertificado(Integer idCertificado, LocalDate dataEmissao) {
+        if (revogacaoCertificadoService.estaRevogado(idCertificado)) {
+            throw new OperacaoNaoPermitidaException("Certificado revogado");
         }
+        validarDataCertificado(dataEmissao);
     }
 
-    private String gerarCodigoUnico() {
-        String codigo;
-        do {
-            codigo = UUID.randomUUID().toString();
-        } while (registroCertificadoRepository.existsByCodigoValidacao(codigo));
-
-        return codigo;
+    private void validarDataCertificado(LocalDate dataEmissao) {
+        // Validade de 5 anos para o certificado
+        if (dataEmissao.plusYears(VALIDADE_ANOS).isBefore(LocalDate.now())) {
+            throw new DataInvalidaException("Certificado expirado (validade de 5 anos)");
+        }
     }
 
     private RegistroCertificadoDTO toDTO(RegistroCertificado registro) {
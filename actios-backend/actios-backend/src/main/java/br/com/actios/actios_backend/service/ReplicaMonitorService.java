@@ -0,0 +1,114 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.RoteadorDataSource;
+import br.com.actios.actios_backend.dto.PoolConexoesMetricasDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ReplicaMonitorService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaMonitorService.class);
+
+    private final RoteadorDataSource roteador;
+
+    @Value("${actios.replica.atraso-maximo-segundos:5}")
+    private long atrasoMaximoSegundos;
+
+    @Autowired
+    public ReplicaMonitorService(RoteadorDataSource roteador) {
+        this.roteador = roteador;
+    }
+
+    // Réplica atrasada além do limite sai da rota de leitura até alcançar o primário
+    @Scheduled(fixedDelayString = "${actios.replica.verificacao-ms:2000}")
+    public void verificar() {
+        HikariDataSource replica = roteador.getReplica();
+        if (replica == null) {
+            return;
+        }
+
+        long atraso = medirAtraso(replica);
+        boolean disponivel = atraso >= 0 && atraso <= atrasoMaximoSegundos;
+        if (disponivel != roteador.isReplicaDisponivel()) {
+            if (disponivel) {
+                log.info("Réplica de leitura disponível (atraso {}s)", atraso);
+            } else {
+                log.warn("Réplica de leitura fora da rota (atraso {}s); leituras seguem no primário", atraso);
+            }
+        }
+        roteador.atualizarReplica(disponivel, atraso);
+    }
+
+    public List<PoolConexoesMetricasDTO> obterMetricas() {
+        List<PoolConexoesMetricasDTO> metricas = new ArrayList<>();
+        metricas.add(metricas(roteador.getPrimario(), true, 0, roteador.getConexoesPrimario(), 0));
+
+        HikariDataSource replica = roteador.getReplica();
+        if (replica != null) {
+            metricas.add(metricas(replica, roteador.isReplicaDisponivel(), roteador.getAtrasoReplicaSegundos(),
+                    roteador.getConexoesReplica(), roteador.getLeiturasDesviadas()));
+        }
+        return metricas;
+    }
+
+    // Segundos de atraso da replicação; -1 se a réplica estiver fora do ar, com a replicação parada ou
+    // se o atraso não puder ser lido: réplica sem atraso conhecido não recebe leituras
+    private long medirAtraso(HikariDataSource replica) {
+        try (Connection conexao = replica.getConnection()) {
+            try {
+                return lerAtraso(conexao, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                // MySQL anterior a 8.0.22 e MariaDB só conhecem a forma antiga
+                log.debug("SHOW REPLICA STATUS indisponível, tentando SHOW SLAVE STATUS: {}", e.getMessage());
+            }
+            try {
+                return lerAtraso(conexao, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+            } catch (SQLException e) {
+                // Usuário sem REPLICATION CLIENT (ou sem os privilégios equivalentes)
+                log.debug("Atraso da réplica ilegível: {}", e.getMessage());
+                return -1;
+            }
+        } catch (SQLException e) {
+            log.debug("Réplica inacessível: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private static long lerAtraso(Connection conexao, String comando, String coluna) throws SQLException {
+        try (Statement st = conexao.createStatement();
+             ResultSet rs = st.executeQuery(comando)) {
+            if (!rs.next()) {
+                // Instância sem replicação configurada (cópia local): não há o que atrasar
+                return 0;
+            }
+            long atraso = rs.getLong(coluna);
+            return rs.wasNull() ? -1 : atraso;
+        }
+    }
+
+    private PoolConexoesMetricasDTO metricas(HikariDataSource pool, boolean disponivel, long atraso,
+                                             long roteadas, long desviadas) {
+        // O MXBean só existe depois que o pool abriu a primeira conexão
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        return new PoolConexoesMetricasDTO(pool.getPoolName(), disponivel, atraso,
+                mxBean != null ? mxBean.getActiveConnections() : 0,
+                mxBean != null ? mxBean.getIdleConnections() : 0,
+                mxBean != null ? mxBean.getTotalConnections() : 0,
+                mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0,
+                pool.getMaximumPoolSize(), roteadas, desviadas);
+    }
+}
@@ -0,0 +1,250 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.model.Evento;
+import br.com.actios.actios_backend.model.Notificacao;
+import br.com.actios.actios_backend.repositorys.EventoRepository;
+import br.com.actios.actios_backend.repositorys.NotificacaoRepository;
+import br.com.actios.actios_backend.repositorys.UsuarioRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Buffer write-behind dos usuários em modo resumo: as notificações ficam em memória, já deduplicadas,
+// e viram uma única linha em "notificacoes" por usuário a cada período. Um item só entra no buffer
+// quando a transação que o gerou confirma. O buffer é limitado; fora dos limites a notificação é
+// gravada na hora, como para quem não está em modo resumo. O encerramento da aplicação (deploy,
+// restart) grava o que estiver pendente; só uma queda do processo perde os itens do período.
+@Service
+public class ResumoNotificacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoNotificacaoService.class);
+
+    private final NotificacaoRepository notificacaoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final EventoRepository eventoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Integer, ResumoPendente> pendentes = new ConcurrentHashMap<>();
+    // Mensagens distintas em memória, somando todos os usuários
+    private final AtomicInteger mensagensPendentes = new AtomicInteger();
+
+    @Value("${actios.resumo-notificacoes.max-mensagens:100000}")
+    private int maxMensagens;
+
+    // Mantém o texto do resumo dentro da coluna TEXT (mensagens de até 500 caracteres)
+    @Value("${actios.resumo-notificacoes.max-mensagens-por-usuario:50}")
+    private int maxMensagensPorUsuario;
+
+    @Value("${actios.resumo-notificacoes.usuarios-por-lote:500}")
+    private int usuariosPorLote;
+
+    @Autowired
+    public ResumoNotificacaoService(NotificacaoRepository notificacaoRepository,
+                                    UsuarioRepository usuarioRepository,
+                                    EventoRepository eventoRepository,
+                                    TransactionTemplate transactionTemplate) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.eventoRepository = eventoRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // false quando o buffer está cheio: quem chamou grava a notificação na hora
+    public boolean acumular(Integer idUsuario, Evento evento, String mensagem) {
+        Integer idEvento = evento.getIdEvento();
+        ResumoPendente atual = pendentes.get(idUsuario);
+        boolean repetida = atual != null && atual.contem(idEvento, mensagem);
+        if (!repetida && (mensagensPendentes.get() >= maxMensagens
+                || (atual != null && atual.distintas() >= maxMensagensPorUsuario))) {
+            return false;
+        }
+
+        String tituloEvento = evento.getTitulo();
+        Runnable guardar = () -> pendentes.compute(idUsuario, (id, resumo) -> {
+            ResumoPendente alvo = resumo != null ? resumo : new ResumoPendente();
+            if (alvo.adicionar(idEvento, tituloEvento, mensagem)) {
+                mensagensPendentes.incrementAndGet();
+            }
+            return alvo;
+        });
+
+        // Rollback de quem gerou a notificação não deixa item no resumo
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guardar.run();
+                }
+            });
+        } else {
+            guardar.run();
+        }
+        return true;
+    }
+
+    public int totalUsuariosPendentes() {
+        return pendentes.size();
+    }
+
+    // Grava em lotes de usuários, um lote por transação. Um lote que falha volta para o buffer
+    // e entra na próxima execução.
+    @Scheduled(cron = "${actios.resumo-notificacoes.cron:0 0 7 * * *}")
+    public void consolidar() {
+        LocalDateTime agora = LocalDateTime.now();
+        Map<Integer, ResumoPendente> lote = new LinkedHashMap<>();
+        int gravados = 0;
+
+        for (Integer idUsuario : new ArrayList<>(pendentes.keySet())) {
+            ResumoPendente resumo = pendentes.remove(idUsuario);
+            if (resumo == null) {
+                continue;
+            }
+            mensagensPendentes.addAndGet(-resumo.distintas());
+            lote.put(idUsuario, resumo);
+
+            if (lote.size() >= usuariosPorLote) {
+                gravados += gravarLote(lote, agora);
+                lote = new LinkedHashMap<>();
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravados += gravarLote(lote, agora);
+        }
+
+        if (gravados > 0) {
+            log.info("{} resumos de notificações gravados", gravados);
+        }
+    }
+
+    // Grava o que estiver em memória antes de desligar a aplicação
+    @PreDestroy
+    public void descarregar() {
+        try {
+            consolidar();
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar resumos pendentes no encerramento: {}", e.getMessage());
+        }
+    }
+
+    private int gravarLote(Map<Integer, ResumoPendente> lote, LocalDateTime agora) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> notificacaoRepository.saveAll(montar(lote, agora)));
+            return lote.size();
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar {} resumos de notificações; ficam para a próxima execução: {}",
+                    lote.size(), e.getMessage());
+            lote.forEach(this::devolver);
+            return 0;
+        }
+    }
+
+    private List<Notificacao> montar(Map<Integer, ResumoPendente> lote, LocalDateTime agora) {
+        List<Notificacao> resumos = new ArrayList<>(lote.size());
+        lote.forEach((idUsuario, resumo) -> {
+            Notificacao notificacao = new Notificacao();
+            notificacao.setUsuario(usuarioRepository.getReferenceById(idUsuario));
+            // Com um único evento o resumo continua vinculado a ele
+            Integer idEvento = resumo.unicoEvento();
+            if (idEvento != null) {
+                notificacao.setEvento(eventoRepository.getReferenceById(idEvento));
+            }
+            notificacao.setMensagem(resumo.montarMensagem());
+            notificacao.setDataEnvio(agora);
+            notificacao.setLida(false);
+            notificacao.setResumo(true);
+            resumos.add(notificacao);
+        });
+        return resumos;
+    }
+
+    private void devolver(Integer idUsuario, ResumoPendente resumo) {
+        pendentes.compute(idUsuario, (id, atual) -> {
+            if (atual == null) {
+                mensagensPendentes.addAndGet(resumo.distintas());
+                return resumo;
+            }
+            mensagensPendentes.addAndGet(atual.juntar(resumo));
+            return atual;
+        });
+    }
+
+    // Acessado pelo compute do mapa e, sem ele, pela checagem de limite em acumular
+    private static final class ResumoPendente {
+        private final Map<Integer, ItensEvento> porEvento = new LinkedHashMap<>();
+        private int recebidas;
+        private int distintas;
+
+        // true quando a mensagem ainda não estava no resumo
+        private synchronized boolean adicionar(Integer idEvento, String tituloEvento, String mensagem) {
+            recebidas++;
+            // Mensagens repetidas sobre o mesmo evento entram uma única vez no resumo
+            boolean nova = porEvento.computeIfAbsent(idEvento, id -> new ItensEvento(tituloEvento)).mensagens.add(mensagem);
+            if (nova) {
+                distintas++;
+            }
+            return nova;
+        }
+
+        private synchronized boolean contem(Integer idEvento, String mensagem) {
+            ItensEvento itens = porEvento.get(idEvento);
+            return itens != null && itens.mensagens.contains(mensagem);
+        }
+
+        private synchronized int distintas() {
+            return distintas;
+        }
+
+        // Soma outro resumo do mesmo usuário e devolve quantas mensagens distintas entraram
+        private synchronized int juntar(ResumoPendente outro) {
+            int antes = distintas;
+            synchronized (outro) {
+                outro.porEvento.forEach((idEvento, itens) -> itens.mensagens
+                        .forEach(mensagem -> adicionar(idEvento, itens.tituloEvento, mensagem)));
+                recebidas += outro.recebidas - outro.distintas;
+            }
+            return distintas - antes;
+        }
+
+        private synchronized Integer unicoEvento() {
+            return porEvento.size() == 1 ? porEvento.keySet().iterator().next() : null;
+        }
+
+        private synchronized String montarMensagem() {
+            StringBuilder texto = new StringBuilder("Resumo de notificações (")
+                    .append(recebidas)
+                    .append(recebidas == 1 ? " notificação):" : " notificações):");
+
+            for (ItensEvento itens : porEvento.values()) {
+                texto.append("\n- ").append(itens.tituloEvento).append(": ")
+                        .append(String.join(" | ", itens.mensagens));
+            }
+            return texto.toString();
+        }
+    }
+
+    private static final class ItensEvento {
+        private final String tituloEvento;
+        private final Set<String> mensagens = new LinkedHashSet<>();
+
+        private ItensEvento(String tituloEvento) {
+            this.tituloEvento = tituloEvento;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.*;
+import br.com.actios.actios_backend.model.CertificadoRevogado;
+import br.com.actios.actios_backend.repositorys.CertificadoRevogadoRepository;
+import br.com.actios.actios_backend.repositorys.RegistroCertificadoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Conjunto de certificados revogados mantido em memória. É pequeno, então cada nó relê a tabela
+// inteira periodicamente para enxergar revogações feitas em outros nós. Revogação não se desfaz:
+// a releitura só acrescenta ao conjunto.
+@Service
+public class RevogacaoCertificadoService {
+
+    private final CertificadoRevogadoRepository certificadoRevogadoRepository;
+    private final RegistroCertificadoRepository registroCertificadoRepository;
+
+    private final Set<Integer> revogados = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public RevogacaoCertificadoService(CertificadoRevogadoRepository certificadoRevogadoRepository,
+                                       RegistroCertificadoRepository registroCertificadoRepository) {
+        this.certificadoRevogadoRepository = certificadoRevogadoRepository;
+        this.registroCertificadoRepository = registroCertificadoRepository;
+    }
+
+    public boolean estaRevogado(Integer idCertificado) {
+        return idCertificado != null && revogados.contains(idCertificado);
+    }
+
+    @Transactional
+    public void revogar(Integer idCertificado, String motivo) {
+        if (idCertificado == null || idCertificado <= 0) {
+            throw new CampoObrigatorioException("ID do certificado é inválido");
+        }
+        if (!registroCertificadoRepository.existsById(idCertificado)) {
+            throw new RecursoNaoEncontradoException("Certificado com ID " + idCertificado + " não encontrado");
+        }
+        if (certificadoRevogadoRepository.existsById(idCertificado)) {
+            throw new RecursoExistenteException("Certificado já está revogado");
+        }
+
+        certificadoRevogadoRepository.save(new CertificadoRevogado(idCertificado, motivo));
+
+        // Só entra no conjunto depois do commit: um rollback não pode deixar o certificado tratado como revogado
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revogados.add(idCertificado);
+            }
+        });
+    }
+
+    // Revogação feita em outro nó, vista pela sincronização do cache de validação
+    public void registrarRevogado(Integer idCertificado) {
+        revogados.add(idCertificado);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${actios.certificados.revogacao.recarga-ms:30000}",
+            initialDelayString = "${actios.certificados.revogacao.recarga-ms:30000}")
+    // Somar em vez de trocar o conjunto: uma revogação confirmada neste nó depois da leitura continua nele
+    public void recarregar() {
+        revogados.addAll(certificadoRevogadoRepository.findAllIds());
+    }
+}
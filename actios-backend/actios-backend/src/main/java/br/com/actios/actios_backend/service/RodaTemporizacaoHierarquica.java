@@ -0,0 +1,161 @@
+package br.com.actios.actios_backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Roda de temporização hierárquica: cada nível cobre "tamanho" ticks do nível inferior.
+// Agendar e cancelar são O(1); avançar custa O(níveis) por tick mais as entradas vencidas.
+public class RodaTemporizacaoHierarquica<T> {
+
+    private final Nivel<T> base;
+    private final Map<String, Entrada<T>> entradas = new HashMap<>();
+
+    public RodaTemporizacaoHierarquica(long tickMs, int tamanho, long inicioMs) {
+        if (tickMs <= 0 || tamanho <= 0) {
+            throw new IllegalArgumentException("Tick e tamanho da roda devem ser positivos");
+        }
+        this.base = new Nivel<>(tickMs, tamanho, inicioMs);
+    }
+
+    // Retorna false quando o instante já venceu; nesse caso nada é agendado e o chamador deve disparar agora
+    public synchronized boolean agendar(String chave, long expiracaoMs, T valor) {
+        cancelar(chave);
+
+        Entrada<T> entrada = new Entrada<>(chave, expiracaoMs, valor);
+        if (!base.adicionar(entrada)) {
+            return false;
+        }
+
+        entradas.put(chave, entrada);
+        return true;
+    }
+
+    public synchronized boolean cancelar(String chave) {
+        Entrada<T> entrada = entradas.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+
+        if (entrada.balde != null) {
+            entrada.balde.entradas.remove(entrada);
+            entrada.balde = null;
+        }
+        return true;
+    }
+
+    public synchronized boolean contem(String chave) {
+        return entradas.containsKey(chave);
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    public synchronized List<T> avancar(long agoraMs) {
+        List<T> vencidas = new ArrayList<>();
+
+        while (base.tempoAtual + base.tickMs <= agoraMs) {
+            long tick = base.tempoAtual + base.tickMs;
+
+            // Esvazia, em cada nível, o balde que começa neste tick; suas entradas descem de nível ou vencem
+            List<Entrada<T>> redistribuir = new ArrayList<>();
+            for (Nivel<T> nivel = base; nivel != null; nivel = nivel.superior) {
+                nivel.avancarRelogio(tick);
+                Balde<T> balde = nivel.baldePara(tick);
+                if (balde.expiracao != -1 && balde.expiracao <= tick) {
+                    redistribuir.addAll(balde.esvaziar());
+                }
+            }
+
+            for (Entrada<T> entrada : redistribuir) {
+                entrada.balde = null;
+                if (!base.adicionar(entrada)) {
+                    entradas.remove(entrada.chave);
+                    vencidas.add(entrada.valor);
+                }
+            }
+        }
+
+        return vencidas;
+    }
+
+    private static final class Nivel<T> {
+        private final long tickMs;
+        private final int tamanho;
+        private final long intervaloMs;
+        private final List<Balde<T>> baldes;
+        private long tempoAtual;
+        private Nivel<T> superior;
+
+        private Nivel(long tickMs, int tamanho, long inicioMs) {
+            this.tickMs = tickMs;
+            this.tamanho = tamanho;
+            this.intervaloMs = tickMs * tamanho;
+            this.tempoAtual = inicioMs - (inicioMs % tickMs);
+            this.baldes = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                baldes.add(new Balde<>());
+            }
+        }
+
+        private boolean adicionar(Entrada<T> entrada) {
+            if (entrada.expiracaoMs <= tempoAtual) {
+                return false;
+            }
+
+            if (entrada.expiracaoMs < tempoAtual + intervaloMs) {
+                // Vencimentos dentro do tick corrente vão para o próximo balde: nunca disparam antes da hora
+                long idVirtual = Math.max(entrada.expiracaoMs / tickMs, tempoAtual / tickMs + 1);
+                Balde<T> balde = baldes.get((int) (idVirtual % tamanho));
+                balde.entradas.add(entrada);
+                balde.expiracao = idVirtual * tickMs;
+                entrada.balde = balde;
+                return true;
+            }
+
+            if (superior == null) {
+                superior = new Nivel<>(intervaloMs, tamanho, tempoAtual);
+            }
+            return superior.adicionar(entrada);
+        }
+
+        private void avancarRelogio(long tempo) {
+            if (tempo >= tempoAtual + tickMs) {
+                tempoAtual = tempo - (tempo % tickMs);
+            }
+        }
+
+        private Balde<T> baldePara(long tempo) {
+            return baldes.get((int) ((tempo / tickMs) % tamanho));
+        }
+    }
+
+    private static final class Balde<T> {
+        private final Set<Entrada<T>> entradas = new LinkedHashSet<>();
+        private long expiracao = -1;
+
+        private List<Entrada<T>> esvaziar() {
+            List<Entrada<T>> copia = new ArrayList<>(entradas);
+            entradas.clear();
+            expiracao = -1;
+            return copia;
+        }
+    }
+
+    private static final class Entrada<T> {
+        private final String chave;
+        private final long expiracaoMs;
+        private final T valor;
+        private Balde<T> balde;
+
+        private Entrada(String chave, long expiracaoMs, T valor) {
+            this.chave = chave;
+            this.expiracaoMs = expiracaoMs;
+            this.valor = valor;
+        }
+    }
+}
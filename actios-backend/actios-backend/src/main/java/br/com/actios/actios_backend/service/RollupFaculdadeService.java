@@ -0,0 +1,511 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.EstatisticaFaculdadeDTO;
+import br.com.actios.actios_backend.dto.RecalculoRollupDTO;
+import br.com.actios.actios_backend.enums.TipoEventoDominio;
+import br.com.actios.actios_backend.exceptions.*;
+import br.com.actios.actios_backend.model.EventoOutbox;
+import br.com.actios.actios_backend.repositorys.FaculdadeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Estatísticas por faculdade servidas de rollups_faculdade_dia em vez de joins sobre as tabelas brutas.
+// Os incrementos chegam pelo outbox (um por evento de domínio, deduplicado em rollups_eventos_aplicados)
+// e, no caso dos certificados, direto da transação de emissão. O recálculo reconstrói faixas de dias a
+// partir das tabelas de origem, em chunks com pausa, e serve tanto para o histórico quanto para corrigir
+// desvios. Cada linha guarda quando foi recalculada: incrementos de escritas anteriores a isso são ignorados.
+@Service
+public class RollupFaculdadeService implements OutboxHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupFaculdadeService.class);
+
+    private static final String[] METRICAS = {"eventos", "inscricoes", "cancelamentos", "participacoes",
+            "checkins", "feedbacks", "soma_notas", "certificados"};
+    private static final int EVENTOS = 0;
+    private static final int INSCRICOES = 1;
+    private static final int CANCELAMENTOS = 2;
+    private static final int PARTICIPACOES = 3;
+    private static final int CHECKINS = 4;
+    private static final int FEEDBACKS = 5;
+    private static final int SOMA_NOTAS = 6;
+    private static final int CERTIFICADOS = 7;
+
+    private static final String COLUNAS = String.join(", ", METRICAS);
+    private static final String MARCADORES = String.join(", ", Collections.nCopies(METRICAS.length, "?"));
+    private static final String UPSERT_INCREMENTO;
+    private static final String UPSERT_RECALCULO;
+    private static final String ZERAR_INTERVALO;
+
+    static {
+        List<String> incrementos = new ArrayList<>();
+        List<String> substituicoes = new ArrayList<>();
+        List<String> zeros = new ArrayList<>();
+        for (String metrica : METRICAS) {
+            incrementos.add(metrica + " = IF(recalculado_em >= ?, " + metrica + ", " + metrica + " + VALUES(" + metrica + "))");
+            substituicoes.add(metrica + " = VALUES(" + metrica + ")");
+            zeros.add(metrica + " = 0");
+        }
+        UPSERT_INCREMENTO = "INSERT INTO rollups_faculdade_dia (id_faculdade, dia, " + COLUNAS + ") VALUES (?, ?, " + MARCADORES + ") " +
+                "ON DUPLICATE KEY UPDATE " + String.join(", ", incrementos);
+        UPSERT_RECALCULO = "INSERT INTO rollups_faculdade_dia (id_faculdade, dia, " + COLUNAS + ", recalculado_em) " +
+                "VALUES (?, ?, " + MARCADORES + ", ?) " +
+                "ON DUPLICATE KEY UPDATE " + String.join(", ", substituicoes) + ", recalculado_em = VALUES(recalculado_em)";
+        ZERAR_INTERVALO = "UPDATE rollups_faculdade_dia SET " + String.join(", ", zeros) + ", recalculado_em = ? " +
+                "WHERE dia BETWEEN ? AND ?";
+    }
+
+    private static final Set<TipoEventoDominio> SUPORTADOS = EnumSet.of(
+            TipoEventoDominio.EVENTO_CRIADO,
+            TipoEventoDominio.EVENTO_ATUALIZADO,
+            TipoEventoDominio.EVENTO_EXCLUIDO,
+            TipoEventoDominio.INSCRICAO_CRIADA,
+            TipoEventoDominio.INSCRICAO_CANCELADA,
+            TipoEventoDominio.PARTICIPACAO_REGISTRADA,
+            TipoEventoDominio.CHECKIN_REALIZADO,
+            TipoEventoDominio.FEEDBACK_EVENTO_CRIADO);
+
+    private static final String TRAVA_INICIALIZACAO = "actios_rollups_inicializacao";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FaculdadeRepository faculdadeRepository;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "recalculo-rollups");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile RecalculoRollupDTO recalculo = new RecalculoRollupDTO();
+    private volatile boolean historicoConcluido;
+
+    @Value("${actios.rollups.dias-por-chunk:7}")
+    private int diasPorChunk;
+
+    @Value("${actios.rollups.pausa-ms:200}")
+    private long pausaMs;
+
+    @Value("${actios.rollups.retencao-deduplicacao-dias:7}")
+    private int retencaoDeduplicacaoDias;
+
+    @Autowired
+    public RollupFaculdadeService(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  FaculdadeRepository faculdadeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.faculdadeRepository = faculdadeRepository;
+    }
+
+    @Override
+    public boolean suporta(TipoEventoDominio tipoEvento) {
+        return SUPORTADOS.contains(tipoEvento);
+    }
+
+    @Override
+    public void tratar(EventoOutbox evento, Map<String, Object> dados) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int registrado = jdbcTemplate.update(
+                    "INSERT IGNORE INTO rollups_eventos_aplicados (id_evento_outbox, data_aplicacao) VALUES (?, ?)",
+                    evento.getIdEventoOutbox(), Timestamp.valueOf(LocalDateTime.now()));
+            if (registrado > 0) {
+                aplicar(evento, dados);
+            }
+        });
+    }
+
+    // Certificados não passam pelo outbox (um lote gera milhares); a emissão soma direto, na mesma transação
+    public void registrarCertificados(Integer idCurso, LocalDate dataEmissao, int quantidade) {
+        if (quantidade <= 0) {
+            return;
+        }
+
+        List<Integer> faculdades = jdbcTemplate.queryForList(
+                "SELECT id_faculdade FROM cursos WHERE id_curso = ?", Integer.class, idCurso);
+        if (!faculdades.isEmpty() && faculdades.get(0) != null) {
+            long[] deltas = new long[METRICAS.length];
+            deltas[CERTIFICADOS] = quantidade;
+            incrementar(faculdades.get(0), dataEmissao, deltas, LocalDateTime.now());
+        }
+    }
+
+    // agrupamento: "dia", "mes" ou "total"
+    public List<EstatisticaFaculdadeDTO> consultar(Integer idFaculdade, LocalDate de, LocalDate ate, String agrupamento) {
+        if (idFaculdade == null || idFaculdade <= 0) {
+            throw new CampoObrigatorioException("ID da faculdade é inválido");
+        }
+        if (de == null || ate == null || de.isAfter(ate)) {
+            throw new DataInvalidaException("Período inválido: informe de e ate, com de <= ate");
+        }
+        if (!faculdadeRepository.existsById(idFaculdade)) {
+            throw new RecursoNaoEncontradoException("Faculdade com ID " + idFaculdade + " não encontrada");
+        }
+
+        String periodo = switch (agrupamento == null ? "mes" : agrupamento) {
+            case "dia" -> "DATE_FORMAT(dia, '%Y-%m-%d')";
+            case "mes" -> "DATE_FORMAT(dia, '%Y-%m')";
+            case "total" -> "'total'";
+            default -> throw new CampoObrigatorioException("Agrupamento deve ser dia, mes ou total");
+        };
+
+        return jdbcTemplate.query(
+                "SELECT " + periodo + " AS periodo, SUM(eventos), SUM(inscricoes), SUM(cancelamentos), " +
+                "SUM(participacoes), SUM(checkins), SUM(feedbacks), SUM(soma_notas), SUM(certificados) " +
+                "FROM rollups_faculdade_dia WHERE id_faculdade = ? AND dia BETWEEN ? AND ? " +
+                "GROUP BY periodo ORDER BY periodo",
+                (rs, i) -> new EstatisticaFaculdadeDTO(rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                        rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getLong(9)),
+                idFaculdade, Date.valueOf(de), Date.valueOf(ate));
+    }
+
+    public synchronized RecalculoRollupDTO recalcular(LocalDate de, LocalDate ate) {
+        if (de == null || ate == null || de.isAfter(ate)) {
+            throw new DataInvalidaException("Período inválido: informe de e ate, com de <= ate");
+        }
+        if (!iniciar(de, ate)) {
+            throw new OperacaoNaoPermitidaException("Já existe um recálculo de estatísticas em andamento");
+        }
+        executor.submit(() -> executarRecalculo(de, ate, false));
+        return recalculo;
+    }
+
+    private synchronized boolean iniciar(LocalDate de, LocalDate ate) {
+        if (recalculo.isEmAndamento()) {
+            return false;
+        }
+        recalculo = new RecalculoRollupDTO(true, de, ate, null, 0, ChronoUnit.DAYS.between(de, ate) + 1,
+                LocalDateTime.now(), null, null);
+        return true;
+    }
+
+    public RecalculoRollupDTO consultarRecalculo() {
+        return recalculo;
+    }
+
+    // Reconstrói todo o histórico, fora da thread de inicialização, até rollups_reconstrucao marcar a
+    // conclusão. Roda na subida e periodicamente: se o nó que reconstruía cair, outro continua do ponto salvo
+    @Scheduled(fixedDelayString = "${actios.rollups.reconstrucao-intervalo-ms:600000}")
+    public void inicializar() {
+        if (!historicoConcluido && !recalculo.isEmAndamento()) {
+            executor.submit(this::reconstruirHistorico);
+        }
+    }
+
+    // Vários nós sobem juntos: só o que obtém a trava recalcula. GET_LOCK pertence à conexão, que fica
+    // presa até o fim do recálculo; se o nó cair, o MySQL libera a trava com ela. Os demais encontram a
+    // trava ocupada ou, depois, a reconstrução já concluída
+    private void reconstruirHistorico() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+                if (!travar(conexao, "GET_LOCK(?, 0)")) {
+                    log.info("Reconstrução dos rollups em andamento em outro nó");
+                    return null;
+                }
+                try {
+                    continuarReconstrucao();
+                } finally {
+                    travar(conexao, "RELEASE_LOCK(?)");
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Falha ao reconstruir o histórico de rollups", e);
+        }
+    }
+
+    // A faixa de dias é fixada na primeira execução; as seguintes continuam do último chunk gravado
+    private void continuarReconstrucao() {
+        List<Reconstrucao> marcas = jdbcTemplate.query(
+                "SELECT de, ate, processado_ate, data_conclusao FROM rollups_reconstrucao WHERE id = 1",
+                (rs, i) -> new Reconstrucao(rs.getDate("de").toLocalDate(), rs.getDate("ate").toLocalDate(),
+                        rs.getDate("processado_ate") != null ? rs.getDate("processado_ate").toLocalDate() : null,
+                        rs.getTimestamp("data_conclusao") != null));
+        Reconstrucao marca = marcas.isEmpty() ? registrarReconstrucao() : marcas.get(0);
+        if (marca.concluida()) {
+            historicoConcluido = true;
+            return;
+        }
+
+        LocalDate de = marca.processadoAte() != null ? marca.processadoAte().plusDays(1) : marca.de();
+        if (de.isAfter(marca.ate())) {
+            concluirReconstrucao();
+            return;
+        }
+        if (marca.processadoAte() != null) {
+            log.info("Continuando a reconstrução dos rollups a partir de {}", de);
+        }
+        // Já no executor: roda aqui mesmo, com a trava presa, em vez de enfileirar
+        if (iniciar(de, marca.ate())) {
+            executarRecalculo(de, marca.ate(), true);
+        }
+    }
+
+    // Banco sem nenhum dado de origem nasce com a reconstrução concluída: os incrementos cobrem o resto
+    private Reconstrucao registrarReconstrucao() {
+        LocalDate primeiroDia = jdbcTemplate.queryForObject(
+                "SELECT MIN(d) FROM (SELECT MIN(data) AS d FROM eventos " +
+                "UNION ALL SELECT MIN(DATE(data_inscricao)) FROM inscricoes " +
+                "UNION ALL SELECT MIN(DATE(data_criacao)) FROM participacoes " +
+                "UNION ALL SELECT MIN(DATE(data_feedback)) FROM feedback_eventos " +
+                "UNION ALL SELECT MIN(data_emissao) FROM registro_certificados) t", LocalDate.class);
+        LocalDate ultimoEvento = jdbcTemplate.queryForObject("SELECT MAX(data) FROM eventos", LocalDate.class);
+        LocalDate hoje = LocalDate.now();
+        LocalDate de = primeiroDia != null ? primeiroDia : hoje;
+        LocalDate ate = ultimoEvento != null && ultimoEvento.isAfter(hoje) ? ultimoEvento : hoje;
+        LocalDateTime agora = LocalDateTime.now();
+
+        jdbcTemplate.update("INSERT INTO rollups_reconstrucao (id, de, ate, data_inicio, data_conclusao) VALUES (1, ?, ?, ?, ?)",
+                Date.valueOf(de), Date.valueOf(ate), Timestamp.valueOf(agora),
+                primeiroDia == null ? Timestamp.valueOf(agora) : null);
+        return new Reconstrucao(de, ate, null, primeiroDia == null);
+    }
+
+    private void concluirReconstrucao() {
+        jdbcTemplate.update("UPDATE rollups_reconstrucao SET data_conclusao = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.now()));
+        historicoConcluido = true;
+    }
+
+    private static boolean travar(Connection conexao, String funcao) throws SQLException {
+        try (PreparedStatement comando = conexao.prepareStatement("SELECT " + funcao)) {
+            comando.setString(1, TRAVA_INICIALIZACAO);
+            try (ResultSet rs = comando.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${actios.rollups.limpeza-cron:0 30 3 * * *}")
+    public void limparDeduplicacao() {
+        int removidos = jdbcTemplate.update("DELETE FROM rollups_eventos_aplicados WHERE data_aplicacao < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retencaoDeduplicacaoDias)));
+        log.debug("Removidos {} registros de deduplicação de rollups", removidos);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    private void aplicar(EventoOutbox evento, Map<String, Object> dados) {
+        LocalDateTime momento = evento.getDataCriacao();
+        long[] deltas = new long[METRICAS.length];
+
+        switch (evento.getTipoEvento()) {
+            case EVENTO_CRIADO, EVENTO_ATUALIZADO -> {
+                Integer idEvento = inteiro(dados.get("idEvento"));
+                List<Integer> faculdades = jdbcTemplate.queryForList(
+                        "SELECT faculdade_id FROM eventos WHERE id_evento = ?", Integer.class, idEvento);
+                if (faculdades.isEmpty() || faculdades.get(0) == null) {
+                    return;
+                }
+
+                Integer idFaculdade = faculdades.get(0);
+                // Mudança de data move o evento de dia: sai do dia anterior e entra no novo
+                Object dataAnterior = dados.get("dataAnterior");
+                if (evento.getTipoEvento() == TipoEventoDominio.EVENTO_ATUALIZADO && dataAnterior != null) {
+                    long[] saida = new long[METRICAS.length];
+                    saida[EVENTOS] = -1;
+                    incrementar(idFaculdade, LocalDate.parse(dataAnterior.toString()), saida, momento);
+                } else if (evento.getTipoEvento() == TipoEventoDominio.EVENTO_ATUALIZADO) {
+                    return;
+                }
+                deltas[EVENTOS] = 1;
+                incrementar(idFaculdade, LocalDate.parse(dados.get("data").toString()), deltas, momento);
+            }
+            case EVENTO_EXCLUIDO -> {
+                // O evento já foi apagado: faculdade e dia vêm do payload. Inscrições, participações e
+                // feedbacks removidos em cascata continuam somados até um recálculo cobrir o dia.
+                Object idFaculdade = dados.get("idFaculdade");
+                if (idFaculdade == null) {
+                    return;
+                }
+                deltas[EVENTOS] = -1;
+                incrementar(inteiro(idFaculdade), LocalDate.parse(dados.get("data").toString()), deltas, momento);
+            }
+            case INSCRICAO_CRIADA, INSCRICAO_CANCELADA -> {
+                deltas[evento.getTipoEvento() == TipoEventoDominio.INSCRICAO_CRIADA ? INSCRICOES : CANCELAMENTOS] = 1;
+                aplicarPorOrigem("SELECT e.faculdade_id, DATE(i.data_inscricao) FROM inscricoes i " +
+                        "JOIN eventos e ON e.id_evento = i.evento_id WHERE i.id_inscricao = ?",
+                        inteiro(dados.get("idInscricao")), deltas, momento);
+            }
+            case PARTICIPACAO_REGISTRADA, CHECKIN_REALIZADO -> {
+                deltas[evento.getTipoEvento() == TipoEventoDominio.PARTICIPACAO_REGISTRADA ? PARTICIPACOES : CHECKINS] = 1;
+                aplicarPorOrigem("SELECT e.faculdade_id, DATE(p.data_criacao) FROM participacoes p " +
+                        "JOIN eventos e ON e.id_evento = p.id_evento WHERE p.id_participacao = ?",
+                        inteiro(dados.get("idParticipacao")), deltas, momento);
+            }
+            case FEEDBACK_EVENTO_CRIADO -> {
+                Object nota = dados.get("nota");
+                if (nota == null) {
+                    return;
+                }
+                deltas[FEEDBACKS] = 1;
+                deltas[SOMA_NOTAS] = inteiro(nota);
+                aplicarPorOrigem("SELECT e.faculdade_id, DATE(f.data_feedback) FROM feedback_eventos f " +
+                        "JOIN eventos e ON e.id_evento = f.id_evento WHERE f.id_feedback = ?",
+                        inteiro(dados.get("idFeedback")), deltas, momento);
+            }
+            default -> {
+            }
+        }
+    }
+
+    // Faculdade e dia vêm do registro de origem; se ele não existe mais, não há o que somar
+    private void aplicarPorOrigem(String sql, Integer id, long[] deltas, LocalDateTime momento) {
+        List<Object[]> origem = jdbcTemplate.query(sql,
+                (rs, i) -> new Object[]{rs.getObject(1, Integer.class), rs.getObject(2, LocalDate.class)}, id);
+        if (!origem.isEmpty() && origem.get(0)[0] != null && origem.get(0)[1] != null) {
+            incrementar((Integer) origem.get(0)[0], (LocalDate) origem.get(0)[1], deltas, momento);
+        }
+    }
+
+    private void incrementar(Integer idFaculdade, LocalDate dia, long[] deltas, LocalDateTime momento) {
+        Object[] parametros = new Object[2 + METRICAS.length * 2];
+        parametros[0] = idFaculdade;
+        parametros[1] = Date.valueOf(dia);
+        Timestamp guarda = Timestamp.valueOf(momento);
+        for (int i = 0; i < METRICAS.length; i++) {
+            parametros[2 + i] = deltas[i];
+            parametros[2 + METRICAS.length + i] = guarda;
+        }
+        jdbcTemplate.update(UPSERT_INCREMENTO, parametros);
+    }
+
+    // Na reconstrução do histórico, cada chunk avança processado_ate na mesma transação dos valores
+    private void executarRecalculo(LocalDate de, LocalDate ate, boolean reconstrucao) {
+        long diasProcessados = 0;
+        try {
+            LocalDate inicio = de;
+            while (!inicio.isAfter(ate) && !Thread.currentThread().isInterrupted()) {
+                LocalDate fim = inicio.plusDays(diasPorChunk - 1L).isAfter(ate) ? ate : inicio.plusDays(diasPorChunk - 1L);
+                LocalDate inicioChunk = inicio;
+                transactionTemplate.executeWithoutResult(status -> {
+                    recalcularIntervalo(inicioChunk, fim);
+                    if (reconstrucao) {
+                        jdbcTemplate.update("UPDATE rollups_reconstrucao SET processado_ate = ? WHERE id = 1", Date.valueOf(fim));
+                    }
+                });
+
+                diasProcessados += ChronoUnit.DAYS.between(inicio, fim) + 1;
+                recalculo = new RecalculoRollupDTO(true, de, ate, fim, diasProcessados, recalculo.getTotalDias(),
+                        recalculo.getDataInicio(), null, null);
+                inicio = fim.plusDays(1);
+
+                // Pausa entre chunks para o recálculo não disputar o banco com o tráfego normal
+                Thread.sleep(pausaMs);
+            }
+            if (reconstrucao && inicio.isAfter(ate)) {
+                concluirReconstrucao();
+            }
+            recalculo = new RecalculoRollupDTO(false, de, ate, recalculo.getProcessadoAte(), diasProcessados,
+                    recalculo.getTotalDias(), recalculo.getDataInicio(), LocalDateTime.now(), null);
+            log.info("Recálculo de rollups de {} a {} concluído ({} dias)", de, ate, diasProcessados);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recalculo = new RecalculoRollupDTO(false, de, ate, recalculo.getProcessadoAte(), diasProcessados,
+                    recalculo.getTotalDias(), recalculo.getDataInicio(), LocalDateTime.now(), "Interrompido");
+        } catch (RuntimeException e) {
+            log.error("Falha no recálculo de rollups de {} a {}", de, ate, e);
+            recalculo = new RecalculoRollupDTO(false, de, ate, recalculo.getProcessadoAte(), diasProcessados,
+                    recalculo.getTotalDias(), recalculo.getDataInicio(), LocalDateTime.now(), e.getMessage());
+        }
+    }
+
+    // Substitui os agregados do intervalo pelos valores calculados das tabelas de origem
+    private void recalcularIntervalo(LocalDate de, LocalDate ate) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        Date inicio = Date.valueOf(de);
+        Date fim = Date.valueOf(ate);
+        Timestamp inicioTs = Timestamp.valueOf(de.atStartOfDay());
+        Timestamp fimTs = Timestamp.valueOf(ate.plusDays(1).atStartOfDay());
+        Map<Chave, long[]> totais = new HashMap<>();
+
+        somar(totais, "SELECT faculdade_id, data, COUNT(*) FROM eventos " +
+                "WHERE data BETWEEN ? AND ? AND faculdade_id IS NOT NULL GROUP BY faculdade_id, data",
+                new int[]{EVENTOS}, inicio, fim);
+        somar(totais, "SELECT e.faculdade_id, DATE(i.data_inscricao) AS dia, COUNT(*), SUM(i.ativo = false) " +
+                "FROM inscricoes i JOIN eventos e ON e.id_evento = i.evento_id " +
+                "WHERE i.data_inscricao >= ? AND i.data_inscricao < ? AND e.faculdade_id IS NOT NULL " +
+                "GROUP BY e.faculdade_id, dia",
+                new int[]{INSCRICOES, CANCELAMENTOS}, inicioTs, fimTs);
+        somar(totais, "SELECT e.faculdade_id, DATE(p.data_criacao) AS dia, COUNT(*), SUM(p.checkin = true) " +
+                "FROM participacoes p JOIN eventos e ON e.id_evento = p.id_evento " +
+                "WHERE p.data_criacao >= ? AND p.data_criacao < ? AND e.faculdade_id IS NOT NULL " +
+                "GROUP BY e.faculdade_id, dia",
+                new int[]{PARTICIPACOES, CHECKINS}, inicioTs, fimTs);
+        somar(totais, "SELECT e.faculdade_id, DATE(f.data_feedback) AS dia, COUNT(f.nota), COALESCE(SUM(f.nota), 0) " +
+                "FROM feedback_eventos f JOIN eventos e ON e.id_evento = f.id_evento " +
+                "WHERE f.data_feedback >= ? AND f.data_feedback < ? AND e.faculdade_id IS NOT NULL " +
+                "GROUP BY e.faculdade_id, dia",
+                new int[]{FEEDBACKS, SOMA_NOTAS}, inicioTs, fimTs);
+        somar(totais, "SELECT c.id_faculdade, r.data_emissao, COUNT(*) FROM registro_certificados r " +
+                "JOIN cursos c ON c.id_curso = r.id_curso WHERE r.data_emissao BETWEEN ? AND ? " +
+                "GROUP BY c.id_faculdade, r.data_emissao",
+                new int[]{CERTIFICADOS}, inicio, fim);
+
+        jdbcTemplate.update(ZERAR_INTERVALO, agora, inicio, fim);
+
+        List<Object[]> linhas = new ArrayList<>(totais.size());
+        totais.forEach((chave, valores) -> {
+            Object[] linha = new Object[3 + METRICAS.length];
+            linha[0] = chave.idFaculdade();
+            linha[1] = Date.valueOf(chave.dia());
+            for (int i = 0; i < METRICAS.length; i++) {
+                linha[2 + i] = valores[i];
+            }
+            linha[2 + METRICAS.length] = agora;
+            linhas.add(linha);
+        });
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RECALCULO, linhas);
+        }
+    }
+
+    // Cada consulta devolve (faculdade, dia, valores...) e os valores vão para as métricas indicadas
+    private void somar(Map<Chave, long[]> totais, String sql, int[] metricas, Object... parametros) {
+        jdbcTemplate.query(sql, rs -> {
+            Chave chave = new Chave(rs.getInt(1), rs.getObject(2, LocalDate.class));
+            long[] valores = totais.computeIfAbsent(chave, c -> new long[METRICAS.length]);
+            for (int i = 0; i < metricas.length; i++) {
+                valores[metricas[i]] += rs.getLong(3 + i);
+            }
+        }, parametros);
+    }
+
+    private static Integer inteiro(Object valor) {
+        return valor instanceof Number numero ? numero.intValue() : Integer.valueOf(valor.toString());
+    }
+
+    private record Chave(Integer idFaculdade, LocalDate dia) {
+    }
+
+    private record Reconstrucao(LocalDate de, LocalDate ate, LocalDate processadoAte, boolean concluida) {
+    }
+}
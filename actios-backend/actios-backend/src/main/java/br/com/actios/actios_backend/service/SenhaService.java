@@ -0,0 +1,146 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.*;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hash de senhas com bcrypt num pool próprio e limitado. Um pico de logins enche a fila deste
+// pool e passa a ser rejeitado na hora (503), em vez de ocupar as threads do Tomcat por dezenas
+// de milissegundos cada. O custo do bcrypt é calibrado na inicialização pela latência medida.
+@Service
+public class SenhaService {
+
+    private static final Logger log = LoggerFactory.getLogger(SenhaService.class);
+    private static final int CUSTO_MINIMO = 10;
+    private static final int CUSTO_MAXIMO = 15;
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int custo;
+    // Comparado quando não há hash (e-mail inexistente ou conta sem senha), para a resposta levar o
+    // mesmo tempo de um login com senha errada e não revelar quais e-mails estão cadastrados
+    private final String hashFicticio;
+    private final AtomicLong rejeitadas = new AtomicLong();
+
+    @Value("${actios.senha.espera-maxima-ms:2000}")
+    private long esperaMaximaMs;
+
+    @Autowired
+    public SenhaService(@Value("${actios.senha.custo:0}") int custoConfigurado,
+                        @Value("${actios.senha.latencia-alvo-ms:50}") long latenciaAlvoMs,
+                        @Value("${actios.senha.threads:0}") int threads,
+                        @Value("${actios.senha.fila:64}") int fila) {
+        int totalThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(totalThreads, totalThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread thread = new Thread(r, "senha-hash-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.custo = custoConfigurado > 0 ? custoConfigurado : calibrarCusto(latenciaAlvoMs);
+        this.encoder = new BCryptPasswordEncoder(custo);
+        this.hashFicticio = encoder.encode(UUID.randomUUID().toString());
+        log.info("bcrypt com custo {} em {} threads (fila {})", custo, totalThreads, fila);
+    }
+
+    public String gerarHash(String senha) {
+        return executar(() -> encoder.encode(senha));
+    }
+
+    public boolean confere(String senha, String armazenada) {
+        if (armazenada == null) {
+            executar(() -> encoder.matches(senha, hashFicticio));
+            return false;
+        }
+        if (!ehHash(armazenada)) {
+            // Senha legada em texto puro: comparação em tempo constante, sem custo de hash
+            return MessageDigest.isEqual(senha.getBytes(StandardCharsets.UTF_8), armazenada.getBytes(StandardCharsets.UTF_8));
+        }
+        return executar(() -> encoder.matches(senha, armazenada));
+    }
+
+    // Texto puro ou hash com custo menor que o atual devem ser regravados após um login bem-sucedido
+    public boolean precisaRehash(String armazenada) {
+        return !ehHash(armazenada) || encoder.upgradeEncoding(armazenada);
+    }
+
+    public int getCusto() {
+        return custo;
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas.get();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeitadas.incrementAndGet();
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas. Tente novamente em instantes.");
+        }
+
+        try {
+            return futuro.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            rejeitadas.incrementAndGet();
+            throw new ServicoSobrecarregadoException("Tempo de autenticação excedido. Tente novamente em instantes.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Autenticação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new OperacaoNaoPermitidaException("Falha ao processar senha", e.getCause());
+        }
+    }
+
+    private static boolean ehHash(String armazenada) {
+        return armazenada.startsWith("$2a$") || armazenada.startsWith("$2b$") || armazenada.startsWith("$2y$");
+    }
+
+    // Cada ponto de custo dobra o trabalho: mede o custo mínimo e sobe enquanto couber na latência alvo
+    private static int calibrarCusto(long latenciaAlvoMs) {
+        BCryptPasswordEncoder referencia = new BCryptPasswordEncoder(CUSTO_MINIMO);
+        referencia.encode("aquecimento");
+
+        long inicio = System.nanoTime();
+        referencia.encode("calibracao");
+        double ms = (System.nanoTime() - inicio) / 1_000_000.0;
+
+        int custo = CUSTO_MINIMO;
+        while (custo < CUSTO_MAXIMO && ms * 2 <= latenciaAlvoMs) {
+            custo++;
+            ms *= 2;
+        }
+        return custo;
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.actios.actios_backend.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Count-min sketch com janela deslizante: a janela é dividida em fatias, cada uma com seu próprio
+// sketch, e a fatia mais antiga é zerada quando o relógio volta a ela. A memória é fixa
+// (fatias x linhas x largura inteiros), não importa quantas chaves diferentes apareçam.
+// A estimativa nunca fica abaixo da contagem real; colisões só podem superestimar.
+public class SketchJanelaDeslizante {
+
+    private final int linhas;
+    private final int largura;
+    private final long duracaoFatiaMs;
+    private final Fatia[] fatias;
+
+    public SketchJanelaDeslizante(long janelaMs, int totalFatias, int linhas, int largura) {
+        if (janelaMs <= 0 || totalFatias <= 0 || linhas <= 0 || largura <= 0) {
+            throw new IllegalArgumentException("Parâmetros do sketch devem ser positivos");
+        }
+
+        this.linhas = linhas;
+        this.largura = largura;
+        this.duracaoFatiaMs = Math.max(1, janelaMs / totalFatias);
+        this.fatias = new Fatia[totalFatias];
+        for (int i = 0; i < totalFatias; i++) {
+            fatias[i] = new Fatia(linhas * largura);
+        }
+    }
+
+    public void incrementar(String chave, long agoraMs) {
+        long periodo = agoraMs / duracaoFatiaMs;
+        Fatia fatia = fatiaAtual(periodo);
+        long[] hash = FiltroBloom.hash(chave);
+
+        for (int linha = 0; linha < linhas; linha++) {
+            fatia.contadores.incrementAndGet(linha * largura + coluna(hash, linha));
+        }
+    }
+
+    public int estimar(String chave, long agoraMs) {
+        long periodoAtual = agoraMs / duracaoFatiaMs;
+        long[] hash = FiltroBloom.hash(chave);
+        int minimo = Integer.MAX_VALUE;
+
+        for (int linha = 0; linha < linhas; linha++) {
+            int indice = linha * largura + coluna(hash, linha);
+            int soma = 0;
+            for (Fatia fatia : fatias) {
+                if (periodoAtual - fatia.periodo < fatias.length) {
+                    soma += fatia.contadores.get(indice);
+                }
+            }
+            minimo = Math.min(minimo, soma);
+        }
+        return minimo;
+    }
+
+    public long getDuracaoFatiaMs() {
+        return duracaoFatiaMs;
+    }
+
+    private Fatia fatiaAtual(long periodo) {
+        Fatia fatia = fatias[(int) Math.floorMod(periodo, (long) fatias.length)];
+        if (fatia.periodo != periodo) {
+            synchronized (fatia) {
+                if (fatia.periodo != periodo) {
+                    for (int i = 0; i < fatia.contadores.length(); i++) {
+                        fatia.contadores.set(i, 0);
+                    }
+                    fatia.periodo = periodo;
+                }
+            }
+        }
+        return fatia;
+    }
+
+    private int coluna(long[] hash, int linha) {
+        return (int) Math.floorMod(hash[0] + linha * hash[1], (long) largura);
+    }
+
+    private static final class Fatia {
+        private final AtomicIntegerArray contadores;
+        private volatile long periodo = Long.MIN_VALUE / 2;
+
+        private Fatia(int tamanho) {
+            this.contadores = new AtomicIntegerArray(tamanho);
+        }
+    }
+}
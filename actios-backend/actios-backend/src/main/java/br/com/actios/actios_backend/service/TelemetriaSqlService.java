@@ -0,0 +1,199 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.TelemetriaSqlDataSource;
+import br.com.actios.actios_backend.dto.ConsultaLentaDTO;
+import br.com.actios.actios_backend.dto.ConsultaSqlMetricasDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Telemetria de SQL no lugar do show-sql: cada comando é cronometrado, mas só uma amostra (e todos os
+// lentos) segue adiante. Fingerprint, armazenamento e log rodam numa thread própria com fila limitada;
+// fila cheia descarta o registro em vez de segurar a requisição. Parâmetros nunca são capturados.
+@Service
+public class TelemetriaSqlService {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetriaSqlService.class);
+
+    // Logger próprio para o nível e o destino dos registros de SQL serem ajustados à parte
+    private static final Logger logSql = LoggerFactory.getLogger("actios.sql");
+
+    private static final String PACOTE = "br.com.actios.actios_backend.";
+    private static final int MAX_FRAMES = 20;
+    private static final int MAX_FINGERPRINT = 2000;
+
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern LITERAL_NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    // Blocos do batch fetch e listas de IDs variam de tamanho; todos viram o mesmo fingerprint
+    private static final Pattern LISTA_IN = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private final boolean habilitada;
+    private final double taxaAmostragem;
+    private final long limiteLentaNanos;
+    private final BufferCircular<Execucao> amostras;
+    private final BufferCircular<Execucao> lentas;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder descartadas = new LongAdder();
+
+    @Autowired
+    public TelemetriaSqlService(@Value("${actios.sql-telemetria.habilitada:true}") boolean habilitada,
+                                @Value("${actios.sql-telemetria.taxa-amostragem:0.01}") double taxaAmostragem,
+                                @Value("${actios.sql-telemetria.limite-lenta-ms:200}") long limiteLentaMs,
+                                @Value("${actios.sql-telemetria.amostras:10000}") int capacidadeAmostras,
+                                @Value("${actios.sql-telemetria.lentas:200}") int capacidadeLentas,
+                                @Value("${actios.sql-telemetria.fila:10000}") int fila) {
+        this.habilitada = habilitada;
+        this.taxaAmostragem = taxaAmostragem;
+        this.limiteLentaNanos = TimeUnit.MILLISECONDS.toNanos(limiteLentaMs);
+        this.amostras = new BufferCircular<>(capacidadeAmostras);
+        this.lentas = new BufferCircular<>(capacidadeLentas);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                r -> {
+                    Thread thread = new Thread(r, "telemetria-sql");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (tarefa, pool) -> descartadas.increment());
+    }
+
+    // Envolve o DataSource quando a telemetria está ligada; desligada, devolve o próprio DataSource
+    public DataSource observar(DataSource dataSource) {
+        return habilitada ? new TelemetriaSqlDataSource(dataSource, this) : dataSource;
+    }
+
+    public long getLimiteLentaNanos() {
+        return limiteLentaNanos;
+    }
+
+    public boolean amostrar() {
+        return ThreadLocalRandom.current().nextDouble() < taxaAmostragem;
+    }
+
+    // Roda na thread do comando. Só frames do próprio sistema (sem proxies do Spring, sem o DataSource
+    // de telemetria); o primeiro é a origem. Amostras guardam só a origem, lentas a cadeia inteira.
+    public List<String> capturarPilha(boolean completa) {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(PACOTE)
+                        && !frame.getClassName().startsWith(PACOTE + "config.")
+                        && !frame.getClassName().equals(TelemetriaSqlService.class.getName())
+                        && !frame.getClassName().contains("$$"))
+                .limit(completa ? MAX_FRAMES : 1)
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+    }
+
+    public void registrar(String sql, long duracaoNanos, long linhas, List<String> pilha, boolean lenta) {
+        long instante = System.currentTimeMillis();
+        String thread = Thread.currentThread().getName();
+        executor.execute(() -> processar(new Execucao(instante, sql != null ? sql : "/* lote */", null,
+                duracaoNanos, linhas, pilha, thread, lenta)));
+    }
+
+    // Fingerprints mais lentos entre os registros ainda no buffer: a janela é a capacidade de amostras
+    public List<ConsultaSqlMetricasDTO> obterMaisLentas(int limite) {
+        Map<String, List<Execucao>> porFingerprint = new LinkedHashMap<>();
+        for (Execucao execucao : amostras.listar()) {
+            porFingerprint.computeIfAbsent(execucao.fingerprint(), chave -> new ArrayList<>()).add(execucao);
+        }
+
+        List<ConsultaSqlMetricasDTO> metricas = new ArrayList<>();
+        porFingerprint.forEach((fingerprint, execucoes) -> {
+            long totalNanos = 0;
+            long maximoNanos = 0;
+            long totalLinhas = 0;
+            int totalLentas = 0;
+            for (Execucao execucao : execucoes) {
+                totalNanos += execucao.duracaoNanos();
+                maximoNanos = Math.max(maximoNanos, execucao.duracaoNanos());
+                totalLinhas += Math.max(execucao.linhas(), 0);
+                totalLentas += execucao.lenta() ? 1 : 0;
+            }
+            // A lista vem do mais recente para o mais antigo
+            Execucao ultima = execucoes.get(0);
+            metricas.add(new ConsultaSqlMetricasDTO(Integer.toHexString(fingerprint.hashCode()), fingerprint,
+                    execucoes.size(), totalLentas, milis(totalNanos / execucoes.size()), milis(maximoNanos),
+                    (double) totalLinhas / execucoes.size(), ultima.pilha().isEmpty() ? null : ultima.pilha().get(0)));
+        });
+
+        metricas.sort(Comparator.comparingDouble(ConsultaSqlMetricasDTO::getTempoMaximoMs).reversed());
+        return metricas.subList(0, Math.min(Math.max(limite, 0), metricas.size()));
+    }
+
+    public List<ConsultaLentaDTO> obterLentasRecentes() {
+        return lentas.listar().stream()
+                .map(execucao -> new ConsultaLentaDTO(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(execucao.instante()), ZoneId.systemDefault()),
+                        milis(execucao.duracaoNanos()), execucao.linhas(), execucao.sql(), execucao.fingerprint(),
+                        execucao.thread(), execucao.pilha()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+        if (descartadas.sum() > 0) {
+            log.warn("Telemetria de SQL descartou {} registros por fila cheia", descartadas.sum());
+        }
+    }
+
+    private void processar(Execucao bruta) {
+        String fingerprint = fingerprint(bruta.sql());
+        String origem = bruta.pilha().isEmpty() ? "-" : bruta.pilha().get(0);
+
+        if (bruta.lenta()) {
+            // Captura completa: texto original e cadeia de chamadas
+            Execucao execucao = bruta.comFingerprint(fingerprint, bruta.sql());
+            amostras.adicionar(execucao);
+            lentas.adicionar(execucao);
+            logSql.warn("sql_lenta duracao_ms={} linhas={} origem={} thread={} sql=\"{}\" pilha={}",
+                    milis(bruta.duracaoNanos()), bruta.linhas(), origem, bruta.thread(), bruta.sql(), bruta.pilha());
+        } else {
+            amostras.adicionar(bruta.comFingerprint(fingerprint, null));
+            logSql.info("sql_amostra duracao_ms={} linhas={} origem={} fingerprint=\"{}\"",
+                    milis(bruta.duracaoNanos()), bruta.linhas(), origem, fingerprint);
+        }
+    }
+
+    static String fingerprint(String sql) {
+        String normalizado = LITERAL_TEXTO.matcher(sql).replaceAll("?");
+        normalizado = LITERAL_NUMERO.matcher(normalizado).replaceAll("?");
+        normalizado = LISTA_IN.matcher(normalizado).replaceAll("in (?+)");
+        normalizado = ESPACOS.matcher(normalizado).replaceAll(" ").trim();
+        return normalizado.length() > MAX_FINGERPRINT ? normalizado.substring(0, MAX_FINGERPRINT) : normalizado;
+    }
+
+    private static double milis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // sql é o texto original; na amostra comum fica nulo depois do fingerprint, para o buffer pesar menos
+    private record Execucao(long instante, String sql, String fingerprint, long duracaoNanos, long linhas,
+                            List<String> pilha, String thread, boolean lenta) {
+
+        Execucao comFingerprint(String fingerprint, String sql) {
+            return new Execucao(instante, sql, fingerprint, duracaoNanos, linhas, pilha, thread, lenta);
+        }
+    }
+}
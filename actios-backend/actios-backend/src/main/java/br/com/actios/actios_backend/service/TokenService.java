@@ -0,0 +1,180 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.dto.TokenDTO;
+import br.com.actios.actios_backend.dto.UsuarioDTO;
+import br.com.actios.actios_backend.exceptions.*;
+import br.com.actios.actios_backend.model.TokenRevogado;
+import br.com.actios.actios_backend.model.Usuario;
+import br.com.actios.actios_backend.repositorys.TokenRevogadoRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Tokens de acesso JWT (HS256) de vida curta com ID, tipo e faculdade do usuário.
+// A verificação é feita só em memória: chave pelo cabeçalho, HMAC, expiração e deny-list.
+@Service
+public class TokenService {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    private static final String PREFIXO_USUARIO = "usuario:";
+
+    private final ChavesTokenService chavesTokenService;
+    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final ObjectMapper objectMapper;
+
+    // jti -> expiração (epoch s) e idUsuario -> instante da revogação (epoch s)
+    private final Map<String, Long> tokensRevogados = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> usuariosRevogados = new ConcurrentHashMap<>();
+
+    @Value("${actios.auth.validade-token-minutos:15}")
+    private long validadeTokenMinutos;
+
+    @Autowired
+    public TokenService(ChavesTokenService chavesTokenService,
+                        TokenRevogadoRepository tokenRevogadoRepository,
+                        ObjectMapper objectMapper) {
+        this.chavesTokenService = chavesTokenService;
+        this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public TokenDTO emitir(Usuario usuario) {
+        long agora = Instant.now().getEpochSecond();
+        long expiraEm = agora + validadeTokenMinutos * 60;
+        Integer idFaculdade = usuario.getFaculdade() != null ? usuario.getFaculdade().getIdFaculdade() : null;
+
+        String token = assinar(usuario.getIdUsuario(),
+                usuario.getTipo() != null ? usuario.getTipo().name() : null,
+                idFaculdade, agora, expiraEm);
+        return new TokenDTO(token, LocalDateTime.ofInstant(Instant.ofEpochSecond(expiraEm), ZoneId.systemDefault()),
+                UsuarioDTO.fromUsuario(usuario));
+    }
+
+    // Retorna null para qualquer token inválido, expirado ou revogado
+    public UsuarioAutenticado verificar(String token) {
+        int primeiroPonto = token.indexOf('.');
+        int segundoPonto = token.indexOf('.', primeiroPonto + 1);
+        if (primeiroPonto <= 0 || segundoPonto < 0 || token.indexOf('.', segundoPonto + 1) >= 0) {
+            return null;
+        }
+
+        ChavesTokenService.Chave chave = chavesTokenService.porCabecalho(token.substring(0, primeiroPonto));
+        if (chave == null) {
+            return null;
+        }
+
+        try {
+            byte[] assinado = token.substring(0, segundoPonto).getBytes(StandardCharsets.US_ASCII);
+            byte[] assinatura = BASE64_URL_DECODER.decode(token.substring(segundoPonto + 1));
+            if (!MessageDigest.isEqual(chave.assinar(assinado, assinado.length), assinatura)) {
+                return null;
+            }
+
+            JsonNode dados = objectMapper.readTree(
+                    BASE64_URL_DECODER.decode(token.substring(primeiroPonto + 1, segundoPonto)));
+            long emitidoEm = dados.path("iat").asLong();
+            long expiraEm = dados.path("exp").asLong();
+            String idToken = dados.path("jti").asText();
+            Integer idUsuario = dados.path("sub").asInt();
+
+            if (expiraEm <= Instant.now().getEpochSecond() || tokensRevogados.containsKey(idToken)) {
+                return null;
+            }
+            Long revogadoEm = usuariosRevogados.get(idUsuario);
+            if (revogadoEm != null && emitidoEm <= revogadoEm) {
+                return null;
+            }
+
+            return new UsuarioAutenticado(idUsuario,
+                    dados.hasNonNull("tipo") ? dados.get("tipo").asText() : null,
+                    dados.hasNonNull("fac") ? dados.get("fac").asInt() : null,
+                    idToken, emitidoEm, expiraEm);
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    @Transactional
+    public void revogar(UsuarioAutenticado usuario) {
+        tokenRevogadoRepository.save(new TokenRevogado(usuario.idToken(), usuario.idUsuario(),
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(usuario.expiraEm()), ZoneId.systemDefault())));
+        tokensRevogados.put(usuario.idToken(), usuario.expiraEm());
+    }
+
+    // Invalida todos os tokens já emitidos para o usuário (ex.: conta desativada)
+    @Transactional
+    public void revogarUsuario(Integer idUsuario) {
+        long agora = Instant.now().getEpochSecond();
+        tokenRevogadoRepository.save(new TokenRevogado(PREFIXO_USUARIO + idUsuario, idUsuario,
+                LocalDateTime.now().plusMinutes(validadeTokenMinutos)));
+        usuariosRevogados.put(idUsuario, agora);
+    }
+
+    // A deny-list só guarda revogações de tokens ainda não expirados, então continua pequena. O que vem do
+    // banco é somado aos mapas, não os substitui: uma revogação feita neste nó durante a leitura não se perde
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${actios.auth.recarga-revogacoes-ms:10000}",
+            initialDelayString = "${actios.auth.recarga-revogacoes-ms:10000}")
+    @Transactional
+    public void sincronizarRevogacoes() {
+        LocalDateTime agora = LocalDateTime.now();
+        tokenRevogadoRepository.removerExpirados(agora.minusHours(1));
+
+        for (TokenRevogado revogado : tokenRevogadoRepository.findByDataExpiracaoAfter(agora)) {
+            if (revogado.getIdentificador().startsWith(PREFIXO_USUARIO)) {
+                usuariosRevogados.merge(revogado.getIdUsuario(), epoch(revogado.getDataRevogacao()), Math::max);
+            } else {
+                tokensRevogados.put(revogado.getIdentificador(), epoch(revogado.getDataExpiracao()));
+            }
+        }
+
+        // Só sai da memória o que já não barra nenhum token: o token expirou, ou todos os emitidos
+        // até a revogação do usuário expiraram
+        long agoraEpoch = Instant.now().getEpochSecond();
+        tokensRevogados.values().removeIf(expiraEm -> expiraEm <= agoraEpoch);
+        usuariosRevogados.values().removeIf(revogadoEm -> revogadoEm + validadeTokenMinutos * 60 < agoraEpoch);
+    }
+
+    private String assinar(Integer idUsuario, String tipo, Integer idFaculdade, long emitidoEm, long expiraEm) {
+        Map<String, Object> dados = new LinkedHashMap<>();
+        dados.put("sub", String.valueOf(idUsuario));
+        dados.put("tipo", tipo);
+        dados.put("fac", idFaculdade);
+        dados.put("iat", emitidoEm);
+        dados.put("exp", expiraEm);
+        dados.put("jti", UUID.randomUUID().toString());
+
+        try {
+            ChavesTokenService.Chave chave = chavesTokenService.ativa();
+            String conteudo = chave.getCabecalho() + "." + BASE64_URL.encodeToString(objectMapper.writeValueAsBytes(dados));
+            byte[] bytes = conteudo.getBytes(StandardCharsets.US_ASCII);
+            return conteudo + "." + BASE64_URL.encodeToString(chave.assinar(bytes, bytes.length));
+        } catch (IOException e) {
+            throw new OperacaoNaoPermitidaException("Falha ao gerar token de acesso", e);
+        }
+    }
+
+    private static long epoch(LocalDateTime data) {
+        return data.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
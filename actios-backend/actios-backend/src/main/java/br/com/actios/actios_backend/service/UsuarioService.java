@@ -1,5 +1,8 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.dto.PaginaDTO;
+import br.com.actios.actios_backend.dto.UsuarioDTO;
+import br.com.actios.actios_backend.enums.TipoUsuario;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.Faculdade;
 import br.com.actios.actios_backend.model.Usuario;
@@ -7,10 +10,15 @@ import br.com.actios.actios_backend.repositorys.FaculdadeRepository;
 import br.com.actios.actios_backend.repositorys.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -18,22 +26,40 @@ import java.util.regex.Pattern;
 @Service
 public class UsuarioService {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+    static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$");
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+    private static final String SELECT_DIRETORIO =
+            "SELECT u.id_usuario, u.nome, u.email, u.curso, f.nome AS nome_faculdade, u.data_cadastro, u.tipo, u.ativo " +
+            "FROM usuarios u LEFT JOIN faculdades f ON f.id_faculdade = u.faculdade_id";
     private static final Pattern SENHA_PATTERN = Pattern.compile("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$");
 
     private final UsuarioRepository usuarioRepository;
     private final FaculdadeRepository faculdadeRepository;
+    private final TokenService tokenService;
+    private final SenhaService senhaService;
+    private final LimiteLoginService limiteLoginService;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
     public UsuarioService(UsuarioRepository usuarioRepository,
-                          FaculdadeRepository faculdadeRepository) {
+                          FaculdadeRepository faculdadeRepository,
+                          TokenService tokenService,
+                          SenhaService senhaService,
+                          LimiteLoginService limiteLoginService,
+                          JdbcTemplate jdbcTemplate) {
         this.usuarioRepository = usuarioRepository;
         this.faculdadeRepository = faculdadeRepository;
+        this.tokenService = tokenService;
+        this.senhaService = senhaService;
+        this.limiteLoginService = limiteLoginService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Transactional
     public Usuario cadastrar(Usuario usuario) {
         validarUsuario(usuario);
+        // Hash antes de qualquer consulta, para não segurar a conexão durante o bcrypt
+        String hashSenha = senhaService.gerarHash(usuario.getSenha());
 
         try {
             if (usuarioRepository.existsByEmail(usuario.getEmail())) {
@@ -48,7 +74,7 @@ public class UsuarioService {
             }
 
             usuario.setIdUsuario(null);
-            // Senha armazenada em texto puro (sem criptografia)
+            usuario.setSenha(hashSenha);
             usuario.setDataCadastro(LocalDateTime.now());
             usuario.setAtivo(true);
 
@@ -58,7 +84,7 @@ public class UsuarioService {
         }
     }
 
-    public Usuario autenticar(String email, String senha) {
+    public Usuario autenticar(String email, String senha, String ip) {
         if (email == null || email.trim().isEmpty()) {
             throw new CampoObrigatorioException("E-mail é obrigatório.");
         }
@@ -66,12 +92,18 @@ public class UsuarioService {
             throw new CampoObrigatorioException("Senha é obrigatória.");
         }
 
+        // Limite checado antes do banco e do bcrypt, que são o que um ataque de força bruta esgota
+        String chaveEmail = email.trim().toLowerCase();
+        limiteLoginService.verificar(chaveEmail, ip);
+
         try {
-            Usuario usuario = usuarioRepository.findByEmail(email)
-                    .orElseThrow(() -> new CredenciaisInvalidasException("Credenciais inválidas."));
+            Usuario usuario = usuarioRepository.findByEmail(email).orElse(null);
 
-            // Comparação direta da senha em texto puro
-            if (!usuario.getSenha().equals(senha)) {
+            // Confere sempre, mesmo sem usuário: o bcrypt roda nos dois casos
+            String armazenada = usuario != null ? usuario.getSenha() : null;
+            boolean senhaConfere = senhaService.confere(senha, armazenada);
+            if (usuario == null || !senhaConfere) {
+                limiteLoginService.registrarFalha(chaveEmail, ip);
                 throw new CredenciaisInvalidasException("Credenciais inválidas.");
             }
 
@@ -79,24 +111,87 @@ public class UsuarioService {
                 throw new OperacaoNaoPermitidaException("Usuário inativo.");
             }
 
+            // Senhas legadas em texto puro (ou com custo antigo) são regravadas com o hash atual
+            if (senhaService.precisaRehash(armazenada)) {
+                String novoHash = senhaService.gerarHash(senha);
+                if (usuarioRepository.atualizarHashSenha(usuario.getIdUsuario(), armazenada, novoHash) > 0) {
+                    usuario.setSenha(novoHash);
+                }
+            }
+
             return usuario;
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao autenticar usuário", e);
         }
     }
 
-    public List<Usuario> listarTodos() {
+    // Diretório paginado por keyset em (nome, id): cada página é uma busca no índice a partir do
+    // último item da anterior, sem OFFSET, e só as colunas do UsuarioDTO saem do banco
+    @Transactional(readOnly = true)
+    public PaginaDTO<UsuarioDTO> listarDiretorio(Integer idFaculdade, TipoUsuario tipo, Boolean ativo,
+                                                 String prefixoNome, String cursor, int tamanho) {
+        if (tamanho <= 0 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new CampoObrigatorioException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_DIRETORIO).append(" WHERE 1 = 1");
+        List<Object> parametros = new ArrayList<>();
+        if (idFaculdade != null) {
+            sql.append(" AND u.faculdade_id = ?");
+            parametros.add(idFaculdade);
+        }
+        if (ativo != null) {
+            sql.append(" AND u.ativo = ?");
+            parametros.add(ativo);
+        }
+        if (tipo != null) {
+            sql.append(" AND u.tipo = ?");
+            parametros.add(tipo.name());
+        }
+        if (prefixoNome != null && !prefixoNome.isBlank()) {
+            sql.append(" AND u.nome LIKE ?");
+            parametros.add(prefixoNome.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            Object[] posicao = lerCursor(cursor);
+            sql.append(" AND (u.nome > ? OR (u.nome = ? AND u.id_usuario > ?))");
+            parametros.add(posicao[0]);
+            parametros.add(posicao[0]);
+            parametros.add(posicao[1]);
+        }
+        // Um item a mais indica se existe próxima página sem precisar de COUNT
+        sql.append(" ORDER BY u.nome, u.id_usuario LIMIT ?");
+        parametros.add(tamanho + 1);
+
         try {
-            List<Usuario> usuarios = usuarioRepository.findAll();
-            if (usuarios.isEmpty()) {
-                throw new RecursoNaoEncontradoException("Nenhum usuário encontrado.");
+            List<UsuarioDTO> itens = jdbcTemplate.query(sql.toString(), (rs, i) -> {
+                Timestamp dataCadastro = rs.getTimestamp("data_cadastro");
+                String tipoUsuario = rs.getString("tipo");
+                return UsuarioDTO.builder()
+                        .idUsuario(rs.getInt("id_usuario"))
+                        .nome(rs.getString("nome"))
+                        .email(rs.getString("email"))
+                        .curso(rs.getString("curso"))
+                        .faculdade(rs.getString("nome_faculdade"))
+                        .dataCadastro(dataCadastro != null ? dataCadastro.toLocalDateTime() : null)
+                        .tipo(tipoUsuario != null ? TipoUsuario.valueOf(tipoUsuario) : null)
+                        .ativo(rs.getBoolean("ativo"))
+                        .build();
+            }, parametros.toArray());
+
+            String proximoCursor = null;
+            if (itens.size() > tamanho) {
+                itens = itens.subList(0, tamanho);
+                UsuarioDTO ultimo = itens.get(tamanho - 1);
+                proximoCursor = gerarCursor(ultimo.getNome(), ultimo.getIdUsuario());
             }
-            return usuarios;
+            return new PaginaDTO<>(itens, proximoCursor);
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao listar usuários", e);
         }
     }
 
+    @Transactional(readOnly = true)
     public Usuario buscarPorId(Integer id) {
         if (id == null || id <= 0) {
             throw new CampoObrigatorioException("ID do usuário é inválido.");
@@ -113,6 +208,8 @@ public class UsuarioService {
     @Transactional
     public Usuario atualizar(Usuario usuario) {
         validarUsuario(usuario);
+        boolean novaSenha = usuario.getSenha() != null && !usuario.getSenha().isEmpty();
+        String hashSenha = novaSenha ? senhaService.gerarHash(usuario.getSenha()) : null;
 
         try {
             if (!usuarioRepository.existsById(usuario.getIdUsuario())) {
@@ -133,9 +230,11 @@ public class UsuarioService {
                 usuario.setFaculdade(faculdade);
             }
 
-            // Mantém a senha atual se não for fornecida uma nova (sem criptografia)
-            if (usuario.getSenha() == null || usuario.getSenha().isEmpty()) {
-                usuario.setSenha(usuarioExistente.getSenha());
+            // Mantém a senha atual se não for fornecida uma nova
+            usuario.setSenha(novaSenha ? hashSenha : usuarioExistente.getSenha());
+            // Idem para o modo resumo: um corpo sem o campo não pode desligá-lo
+            if (!usuario.isResumoNotificacoesInformado()) {
+                usuario.setResumoNotificacoes(usuarioExistente.isResumoNotificacoes());
             }
 
             return usuarioRepository.save(usuario);
@@ -154,6 +253,7 @@ public class UsuarioService {
             Usuario usuario = buscarPorId(id);
             usuario.setAtivo(false);
             usuarioRepository.save(usuario);
+            tokenService.revogarUsuario(id);
         } catch (DataAccessException e) {
             throw new OperacaoNaoPermitidaException("Falha ao excluir usuário", e);
         }
@@ -193,4 +293,19 @@ public class UsuarioService {
             throw new TipoUsuarioInvalidoException("Tipo de usuário inválido.");
         }
     }
-}
\ No newline at end of file
+
+    static String gerarCursor(String nome, Integer idUsuario) {
+        String posicao = (nome != null ? nome : "") + "\n" + idUsuario;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Object[] lerCursor(String cursor) {
+        try {
+            String posicao = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = posicao.lastIndexOf('\n');
+            return new Object[]{posicao.substring(0, separador), Integer.parseInt(posicao.substring(separador + 1))};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CampoObrigatorioException("Cursor de paginação inválido.");
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.dto.RegistroCertificadoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caminho rápido da validação pública de certificados: um filtro de Bloom com todos os códigos
+// emitidos descarta códigos inexistentes sem ir ao banco, e os DTOs já montados ficam em memória.
+// Certificados emitidos por outros nós entram no filtro pela sincronização incremental por ID; revogações
+// feitas em outros nós chegam pela mesma sincronização. O filtro só é consultado para códigos antigos (UUID):
+// todo código emitido hoje é assinado e segue direto para o cache/banco, sem janela de rejeição indevida.
+@Component
+public class ValidacaoCertificadoCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidacaoCertificadoCache.class);
+    private static final String SELECT_DTO =
+            "SELECT r.id_certificado, r.codigo_validacao, r.data_emissao, u.nome, u.email, c.nome AS nome_curso " +
+            "FROM registro_certificados r " +
+            "JOIN usuarios u ON u.id_usuario = r.id_usuario " +
+            "JOIN cursos c ON c.id_curso = r.id_curso ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RevogacaoCertificadoService revogacaoCertificadoService;
+    private final ConcurrentHashMap<String, EntradaCache> dtos = new ConcurrentHashMap<>();
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong faltas = new AtomicLong();
+    private final AtomicLong rejeitadosPeloFiltro = new AtomicLong();
+
+    private volatile FiltroBloom filtro;
+    private volatile boolean pronto;
+    private long ultimoIdSincronizado;
+    private long codigosNoFiltro;
+    private LocalDateTime ultimaRevogacaoVista = LocalDateTime.now();
+
+    @Value("${actios.certificados.validacao.cache-maximo:100000}")
+    private int cacheMaximo;
+
+    @Value("${actios.certificados.validacao.taxa-falso-positivo:0.001}")
+    private double taxaFalsoPositivo;
+
+    // Margem relida a cada sincronização: inserts em lote podem confirmar fora da ordem de ID
+    @Value("${actios.certificados.validacao.margem-sincronizacao:5000}")
+    private long margemSincronizacao;
+
+    // Cobre diferença de relógio entre nós e revogações confirmadas depois da última leitura
+    @Value("${actios.certificados.validacao.margem-revogacoes-ms:60000}")
+    private long margemRevogacoesMs;
+
+    // Nome do usuário e do curso mudam sem evento; o DTO em cache é relido depois deste prazo
+    @Value("${actios.certificados.validacao.validade-dto-minutos:10}")
+    private long validadeDtoMinutos;
+
+    @Autowired
+    public ValidacaoCertificadoCache(JdbcTemplate jdbcTemplate, RevogacaoCertificadoService revogacaoCertificadoService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.revogacaoCertificadoService = revogacaoCertificadoService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        long inicio = System.currentTimeMillis();
+        reconstruirFiltro();
+
+        jdbcTemplate.query(SELECT_DTO + "ORDER BY r.id_certificado DESC LIMIT ?", mapeador(), cacheMaximo)
+                .forEach(dto -> dtos.putIfAbsent(dto.getCodigoValidacao(), new EntradaCache(dto, expiracao())));
+
+        pronto = true;
+        log.info("Cache de validação de certificados aquecido em {} ms: {} códigos no filtro, {} DTOs",
+                System.currentTimeMillis() - inicio, codigosNoFiltro, dtos.size());
+    }
+
+    // false só quando o código certamente não foi emitido
+    public boolean podeExistir(String codigoValidacao) {
+        FiltroBloom atual = filtro;
+        if (!pronto || atual == null || atual.talvezContenha(codigoValidacao)) {
+            return true;
+        }
+
+        rejeitadosPeloFiltro.incrementAndGet();
+        return false;
+    }
+
+    public RegistroCertificadoDTO buscar(String codigoValidacao) {
+        EntradaCache entrada = dtos.get(codigoValidacao);
+        if (entrada != null && entrada.expiraEm() < System.currentTimeMillis()) {
+            dtos.remove(codigoValidacao, entrada);
+            entrada = null;
+        }
+
+        if (entrada != null) {
+            acertos.incrementAndGet();
+            return entrada.dto();
+        }
+        faltas.incrementAndGet();
+        return null;
+    }
+
+    public void guardar(RegistroCertificadoDTO dto) {
+        if (dtos.size() >= cacheMaximo) {
+            // Remoção aproximada: descarta a primeira entrada da tabela em vez de manter ordem LRU
+            Iterator<String> iterator = dtos.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        dtos.put(dto.getCodigoValidacao(), new EntradaCache(dto, expiracao()));
+    }
+
+    // Revogações são raras: a varredura linear evita manter um segundo índice por ID
+    public void removerPorId(Integer idCertificado) {
+        dtos.values().removeIf(entrada -> idCertificado.equals(entrada.dto().getIdCertificado()));
+    }
+
+    public synchronized void registrarEmitido(String codigoValidacao) {
+        if (filtro != null) {
+            filtro.adicionar(codigoValidacao);
+        }
+    }
+
+    public synchronized void registrarEmitidos(Collection<String> codigosValidacao) {
+        codigosValidacao.forEach(this::registrarEmitido);
+    }
+
+    // Dentro de uma transação, só publica depois do commit para não validar um certificado desfeito
+    public void registrarEmissao(RegistroCertificadoDTO dto) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registrarEmitido(dto.getCodigoValidacao());
+                    guardar(dto);
+                }
+            });
+            return;
+        }
+
+        registrarEmitido(dto.getCodigoValidacao());
+        guardar(dto);
+    }
+
+    @Scheduled(fixedDelayString = "${actios.certificados.validacao.sincronizacao-ms:5000}")
+    public synchronized void sincronizar() {
+        if (!pronto) {
+            return;
+        }
+
+        long anterior = ultimoIdSincronizado;
+        long desde = Math.max(0, anterior - margemSincronizacao);
+        jdbcTemplate.query("SELECT id_certificado, codigo_validacao FROM registro_certificados WHERE id_certificado > ?",
+                rs -> {
+                    long id = rs.getLong("id_certificado");
+                    filtro.adicionar(rs.getString("codigo_validacao"));
+                    if (id > anterior) {
+                        codigosNoFiltro++;
+                    }
+                    ultimoIdSincronizado = Math.max(ultimoIdSincronizado, id);
+                }, desde);
+
+        // Acima da capacidade a taxa de falso positivo cresce; reconstrói com o dobro do espaço
+        if (codigosNoFiltro > filtro.getCapacidade()) {
+            reconstruirFiltro();
+        }
+
+        sincronizarRevogacoes();
+    }
+
+    // Revogações de outros nós: entram no conjunto de revogados e saem do cache em até um ciclo, sem
+    // esperar a recarga completa. A margem relê revogações recentes que confirmaram fora de ordem.
+    private void sincronizarRevogacoes() {
+        LocalDateTime desde = ultimaRevogacaoVista.minus(margemRevogacoesMs, ChronoUnit.MILLIS);
+        jdbcTemplate.query("SELECT id_certificado, data_revogacao FROM certificados_revogados WHERE data_revogacao > ?",
+                rs -> {
+                    Integer idCertificado = rs.getInt("id_certificado");
+                    LocalDateTime dataRevogacao = rs.getTimestamp("data_revogacao").toLocalDateTime();
+                    if (dataRevogacao.isAfter(ultimaRevogacaoVista)) {
+                        ultimaRevogacaoVista = dataRevogacao;
+                    }
+                    if (!revogacaoCertificadoService.estaRevogado(idCertificado)) {
+                        revogacaoCertificadoService.registrarRevogado(idCertificado);
+                        removerPorId(idCertificado);
+                    }
+                }, Timestamp.valueOf(desde));
+    }
+
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    public long getFaltas() {
+        return faltas.get();
+    }
+
+    public long getRejeitadosPeloFiltro() {
+        return rejeitadosPeloFiltro.get();
+    }
+
+    private synchronized void reconstruirFiltro() {
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registro_certificados", Long.class);
+        long capacidade = Math.max(100_000L, (total != null ? total : 0) * 2);
+
+        FiltroBloom novo = new FiltroBloom(capacidade, taxaFalsoPositivo);
+        long[] maiorId = {0};
+        long[] lidos = {0};
+        jdbcTemplate.query("SELECT id_certificado, codigo_validacao FROM registro_certificados", rs -> {
+            novo.adicionar(rs.getString("codigo_validacao"));
+            maiorId[0] = Math.max(maiorId[0], rs.getLong("id_certificado"));
+            lidos[0]++;
+        });
+
+        filtro = novo;
+        ultimoIdSincronizado = maiorId[0];
+        codigosNoFiltro = lidos[0];
+    }
+
+    private long expiracao() {
+        return System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(validadeDtoMinutos);
+    }
+
+    private RowMapper<RegistroCertificadoDTO> mapeador() {
+        return (rs, linha) -> {
+            RegistroCertificadoDTO dto = new RegistroCertificadoDTO();
+            dto.setIdCertificado(rs.getInt("id_certificado"));
+            dto.setCodigoValidacao(rs.getString("codigo_validacao"));
+            dto.setDataEmissao(rs.getDate("data_emissao").toLocalDate());
+            dto.setNomeUsuario(rs.getString("nome"));
+            dto.setEmailUsuario(rs.getString("email"));
+            dto.setNomeCurso(rs.getString("nome_curso"));
+            return dto;
+        };
+    }
+
+    private record EntradaCache(RegistroCertificadoDTO dto, long expiraEm) {
+    }
+}
@@ -0,0 +1,308 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.enums.OperacaoVinculoLote;
+import br.com.actios.actios_backend.enums.ResultadoVinculoLote;
+import br.com.actios.actios_backend.exceptions.CampoObrigatorioException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Vínculos e conclusões de curso em massa a partir de um CSV (id_usuario, id_curso e, opcionalmente,
+// concluido; separador ; ou ,). A entrada é lida em chunks: cada chunk trava os vínculos já existentes
+// com um único SELECT, confere usuários e cursos com um IN cada e grava tudo em dois batches
+// (INSERT ... ON DUPLICATE KEY UPDATE para os novos, UPDATE para os alterados) numa só transação.
+// O resultado de cada linha é escrito na saída assim que o chunk confirma, e a saída sempre termina com
+// uma linha "fim" (CONCLUIDO ou FALHA). Sem ela a resposta foi cortada no caminho; em qualquer caso, toda
+// linha de resultado recebida já está gravada e reenviar o arquivo é seguro (o que já foi aplicado volta
+// como INALTERADO).
+@Service
+public class VinculoCursoUsuarioLoteService {
+
+    private static final Logger log = LoggerFactory.getLogger(VinculoCursoUsuarioLoteService.class);
+    private static final String INSERT_VINCULO =
+            "INSERT INTO vinculo_curso_usuario (id_usuario, id_curso, concluido) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE concluido = VALUES(concluido)";
+    private static final String UPDATE_CONCLUIDO =
+            "UPDATE vinculo_curso_usuario SET concluido = ? WHERE id_usuario = ? AND id_curso = ?";
+    private static final String CABECALHO_RESULTADO = "linha;id_usuario;id_curso;resultado;detalhe\n";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${actios.vinculos.lote.tamanho-chunk:1000}")
+    private int tamanhoChunk;
+
+    @Autowired
+    public VinculoCursoUsuarioLoteService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Erros de cabeçalho são lançados antes de qualquer byte ir para a saída
+    public Map<ResultadoVinculoLote, Long> processar(OperacaoVinculoLote operacao, InputStream entrada,
+                                                     OutputStream saida) throws IOException {
+        if (operacao == null) {
+            throw new CampoObrigatorioException("Operação é obrigatória");
+        }
+
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        Colunas colunas = lerCabecalho(leitor.readLine(), operacao);
+
+        BufferedWriter escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write(CABECALHO_RESULTADO);
+
+        Map<ResultadoVinculoLote, Long> totais = new EnumMap<>(ResultadoVinculoLote.class);
+        long inicio = System.nanoTime();
+        long linhaAtual = 1;
+        List<String> chunk = new ArrayList<>(tamanhoChunk);
+        String linha;
+        try {
+            do {
+                linha = leitor.readLine();
+                if (linha != null) {
+                    chunk.add(linha);
+                }
+                if (chunk.size() == tamanhoChunk || (linha == null && !chunk.isEmpty())) {
+                    long primeiraLinha = linhaAtual + 1;
+                    List<String> linhas = chunk;
+                    List<Resultado> resultados = transactionTemplate.execute(status ->
+                            processarChunk(operacao, colunas, linhas, primeiraLinha));
+
+                    for (Resultado resultado : resultados) {
+                        escritor.write(resultado.formatar());
+                        totais.merge(resultado.resultado(), 1L, Long::sum);
+                    }
+                    // Libera o resultado do chunk para o cliente em vez de acumular a resposta inteira
+                    escritor.flush();
+
+                    linhaAtual += chunk.size();
+                    chunk = new ArrayList<>(tamanhoChunk);
+                }
+            } while (linha != null);
+        } catch (RuntimeException e) {
+            // A resposta já começou (status 200): a falha só pode ser relatada no próprio CSV. O chunk que
+            // falhou foi desfeito; os anteriores estão confirmados
+            log.error("Lote de vínculos ({}) interrompido após a linha {}", operacao, linhaAtual, e);
+            escritor.write(fim("FALHA", "Linhas até " + linhaAtual + " confirmadas; a partir da " + (linhaAtual + 1)
+                    + " nada foi gravado: " + e.getMessage()));
+            escritor.flush();
+            return totais;
+        }
+
+        escritor.write(fim("CONCLUIDO", (linhaAtual - 1) + " linhas " + totais));
+        escritor.flush();
+        log.info("Lote de vínculos ({}) processado: {} linhas em {} ms, {}", operacao, linhaAtual - 1,
+                (System.nanoTime() - inicio) / 1_000_000, totais);
+        return totais;
+    }
+
+    private static String fim(String situacao, String detalhe) {
+        return "fim;;;" + situacao + ";" + String.valueOf(detalhe).replace(";", ",").replace("\n", " ") + "\n";
+    }
+
+    private List<Resultado> processarChunk(OperacaoVinculoLote operacao, Colunas colunas,
+                                           List<String> linhas, long primeiraLinha) {
+        List<Resultado> resultados = new ArrayList<>(linhas.size());
+        List<Linha> validas = new ArrayList<>(linhas.size());
+        Map<Long, Long> linhaPorPar = new HashMap<>();
+
+        for (int i = 0; i < linhas.size(); i++) {
+            long numero = primeiraLinha + i;
+            if (linhas.get(i).isBlank()) {
+                continue;
+            }
+
+            List<String> campos = ImportacaoUsuariosService.dividir(linhas.get(i), colunas.separador());
+            Integer idUsuario = inteiro(campo(campos, colunas.idUsuario()));
+            Integer idCurso = inteiro(campo(campos, colunas.idCurso()));
+            String textoConcluido = campo(campos, colunas.concluido());
+            Boolean concluido = booleano(textoConcluido);
+
+            if (idUsuario == null || idCurso == null) {
+                resultados.add(new Resultado(numero, idUsuario, idCurso, ResultadoVinculoLote.INVALIDO,
+                        "id_usuario e id_curso devem ser inteiros positivos"));
+            } else if (textoConcluido != null && concluido == null) {
+                resultados.add(new Resultado(numero, idUsuario, idCurso, ResultadoVinculoLote.INVALIDO,
+                        "concluido deve ser true/false, sim/nao ou 1/0"));
+            } else if (linhaPorPar.putIfAbsent(par(idUsuario, idCurso), numero) != null) {
+                resultados.add(new Resultado(numero, idUsuario, idCurso, ResultadoVinculoLote.INVALIDO,
+                        "Par repetido no arquivo (linha " + linhaPorPar.get(par(idUsuario, idCurso)) + ")"));
+            } else {
+                // Na conclusão a coluna é opcional e vale true quando ausente
+                Boolean valor = concluido == null && operacao == OperacaoVinculoLote.CONCLUIR ? Boolean.TRUE : concluido;
+                validas.add(new Linha(numero, idUsuario, idCurso, valor));
+            }
+        }
+
+        if (validas.isEmpty()) {
+            return resultados;
+        }
+
+        Map<Long, Boolean> existentes = travarExistentes(validas);
+        Set<Integer> usuarios = Collections.emptySet();
+        Set<Integer> cursos = Collections.emptySet();
+        if (operacao == OperacaoVinculoLote.VINCULAR) {
+            usuarios = idsExistentes("usuarios", "id_usuario", validas.stream().map(Linha::idUsuario).toList());
+            cursos = idsExistentes("cursos", "id_curso", validas.stream().map(Linha::idCurso).toList());
+        }
+
+        List<Object[]> inserir = new ArrayList<>();
+        List<Object[]> atualizar = new ArrayList<>();
+        for (Linha l : validas) {
+            Boolean atual = existentes.get(par(l.idUsuario(), l.idCurso()));
+
+            if (atual == null && operacao == OperacaoVinculoLote.CONCLUIR) {
+                resultados.add(l.resultado(ResultadoVinculoLote.NAO_ENCONTRADO, "Vínculo não existe"));
+            } else if (atual == null && !usuarios.contains(l.idUsuario())) {
+                resultados.add(l.resultado(ResultadoVinculoLote.NAO_ENCONTRADO, "Usuário não encontrado"));
+            } else if (atual == null && !cursos.contains(l.idCurso())) {
+                resultados.add(l.resultado(ResultadoVinculoLote.NAO_ENCONTRADO, "Curso não encontrado"));
+            } else if (atual == null) {
+                boolean concluido = Boolean.TRUE.equals(l.concluido());
+                inserir.add(new Object[]{l.idUsuario(), l.idCurso(), concluido});
+                resultados.add(l.resultado(ResultadoVinculoLote.CRIADO, concluido ? "concluido" : ""));
+            } else if (l.concluido() == null || l.concluido().equals(atual)) {
+                resultados.add(l.resultado(ResultadoVinculoLote.INALTERADO, ""));
+            } else {
+                atualizar.add(new Object[]{l.concluido(), l.idUsuario(), l.idCurso()});
+                resultados.add(l.resultado(ResultadoVinculoLote.ATUALIZADO, l.concluido() ? "concluido" : "nao concluido"));
+            }
+        }
+
+        // ON DUPLICATE KEY cobre um vínculo criado por outra requisição entre o SELECT e o INSERT
+        if (!inserir.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_VINCULO, inserir);
+        }
+        if (!atualizar.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CONCLUIDO, atualizar);
+        }
+
+        resultados.sort((a, b) -> Long.compare(a.linha(), b.linha()));
+        return resultados;
+    }
+
+    // FOR UPDATE mantém o estado lido até o commit, então o resultado relatado é o que foi gravado
+    private Map<Long, Boolean> travarExistentes(List<Linha> linhas) {
+        String marcadores = String.join(",", Collections.nCopies(linhas.size(), "(?, ?)"));
+        Object[] parametros = new Object[linhas.size() * 2];
+        for (int i = 0; i < linhas.size(); i++) {
+            parametros[2 * i] = linhas.get(i).idUsuario();
+            parametros[2 * i + 1] = linhas.get(i).idCurso();
+        }
+
+        Map<Long, Boolean> existentes = new HashMap<>();
+        jdbcTemplate.query("SELECT id_usuario, id_curso, concluido FROM vinculo_curso_usuario " +
+                        "WHERE (id_usuario, id_curso) IN (" + marcadores + ") FOR UPDATE",
+                rs -> { existentes.put(par(rs.getInt(1), rs.getInt(2)), rs.getBoolean(3)); }, parametros);
+        return existentes;
+    }
+
+    private Set<Integer> idsExistentes(String tabela, String coluna, Collection<Integer> ids) {
+        Set<Integer> distintos = new HashSet<>(ids);
+        String marcadores = String.join(",", Collections.nCopies(distintos.size(), "?"));
+        Set<Integer> existentes = new HashSet<>();
+        jdbcTemplate.query("SELECT " + coluna + " FROM " + tabela + " WHERE " + coluna + " IN (" + marcadores + ")",
+                rs -> { existentes.add(rs.getInt(1)); }, distintos.toArray());
+        return existentes;
+    }
+
+    private Colunas lerCabecalho(String cabecalho, OperacaoVinculoLote operacao) {
+        if (cabecalho == null) {
+            throw new CampoObrigatorioException("Arquivo CSV vazio");
+        }
+        if (cabecalho.startsWith("\uFEFF")) {
+            cabecalho = cabecalho.substring(1);
+        }
+
+        char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+        List<String> nomes = ImportacaoUsuariosService.dividir(cabecalho, separador);
+        int idUsuario = -1, idCurso = -1, concluido = -1;
+        for (int i = 0; i < nomes.size(); i++) {
+            switch (nomes.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "id_usuario", "idusuario" -> idUsuario = i;
+                case "id_curso", "idcurso" -> idCurso = i;
+                case "concluido" -> concluido = i;
+                default -> { }
+            }
+        }
+
+        if (idUsuario < 0 || idCurso < 0) {
+            throw new CampoObrigatorioException("O cabeçalho do CSV deve conter as colunas id_usuario e id_curso");
+        }
+        return new Colunas(separador, idUsuario, idCurso, concluido);
+    }
+
+    private static long par(int idUsuario, int idCurso) {
+        return ((long) idUsuario << 32) | (idCurso & 0xffffffffL);
+    }
+
+    private static String campo(List<String> campos, int indice) {
+        if (indice < 0 || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static Integer inteiro(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        try {
+            int numero = Integer.parseInt(valor);
+            return numero > 0 ? numero : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Boolean booleano(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        return switch (valor.toLowerCase(Locale.ROOT)) {
+            case "true", "sim", "s", "1" -> Boolean.TRUE;
+            case "false", "nao", "não", "n", "0" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    private record Colunas(char separador, int idUsuario, int idCurso, int concluido) {
+    }
+
+    private record Linha(long numero, Integer idUsuario, Integer idCurso, Boolean concluido) {
+        Resultado resultado(ResultadoVinculoLote resultado, String detalhe) {
+            return new Resultado(numero, idUsuario, idCurso, resultado, detalhe);
+        }
+    }
+
+    private record Resultado(long linha, Integer idUsuario, Integer idCurso, ResultadoVinculoLote resultado, String detalhe) {
+        String formatar() {
+            return linha + ";" + (idUsuario != null ? idUsuario : "") + ";" + (idCurso != null ? idCurso : "") + ";"
+                    + resultado + ";" + detalhe.replace(";", ",") + "\n";
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.actios.actios_backend.service;
 
+import br.com.actios.actios_backend.dto.MembroCursoDTO;
+import br.com.actios.actios_backend.dto.PaginaDTO;
 import br.com.actios.actios_backend.exceptions.*;
 import br.com.actios.actios_backend.model.VinculoCursoUsuario;
 import br.com.actios.actios_backend.model.VinculoCursoUsuarioId;
@@ -9,14 +11,18 @@ import br.com.actios.actios_backend.repositorys.VinculoCursoUsuarioRepository;
 import br.com.actios.actios_backend.repositorys.UsuarioRepository;
 import br.com.actios.actios_backend.repositorys.CursoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class VinculoCursoUsuarioService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 200;
+
     @Autowired
     private VinculoCursoUsuarioRepository vinculoRepository;
 
@@ -26,6 +32,9 @@ public class VinculoCursoUsuarioService {
     @Autowired
     private CursoRepository cursoRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Transactional
     public VinculoCursoUsuario vincular(Integer idUsuario, Integer idCurso) {
         if (idUsuario == null) {
@@ -81,6 +90,7 @@ public class VinculoCursoUsuarioService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Curso> getCursosDoUsuario(Integer idUsuario) {
         if (idUsuario == null) {
             throw new CampoObrigatorioException("ID do usuário é obrigatório");
@@ -99,23 +109,66 @@ public class VinculoCursoUsuarioService {
         }
     }
 
-
-    public List<Usuario> getUsuariosDoCurso(Integer idCurso) {
-        if (idCurso == null) {
-            throw new CampoObrigatorioException("ID do curso é obrigatório");
+    // Roster paginado por keyset em id_usuario sobre os índices (id_curso, id_usuario) e
+    // (id_curso, concluido, id_usuario): cada página lê só as suas linhas, qualquer que seja o tamanho do curso
+    @Transactional(readOnly = true)
+    public PaginaDTO<MembroCursoDTO> getUsuariosDoCurso(Integer idCurso, Boolean concluido, Integer aposIdUsuario, int tamanho) {
+        validarCurso(idCurso);
+        if (tamanho <= 0 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new CampoObrigatorioException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
         }
 
-        Curso curso = cursoRepository.findById(idCurso)
-                .orElseThrow(() -> new RecursoNaoEncontradoException("Curso não encontrado com ID: " + idCurso));
+        StringBuilder sql = new StringBuilder(
+                "SELECT v.id_usuario, u.nome, u.email, v.concluido FROM vinculo_curso_usuario v " +
+                "JOIN usuarios u ON u.id_usuario = v.id_usuario WHERE v.id_curso = ?");
+        List<Object> parametros = new ArrayList<>();
+        parametros.add(idCurso);
+        if (concluido != null) {
+            sql.append(" AND v.concluido = ?");
+            parametros.add(concluido);
+        }
+        sql.append(" AND v.id_usuario > ? ORDER BY v.id_usuario LIMIT ?");
+        parametros.add(aposIdUsuario != null ? aposIdUsuario : 0);
+        parametros.add(tamanho + 1);
 
         try {
-            List<VinculoCursoUsuario> vinculos = vinculoRepository.findByCurso(curso);
-            return vinculos.stream()
-                    .map(VinculoCursoUsuario::getUsuario)
-                    .collect(Collectors.toList());
+            List<MembroCursoDTO> membros = jdbcTemplate.query(sql.toString(), (rs, i) -> new MembroCursoDTO(
+                    rs.getInt("id_usuario"),
+                    rs.getString("nome"),
+                    rs.getString("email"),
+                    rs.getBoolean("concluido")), parametros.toArray());
+
+            String proximoCursor = null;
+            if (membros.size() > tamanho) {
+                membros = membros.subList(0, tamanho);
+                proximoCursor = String.valueOf(membros.get(tamanho - 1).getIdUsuario());
+            }
+            return new PaginaDTO<>(membros, proximoCursor);
         } catch (Exception e) {
             throw new OperacaoNaoPermitidaException("Falha ao recuperar usuários do curso", e);
         }
     }
 
+    // Contagem só no índice do curso, sem tocar em usuarios
+    @Transactional(readOnly = true)
+    public long contarUsuariosDoCurso(Integer idCurso, Boolean concluido) {
+        validarCurso(idCurso);
+
+        Long total = concluido == null
+                ? jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vinculo_curso_usuario WHERE id_curso = ?",
+                        Long.class, idCurso)
+                : jdbcTemplate.queryForObject("SELECT COUNT(*) FROM vinculo_curso_usuario WHERE id_curso = ? AND concluido = ?",
+                        Long.class, idCurso, concluido);
+        return total != null ? total : 0;
+    }
+
+    private void validarCurso(Integer idCurso) {
+        if (idCurso == null) {
+            throw new CampoObrigatorioException("ID do curso é obrigatório");
+        }
+        if (!cursoRepository.existsById(idCurso)) {
+            throw new RecursoNaoEncontradoException("Curso não encontrado com ID: " + idCurso);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+-- Esquema de antes das migrações, como o ddl-auto: update deixava as tabelas das entidades.
+-- IF NOT EXISTS em tudo: bancos já criados (BdAV2Actios.sql + ddl-auto) recebem esta versão como
+-- no-op. Tudo o que mudou nessas tabelas desde então vem em ALTER TABLE nas versões seguintes.
+
+CREATE TABLE IF NOT EXISTS faculdades (
+    id_faculdade INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(100) NOT NULL,
+    localizacao VARCHAR(100),
+    site VARCHAR(150)
+);
+
+CREATE TABLE IF NOT EXISTS categorias (
+    id_categoria INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_categorias_nome UNIQUE (nome)
+);
+
+CREATE TABLE IF NOT EXISTS cursos (
+    id_curso INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(100) NOT NULL,
+    area_academica VARCHAR(100),
+    id_faculdade INT NOT NULL,
+    CONSTRAINT fk_cursos_faculdade FOREIGN KEY (id_faculdade) REFERENCES faculdades (id_faculdade)
+);
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id_usuario INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(255),
+    email VARCHAR(255),
+    senha VARCHAR(255),
+    curso VARCHAR(255),
+    faculdade_id INT,
+    tipo VARCHAR(20) DEFAULT 'ALUNO',
+    data_cadastro TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    ativo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT fk_usuarios_faculdade FOREIGN KEY (faculdade_id) REFERENCES faculdades (id_faculdade)
+);
+
+CREATE TABLE IF NOT EXISTS organizadores (
+    id_organizador INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(100),
+    email VARCHAR(100),
+    id_faculdade INT,
+    data_cadastro DATETIME(6),
+    data_atualizacao DATETIME(6),
+    ativo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT uk_organizadores_email UNIQUE (email),
+    CONSTRAINT fk_organizadores_faculdade FOREIGN KEY (id_faculdade) REFERENCES faculdades (id_faculdade)
+);
+
+CREATE TABLE IF NOT EXISTS palestrantes (
+    id_palestrante INT AUTO_INCREMENT PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    telefone VARCHAR(255),
+    biografia TEXT,
+    CONSTRAINT uk_palestrantes_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS eventos (
+    id_evento INT AUTO_INCREMENT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    data DATE NOT NULL,
+    horario VARCHAR(255),
+    local VARCHAR(255),
+    faculdade_id INT,
+    categoria_id INT,
+    ativo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT fk_eventos_faculdade FOREIGN KEY (faculdade_id) REFERENCES faculdades (id_faculdade),
+    CONSTRAINT fk_eventos_categoria FOREIGN KEY (categoria_id) REFERENCES categorias (id_categoria)
+);
+
+CREATE TABLE IF NOT EXISTS eventos_detalhes (
+    id_evento INT PRIMARY KEY,
+    data_fim DATE,
+    formato VARCHAR(255),
+    certificado BOOLEAN,
+    valor DECIMAL(10, 2),
+    CONSTRAINT fk_eventos_detalhes_evento FOREIGN KEY (id_evento) REFERENCES eventos (id_evento)
+);
+
+CREATE TABLE IF NOT EXISTS evento_palestrante (
+    evento_id INT NOT NULL,
+    palestrante_id INT NOT NULL,
+    PRIMARY KEY (evento_id, palestrante_id),
+    CONSTRAINT fk_evento_palestrante_evento FOREIGN KEY (evento_id) REFERENCES eventos (id_evento),
+    CONSTRAINT fk_evento_palestrante_palestrante FOREIGN KEY (palestrante_id) REFERENCES palestrantes (id_palestrante)
+);
+
+CREATE TABLE IF NOT EXISTS inscricoes (
+    id_inscricao INT AUTO_INCREMENT PRIMARY KEY,
+    usuario_id INT NOT NULL,
+    evento_id INT NOT NULL,
+    numero_inscricao VARCHAR(255) NOT NULL,
+    data_inscricao DATETIME(6) NOT NULL,
+    ativo BOOLEAN NOT NULL,
+    CONSTRAINT uk_inscricoes_numero UNIQUE (numero_inscricao),
+    CONSTRAINT uk_inscricoes_usuario_evento UNIQUE (usuario_id, evento_id),
+    CONSTRAINT fk_inscricoes_usuario FOREIGN KEY (usuario_id) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_inscricoes_evento FOREIGN KEY (evento_id) REFERENCES eventos (id_evento)
+);
+
+CREATE TABLE IF NOT EXISTS notificacoes (
+    id_notificacao INT AUTO_INCREMENT PRIMARY KEY,
+    id_usuario INT,
+    id_evento INT,
+    data_envio DATETIME(6) NOT NULL,
+    mensagem TEXT,
+    lida BOOLEAN NOT NULL,
+    CONSTRAINT fk_notificacoes_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_notificacoes_evento FOREIGN KEY (id_evento) REFERENCES eventos (id_evento)
+);
+
+CREATE TABLE IF NOT EXISTS participacoes (
+    id_participacao INT AUTO_INCREMENT PRIMARY KEY,
+    id_usuario INT,
+    id_evento INT,
+    checkin BOOLEAN,
+    feedback TEXT,
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6),
+    CONSTRAINT fk_participacoes_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_participacoes_evento FOREIGN KEY (id_evento) REFERENCES eventos (id_evento)
+);
+
+CREATE TABLE IF NOT EXISTS feedback_eventos (
+    id_feedback INT AUTO_INCREMENT PRIMARY KEY,
+    id_usuario INT,
+    id_evento INT,
+    nota INT,
+    comentario TEXT,
+    data_feedback DATETIME(6) NOT NULL,
+    CONSTRAINT fk_feedback_eventos_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_feedback_eventos_evento FOREIGN KEY (id_evento) REFERENCES eventos (id_evento)
+);
+
+CREATE TABLE IF NOT EXISTS registro_certificados (
+    id_certificado INT AUTO_INCREMENT PRIMARY KEY,
+    id_usuario INT,
+    id_curso INT,
+    data_emissao DATE NOT NULL,
+    codigo_validacao VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_registro_certificados_codigo UNIQUE (codigo_validacao),
+    CONSTRAINT fk_registro_certificados_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_registro_certificados_curso FOREIGN KEY (id_curso) REFERENCES cursos (id_curso)
+);
+
+CREATE TABLE IF NOT EXISTS vinculo_curso_usuario (
+    id_usuario INT NOT NULL,
+    id_curso INT NOT NULL,
+    concluido BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id_usuario, id_curso),
+    CONSTRAINT fk_vinculo_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id_usuario),
+    CONSTRAINT fk_vinculo_curso FOREIGN KEY (id_curso) REFERENCES cursos (id_curso)
+);
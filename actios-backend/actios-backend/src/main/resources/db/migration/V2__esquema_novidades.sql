@@ -0,0 +1,216 @@
+-- Tudo o que entrou no esquema depois do V1. Bancos antigos chegam aqui em dois formatos: o do
+-- BdAV2Actios.sql, só com as tabelas do script, e o do ddl-auto: update, que acrescentou as colunas
+-- das entidades. A primeira parte leva o primeiro formato ao segundo e só altera o que falta; a
+-- segunda acrescenta as colunas, chaves e índices novos das tabelas existentes; a terceira cria as
+-- tabelas novas.
+
+DELIMITER //
+
+CREATE PROCEDURE actios_adicionar_coluna(IN tabela VARCHAR(64), IN coluna VARCHAR(64), IN definicao VARCHAR(500))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = tabela AND column_name = coluna) THEN
+        SET @comando = CONCAT('ALTER TABLE ', tabela, ' ADD COLUMN ', coluna, ' ', definicao);
+        PREPARE alteracao FROM @comando;
+        EXECUTE alteracao;
+        DEALLOCATE PREPARE alteracao;
+    END IF;
+END //
+
+-- Cria a chave única só se nenhum índice único cobrir exatamente essas colunas, com qualquer nome
+-- (o script cria as suas sem nome, o Hibernate com nomes gerados)
+CREATE PROCEDURE actios_adicionar_unica(IN tabela VARCHAR(64), IN nome VARCHAR(64), IN colunas VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM (
+                       SELECT GROUP_CONCAT(column_name ORDER BY seq_in_index SEPARATOR ',') AS cobertas
+                       FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = tabela AND non_unique = 0
+                       GROUP BY index_name) indices
+                   WHERE cobertas = REPLACE(colunas, ' ', '')) THEN
+        SET @comando = CONCAT('ALTER TABLE ', tabela, ' ADD CONSTRAINT ', nome, ' UNIQUE (', colunas, ')');
+        PREPARE alteracao FROM @comando;
+        EXECUTE alteracao;
+        DEALLOCATE PREPARE alteracao;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- 1. Colunas que o ddl-auto já tinha criado a partir das entidades; faltam em bancos só com o BdAV2Actios.sql
+CALL actios_adicionar_coluna('usuarios', 'ativo', 'BOOLEAN NOT NULL DEFAULT TRUE');
+CALL actios_adicionar_coluna('organizadores', 'data_cadastro', 'DATETIME(6)');
+CALL actios_adicionar_coluna('organizadores', 'data_atualizacao', 'DATETIME(6)');
+CALL actios_adicionar_coluna('organizadores', 'ativo', 'BOOLEAN NOT NULL DEFAULT TRUE');
+CALL actios_adicionar_coluna('eventos', 'ativo', 'BOOLEAN NOT NULL DEFAULT TRUE');
+CALL actios_adicionar_coluna('inscricoes', 'ativo', 'BOOLEAN NOT NULL DEFAULT TRUE');
+CALL actios_adicionar_coluna('notificacoes', 'lida', 'BOOLEAN NOT NULL DEFAULT FALSE');
+CALL actios_adicionar_coluna('participacoes', 'data_criacao', 'DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)');
+CALL actios_adicionar_coluna('participacoes', 'data_atualizacao', 'DATETIME(6)');
+CALL actios_adicionar_coluna('vinculo_curso_usuario', 'concluido', 'BOOLEAN NOT NULL DEFAULT FALSE');
+-- Cursos do script não têm faculdade; ficam sem ela até serem editados
+CALL actios_adicionar_coluna('cursos', 'id_faculdade',
+    'INT, ADD CONSTRAINT fk_cursos_faculdade FOREIGN KEY (id_faculdade) REFERENCES faculdades (id_faculdade)');
+CALL actios_adicionar_unica('inscricoes', 'uk_inscricoes_usuario_evento', 'usuario_id, evento_id');
+
+-- 2. Novidades nas tabelas existentes
+
+-- Contas importadas por CSV chegam sem senha até a primeira definição (o script e o ddl-auto criavam NOT NULL)
+ALTER TABLE usuarios MODIFY senha VARCHAR(255) NULL;
+-- Opt-in do resumo diário de notificações (ResumoNotificacaoService)
+ALTER TABLE usuarios ADD COLUMN resumo_notificacoes BOOLEAN NOT NULL DEFAULT FALSE;
+-- Diretório (UsuarioService.listarDiretorio): filtros por faculdade/ativo/tipo ordenados por nome, e busca por prefixo do nome
+ALTER TABLE usuarios
+    ADD INDEX idx_usuarios_faculdade_ativo_tipo_nome (faculdade_id, ativo, tipo, nome),
+    ADD INDEX idx_usuarios_nome (nome);
+-- A importação por CSV depende do e-mail único; o script já o declara, o ddl-auto não
+CALL actios_adicionar_unica('usuarios', 'uk_usuarios_email', 'email');
+
+-- Linhas que distinguem um resumo de uma notificação avulsa
+ALTER TABLE notificacoes ADD COLUMN resumo BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Um certificado por usuário e curso: a emissão em lote é refeita sem duplicar. Falha se o banco
+-- já tiver duplicatas, que precisam ser resolvidas à mão antes da migração
+ALTER TABLE registro_certificados
+    ADD CONSTRAINT uk_registro_certificados_usuario_curso UNIQUE (id_usuario, id_curso),
+    ADD INDEX idx_registro_certificados_data_emissao (data_emissao);
+
+-- Intervalos de data da reconstrução dos rollups por faculdade (RollupFaculdadeService)
+ALTER TABLE inscricoes ADD INDEX idx_inscricoes_data_inscricao (data_inscricao);
+ALTER TABLE participacoes ADD INDEX idx_participacoes_data_criacao (data_criacao);
+ALTER TABLE feedback_eventos ADD INDEX idx_feedback_eventos_data_feedback (data_feedback);
+
+-- Elegibilidade por curso e por usuário (ElegibilidadeCertificadoService) e roster paginado
+ALTER TABLE vinculo_curso_usuario
+    ADD INDEX idx_vinculo_curso_concluido (id_curso, concluido, id_usuario),
+    ADD INDEX idx_vinculo_usuario_concluido (id_usuario, concluido, id_curso),
+    ADD INDEX idx_vinculo_curso_usuario (id_curso, id_usuario);
+
+DROP PROCEDURE actios_adicionar_coluna;
+DROP PROCEDURE actios_adicionar_unica;
+
+-- 3. Tabelas novas
+
+-- IDs das tabelas de volume vêm de sequencias_id (blocos do otimizador pooled); o AUTO_INCREMENT
+-- dessas tabelas deixa de ser usado
+CREATE TABLE sequencias_id (
+    nome VARCHAR(255) PRIMARY KEY,
+    proximo_valor BIGINT
+);
+
+CREATE TABLE certificados_revogados (
+    id_certificado INT PRIMARY KEY,
+    motivo VARCHAR(255),
+    data_revogacao DATETIME(6) NOT NULL
+);
+
+CREATE TABLE eventos_outbox (
+    id_evento_outbox BIGINT AUTO_INCREMENT PRIMARY KEY,
+    tipo_agregado VARCHAR(50) NOT NULL,
+    id_agregado INT NOT NULL,
+    tipo_evento VARCHAR(60) NOT NULL,
+    payload TEXT,
+    data_criacao DATETIME(6) NOT NULL,
+    data_processamento DATETIME(6),
+    processado BOOLEAN NOT NULL,
+    tentativas INT NOT NULL,
+    bloqueado_ate DATETIME(6),
+    bloqueado_por VARCHAR(100),
+    ultimo_erro VARCHAR(500),
+    INDEX idx_outbox_pendentes (processado, id_evento_outbox),
+    INDEX idx_outbox_agregado (tipo_agregado, id_agregado, processado, id_evento_outbox)
+);
+
+CREATE TABLE lembretes_enviados (
+    id_lembrete BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_evento INT NOT NULL,
+    tipo VARCHAR(30) NOT NULL,
+    inicio_evento DATETIME(6) NOT NULL,
+    data_envio DATETIME(6) NOT NULL,
+    total_destinatarios INT NOT NULL,
+    CONSTRAINT uk_lembretes_enviados_evento_tipo_inicio UNIQUE (id_evento, tipo, inicio_evento)
+);
+
+CREATE TABLE chaves_token (
+    id_chave VARCHAR(16) PRIMARY KEY,
+    segredo VARCHAR(64) NOT NULL,
+    data_criacao DATETIME(6) NOT NULL,
+    data_ativacao DATETIME(6) NOT NULL,
+    data_expiracao DATETIME(6) NOT NULL,
+    INDEX idx_chaves_token_expiracao (data_expiracao)
+);
+
+CREATE TABLE tokens_revogados (
+    identificador VARCHAR(64) PRIMARY KEY,
+    id_usuario INT,
+    data_revogacao DATETIME(6) NOT NULL,
+    data_expiracao DATETIME(6) NOT NULL,
+    INDEX idx_tokens_revogados_expiracao (data_expiracao)
+);
+
+CREATE TABLE contadores_login (
+    id_contador BIGINT AUTO_INCREMENT PRIMARY KEY,
+    chave VARCHAR(70) NOT NULL,
+    periodo BIGINT NOT NULL,
+    contagem INT NOT NULL,
+    CONSTRAINT uk_contadores_login_chave_periodo UNIQUE (chave, periodo),
+    INDEX idx_contadores_login_periodo (periodo)
+);
+
+CREATE TABLE emissoes_certificados_lote (
+    id_emissao BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_curso INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    ultimo_id_usuario INT NOT NULL,
+    total_elegiveis BIGINT NOT NULL,
+    emitidos BIGINT NOT NULL,
+    executor VARCHAR(100),
+    data_criacao DATETIME(6) NOT NULL,
+    data_inicio DATETIME(6),
+    data_atualizacao DATETIME(6),
+    data_fim DATETIME(6),
+    erro VARCHAR(500)
+);
+
+CREATE TABLE importacoes_usuarios (
+    id_importacao BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_faculdade INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    arquivo VARCHAR(500) NOT NULL,
+    linhas_processadas BIGINT NOT NULL,
+    importados BIGINT NOT NULL,
+    rejeitados BIGINT NOT NULL,
+    executor VARCHAR(100),
+    data_criacao DATETIME(6) NOT NULL,
+    data_inicio DATETIME(6),
+    data_atualizacao DATETIME(6),
+    data_fim DATETIME(6),
+    erro VARCHAR(500)
+);
+
+CREATE TABLE rollups_faculdade_dia (
+    id_rollup BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id_faculdade INT NOT NULL,
+    dia DATE NOT NULL,
+    eventos BIGINT NOT NULL DEFAULT 0,
+    inscricoes BIGINT NOT NULL DEFAULT 0,
+    cancelamentos BIGINT NOT NULL DEFAULT 0,
+    participacoes BIGINT NOT NULL DEFAULT 0,
+    checkins BIGINT NOT NULL DEFAULT 0,
+    feedbacks BIGINT NOT NULL DEFAULT 0,
+    soma_notas BIGINT NOT NULL DEFAULT 0,
+    certificados BIGINT NOT NULL DEFAULT 0,
+    recalculado_em DATETIME(6),
+    CONSTRAINT uk_rollups_faculdade_dia UNIQUE (id_faculdade, dia)
+);
+
+CREATE TABLE rollups_eventos_aplicados (
+    id_evento_outbox BIGINT PRIMARY KEY,
+    data_aplicacao DATETIME(6) NOT NULL,
+    INDEX idx_rollups_eventos_aplicados_data (data_aplicacao)
+);
+
+CREATE TABLE versoes_dados_referencia (
+    id INT PRIMARY KEY,
+    versao BIGINT NOT NULL,
+    data_atualizacao DATETIME(6) NOT NULL
+);
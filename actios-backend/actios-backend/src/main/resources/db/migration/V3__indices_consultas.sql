@@ -0,0 +1,43 @@
+-- Índices alinhados às consultas dos repositórios. Filtros por FK sozinha já usam o índice que o
+-- InnoDB cria para a chave estrangeira; aqui ficam os compostos (filtro + ordenação/agregação) e
+-- as colunas filtradas sem FK. O EXPLAIN de cada consulta é conferido em ExplainConsultasTest.
+
+-- InscricaoRepository.findIdsUsuariosAtivosPorEvento: cobre o filtro e devolve usuario_id pelo índice
+CREATE INDEX idx_inscricoes_evento_ativo ON inscricoes (evento_id, ativo, usuario_id);
+
+-- NotificacaoRepository.findByUsuarioOrderByDataEnvioDesc / findByEventoOrderByDataEnvioDesc: filtro e ordem sem filesort
+CREATE INDEX idx_notificacoes_usuario_data ON notificacoes (id_usuario, data_envio);
+CREATE INDEX idx_notificacoes_evento_data ON notificacoes (id_evento, data_envio);
+-- NotificacaoRepository.findByDataEnvioGreaterThanEqualOrderByDataEnvioDesc
+CREATE INDEX idx_notificacoes_data_envio ON notificacoes (data_envio);
+
+-- ParticipacaoRepository.countByEventoAndCheckinTrue
+CREATE INDEX idx_participacoes_evento_checkin ON participacoes (id_evento, checkin);
+
+-- FeedbackEventoRepository.calcularMediaNotaPorEvento: a média sai só do índice
+CREATE INDEX idx_feedback_eventos_evento_nota ON feedback_eventos (id_evento, nota);
+-- FeedbackEventoRepository.countByNota
+CREATE INDEX idx_feedback_eventos_nota ON feedback_eventos (nota);
+
+-- EventoRepository.findByAtivoTrueAndDataBetween e eventos futuros por palestrante (intervalo em data)
+CREATE INDEX idx_eventos_data_ativo ON eventos (data, ativo);
+-- EventoRepository.existsByTitulo
+CREATE INDEX idx_eventos_titulo ON eventos (titulo);
+
+-- FaculdadeRepository.existsByNome / findByNomeAndIdFaculdadeNot
+CREATE INDEX idx_faculdades_nome ON faculdades (nome);
+-- CursoRepository.existsByNome
+CREATE INDEX idx_cursos_nome ON cursos (nome);
+
+-- EventoDetalheRepository.findByFormato / findByDataFimGreaterThanEqual / findByValorLessThanEqual
+CREATE INDEX idx_eventos_detalhes_formato ON eventos_detalhes (formato);
+CREATE INDEX idx_eventos_detalhes_data_fim ON eventos_detalhes (data_fim);
+CREATE INDEX idx_eventos_detalhes_valor ON eventos_detalhes (valor);
+
+-- LembreteEnviadoRepository.findByInicioEventoGreaterThanEqual
+CREATE INDEX idx_lembretes_enviados_inicio ON lembretes_enviados (inicio_evento);
+
+-- existsByIdCursoAndStatusIn e a retomada de jobs abandonados (status + data_atualizacao)
+CREATE INDEX idx_emissoes_lote_curso_status ON emissoes_certificados_lote (id_curso, status);
+CREATE INDEX idx_emissoes_lote_status_atualizacao ON emissoes_certificados_lote (status, data_atualizacao);
+CREATE INDEX idx_importacoes_usuarios_status_atualizacao ON importacoes_usuarios (status, data_atualizacao);
@@ -0,0 +1,10 @@
+-- Linhas rejeitadas de cada importação de usuários (ImportacaoUsuariosService). Gravadas na mesma
+-- transação do chunk e do checkpoint: um chunk refeito após queda não duplica nem perde erros.
+CREATE TABLE IF NOT EXISTS importacoes_usuarios_erros (
+    id_importacao BIGINT NOT NULL,
+    linha BIGINT NOT NULL,
+    email VARCHAR(255),
+    motivo VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id_importacao, linha),
+    CONSTRAINT fk_importacoes_erros_importacao FOREIGN KEY (id_importacao) REFERENCES importacoes_usuarios (id_importacao) ON DELETE CASCADE
+);
@@ -0,0 +1,13 @@
+-- Progresso da reconstrução do histórico de rollups (RollupFaculdadeService): uma linha só, com a faixa
+-- de dias fixada no início, o último dia já gravado e quando terminou. Uma reconstrução interrompida
+-- continua de processado_ate em vez de ser dada como feita só porque a tabela já tem linhas.
+-- Bancos que já tinham rollups sem esta marca refazem a reconstrução uma vez: o recálculo substitui
+-- os valores, então repetir dias não soma em dobro.
+CREATE TABLE IF NOT EXISTS rollups_reconstrucao (
+    id INT PRIMARY KEY,
+    de DATE NOT NULL,
+    ate DATE NOT NULL,
+    processado_ate DATE,
+    data_inicio DATETIME(6) NOT NULL,
+    data_conclusao DATETIME(6)
+);
@@ -0,0 +1,3 @@
+-- Segredos de chaves_token passam a ser gravados cifrados ("v1:" + base64 de IV, texto cifrado e tag),
+-- maiores que os 44 caracteres do segredo em claro. As linhas em claro são cifradas pela aplicação.
+ALTER TABLE chaves_token MODIFY segredo VARCHAR(128) NOT NULL;
@@ -3,7 +3,10 @@ package br.com.actios.actios_backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
 class ActiosBackendApplicationTests {
 
 	@Test
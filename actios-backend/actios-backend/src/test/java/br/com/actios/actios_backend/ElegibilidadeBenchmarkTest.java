@@ -0,0 +1,109 @@
+package br.com.actios.actios_backend;
+
+import br.com.actios.actios_backend.repositorys.CursoRepository;
+import br.com.actios.actios_backend.repositorys.UsuarioRepository;
+import br.com.actios.actios_backend.service.ElegibilidadeCertificadoService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Compara, sobre a mesma amostra de vínculos, o caminho antigo (coleção do usuário), uma consulta
+// indexada por par e uma única consulta de conjunto. Rodar com -Dactios.benchmark=true
+@SpringBootTest(properties = {
+        "actios.outbox.habilitado=false",
+        "actios.lembretes.habilitado=false",
+        // Chaves só de teste; em produção os segredos vêm de ACTIOS_CERT_KEYS e ACTIOS_TOKEN_KEY
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "actios.benchmark", matches = "true")
+@Sql(scripts = "/explain/dados.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ElegibilidadeBenchmarkTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private ElegibilidadeCertificadoService elegibilidadeService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private CursoRepository cursoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void estrategiasConcordamEMedemTempo() {
+        int amostras = Integer.getInteger("actios.benchmark.amostras", 1000);
+        List<Integer> idsUsuarios = new ArrayList<>(amostras);
+        List<Integer> idsCursos = new ArrayList<>(amostras);
+        jdbcTemplate.query("SELECT id_usuario, id_curso FROM vinculo_curso_usuario LIMIT ?", rs -> {
+            idsUsuarios.add(rs.getInt(1));
+            idsCursos.add(rs.getInt(2));
+        }, amostras);
+        assertFalse(idsUsuarios.isEmpty(), "Sem vínculos semeados para a amostra");
+
+        long inicio = System.nanoTime();
+        long concluidosColecao = 0;
+        for (int i = 0; i < idsUsuarios.size(); i++) {
+            Integer idUsuario = idsUsuarios.get(i);
+            Integer idCurso = idsCursos.get(i);
+            // Transação própria por par, como numa requisição de emissão
+            Boolean concluido = transactionTemplate.execute(status -> usuarioRepository.findById(idUsuario)
+                    .map(usuario -> usuario.getCursosCompletos().contains(cursoRepository.getReferenceById(idCurso)))
+                    .orElse(false));
+            if (Boolean.TRUE.equals(concluido)) {
+                concluidosColecao++;
+            }
+        }
+        long msColecao = (System.nanoTime() - inicio) / 1_000_000;
+
+        inicio = System.nanoTime();
+        long concluidosIndividual = 0;
+        for (int i = 0; i < idsUsuarios.size(); i++) {
+            if (elegibilidadeService.concluiu(idsUsuarios.get(i), idsCursos.get(i))) {
+                concluidosIndividual++;
+            }
+        }
+        long msIndividual = (System.nanoTime() - inicio) / 1_000_000;
+
+        inicio = System.nanoTime();
+        Map<Integer, Set<Integer>> emLote = elegibilidadeService.cursosConcluidos(idsUsuarios, idsCursos);
+        long concluidosLote = 0;
+        for (int i = 0; i < idsUsuarios.size(); i++) {
+            if (emLote.getOrDefault(idsUsuarios.get(i), Set.of()).contains(idsCursos.get(i))) {
+                concluidosLote++;
+            }
+        }
+        long msLote = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf("%d pares, %d concluídos: coleção %d ms, por par %d ms, em lote %d ms%n",
+                idsUsuarios.size(), concluidosLote, msColecao, msIndividual, msLote);
+        assertEquals(concluidosColecao, concluidosIndividual);
+        assertEquals(concluidosIndividual, concluidosLote);
+    }
+}
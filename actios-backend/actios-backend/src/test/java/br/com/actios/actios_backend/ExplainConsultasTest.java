@@ -0,0 +1,376 @@
+package br.com.actios.actios_backend;
+
+import br.com.actios.actios_backend.config.RoteadorDataSource;
+import br.com.actios.actios_backend.dto.DashboardDTO;
+import br.com.actios.actios_backend.enums.OperacaoVinculoLote;
+import br.com.actios.actios_backend.enums.TipoUsuario;
+import br.com.actios.actios_backend.service.DadosReferenciaCache;
+import br.com.actios.actios_backend.service.DashboardService;
+import br.com.actios.actios_backend.service.ImportacaoUsuariosService;
+import br.com.actios.actios_backend.service.RollupFaculdadeService;
+import br.com.actios.actios_backend.service.TelemetriaSqlService;
+import br.com.actios.actios_backend.service.UsuarioService;
+import br.com.actios.actios_backend.service.VinculoCursoUsuarioLoteService;
+import br.com.actios.actios_backend.service.VinculoCursoUsuarioService;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Executa cada método declarado nos repositórios, e as leituras com SQL escrito à mão nos serviços,
+// contra um MySQL semeado, captura o SQL gerado e roda EXPLAIN com os mesmos parâmetros. Falha se
+// alguma consulta varrer a tabela inteira, se uma chamada falhar ou se não emitir nenhum SELECT.
+// Consulta nova sem índice quebra aqui, não em produção.
+@SpringBootTest(properties = {
+        "actios.outbox.habilitado=false",
+        "actios.lembretes.habilitado=false",
+        // Chaves só de teste; em produção os segredos vêm de ACTIOS_CERT_KEYS e ACTIOS_TOKEN_KEY
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import(InterceptadorSql.Config.class)
+@Sql(scripts = "/explain/dados.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ExplainConsultasTest {
+
+    // Abaixo disso o otimizador prefere varrer mesmo com índice; não é sinal de índice faltando
+    private static final long LINHAS_MINIMAS_VARREDURA = 500;
+
+    // Varreduras aceitas, cada uma com o motivo
+    private static final Set<String> VARREDURAS_PERMITIDAS = Set.of(
+            // LIKE '%...%' não usa índice B-tree; tabelas pequenas, busca administrativa
+            "CursoRepository.findByNomeContainingIgnoreCase",
+            "OrganizadorRepository.findByNomeContainingIgnoreCase",
+            "EventoPalestranteRepository.findEventosFuturosByNomeParcialDoPalestrante",
+            // UPPER(area) = UPPER(?) anula o índice; lista poucos cursos
+            "CursoRepository.findByAreaAcademicaIgnoreCase",
+            // Booleanos/nulos de baixa seletividade: o otimizador varre mesmo com índice
+            "ParticipacaoRepository.findByCheckinTrue",
+            "ParticipacaoRepository.findByFeedbackIsNull",
+            "EventoDetalheRepository.findByCertificado",
+            // Carga do conjunto inteiro em memória, por definição
+            "CertificadoRevogadoRepository.findAllIds",
+            "InscricaoRepository.findAll"
+    );
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RoteadorDataSource roteadorDataSource;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private ImportacaoUsuariosService importacaoUsuariosService;
+
+    @Autowired
+    private RollupFaculdadeService rollupFaculdadeService;
+
+    @Autowired
+    private VinculoCursoUsuarioService vinculoCursoUsuarioService;
+
+    @Autowired
+    private VinculoCursoUsuarioLoteService vinculoCursoUsuarioLoteService;
+
+    @Autowired
+    private DadosReferenciaCache dadosReferenciaCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void consultasDosRepositoriosNaoVarremTabelasInteiras() throws SQLException {
+        Repositories repositorios = new Repositories(context);
+        Map<String, Chamada> chamadas = new LinkedHashMap<>();
+
+        for (Class<?> dominio : repositorios) {
+            Object repositorio = repositorios.getRepositoryFor(dominio).orElseThrow();
+            Class<?> interfaceRepositorio = repositorios.getRequiredRepositoryInformation(dominio).getRepositoryInterface();
+
+            Method[] metodos = interfaceRepositorio.getDeclaredMethods();
+            Arrays.sort(metodos, Comparator.comparing(Method::getName));
+
+            for (Method metodo : metodos) {
+                if (metodo.isDefault() || metodo.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+
+                String nome = interfaceRepositorio.getSimpleName() + "." + metodo.getName();
+                chamadas.put(nome, ouvinte -> metodo.invoke(repositorio, gerarArgumentos(metodo)));
+            }
+        }
+
+        verificar(chamadas);
+    }
+
+    // SQL escrito à mão (JdbcTemplate) não passa pelos repositórios: cada leitura entra aqui com
+    // argumentos que existem na massa. Serviço novo com SQL próprio ganha uma entrada nesta lista.
+    @Test
+    void consultasJdbcDosServicosNaoVarremTabelasInteiras() throws SQLException {
+        LocalDate hoje = LocalDate.now();
+        Map<String, Chamada> chamadas = new LinkedHashMap<>();
+
+        chamadas.put("DashboardService.montar", ouvinte -> {
+            DashboardService painel = painel(ouvinte);
+            try {
+                DashboardDTO dashboard = painel.montar(1);
+                if (!dashboard.getSecoesIndisponiveis().isEmpty()) {
+                    throw new IllegalStateException("Seções sem resposta: " + dashboard.getSecoesIndisponiveis());
+                }
+            } finally {
+                painel.encerrar();
+            }
+        });
+        chamadas.put("ImportacaoUsuariosService.escreverRelatorioErros",
+                ouvinte -> importacaoUsuariosService.escreverRelatorioErros(1L, OutputStream.nullOutputStream()));
+        chamadas.put("UsuarioService.listarDiretorio (faculdade, tipo, ativo)",
+                ouvinte -> usuarioService.listarDiretorio(1, TipoUsuario.ALUNO, true, null, null, 20));
+        chamadas.put("UsuarioService.listarDiretorio (prefixo do nome)",
+                ouvinte -> usuarioService.listarDiretorio(null, null, null, "Usuario 12", null, 20));
+        chamadas.put("UsuarioService.listarDiretorio (cursor)", ouvinte -> {
+            String cursor = usuarioService.listarDiretorio(1, null, null, null, null, 20).getProximoCursor();
+            usuarioService.listarDiretorio(1, null, null, null, cursor, 20);
+        });
+        chamadas.put("RollupFaculdadeService.consultar (dia)",
+                ouvinte -> rollupFaculdadeService.consultar(1, hoje.minusDays(30), hoje, "dia"));
+        chamadas.put("RollupFaculdadeService.consultar (mes)",
+                ouvinte -> rollupFaculdadeService.consultar(1, hoje.minusYears(1), hoje, "mes"));
+        chamadas.put("VinculoCursoUsuarioService.getUsuariosDoCurso",
+                ouvinte -> vinculoCursoUsuarioService.getUsuariosDoCurso(1, null, null, 50));
+        chamadas.put("VinculoCursoUsuarioService.getUsuariosDoCurso (concluido, cursor)",
+                ouvinte -> vinculoCursoUsuarioService.getUsuariosDoCurso(1, true, 100, 50));
+        chamadas.put("VinculoCursoUsuarioService.contarUsuariosDoCurso",
+                ouvinte -> vinculoCursoUsuarioService.contarUsuariosDoCurso(1, true));
+        chamadas.put("VinculoCursoUsuarioLoteService.processar", ouvinte -> {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+            // Participa da transação descartada: nada do lote fica gravado
+            vinculoCursoUsuarioLoteService.processar(OperacaoVinculoLote.VINCULAR, new ByteArrayInputStream(
+                    "id_usuario;id_curso;concluido\n1;1;true\n2;3;false\n4999;50;\n".getBytes(StandardCharsets.UTF_8)), saida);
+            // Falhas de chunk saem no próprio CSV, não como exceção
+            String resultado = saida.toString(StandardCharsets.UTF_8);
+            if (!resultado.contains("fim;;;CONCLUIDO")) {
+                throw new IllegalStateException(resultado);
+            }
+        });
+        chamadas.put("DadosReferenciaCache.verificarVersao", ouvinte -> dadosReferenciaCache.verificarVersao());
+
+        verificar(chamadas);
+    }
+
+    // Toda chamada precisa rodar sem erro e emitir ao menos um SELECT; fora da lista de permitidas,
+    // nenhum deles pode varrer a tabela inteira
+    private void verificar(Map<String, Chamada> chamadas) throws SQLException {
+        List<String> violacoes = new ArrayList<>();
+        List<Throwable> causas = new ArrayList<>();
+
+        for (Map.Entry<String, Chamada> chamada : chamadas.entrySet()) {
+            String nome = chamada.getKey();
+            List<ConsultaCapturada> consultas;
+            try {
+                consultas = executar(chamada.getValue());
+            } catch (Exception e) {
+                Throwable causa = e instanceof InvocationTargetException alvo ? alvo.getCause() : e;
+                violacoes.add(nome + " falhou: " + causa);
+                causas.add(causa);
+                continue;
+            }
+
+            if (VARREDURAS_PERMITIDAS.contains(nome)) {
+                continue;
+            }
+            if (consultas.isEmpty()) {
+                violacoes.add(nome + " não emitiu nenhum SELECT");
+                continue;
+            }
+            for (ConsultaCapturada consulta : consultas) {
+                violacoes.addAll(explicar(nome, consulta));
+            }
+        }
+
+        if (!violacoes.isEmpty()) {
+            AssertionError falha = new AssertionError("Consultas com problema:\n" + String.join("\n", violacoes));
+            causas.forEach(falha::addSuppressed);
+            throw falha;
+        }
+    }
+
+    // Roda a chamada numa transação descartada e devolve os SELECTs emitidos
+    private List<ConsultaCapturada> executar(Chamada chamada) throws Exception {
+        List<ConsultaCapturada> consultas = Collections.synchronizedList(new ArrayList<>());
+        InterceptadorSql.Ouvinte ouvinte = (sql, parametros) -> {
+            if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                consultas.add(new ConsultaCapturada(sql, parametros));
+            }
+        };
+        // Leitura servida pelo cache de segundo nível não chegaria ao banco
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        Exception[] falha = new Exception[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            InterceptadorSql.ouvir(ouvinte);
+            try {
+                chamada.executar(ouvinte);
+            } catch (InvocationTargetException e) {
+                // Argumento gerado que casa com várias linhas: o SELECT já rodou e foi capturado
+                if (!(e.getCause() instanceof IncorrectResultSizeDataAccessException)) {
+                    falha[0] = e;
+                }
+            } catch (Exception e) {
+                falha[0] = e;
+            } finally {
+                InterceptadorSql.parar();
+            }
+        });
+        if (falha[0] != null) {
+            throw falha[0];
+        }
+        return consultas;
+    }
+
+    // Instância própria do painel: as seções leem em threads paralelas por um JdbcTemplate que não é o do contexto
+    private DashboardService painel(InterceptadorSql.Ouvinte ouvinte) {
+        TelemetriaSqlService observador = new TelemetriaSqlService(false, 0, 0, 1, 1, 1) {
+            @Override
+            public DataSource observar(DataSource dataSource) {
+                return InterceptadorSql.envolver(dataSource, ouvinte);
+            }
+        };
+        DashboardService painel = new DashboardService(roteadorDataSource, observador, 2, 6);
+        ReflectionTestUtils.setField(painel, "itensPorSecao", 20);
+        for (String prazo : List.of("timeoutUsuarioMs", "timeoutInscricoesMs", "timeoutNotificacoesMs",
+                "timeoutParticipacoesMs", "timeoutCertificadosMs")) {
+            ReflectionTestUtils.setField(painel, prazo, 10_000L);
+        }
+        return painel;
+    }
+
+    private List<String> explicar(String nome, ConsultaCapturada consulta) throws SQLException {
+        List<String> violacoes = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection();
+             PreparedStatement ps = conexao.prepareStatement("EXPLAIN " + consulta.sql())) {
+            InterceptadorSql.aplicarParametros(ps, consulta.parametros());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tabela = rs.getString("table");
+                    String tipo = rs.getString("type");
+                    long linhas = rs.getLong("rows");
+                    boolean derivada = tabela != null && tabela.startsWith("<");
+
+                    if (!derivada && "ALL".equals(tipo) && linhas >= LINHAS_MINIMAS_VARREDURA) {
+                        violacoes.add(nome + " -> " + tabela + " (" + linhas + " linhas): " + consulta.sql());
+                    }
+                }
+            }
+        }
+        return violacoes;
+    }
+
+    private Object[] gerarArgumentos(Method metodo) {
+        Class<?>[] tipos = metodo.getParameterTypes();
+        Type[] tiposGenericos = metodo.getGenericParameterTypes();
+        Object[] argumentos = new Object[tipos.length];
+
+        for (int i = 0; i < tipos.length; i++) {
+            if (Collection.class.isAssignableFrom(tipos[i])) {
+                Type elemento = ((ParameterizedType) tiposGenericos[i]).getActualTypeArguments()[0];
+                argumentos[i] = List.of(gerarValor((Class<?>) elemento));
+            } else {
+                argumentos[i] = gerarValor(tipos[i]);
+            }
+        }
+        return argumentos;
+    }
+
+    private Object gerarValor(Class<?> tipo) {
+        if (tipo == Integer.class || tipo == int.class) return 1;
+        if (tipo == Long.class || tipo == long.class) return 1L;
+        if (tipo == String.class) return "a";
+        if (tipo == Boolean.class || tipo == boolean.class) return true;
+        if (tipo == LocalDate.class) return LocalDate.now();
+        if (tipo == LocalDateTime.class) return LocalDateTime.now();
+        if (tipo == BigDecimal.class) return BigDecimal.TEN;
+        if (tipo.isEnum()) return tipo.getEnumConstants()[0];
+        if (Pageable.class.isAssignableFrom(tipo)) return PageRequest.of(0, 20);
+        if (tipo.isAnnotationPresent(Entity.class)) {
+            Class<?> tipoId = entityManager.getMetamodel().entity(tipo).getIdType().getJavaType();
+            return entityManager.getReference(tipo, gerarValor(tipoId));
+        }
+
+        // IDs compostos (ex.: VinculoCursoUsuarioId): construtor com mais parâmetros
+        Constructor<?> construtor = Arrays.stream(tipo.getConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow(() -> new IllegalStateException("Sem valor de teste para " + tipo.getName()));
+        Object[] argumentos = Arrays.stream(construtor.getParameterTypes()).map(this::gerarValor).toArray();
+        try {
+            return construtor.newInstance(argumentos);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Sem valor de teste para " + tipo.getName(), e);
+        }
+    }
+
+    // Recebe o ouvinte da chamada para quem lê fora da thread do teste
+    private interface Chamada {
+        void executar(InterceptadorSql.Ouvinte ouvinte) throws Exception;
+    }
+
+    private record ConsultaCapturada(String sql, List<Object[]> parametros) {
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.actios.actios_backend;
+
+import br.com.actios.actios_backend.model.Notificacao;
+import br.com.actios.actios_backend.model.Usuario;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Mede a mesma carga de inserts de notificações com um statement por linha (o que o IDENTITY impunha,
+// pois cada persist executava na hora para obter o ID) e com o batch JDBC configurado. As duas
+// transações são desfeitas no fim; só os IDs reservados são consumidos. Rodar com -Dactios.benchmark=true
+@SpringBootTest(properties = {
+        "actios.outbox.habilitado=false",
+        "actios.lembretes.habilitado=false",
+        // Chaves só de teste; em produção os segredos vêm de ACTIOS_CERT_KEYS e ACTIOS_TOKEN_KEY
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "actios.benchmark", matches = "true")
+@Sql(scripts = "/explain/dados.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class InsercaoNotificacoesBenchmarkTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanhoBatch;
+
+    @Test
+    void umInsertPorVezContraBatch() {
+        int quantidade = Integer.getInteger("actios.benchmark.quantidade", 100_000);
+        Integer idUsuario = transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT MIN(u.idUsuario) FROM Usuario u", Integer.class).getSingleResult());
+        assertNotNull(idUsuario, "Sem usuários semeados para o benchmark");
+
+        long msUmPorVez = inserirEDesfazer(quantidade, idUsuario, 1);
+        long msEmBatch = inserirEDesfazer(quantidade, idUsuario, tamanhoBatch);
+
+        System.out.printf("%d notificações: um insert por vez %d ms, batch de %d %d ms%n",
+                quantidade, msUmPorVez, tamanhoBatch, msEmBatch);
+    }
+
+    private long inserirEDesfazer(int quantidade, Integer idUsuario, int batch) {
+        long[] ms = new long[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            Session sessao = entityManager.unwrap(Session.class);
+            sessao.setJdbcBatchSize(batch);
+
+            long inicio = System.nanoTime();
+            LocalDateTime agora = LocalDateTime.now();
+            for (int i = 1; i <= quantidade; i++) {
+                Notificacao notificacao = new Notificacao();
+                notificacao.setUsuario(entityManager.getReference(Usuario.class, idUsuario));
+                notificacao.setMensagem("benchmark");
+                notificacao.setDataEnvio(agora);
+                entityManager.persist(notificacao);
+
+                // Mantém o contexto de persistência pequeno, como numa carga real em chunks
+                if (i % 1000 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            ms[0] = (System.nanoTime() - inicio) / 1_000_000;
+
+            entityManager.clear();
+            status.setRollbackOnly();
+        });
+        return ms[0];
+    }
+}
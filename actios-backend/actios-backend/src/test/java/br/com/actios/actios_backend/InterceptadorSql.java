@@ -0,0 +1,186 @@
+package br.com.actios.actios_backend;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Envolve o DataSource principal para observar cada comando enviado ao banco (SQL, parâmetros e linhas lidas).
+// Só a thread que registrou um ouvinte é observada; jobs e pools de outras threads passam direto.
+// envolver() cobre DataSources montados fora do contexto, com um ouvinte fixo para todas as threads.
+final class InterceptadorSql {
+
+    private static final Set<String> EXECUCOES = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final ThreadLocal<Ouvinte> ouvinteAtual = new ThreadLocal<>();
+
+    interface Ouvinte {
+        // Chamado antes da execução; parametros guarda pares {Method set*, argumentos}
+        void executou(String sql, List<Object[]> parametros);
+
+        default void leuLinha() {
+        }
+    }
+
+    private InterceptadorSql() {
+    }
+
+    static void ouvir(Ouvinte ouvinte) {
+        ouvinteAtual.set(ouvinte);
+    }
+
+    static void parar() {
+        ouvinteAtual.remove();
+    }
+
+    // Serviços com JdbcTemplate próprio (ex.: o dashboard, que lê em threads paralelas) não passam pelo bean
+    static DataSource envolver(DataSource dataSource, Ouvinte ouvinte) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return conexao(super.getConnection(), () -> ouvinte);
+            }
+
+            @Override
+            public Connection getConnection(String usuario, String senha) throws SQLException {
+                return conexao(super.getConnection(usuario, senha), () -> ouvinte);
+            }
+        };
+    }
+
+    // Repete em outro PreparedStatement os set* registrados (ex.: EXPLAIN da mesma consulta)
+    static void aplicarParametros(PreparedStatement ps, List<Object[]> parametros) throws SQLException {
+        for (Object[] chamada : parametros) {
+            invocar((Method) chamada[0], ps, (Object[]) chamada[1]);
+        }
+    }
+
+    static Object invocar(Method metodo, Object alvo, Object[] argumentos) throws SQLException {
+        try {
+            return metodo.invoke(alvo, argumentos);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        // Só o bean "dataSource" (o proxy @Primary); o roteador e os pools continuam com o tipo original
+        @Bean
+        static BeanPostProcessor interceptadorSql() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nome) {
+                    if (!"dataSource".equals(nome) || !(bean instanceof DataSource original)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(original) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return conexao(super.getConnection(), ouvinteAtual::get);
+                        }
+
+                        @Override
+                        public Connection getConnection(String usuario, String senha) throws SQLException {
+                            return conexao(super.getConnection(usuario, senha), ouvinteAtual::get);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private static void notificar(Supplier<Ouvinte> destino, String sql, List<Object[]> parametros) {
+        Ouvinte ouvinte = destino.get();
+        if (ouvinte != null) {
+            ouvinte.executou(sql, parametros);
+        }
+    }
+
+    private static Connection conexao(Connection conexao, Supplier<Ouvinte> destino) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            Object resultado = invocar(metodo, conexao, argumentos);
+            if (metodo.getName().equals("prepareStatement") && argumentos[0] instanceof String sql) {
+                return preparado((PreparedStatement) resultado, sql, destino);
+            }
+            if (metodo.getName().equals("createStatement")) {
+                return simples((Statement) resultado, destino);
+            }
+            return resultado;
+        };
+        return proxy(Connection.class, handler);
+    }
+
+    private static Statement simples(Statement statement, Supplier<Ouvinte> destino) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            String nome = metodo.getName();
+            if (EXECUCOES.contains(nome)) {
+                notificar(destino, argumentos != null && argumentos[0] instanceof String sql ? sql : "/* lote */", List.of());
+            }
+            return linhas(nome, invocar(metodo, statement, argumentos), destino);
+        };
+        return proxy(Statement.class, handler);
+    }
+
+    private static PreparedStatement preparado(PreparedStatement ps, String sql, Supplier<Ouvinte> destino) {
+        List<Object[]> parametros = new ArrayList<>();
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            String nome = metodo.getName();
+            if (nome.startsWith("set") && argumentos != null && argumentos.length >= 2
+                    && argumentos[0] instanceof Integer) {
+                parametros.add(new Object[]{metodo, argumentos});
+            } else if (nome.equals("clearParameters")) {
+                parametros.clear();
+            } else if (argumentos == null && EXECUCOES.contains(nome)) {
+                notificar(destino, sql, new ArrayList<>(parametros));
+            }
+            return linhas(nome, invocar(metodo, ps, argumentos), destino);
+        };
+        return proxy(PreparedStatement.class, handler);
+    }
+
+    // Conta as linhas efetivamente percorridas; chaves geradas não entram
+    private static Object linhas(String metodo, Object resultado, Supplier<Ouvinte> destino) {
+        if (!(resultado instanceof ResultSet rs) || !(metodo.equals("executeQuery") || metodo.equals("getResultSet"))) {
+            return resultado;
+        }
+        InvocationHandler handler = (proxy, chamado, argumentos) -> {
+            Object valor = invocar(chamado, rs, argumentos);
+            if (chamado.getName().equals("next") && Boolean.TRUE.equals(valor)) {
+                Ouvinte ouvinte = destino.get();
+                if (ouvinte != null) {
+                    ouvinte.leuLinha();
+                }
+            }
+            return valor;
+        };
+        return proxy(ResultSet.class, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InterceptadorSql.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+}
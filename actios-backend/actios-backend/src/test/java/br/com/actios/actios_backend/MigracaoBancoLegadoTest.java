@@ -0,0 +1,129 @@
+package br.com.actios.actios_backend;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Sobe a aplicação sobre um banco criado pelo BdAV2Actios.sql (o esquema de antes das migrações) e
+// confere que as migrações o levam ao esquema das entidades: toda entidade carrega, e as colunas,
+// chaves e índices novos existem. O script fica na raiz do repositório.
+@SpringBootTest(properties = {
+        "actios.outbox.habilitado=false",
+        "actios.lembretes.habilitado=false",
+        // Chaves só de teste; em produção os segredos vêm de ACTIOS_CERT_KEYS e ACTIOS_TOKEN_KEY
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
+@Testcontainers(disabledWithoutDocker = true)
+class MigracaoBancoLegadoTest {
+
+    private static final Path SCRIPT_LEGADO = Path.of("..", "..", "BdAV2Actios.sql");
+
+    @Container
+    @ServiceConnection
+    static MySqlLegado mysql = new MySqlLegado()
+            .withDatabaseName("actiosdb")
+            .withCopyFileToContainer(MountableFile.forHostPath(SCRIPT_LEGADO), "/tmp/BdAV2Actios.sql");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void todasAsMigracoesForamAplicadasSobreOBaseline() {
+        List<String> versoes = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class);
+
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6"), versoes);
+    }
+
+    @Test
+    void todaEntidadeCarregaDoBancoMigrado() {
+        // Seleciona todas as colunas mapeadas: coluna faltando falha com "Unknown column"
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EntityType<?> entidade : entityManager.getMetamodel().getEntities()) {
+                entityManager.createQuery("SELECT e FROM " + entidade.getName() + " e", entidade.getJavaType())
+                        .setMaxResults(5)
+                        .getResultList();
+            }
+        });
+
+        assertFalse(jdbcTemplate.queryForList("SELECT resumo_notificacoes FROM usuarios", Boolean.class).contains(true));
+        assertFalse(jdbcTemplate.queryForList("SELECT resumo FROM notificacoes", Boolean.class).contains(true));
+    }
+
+    @Test
+    void chavesEIndicesNovosExistemSemDuplicarOsDoScript() {
+        assertEquals(List.of("faculdade_id,ativo,tipo,nome"), colunasDoIndice("usuarios", "idx_usuarios_faculdade_ativo_tipo_nome"));
+        assertEquals(List.of("id_usuario,id_curso"), colunasDoIndice("registro_certificados", "uk_registro_certificados_usuario_curso"));
+        assertEquals(List.of("usuario_id,evento_id"), colunasDoIndice("inscricoes", "uk_inscricoes_usuario_evento"));
+        // O script já declara email UNIQUE; a migração não cria um segundo índice igual
+        assertEquals(List.of(), colunasDoIndice("usuarios", "uk_usuarios_email"));
+
+        Integer idUsuario = jdbcTemplate.queryForObject(
+                "SELECT id_usuario FROM registro_certificados ORDER BY id_certificado LIMIT 1", Integer.class);
+        Integer idCurso = jdbcTemplate.queryForObject(
+                "SELECT id_curso FROM registro_certificados ORDER BY id_certificado LIMIT 1", Integer.class);
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "INSERT INTO registro_certificados (id_certificado, id_usuario, id_curso, data_emissao, codigo_validacao) " +
+                "VALUES (999999, ?, ?, CURDATE(), 'DUPLICADO')", idUsuario, idCurso));
+    }
+
+    private List<String> colunasDoIndice(String tabela, String indice) {
+        return jdbcTemplate.queryForList(
+                "SELECT GROUP_CONCAT(column_name ORDER BY seq_in_index) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? GROUP BY index_name",
+                String.class, tabela, indice);
+    }
+
+    // O script usa DELIMITER e só roda pelo cliente mysql, antes de o Spring abrir o pool e rodar o Flyway
+    static final class MySqlLegado extends MySQLContainer<MySqlLegado> {
+
+        MySqlLegado() {
+            super("mysql:8.0");
+        }
+
+        @Override
+        protected void containerIsStarted(InspectContainerResponse info) {
+            super.containerIsStarted(info);
+            try {
+                ExecResult resultado = execInContainer("sh", "-c",
+                        "mysql -uroot -p" + getPassword() + " < /tmp/BdAV2Actios.sql");
+                if (resultado.getExitCode() != 0) {
+                    throw new IllegalStateException("BdAV2Actios.sql falhou: " + resultado.getStderr());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
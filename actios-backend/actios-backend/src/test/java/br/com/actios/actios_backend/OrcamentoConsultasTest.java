@@ -0,0 +1,459 @@
+package br.com.actios.actios_backend;
+
+import br.com.actios.actios_backend.repositorys.UsuarioRepository;
+import br.com.actios.actios_backend.service.TokenService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Chama cada endpoint contra um MySQL semeado e conta os comandos SQL e as linhas lidas por requisição.
+// Falha se um endpoint passar do orçamento declarado, se o número de comandos crescer com o tamanho do
+// resultado (N+1) ou se surgir endpoint sem orçamento. Os piores casos vão para target/relatorio-consultas.txt.
+@SpringBootTest(properties = {
+        "actios.outbox.habilitado=false",
+        "actios.lembretes.habilitado=false",
+        // Chaves só de teste; em produção os segredos vêm de ACTIOS_CERT_KEYS e ACTIOS_TOKEN_KEY
+        "actios.certificados.assinatura.chaves=2:RhxDo3evyMI1ViBB2cM7POlcbTREsZW0U3TdGXYG84k=",
+        "actios.auth.cifragem-chaves=tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI="
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@Import(InterceptadorSql.Config.class)
+@Sql(scripts = {"/explain/dados.sql", "/orcamento/dados.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class OrcamentoConsultasTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrcamentoConsultasTest.class);
+
+    // Consulta principal + associações carregadas em bloco, com folga
+    private static final int ORCAMENTO_LEITURA = 10;
+
+    // Escritas somam verificações, reserva de IDs (sequencias_id) e outbox
+    private static final int ORCAMENTO_ESCRITA = 15;
+
+    // Diferença aceita entre a versão grande e a pequena; um N+1 de verdade cresce dezenas de comandos
+    private static final int FOLGA_CRESCIMENTO = 2;
+
+    private static final int PIORES_NO_RELATORIO = 15;
+
+    private static final Path RELATORIO = Path.of("target", "relatorio-consultas.txt");
+
+    private static final String DATA_FUTURA = LocalDate.now().plusDays(30).toString();
+
+    private static final List<Chamada> CHAMADAS = List.of(
+            Chamada.get("/api/banco-dados/pools", "/api/banco-dados/pools"),
+            Chamada.get("/api/banco-dados/cache", "/api/banco-dados/cache"),
+            Chamada.get("/api/banco-dados/consultas", "/api/banco-dados/consultas"),
+            Chamada.get("/api/banco-dados/consultas/lentas", "/api/banco-dados/consultas/lentas"),
+            Chamada.get("/api/outbox/metricas", "/api/outbox/metricas"),
+
+            Chamada.get("/api/categorias/listar", "/api/categorias/listar"),
+            Chamada.get("/api/categorias/listarTodas", "/api/categorias/listarTodas"),
+            Chamada.get("/api/categorias/{id}", "/api/categorias/1"),
+            Chamada.post("/api/categorias/cadastrar", "/api/categorias/cadastrar")
+                    .corpo("{\"nome\":\"Categoria Orcamento\"}"),
+            Chamada.put("/api/categorias/atualizar", "/api/categorias/atualizar")
+                    .corpo("{\"idCategoria\":11,\"nome\":\"Categoria Renomeada\"}"),
+            Chamada.delete("/api/categorias/excluir/{id}", "/api/categorias/excluir/11"),
+
+            Chamada.get("/api/cursos/listar", "/api/cursos/listar"),
+            Chamada.get("/api/cursos/{id}", "/api/cursos/1"),
+            Chamada.post("/api/cursos/cadastrar", "/api/cursos/cadastrar")
+                    .corpo("{\"nome\":\"Curso Orcamento\",\"areaAcademica\":\"Area 1\",\"faculdade\":{\"idFaculdade\":1}}"),
+            Chamada.put("/api/cursos/{id}", "/api/cursos/1")
+                    .corpo("{\"nome\":\"Curso 1\",\"areaAcademica\":\"Area 9\"}"),
+            Chamada.delete("/api/cursos/excluir/{id}", "/api/cursos/excluir/52"),
+
+            Chamada.get("/api/eventos/listar", "/api/eventos/listar?size=2").crescendo("/api/eventos/listar?size=50"),
+            // Devolve a entidade: o Jackson percorre as coleções do evento
+            Chamada.get("/api/eventos/{id}", "/api/eventos/1001").orcamento(20),
+            Chamada.get("/api/eventos/futuros-por-nome-palestrante",
+                    "/api/eventos/futuros-por-nome-palestrante?nome=Palestrante&size=10").orcamento(20),
+            Chamada.post("/api/eventos/cadastrar", "/api/eventos/cadastrar")
+                    .corpo("{\"titulo\":\"Evento Orcamento\",\"data\":\"" + DATA_FUTURA + "\","
+                            + "\"faculdade\":{\"idFaculdade\":1},\"categoria\":{\"idCategoria\":1}}"),
+            Chamada.put("/api/eventos/atualizar", "/api/eventos/atualizar")
+                    .corpo("{\"idEvento\":1001,\"titulo\":\"Evento Pequeno\",\"data\":\"" + DATA_FUTURA + "\"}"),
+            Chamada.delete("/api/eventos/excluir/{id}", "/api/eventos/excluir/1002"),
+
+            // Listagens sem paginação da tabela inteira (1000 eventos): blocos de 100 por associação
+            Chamada.get("/api/eventos-detalhes/listar", "/api/eventos-detalhes/listar").orcamento(30),
+            Chamada.get("/api/eventos-detalhes/certificado/{certificado}", "/api/eventos-detalhes/certificado/true")
+                    .orcamento(30),
+            Chamada.get("/api/eventos-detalhes/{idEvento}", "/api/eventos-detalhes/1"),
+            Chamada.get("/api/eventos-detalhes/formato/{formato}", "/api/eventos-detalhes/formato/online"),
+            Chamada.get("/api/eventos-detalhes/valor-max/{valorMax}", "/api/eventos-detalhes/valor-max/15"),
+            Chamada.get("/api/eventos-detalhes/data-fim/{data}",
+                    "/api/eventos-detalhes/data-fim/" + LocalDate.now().minusDays(3)),
+            Chamada.post("/api/eventos-detalhes/salvar", "/api/eventos-detalhes/salvar")
+                    .corpo("{\"idEvento\":1002,\"dataFim\":\"" + DATA_FUTURA + "\",\"formato\":\"presencial\","
+                            + "\"certificado\":true,\"valor\":10}"),
+            Chamada.put("/api/eventos-detalhes/atualizar/{idEvento}", "/api/eventos-detalhes/atualizar/1001")
+                    .corpo("{\"valor\":20}"),
+
+            Chamada.get("/api/evento_palestrante/eventos-futuros",
+                    "/api/evento_palestrante/eventos-futuros?nome=Palestrante&size=10"),
+            Chamada.post("/api/evento_palestrante/associar", "/api/evento_palestrante/associar?eventoId=1001&palestranteId=2"),
+            Chamada.delete("/api/evento_palestrante/desassociar",
+                    "/api/evento_palestrante/desassociar?eventoId=1&palestranteId=1"),
+
+            Chamada.get("/api/faculdades/listar", "/api/faculdades/listar"),
+            // Devolve a entidade com organizadores e cursos
+            Chamada.get("/api/faculdades/{id}", "/api/faculdades/11").orcamento(20),
+            Chamada.get("/api/faculdades/{id}/estatisticas",
+                    "/api/faculdades/1/estatisticas?de=" + LocalDate.now().minusDays(90) + "&ate=" + LocalDate.now()),
+            Chamada.get("/api/faculdades/estatisticas/recalculo", "/api/faculdades/estatisticas/recalculo"),
+            Chamada.post("/api/faculdades/cadastrar", "/api/faculdades/cadastrar")
+                    .corpo("{\"nome\":\"Faculdade Orcamento\",\"localizacao\":\"Cidade\"}"),
+            Chamada.put("/api/faculdades/atualizar", "/api/faculdades/atualizar")
+                    .corpo("{\"idFaculdade\":11,\"nome\":\"Faculdade Pequena\",\"localizacao\":\"Outra\"}"),
+            Chamada.delete("/api/faculdades/excluir/{id}", "/api/faculdades/excluir/12"),
+
+            Chamada.get("/api/feedback-eventos/usuario/{idUsuario}", "/api/feedback-eventos/usuario/2")
+                    .crescendo("/api/feedback-eventos/usuario/1"),
+            Chamada.get("/api/feedback-eventos/evento/{idEvento}", "/api/feedback-eventos/evento/1001")
+                    .crescendo("/api/feedback-eventos/evento/1"),
+            Chamada.get("/api/feedback-eventos/usuario/{idUsuario}/evento/{idEvento}",
+                    "/api/feedback-eventos/usuario/2/evento/1001"),
+            Chamada.get("/api/feedback-eventos/evento/{idEvento}/contagem", "/api/feedback-eventos/evento/1/contagem"),
+            Chamada.get("/api/feedback-eventos/evento/{idEvento}/media-notas", "/api/feedback-eventos/evento/1/media-notas"),
+            Chamada.get("/api/feedback-eventos/nota/{nota}/contagem", "/api/feedback-eventos/nota/5/contagem"),
+            Chamada.post("/api/feedback-eventos/criar", "/api/feedback-eventos/criar?idUsuario=3&idEvento=1001&nota=5"),
+
+            // Tabela inteira (10 mil inscrições) sem paginação; usuário e evento vêm no mesmo SELECT
+            Chamada.get("/api/inscricoes/api/listar", "/api/inscricoes/api/listar").orcamento(40),
+            Chamada.post("/api/inscricoes/api/inscrever", "/api/inscricoes/api/inscrever?idUsuario=3&idEvento=1001"),
+            Chamada.delete("/api/inscricoes/api/cancelar/{id}", "/api/inscricoes/api/cancelar/40001"),
+
+            Chamada.get("/api/notificacoes/usuario/{idUsuario}", "/api/notificacoes/usuario/2")
+                    .crescendo("/api/notificacoes/usuario/1"),
+            Chamada.get("/api/notificacoes/evento/{idEvento}", "/api/notificacoes/evento/1001")
+                    .crescendo("/api/notificacoes/evento/1"),
+            Chamada.get("/api/notificacoes/data", "/api/notificacoes/data?data=" + LocalDateTime.now().withNano(0)),
+            Chamada.get("/api/notificacoes/usuario/{idUsuario}/contagem", "/api/notificacoes/usuario/1/contagem"),
+            Chamada.get("/api/notificacoes/evento/{idEvento}/contagem", "/api/notificacoes/evento/1/contagem"),
+            Chamada.get("/api/notificacoes/usuario/{idUsuario}/evento/{idEvento}", "/api/notificacoes/usuario/2/evento/1001"),
+            Chamada.post("/api/notificacoes/criar", "/api/notificacoes/criar?idUsuario=2&idEvento=1001&mensagem=Teste"),
+            Chamada.put("/api/notificacoes/usuario/{idUsuario}/resumo", "/api/notificacoes/usuario/2/resumo?ativo=true"),
+
+            Chamada.get("/api/organizadores/email/{email}", "/api/organizadores/email/org1@teste.com"),
+            Chamada.get("/api/organizadores/nome/{nome}", "/api/organizadores/nome/Unico"),
+            Chamada.get("/api/organizadores/faculdade/{idFaculdade}", "/api/organizadores/faculdade/11")
+                    .crescendo("/api/organizadores/faculdade/1"),
+            Chamada.get("/api/organizadores/faculdade/{idFaculdade}/contagem", "/api/organizadores/faculdade/1/contagem"),
+            Chamada.post("/api/organizadores/criar", "/api/organizadores/criar")
+                    .corpo("{\"nome\":\"Organizador Orcamento\",\"email\":\"org.orcamento@teste.com\",\"idFaculdade\":1}"),
+            Chamada.put("/api/organizadores/{idOrganizador}", "/api/organizadores/1")
+                    .corpo("{\"nome\":\"Organizador Renomeado\"}"),
+
+            Chamada.get("/api/palestrantes/listar", "/api/palestrantes/listar"),
+            Chamada.get("/api/palestrantes/{id}", "/api/palestrantes/1"),
+            Chamada.post("/api/palestrantes/cadastrar", "/api/palestrantes/cadastrar")
+                    .corpo("{\"nome\":\"Palestrante Orcamento\",\"email\":\"palestrante.orcamento@teste.com\"}"),
+            Chamada.put("/api/palestrantes/atualizar", "/api/palestrantes/atualizar")
+                    .corpo("{\"idPalestrante\":1,\"nome\":\"Palestrante 1\",\"email\":\"palestrante1@teste.com\"}"),
+            Chamada.delete("/api/palestrantes/excluir/{id}", "/api/palestrantes/excluir/201"),
+
+            Chamada.get("/api/participacoes/usuario/{idUsuario}", "/api/participacoes/usuario/2")
+                    .crescendo("/api/participacoes/usuario/1"),
+            Chamada.get("/api/participacoes/evento/{idEvento}", "/api/participacoes/evento/1001")
+                    .crescendo("/api/participacoes/evento/1"),
+            Chamada.get("/api/participacoes/evento/{idEvento}/contagem", "/api/participacoes/evento/1/contagem"),
+            Chamada.get("/api/participacoes/evento/{idEvento}/checkins", "/api/participacoes/evento/1/checkins"),
+            Chamada.post("/api/participacoes/registrar", "/api/participacoes/registrar?idUsuario=3&idEvento=1001"),
+            Chamada.post("/api/participacoes/{idParticipacao}/checkin", "/api/participacoes/40001/checkin"),
+            Chamada.post("/api/participacoes/{idParticipacao}/feedback", "/api/participacoes/40001/feedback?feedback=Bom"),
+
+            Chamada.get("/api/certificados/validar", "/api/certificados/validar?codigoValidacao=COD-1"),
+            Chamada.get("/api/certificados/verificar", "/api/certificados/verificar?codigoValidacao=COD-1"),
+            Chamada.get("/api/certificados/usuario/{idUsuario}", "/api/certificados/usuario/2")
+                    .crescendo("/api/certificados/usuario/1"),
+            Chamada.get("/api/certificados/curso/{idCurso}", "/api/certificados/curso/51")
+                    .crescendo("/api/certificados/curso/1"),
+            Chamada.get("/api/certificados/usuario/{idUsuario}/contagem", "/api/certificados/usuario/1/contagem"),
+            Chamada.get("/api/certificados/curso/{idCurso}/contagem", "/api/certificados/curso/1/contagem"),
+            Chamada.get("/api/certificados/usuario/{idUsuario}/curso/{idCurso}", "/api/certificados/usuario/2/curso/2"),
+            Chamada.get("/api/certificados/emissoes/{idEmissao}", "/api/certificados/emissoes/1"),
+            Chamada.post("/api/certificados/criar", "/api/certificados/criar?idUsuario=2&idCurso=52"),
+
+            Chamada.get("/api/usuarios/listar", "/api/usuarios/listar?tamanho=2")
+                    .crescendo("/api/usuarios/listar?tamanho=50"),
+            // Devolve a entidade com notificações, certificados e feedbacks
+            Chamada.get("/api/usuarios/{id}", "/api/usuarios/2").orcamento(20),
+            Chamada.get("/api/usuarios/importacoes/{idImportacao}", "/api/usuarios/importacoes/1"),
+            Chamada.post("/api/usuarios/cadastrar", "/api/usuarios/cadastrar")
+                    .corpo("{\"nome\":\"Usuario Orcamento\",\"email\":\"usuario.orcamento@teste.com\","
+                            + "\"senha\":\"Senha@123\",\"tipo\":\"ALUNO\",\"faculdade\":{\"idFaculdade\":1}}"),
+            Chamada.put("/api/usuarios/atualizar", "/api/usuarios/atualizar")
+                    .corpo("{\"idUsuario\":3,\"nome\":\"Usuario 3\",\"email\":\"usuario3@teste.com\",\"tipo\":\"ALUNO\"}"),
+            Chamada.delete("/api/usuarios/excluir/{id}", "/api/usuarios/excluir/5001"),
+            Chamada.post("/api/usuarios/login", "/api/usuarios/login?email=usuario2@teste.com&senha=Senha@123"),
+
+            Chamada.get("/api/vinculos-curso-usuario/cursos/{idUsuario}", "/api/vinculos-curso-usuario/cursos/2")
+                    .crescendo("/api/vinculos-curso-usuario/cursos/1"),
+            Chamada.get("/api/vinculos-curso-usuario/usuarios/{idCurso}", "/api/vinculos-curso-usuario/usuarios/51")
+                    .crescendo("/api/vinculos-curso-usuario/usuarios/1?tamanho=50"),
+            Chamada.get("/api/vinculos-curso-usuario/usuarios/{idCurso}/contagem",
+                    "/api/vinculos-curso-usuario/usuarios/1/contagem"),
+            Chamada.get("/api/vinculos-curso-usuario/concluidos",
+                    "/api/vinculos-curso-usuario/concluidos?idsUsuarios=1,2&idsCursos=1,2"),
+            Chamada.get("/api/vinculos-curso-usuario/concluintes/contagem",
+                    "/api/vinculos-curso-usuario/concluintes/contagem?idsCursos=1,2"),
+            Chamada.post("/api/vinculos-curso-usuario/vincular", "/api/vinculos-curso-usuario/vincular?idUsuario=2&idCurso=52"),
+            Chamada.delete("/api/vinculos-curso-usuario/desvincular",
+                    "/api/vinculos-curso-usuario/desvincular?idUsuario=2&idCurso=51")
+    );
+
+    // Endpoints fora da medição, cada um com o motivo
+    private static final Map<String, String> FORA_DO_ORCAMENTO = Map.ofEntries(
+            entry("POST /api/certificados/curso/{idCurso}/emissao-em-lote", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/certificados/emissoes/{idEmissao}/retomar", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/certificados/curso/{idCurso}/pdf", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/faculdades/estatisticas/recalcular", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/usuarios/importacoes", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/usuarios/importacoes/{idImportacao}/retomar", "job em segundo plano, fora da thread da requisição"),
+            entry("POST /api/vinculos-curso-usuario/lote", "lote em blocos com transações próprias; custo por bloco é fixo"),
+            entry("GET /api/certificados/{idCertificado}/pdf", "streaming: o corpo é escrito em outra thread"),
+            entry("GET /api/certificados/curso/{idCurso}/zip", "streaming: o corpo é escrito em outra thread"),
+            entry("GET /api/usuarios/importacoes/{idImportacao}/erros", "streaming: o corpo é escrito em outra thread"),
+            entry("GET /api/me/dashboard", "consultas em paralelo nas threads do DashboardService"),
+            entry("POST /api/certificados/{idCertificado}/revogar", "altera o conjunto de revogados em memória, que o rollback não desfaz"),
+            entry("POST /api/usuarios/logout", "revoga o token usado pelas demais chamadas")
+    );
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Test
+    void endpointsRespeitamOrcamentoDeConsultas() throws IOException {
+        List<String> violacoes = new ArrayList<>(verificarCobertura());
+        // Usuário 50 é FACULDADE: alcança também os endpoints administrativos
+        String autorizacao = "Bearer " + tokenService.emitir(usuarioRepository.findById(50).orElseThrow()).getToken();
+        List<Medicao> medicoes = new ArrayList<>();
+
+        for (Chamada chamada : CHAMADAS) {
+            Medicao pequena = medir(chamada, chamada.uri(), autorizacao);
+            medicoes.add(pequena);
+            verificarOrcamento(chamada, pequena, violacoes);
+
+            if (chamada.uriGrande() != null) {
+                Medicao grande = medir(chamada, chamada.uriGrande(), autorizacao);
+                medicoes.add(grande);
+                verificarOrcamento(chamada, grande, violacoes);
+                if (grande.comandos() > pequena.comandos() + FOLGA_CRESCIMENTO) {
+                    violacoes.add(chamada.chave() + " cresce com o resultado: " + pequena.comandos() + " comandos ("
+                            + pequena.linhas() + " linhas) -> " + grande.comandos() + " comandos ("
+                            + grande.linhas() + " linhas); repetido: " + grande.maisRepetido());
+                }
+            }
+        }
+
+        relatar(medicoes);
+        if (!violacoes.isEmpty()) {
+            fail("Orçamento de consultas violado:\n" + String.join("\n", violacoes));
+        }
+    }
+
+    // Todo endpoint mapeado precisa de orçamento ou de motivo para ficar de fora; entradas obsoletas também falham
+    private List<String> verificarCobertura() {
+        Set<String> mapeados = new TreeSet<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entrada : handlerMapping.getHandlerMethods().entrySet()) {
+            // /error e afins do Spring ficam de fora
+            if (!entrada.getValue().getBeanType().getPackageName().startsWith("br.com.actios")) {
+                continue;
+            }
+            for (RequestMethod verbo : entrada.getKey().getMethodsCondition().getMethods()) {
+                for (String padrao : entrada.getKey().getPatternValues()) {
+                    mapeados.add(verbo.name() + " " + padrao);
+                }
+            }
+        }
+
+        Set<String> declarados = new TreeSet<>(FORA_DO_ORCAMENTO.keySet());
+        CHAMADAS.forEach(chamada -> declarados.add(chamada.chave()));
+
+        List<String> problemas = new ArrayList<>();
+        for (String endpoint : mapeados) {
+            if (!declarados.contains(endpoint)) {
+                problemas.add(endpoint + " sem orçamento declarado");
+            }
+        }
+        for (String endpoint : declarados) {
+            if (!mapeados.contains(endpoint)) {
+                problemas.add(endpoint + " declarado mas não mapeado");
+            }
+        }
+        return problemas;
+    }
+
+    private void verificarOrcamento(Chamada chamada, Medicao medicao, List<String> violacoes) {
+        if (medicao.comandos() > chamada.orcamento()) {
+            violacoes.add(chamada.chave() + " (" + medicao.uri() + "): " + medicao.comandos() + " comandos, orçamento "
+                    + chamada.orcamento() + "; repetido: " + medicao.maisRepetido());
+        }
+    }
+
+    // Cada chamada roda numa transação descartada (a massa não muda entre chamadas) e com o cache de
+    // segundo nível vazio, para medir o pior caso; o flush entra na conta porque o commit não acontece
+    private Medicao medir(Chamada chamada, String uri, String autorizacao) {
+        entityManagerFactory.getCache().evictAll();
+        Map<String, Integer> porComando = new HashMap<>();
+        long[] linhas = {0};
+        String[] resultado = {""};
+
+        InterceptadorSql.Ouvinte ouvinte = new InterceptadorSql.Ouvinte() {
+            @Override
+            public void executou(String sql, List<Object[]> parametros) {
+                porComando.merge(sql, 1, Integer::sum);
+            }
+
+            @Override
+            public void leuLinha() {
+                linhas[0]++;
+            }
+        };
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            InterceptadorSql.ouvir(ouvinte);
+            try {
+                MockHttpServletRequestBuilder requisicao = MockMvcRequestBuilders.request(chamada.metodo(), uri)
+                        .header(HttpHeaders.AUTHORIZATION, autorizacao);
+                if (chamada.corpo() != null) {
+                    requisicao.contentType(MediaType.APPLICATION_JSON).content(chamada.corpo());
+                }
+                resultado[0] = String.valueOf(mockMvc.perform(requisicao).andReturn().getResponse().getStatus());
+                entityManager.flush();
+            } catch (Exception e) {
+                // Erro não isenta do orçamento: o que rodou até ali continua contado
+                resultado[0] = e.getClass().getSimpleName();
+            } finally {
+                InterceptadorSql.parar();
+            }
+        });
+
+        int comandos = porComando.values().stream().mapToInt(Integer::intValue).sum();
+        String maisRepetido = porComando.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(e -> e.getValue() + "x " + e.getKey())
+                .orElse("-");
+        return new Medicao(chamada.chave(), uri, resultado[0], comandos, linhas[0], maisRepetido);
+    }
+
+    private void relatar(List<Medicao> medicoes) throws IOException {
+        List<String> linhas = medicoes.stream()
+                .sorted(Comparator.comparingInt(Medicao::comandos).thenComparingLong(Medicao::linhas).reversed())
+                .limit(PIORES_NO_RELATORIO)
+                .map(m -> String.format("%4d comandos %7d linhas  [%s] %s %s%n      %s",
+                        m.comandos(), m.linhas(), m.resultado(), m.chave(), m.uri(), m.maisRepetido()))
+                .collect(Collectors.toList());
+
+        String relatorio = "Piores endpoints por comandos SQL (" + medicoes.size() + " medições)\n"
+                + String.join("\n", linhas) + "\n";
+        log.info("\n{}", relatorio);
+        Files.createDirectories(RELATORIO.getParent());
+        Files.writeString(RELATORIO, relatorio);
+    }
+
+    private record Medicao(String chave, String uri, String resultado, int comandos, long linhas, String maisRepetido) {
+    }
+
+    // padrao é o mapeamento do controller; uri, a chamada concreta; uriGrande, a mesma chamada com muito mais linhas
+    private record Chamada(HttpMethod metodo, String padrao, String uri, String uriGrande, String corpo, int orcamento) {
+
+        static Chamada get(String padrao, String uri) {
+            return new Chamada(HttpMethod.GET, padrao, uri, null, null, ORCAMENTO_LEITURA);
+        }
+
+        static Chamada post(String padrao, String uri) {
+            return new Chamada(HttpMethod.POST, padrao, uri, null, null, ORCAMENTO_ESCRITA);
+        }
+
+        static Chamada put(String padrao, String uri) {
+            return new Chamada(HttpMethod.PUT, padrao, uri, null, null, ORCAMENTO_ESCRITA);
+        }
+
+        static Chamada delete(String padrao, String uri) {
+            return new Chamada(HttpMethod.DELETE, padrao, uri, null, null, ORCAMENTO_ESCRITA);
+        }
+
+        Chamada crescendo(String uriGrande) {
+            return new Chamada(metodo, padrao, uri, uriGrande, corpo, orcamento);
+        }
+
+        Chamada corpo(String corpo) {
+            return new Chamada(metodo, padrao, uri, uriGrande, corpo, orcamento);
+        }
+
+        Chamada orcamento(int orcamento) {
+            return new Chamada(metodo, padrao, uri, uriGrande, corpo, orcamento);
+        }
+
+        String chave() {
+            return metodo.name() + " " + padrao;
+        }
+    }
+}
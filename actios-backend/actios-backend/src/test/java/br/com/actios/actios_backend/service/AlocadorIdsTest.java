@@ -0,0 +1,138 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AlocadorIdsTest {
+
+    private static final int BLOCO = AlocadorIds.BLOCO;
+
+    private SequenciasEmMemoria sequencias;
+    private AlocadorIds alocador;
+
+    @BeforeEach
+    void criar() {
+        sequencias = new SequenciasEmMemoria();
+        alocador = new AlocadorIds(sequencias, new TransacaoSemBanco());
+    }
+
+    @Test
+    void tabelaVaziaComecaNoId1EReservasSaoContiguas() {
+        // Estado depois do alinhamento com a tabela vazia: MAX(id) 0 + BLOCO
+        sequencias.valores.put("notificacoes", (long) BLOCO);
+
+        assertEquals(1, alocador.reservar("notificacoes", 10));
+        assertEquals(11, alocador.reservar("notificacoes", 10));
+        assertEquals(21, alocador.reservar("notificacoes", 1));
+        // Próximo bloco começa logo depois do último ID entregue
+        assertEquals(BLOCO + 21L, sequencias.valores.get("notificacoes"));
+    }
+
+    @Test
+    void sequenciaAlinhadaAcimaDoMaiorIdNaoReusaIdsExistentes() {
+        // Tabela que veio do AUTO_INCREMENT com MAX(id) = 1234
+        sequencias.valores.put("inscricoes", 1234L + BLOCO);
+
+        assertEquals(1235, alocador.reservar("inscricoes", 500));
+    }
+
+    @Test
+    void reservasEBlocosDoHibernateNuncaSeSobrepoem() {
+        sequencias.valores.put("participacoes", (long) BLOCO);
+        List<long[]> intervalos = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            if (i % 3 == 0) {
+                intervalos.add(sequencias.blocoHibernate("participacoes"));
+            } else {
+                int quantidade = 1 + i * 37;
+                long primeiro = alocador.reservar("participacoes", quantidade);
+                intervalos.add(new long[]{primeiro, primeiro + quantidade - 1});
+            }
+        }
+
+        // Em ordem de chegada, cada intervalo começa exatamente depois do anterior: sem buracos nem colisões
+        assertEquals(1, intervalos.get(0)[0]);
+        for (int i = 1; i < intervalos.size(); i++) {
+            assertEquals(intervalos.get(i - 1)[1] + 1, intervalos.get(i)[0], "Intervalo " + i);
+        }
+    }
+
+    @Test
+    void argumentosInvalidosSaoRecusados() {
+        sequencias.valores.put("notificacoes", (long) BLOCO);
+
+        assertThrows(IllegalArgumentException.class, () -> alocador.reservar("usuarios", 1));
+        assertThrows(IllegalArgumentException.class, () -> alocador.reservar("notificacoes", 0));
+        assertThrows(IllegalArgumentException.class, () -> alocador.reservar("notificacoes", -5));
+    }
+
+    @Test
+    void sequenciaSemLinhaFalhaEmVezDeDevolverIdAntigo() {
+        sequencias.valores.put("notificacoes", (long) BLOCO);
+        alocador.reservar("notificacoes", 10);
+
+        // LAST_INSERT_ID() da conexão ainda guarda o valor de notificacoes
+        assertThrows(IllegalStateException.class, () -> alocador.reservar("feedback_eventos", 10));
+    }
+
+    // Só a tabela sequencias_id, com o LAST_INSERT_ID(expr) da conexão
+    private static final class SequenciasEmMemoria extends JdbcTemplate {
+        private final Map<String, Long> valores = new HashMap<>();
+        private long ultimoId;
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (!sql.startsWith("UPDATE sequencias_id")) {
+                throw new UnsupportedOperationException(sql);
+            }
+            String nome = (String) args[1];
+            if (!valores.containsKey(nome)) {
+                return 0;
+            }
+            ultimoId = valores.merge(nome, ((Integer) args[0]).longValue(), Long::sum);
+            return 1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> tipo) {
+            return (T) Long.valueOf(ultimoId);
+        }
+
+        // Otimizador pooled: lê V, grava V + BLOCO e usa V - BLOCO + 1 .. V
+        long[] blocoHibernate(String nome) {
+            long lido = valores.get(nome);
+            valores.put(nome, lido + BLOCO);
+            return new long[]{lido - BLOCO + 1, lido};
+        }
+    }
+
+    private static final class TransacaoSemBanco implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definicao) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssinaturaCertificadoServiceTest {
+
+    private static final String CHAVE_2 = "2:" + segredo(2);
+    private static final String CHAVE_3 = "3:" + segredo(3);
+    private static final LocalDate EMISSAO = LocalDate.of(2025, 3, 14);
+
+    @Test
+    void codigoGeradoVerificaComOsMesmosDados() {
+        AssinaturaCertificadoService servico = new AssinaturaCertificadoService(CHAVE_2, 2, "1");
+
+        String codigo = servico.gerarCodigo(123_456, 789, 42, EMISSAO);
+        AssinaturaCertificadoService.CodigoCertificado verificado = servico.verificar(codigo);
+
+        assertEquals(46, codigo.length());
+        assertNotNull(verificado);
+        assertTrue(verificado.autentico());
+        assertEquals(2, verificado.idChave());
+        assertEquals(123_456, verificado.idCertificado());
+        assertEquals(789, verificado.idUsuario());
+        assertEquals(42, verificado.idCurso());
+        assertEquals(EMISSAO, verificado.dataEmissao());
+    }
+
+    @Test
+    void qualquerByteAlteradoInvalidaAAssinatura() {
+        AssinaturaCertificadoService servico = new AssinaturaCertificadoService(CHAVE_2, 2, "");
+        byte[] original = Base64.getUrlDecoder().decode(servico.gerarCodigo(1, 2, 3, EMISSAO));
+
+        // O byte 0 é a versão e o 1 a chave; alterá-los muda o formato, não a autenticidade
+        for (int i = 2; i < original.length; i++) {
+            byte[] adulterado = original.clone();
+            adulterado[i] ^= 0x01;
+
+            AssinaturaCertificadoService.CodigoCertificado verificado =
+                    servico.verificar(Base64.getUrlEncoder().withoutPadding().encodeToString(adulterado));
+            assertNotNull(verificado);
+            assertFalse(verificado.autentico(), "Byte " + i + " adulterado foi aceito");
+        }
+    }
+
+    @Test
+    void chaveDesconhecidaNaoAutentica() {
+        AssinaturaCertificadoService emissor = new AssinaturaCertificadoService(CHAVE_3, 3, "");
+        AssinaturaCertificadoService verificador = new AssinaturaCertificadoService(CHAVE_2, 2, "");
+
+        AssinaturaCertificadoService.CodigoCertificado verificado =
+                verificador.verificar(emissor.gerarCodigo(1, 2, 3, EMISSAO));
+
+        assertNotNull(verificado);
+        assertFalse(verificado.autentico());
+    }
+
+    @Test
+    void rotacaoMantemCodigosDaChaveAnterior() {
+        AssinaturaCertificadoService antes = new AssinaturaCertificadoService(CHAVE_2, 2, "");
+        AssinaturaCertificadoService depois = new AssinaturaCertificadoService(CHAVE_2 + "," + CHAVE_3, 3, "");
+
+        String antigo = antes.gerarCodigo(10, 20, 30, EMISSAO);
+        String novo = depois.gerarCodigo(11, 20, 30, EMISSAO);
+
+        assertTrue(depois.verificar(antigo).autentico());
+        assertEquals(2, depois.verificar(antigo).idChave());
+        assertEquals(3, depois.verificar(novo).idChave());
+        assertFalse(antes.verificar(novo).autentico());
+    }
+
+    @Test
+    void codigoDeChaveAposentadaVaiParaOCaminhoDoBanco() {
+        AssinaturaCertificadoService servico = new AssinaturaCertificadoService(CHAVE_2, 2, "1");
+        ByteBuffer bytes = ByteBuffer.allocate(34).put((byte) 1).put((byte) 1).putInt(1).putInt(2).putInt(3)
+                .putInt((int) EMISSAO.toEpochDay());
+
+        assertNull(servico.verificar(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array())));
+    }
+
+    @Test
+    void codigosForaDoFormatoAssinadoRetornamNull() {
+        AssinaturaCertificadoService servico = new AssinaturaCertificadoService(CHAVE_2, 2, "");
+
+        assertNull(servico.verificar(UUID.randomUUID().toString()));
+        assertNull(servico.verificar(""));
+        assertNull(servico.verificar("*".repeat(46)));
+        // Tamanho certo, versão desconhecida
+        assertNull(servico.verificar(Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[34])));
+    }
+
+    @Test
+    void configuracaoInvalidaImpedeASubida() {
+        assertThrows(IllegalStateException.class, () -> new AssinaturaCertificadoService("", 2, ""));
+        assertThrows(IllegalStateException.class, () -> new AssinaturaCertificadoService(CHAVE_2, 3, ""));
+        assertThrows(IllegalStateException.class, () -> new AssinaturaCertificadoService(CHAVE_2, 2, "2"));
+        assertThrows(IllegalStateException.class, () -> new AssinaturaCertificadoService("2" + segredo(2), 2, ""));
+        assertThrows(IllegalStateException.class, () -> new AssinaturaCertificadoService("256:" + segredo(1), 256, ""));
+    }
+
+    private static String segredo(int semente) {
+        byte[] bytes = new byte[32];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (semente * 31 + i);
+        }
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.exceptions.RecursoNaoEncontradoException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CertificadoPdfServiceTest {
+
+    private static final CertificadoPdfService.DadosCertificado CERTIFICADO = new CertificadoPdfService.DadosCertificado(
+            7, "ABC-123", LocalDate.of(2025, 3, 14), 42, "Maria da Silva", "maria@actios.local",
+            3, "Curso de Extensão", 5, "Faculdade Exemplo");
+
+    private final CertificadoPdfService servico = new CertificadoPdfService(new JdbcTemplateFixo(CERTIFICADO), 2, 100);
+
+    @AfterEach
+    void encerrar() {
+        servico.encerrar();
+    }
+
+    @Test
+    void renderizaDocumentoCompletoComOTamanhoInformado() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long bytes = servico.renderizar(CERTIFICADO, saida);
+
+        String pdf = saida.toString(StandardCharsets.ISO_8859_1);
+        assertEquals(saida.size(), bytes);
+        assertTrue(pdf.startsWith("%PDF-"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("ABC-123"));
+    }
+
+    @Test
+    void mesmaEntradaGeraOsMesmosBytes() throws Exception {
+        ByteArrayOutputStream primeira = new ByteArrayOutputStream();
+        ByteArrayOutputStream segunda = new ByteArrayOutputStream();
+
+        servico.renderizar(CERTIFICADO, primeira);
+        servico.renderizar(CERTIFICADO, segunda);
+
+        assertEquals(primeira.toString(StandardCharsets.ISO_8859_1), segunda.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void donoEFaculdadeDoCursoPodemBaixar() {
+        UsuarioAutenticado dono = usuario(42, "ALUNO", null);
+        UsuarioAutenticado faculdade = usuario(1, "FACULDADE", 5);
+
+        assertSame(CERTIFICADO, servico.buscarDadosAutorizados(7, dono));
+        assertSame(CERTIFICADO, servico.buscarDadosAutorizados(7, faculdade));
+    }
+
+    @Test
+    void demaisUsuariosRecebemNaoEncontrado() {
+        assertThrows(RecursoNaoEncontradoException.class,
+                () -> servico.buscarDadosAutorizados(7, usuario(43, "ALUNO", 5)));
+        assertThrows(RecursoNaoEncontradoException.class,
+                () -> servico.buscarDadosAutorizados(7, usuario(1, "FACULDADE", 6)));
+        assertThrows(RecursoNaoEncontradoException.class,
+                () -> servico.buscarDadosAutorizados(7, usuario(1, "FACULDADE", null)));
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.buscarDadosAutorizados(7, null));
+    }
+
+    @Test
+    void soAFaculdadeDoCursoOperaSobreTodosOsCertificados() {
+        servico.autorizarCurso(3, usuario(1, "FACULDADE", 5));
+
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.autorizarCurso(3, usuario(1, "FACULDADE", 6)));
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.autorizarCurso(3, usuario(42, "ALUNO", 5)));
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.autorizarCurso(3, null));
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.autorizarCurso(4, usuario(1, "FACULDADE", 5)));
+        assertThrows(RecursoNaoEncontradoException.class, () -> servico.renderizarCurso(3, usuario(1, "FACULDADE", 6)));
+    }
+
+    // Vazão com certificados sintéticos; rodar com -Dactios.benchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "actios.benchmark", matches = "true")
+    void benchmarkDeVazao() throws Exception {
+        int quantidade = Integer.getInteger("actios.benchmark.quantidade", 10_000);
+        int cursos = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        AtomicLong bytes = new AtomicLong();
+        List<Future<?>> tarefas = new ArrayList<>(quantidade);
+
+        long inicio = System.nanoTime();
+        try {
+            for (int i = 1; i <= quantidade; i++) {
+                int curso = i % cursos;
+                CertificadoPdfService.DadosCertificado dados = new CertificadoPdfService.DadosCertificado(i,
+                        "BENCHMARK-" + i, LocalDate.now(), i, "Participante de Avaliação Número " + i,
+                        "participante" + i + "@benchmark.local", curso, "Curso de Benchmark " + curso,
+                        curso, "Faculdade de Benchmark");
+                tarefas.add(executor.submit(() -> bytes.addAndGet(servico.renderizar(dados, OutputStream.nullOutputStream()))));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("%d PDFs, %d bytes, %.0f PDFs/s%n", quantidade, bytes.get(), quantidade / segundos);
+    }
+
+    private static UsuarioAutenticado usuario(Integer idUsuario, String tipo, Integer idFaculdade) {
+        return new UsuarioAutenticado(idUsuario, tipo, idFaculdade, "jti", 0, Long.MAX_VALUE);
+    }
+
+    // Devolve sempre o mesmo certificado, sem banco; só o curso 3 existe, na faculdade 5
+    private static final class JdbcTemplateFixo extends JdbcTemplate {
+        private final Object linha;
+
+        JdbcTemplateFixo(Object linha) {
+            this.linha = linha;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            return List.of((T) linha);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> tipo, Object... args) {
+            return Integer.valueOf(3).equals(args[0]) ? List.of((T) Integer.valueOf(5)) : List.of();
+        }
+    }
+}
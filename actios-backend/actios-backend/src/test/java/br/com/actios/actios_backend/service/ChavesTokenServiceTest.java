@@ -0,0 +1,312 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.UsuarioAutenticado;
+import br.com.actios.actios_backend.enums.TipoUsuario;
+import br.com.actios.actios_backend.model.ChaveToken;
+import br.com.actios.actios_backend.model.Faculdade;
+import br.com.actios.actios_backend.model.Usuario;
+import br.com.actios.actios_backend.repositorys.ChaveTokenRepository;
+import br.com.actios.actios_backend.repositorys.TokenRevogadoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChavesTokenServiceTest {
+
+    private static final long ROTACAO_HORAS = 24;
+    private static final long PUBLICACAO_MINUTOS = 5;
+    private static final long VALIDADE_TOKEN_MINUTOS = 15;
+    private static final String CIFRAGEM = "tF+sulBzLZGKpFvzgifRMnK/05w0Pps0ea4AZTGigoI=";
+    private static final String SEGREDO_EM_CLARO = "c2VncmVkby1kZS10ZXN0ZS1jb20tMzItYnl0ZXMhISE=";
+
+    // Conteúdo da tabela chaves_token
+    private final List<ChaveToken> tabela = new ArrayList<>();
+    private ChavesTokenService chaves;
+    private TokenService tokens;
+
+    @BeforeEach
+    void criar() {
+        chaves = servico(CIFRAGEM);
+        tokens = new TokenService(chaves, null, new ObjectMapper());
+        ReflectionTestUtils.setField(tokens, "validadeTokenMinutos", VALIDADE_TOKEN_MINUTOS);
+    }
+
+    @Test
+    void semChavesCriaUmaAtivaNaHora() {
+        chaves.sincronizar();
+
+        assertEquals(1, tabela.size());
+        UsuarioAutenticado autenticado = tokens.verificar(tokens.emitir(usuario()).getToken());
+        assertNotNull(autenticado);
+        assertEquals(7, autenticado.idUsuario());
+        assertEquals("FACULDADE", autenticado.tipo());
+        assertEquals(3, autenticado.idFaculdade());
+    }
+
+    @Test
+    void pertoDaRotacaoPublicaAProximaSemAtivar() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("antiga", agora.minusHours(ROTACAO_HORAS).plusMinutes(2), agora.plusHours(1)));
+        chaves.sincronizar();
+
+        assertEquals(2, tabela.size());
+        ChaveToken publicada = tabela.get(1);
+        long ativaEmSegundos = Duration.between(agora, publicada.getDataAtivacao()).toSeconds();
+        assertTrue(Math.abs(ativaEmSegundos - PUBLICACAO_MINUTOS * 60) <= 1, "Ativa em " + ativaEmSegundos + "s");
+        // Publicada mas ainda não ativa: continua assinando com a antiga, já verifica com a nova
+        assertEquals("antiga", chaves.ativa().getIdChave());
+        assertNotNull(chaves.porCabecalho(cabecalho(publicada.getIdChave())));
+    }
+
+    @Test
+    void longeDaRotacaoNaoPublicaNada() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("atual", agora.minusHours(1), agora.plusHours(ROTACAO_HORAS)));
+
+        chaves.sincronizar();
+        chaves.sincronizar();
+
+        assertEquals(1, tabela.size());
+    }
+
+    @Test
+    void tokenDaChaveAnteriorValeDepoisDaAtivacaoDaNova() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("antiga", agora.minusHours(ROTACAO_HORAS), agora.plusMinutes(20)));
+        chaves.sincronizar();
+        String assinadoComAntiga = tokens.emitir(usuario()).getToken();
+
+        // A nova chave chegou à ativação
+        tabela.clear();
+        tabela.add(chave("antiga", agora.minusHours(ROTACAO_HORAS), agora.plusMinutes(20)));
+        tabela.add(chave("nova", agora.minusSeconds(1), agora.plusHours(ROTACAO_HORAS)));
+        chaves.sincronizar();
+        String assinadoComNova = tokens.emitir(usuario()).getToken();
+
+        assertEquals("nova", chaves.ativa().getIdChave());
+        assertNotEquals(assinadoComAntiga.substring(0, assinadoComAntiga.indexOf('.')),
+                assinadoComNova.substring(0, assinadoComNova.indexOf('.')));
+        assertNotNull(tokens.verificar(assinadoComAntiga));
+        assertNotNull(tokens.verificar(assinadoComNova));
+    }
+
+    @Test
+    void chaveQueSaiuDaTabelaNaoVerificaMais() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("ativa", agora.minusHours(1), agora.plusHours(ROTACAO_HORAS)));
+        chaves.sincronizar();
+        String token = tokens.emitir(usuario()).getToken();
+
+        // Outro conjunto de chaves: o kid do token deixou de existir
+        tabela.clear();
+        tabela.add(chave("outra", agora.minusHours(1), agora.plusHours(ROTACAO_HORAS)));
+        chaves.sincronizar();
+
+        assertNull(tokens.verificar(token));
+        assertNull(chaves.porCabecalho(cabecalho("ativa")));
+    }
+
+    @Test
+    void assinaturaAdulteradaNaoVerifica() {
+        chaves.sincronizar();
+        String token = tokens.emitir(usuario()).getToken();
+        // Primeiro caractere da assinatura: os 6 bits entram no HMAC decodificado (o último tem bits de preenchimento)
+        int assinatura = token.lastIndexOf('.') + 1;
+        char trocado = token.charAt(assinatura) == 'A' ? 'B' : 'A';
+
+        assertNull(tokens.verificar(token.substring(0, assinatura) + trocado + token.substring(assinatura + 1)));
+        assertNull(tokens.verificar(token.substring(0, token.lastIndexOf('.'))));
+        assertNull(tokens.verificar("nao.e.um.token"));
+    }
+
+    @Test
+    void segredoNovoFicaCifradoNaTabela() {
+        chaves.sincronizar();
+
+        String gravado = tabela.get(0).getSegredo();
+        assertTrue(gravado.startsWith("v1:"), gravado);
+        assertNotNull(tokens.verificar(tokens.emitir(usuario()).getToken()));
+    }
+
+    @Test
+    void segredoEmClaroEhCifradoNaSincronizacao() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("legada", agora.minusHours(1), agora.plusHours(ROTACAO_HORAS)));
+        chaves.sincronizar();
+
+        assertEquals(1, tabela.size());
+        assertTrue(tabela.get(0).getSegredo().startsWith("v1:"));
+        assertEquals("legada", chaves.ativa().getIdChave());
+        String token = tokens.emitir(usuario()).getToken();
+
+        // Outro nó lendo a linha já cifrada assina com o mesmo segredo
+        ChavesTokenService outroNo = servico(CIFRAGEM);
+        outroNo.sincronizar();
+        assertNotNull(new TokenService(outroNo, null, new ObjectMapper()).verificar(token));
+    }
+
+    @Test
+    void outraChaveDeCifragemNaoLeOsSegredos() {
+        chaves.sincronizar();
+
+        ChavesTokenService outraCifragem = servico("AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=");
+        assertThrows(IllegalStateException.class, outraCifragem::sincronizar);
+    }
+
+    @Test
+    void segredoTrocadoEntreLinhasNaoDecifra() {
+        LocalDateTime agora = LocalDateTime.now();
+        tabela.add(chave("a", agora.minusHours(1), agora.plusHours(ROTACAO_HORAS)));
+        tabela.add(chave("b", agora.minusHours(2), agora.plusHours(ROTACAO_HORAS)));
+        chaves.sincronizar();
+
+        // O ID entra como dado associado: copiar o segredo cifrado de uma chave para outra não passa
+        tabela.get(1).setSegredo(tabela.get(0).getSegredo());
+        assertThrows(IllegalStateException.class, () -> servico(CIFRAGEM).sincronizar());
+    }
+
+    @Test
+    void semChaveDeCifragemNaoSobe() {
+        assertThrows(IllegalStateException.class, () -> servico(""));
+        assertThrows(IllegalStateException.class, () -> servico("c2hvcnQ="));
+    }
+
+    @Test
+    void revogacaoLocalSobreviveASincronizacaoQueNaoAViu() {
+        chaves.sincronizar();
+        // A leitura do banco não traz a revogação (ainda não confirmada quando a sincronização leu)
+        TokenService comRevogacoes = new TokenService(chaves, revogacoesNaoVistas(), new ObjectMapper());
+        ReflectionTestUtils.setField(comRevogacoes, "validadeTokenMinutos", VALIDADE_TOKEN_MINUTOS);
+        String token = comRevogacoes.emitir(usuario()).getToken();
+        String outro = comRevogacoes.emitir(usuario()).getToken();
+
+        comRevogacoes.revogar(comRevogacoes.verificar(token));
+        comRevogacoes.sincronizarRevogacoes();
+
+        assertNull(comRevogacoes.verificar(token));
+        assertNotNull(comRevogacoes.verificar(outro));
+
+        comRevogacoes.revogarUsuario(7);
+        comRevogacoes.sincronizarRevogacoes();
+        assertNull(comRevogacoes.verificar(outro));
+    }
+
+    // Custo da verificação por requisição; rodar com -Dactios.benchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "actios.benchmark", matches = "true")
+    void benchmarkDaVerificacao() {
+        int iteracoes = Integer.getInteger("actios.benchmark.iteracoes", 1_000_000);
+        chaves.sincronizar();
+        String token = tokens.emitir(usuario()).getToken();
+
+        // Aquecimento para o JIT não entrar na medição
+        for (int i = 0; i < Math.min(iteracoes, 10_000); i++) {
+            tokens.verificar(token);
+        }
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < iteracoes; i++) {
+            assertNotNull(tokens.verificar(token));
+        }
+        long duracaoNs = System.nanoTime() - inicio;
+
+        System.out.printf("%d verificações, %.0f ns por token%n", iteracoes, (double) duracaoNs / iteracoes);
+    }
+
+    private ChavesTokenService servico(String cifragem) {
+        ChavesTokenService servico = new ChavesTokenService(repositorio(), new TransactionTemplate(new TransacaoSemBanco()), cifragem);
+        ReflectionTestUtils.setField(servico, "rotacaoHoras", ROTACAO_HORAS);
+        ReflectionTestUtils.setField(servico, "publicacaoMinutos", PUBLICACAO_MINUTOS);
+        ReflectionTestUtils.setField(servico, "validadeTokenMinutos", VALIDADE_TOKEN_MINUTOS);
+        return servico;
+    }
+
+    private static Usuario usuario() {
+        Faculdade faculdade = new Faculdade();
+        faculdade.setIdFaculdade(3);
+        Usuario usuario = new Usuario();
+        usuario.setIdUsuario(7);
+        usuario.setTipo(TipoUsuario.FACULDADE);
+        usuario.setFaculdade(faculdade);
+        return usuario;
+    }
+
+    // Linha gravada em claro, como antes da cifragem
+    private static ChaveToken chave(String id, LocalDateTime ativacao, LocalDateTime expiracao) {
+        return new ChaveToken(id, SEGREDO_EM_CLARO, ativacao, expiracao);
+    }
+
+    private static String cabecalho(String idChave) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + idChave + "\"}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Só os métodos que o ChavesTokenService usa, sobre a lista em memória
+    private ChaveTokenRepository repositorio() {
+        return (ChaveTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ChaveTokenRepository.class}, (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "findByDataExpiracaoAfter" -> tabela.stream()
+                            .filter(chave -> chave.getDataExpiracao().isAfter((LocalDateTime) argumentos[0]))
+                            .toList();
+                    case "removerExpiradas" -> {
+                        int antes = tabela.size();
+                        tabela.removeIf(chave -> chave.getDataExpiracao().isBefore((LocalDateTime) argumentos[0]));
+                        yield antes - tabela.size();
+                    }
+                    case "save" -> {
+                        ChaveToken chave = (ChaveToken) argumentos[0];
+                        tabela.removeIf(existente -> existente.getIdChave().equals(chave.getIdChave()));
+                        tabela.add(chave);
+                        yield chave;
+                    }
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static TokenRevogadoRepository revogacoesNaoVistas() {
+        return (TokenRevogadoRepository) Proxy.newProxyInstance(ChavesTokenServiceTest.class.getClassLoader(),
+                new Class<?>[]{TokenRevogadoRepository.class}, (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                    case "findByDataExpiracaoAfter" -> List.of();
+                    case "removerExpirados" -> 0;
+                    case "save" -> argumentos[0];
+                    default -> throw new UnsupportedOperationException(metodo.getName());
+                });
+    }
+
+    private static final class TransacaoSemBanco implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definicao) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
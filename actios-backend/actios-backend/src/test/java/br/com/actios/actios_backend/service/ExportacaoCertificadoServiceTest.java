@@ -0,0 +1,38 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExportacaoCertificadoServiceTest {
+
+    @Test
+    void valoresComunsSaemComoEstao() {
+        assertEquals("Maria da Silva", ExportacaoCertificadoService.csv("Maria da Silva"));
+        assertEquals("maria@actios.local", ExportacaoCertificadoService.csv("maria@actios.local"));
+        assertEquals("", ExportacaoCertificadoService.csv(""));
+        assertEquals("", ExportacaoCertificadoService.csv(null));
+    }
+
+    @Test
+    void separadorAspasEQuebraDeLinhaVaoEntreAspas() {
+        assertEquals("\"a;b\"", ExportacaoCertificadoService.csv("a;b"));
+        assertEquals("\"diz \"\"oi\"\"\"", ExportacaoCertificadoService.csv("diz \"oi\""));
+        assertEquals("\"linha\nnova\"", ExportacaoCertificadoService.csv("linha\nnova"));
+    }
+
+    @Test
+    void inicioDeFormulaGanhaApostrofo() {
+        assertEquals("'=HYPERLINK(A1)", ExportacaoCertificadoService.csv("=HYPERLINK(A1)"));
+        assertEquals("'+1", ExportacaoCertificadoService.csv("+1"));
+        assertEquals("'-2+3", ExportacaoCertificadoService.csv("-2+3"));
+        assertEquals("'@SUM(A1)", ExportacaoCertificadoService.csv("@SUM(A1)"));
+        assertEquals("'\tcmd", ExportacaoCertificadoService.csv("\tcmd"));
+    }
+
+    @Test
+    void formulaComSeparadorEscapaOsDois() {
+        assertEquals("\"'=1;2\"", ExportacaoCertificadoService.csv("=1;2"));
+        assertEquals("\"'=\"\"a\"\"\"", ExportacaoCertificadoService.csv("=\"a\""));
+    }
+}
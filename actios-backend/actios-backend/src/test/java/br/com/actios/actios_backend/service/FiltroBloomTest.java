@@ -0,0 +1,114 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FiltroBloomTest {
+
+    @Test
+    void filtroVazioNaoContemNada() {
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(filtro.talvezContenha("codigo-" + i));
+        }
+    }
+
+    @Test
+    void nuncaDaFalsoNegativo() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.001);
+        List<String> codigos = codigos(10_000);
+        codigos.forEach(filtro::adicionar);
+
+        codigos.forEach(codigo -> assertTrue(filtro.talvezContenha(codigo), codigo));
+    }
+
+    @Test
+    void taxaDeFalsoPositivoFicaPertoDaConfigurada() {
+        double taxa = 0.01;
+        FiltroBloom filtro = new FiltroBloom(10_000, taxa);
+        codigos(10_000).forEach(filtro::adicionar);
+
+        int falsosPositivos = 0;
+        int consultas = 100_000;
+        for (String ausente : codigos(consultas)) {
+            if (filtro.talvezContenha(ausente)) {
+                falsosPositivos++;
+            }
+        }
+
+        // Com o filtro na capacidade a taxa esperada é a configurada; o dobro cobre a variação da amostra
+        assertTrue((double) falsosPositivos / consultas < taxa * 2,
+                "Taxa de falso positivo observada: " + (double) falsosPositivos / consultas);
+    }
+
+    @Test
+    void dimensionaBitsEFuncoesPelaFormulaPadrao() {
+        FiltroBloom filtro = new FiltroBloom(100_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 ≈ 958.506 bits, arredondado para palavras de 64; k = m/n ln 2 ≈ 7
+        assertEquals(958_528, filtro.getTotalBits());
+        assertEquals(7, filtro.getFuncoesHash());
+        assertEquals(100_000, filtro.getCapacidade());
+    }
+
+    @Test
+    void hashDependeDoValorInteiro() {
+        long[] a = FiltroBloom.hash("ABC-123");
+        long[] b = FiltroBloom.hash("ABC-124");
+
+        assertNotEquals(a[0], b[0]);
+        assertNotEquals(a[1], b[1]);
+        // O passo do duplo hashing é ímpar para percorrer todas as posições
+        assertEquals(1, a[1] & 1);
+    }
+
+    @Test
+    void adicoesConcorrentesNaoPerdemBits() throws Exception {
+        FiltroBloom filtro = new FiltroBloom(80_000, 0.001);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<List<String>> lotes = new ArrayList<>();
+        List<Future<?>> tarefas = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                List<String> lote = codigos(10_000);
+                lotes.add(lote);
+                tarefas.add(executor.submit(() -> lote.forEach(filtro::adicionar)));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        lotes.forEach(lote -> lote.forEach(codigo -> assertTrue(filtro.talvezContenha(codigo), codigo)));
+    }
+
+    @Test
+    void recusaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(1_000, 1));
+    }
+
+    private static List<String> codigos(int quantidade) {
+        List<String> codigos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            codigos.add(UUID.randomUUID().toString());
+        }
+        return codigos;
+    }
+}
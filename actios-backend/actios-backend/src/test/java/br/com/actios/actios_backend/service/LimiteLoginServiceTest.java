@@ -0,0 +1,55 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.LimiteTentativasException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LimiteLoginServiceTest {
+
+    private static final String IP = "203.0.113.7";
+
+    // Modo local: sem banco
+    private final LimiteLoginService limite = new LimiteLoginService(null, 15, 5, 50, 16_384);
+
+    @Test
+    void verificacoesSemFalhaNaoBloqueiamOIp() {
+        // Logins bem-sucedidos só passam por verificar; muitos usuários atrás do mesmo NAT não somam nada
+        for (int i = 0; i < 1_000; i++) {
+            limite.verificar("aluno" + i + "@actios.local", IP);
+        }
+
+        assertDoesNotThrow(() -> limite.verificar("aluno@actios.local", IP));
+    }
+
+    @Test
+    void falhasDoMesmoEmailBloqueiamOEmail() {
+        for (int i = 0; i < 5; i++) {
+            limite.verificar("alvo@actios.local", "198.51.100." + i);
+            limite.registrarFalha("alvo@actios.local", "198.51.100." + i);
+        }
+
+        assertThrows(LimiteTentativasException.class, () -> limite.verificar("alvo@actios.local", "192.0.2.1"));
+        assertDoesNotThrow(() -> limite.verificar("outro@actios.local", "192.0.2.1"));
+    }
+
+    @Test
+    void falhasComEmailsVariadosBloqueiamOIp() {
+        for (int i = 0; i < 50; i++) {
+            limite.registrarFalha("tentativa" + i + "@actios.local", IP);
+        }
+
+        assertThrows(LimiteTentativasException.class, () -> limite.verificar("novo@actios.local", IP));
+        assertDoesNotThrow(() -> limite.verificar("novo@actios.local", "192.0.2.1"));
+    }
+
+    @Test
+    void semIpContaSoOEmail() {
+        for (int i = 0; i < 4; i++) {
+            limite.registrarFalha("alvo@actios.local", null);
+        }
+
+        assertDoesNotThrow(() -> limite.verificar("alvo@actios.local", null));
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.config.RoteadorDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaMonitorServiceTest {
+
+    @Test
+    void atrasoVemDoShowReplicaStatus() {
+        RoteadorDataSource roteador = verificar(Map.of("SHOW REPLICA STATUS", linha("Seconds_Behind_Source", 3L)));
+
+        assertEquals(3, roteador.getAtrasoReplicaSegundos());
+        assertTrue(roteador.isReplicaDisponivel());
+    }
+
+    @Test
+    void versaoAntigaCaiParaShowSlaveStatus() {
+        RoteadorDataSource roteador = verificar(Map.of("SHOW SLAVE STATUS", linha("Seconds_Behind_Master", 2L)));
+
+        assertEquals(2, roteador.getAtrasoReplicaSegundos());
+        assertTrue(roteador.isReplicaDisponivel());
+    }
+
+    @Test
+    void atrasoIlegivelTiraAReplicaDaRota() {
+        RoteadorDataSource roteador = verificar(Map.of());
+
+        assertEquals(-1, roteador.getAtrasoReplicaSegundos());
+        assertFalse(roteador.isReplicaDisponivel());
+    }
+
+    @Test
+    void replicacaoParadaOuAtrasadaTiraAReplicaDaRota() {
+        assertEquals(-1, verificar(Map.of("SHOW REPLICA STATUS", linha("Seconds_Behind_Source", null)))
+                .getAtrasoReplicaSegundos());
+
+        RoteadorDataSource atrasada = verificar(Map.of("SHOW REPLICA STATUS", linha("Seconds_Behind_Source", 60L)));
+        assertEquals(60, atrasada.getAtrasoReplicaSegundos());
+        assertFalse(atrasada.isReplicaDisponivel());
+    }
+
+    @Test
+    void instanciaSemReplicacaoConfiguradaNaoTemAtraso() {
+        RoteadorDataSource roteador = verificar(Map.of("SHOW REPLICA STATUS", new HashMap<>()));
+
+        assertEquals(0, roteador.getAtrasoReplicaSegundos());
+        assertTrue(roteador.isReplicaDisponivel());
+    }
+
+    // Uma verificação contra uma réplica que só responde aos comandos dados (linha vazia: sem resultado)
+    private static RoteadorDataSource verificar(Map<String, Map<String, Long>> respostas) {
+        RoteadorDataSource roteador = new RoteadorDataSource(new HikariDataSource(), new ReplicaFalsa(respostas));
+        ReplicaMonitorService monitor = new ReplicaMonitorService(roteador);
+        ReflectionTestUtils.setField(monitor, "atrasoMaximoSegundos", 5L);
+        monitor.verificar();
+        return roteador;
+    }
+
+    private static Map<String, Long> linha(String coluna, Long valor) {
+        Map<String, Long> linha = new HashMap<>();
+        linha.put(coluna, valor);
+        return linha;
+    }
+
+    private static final class ReplicaFalsa extends HikariDataSource {
+        private final Map<String, Map<String, Long>> respostas;
+
+        ReplicaFalsa(Map<String, Map<String, Long>> respostas) {
+            this.respostas = respostas;
+        }
+
+        @Override
+        public Connection getConnection() {
+            return proxy(Connection.class, (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                case "createStatement" -> statement();
+                case "close" -> null;
+                default -> throw new UnsupportedOperationException(metodo.getName());
+            });
+        }
+
+        private Statement statement() {
+            return proxy(Statement.class, (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                case "executeQuery" -> {
+                    Map<String, Long> linha = respostas.get((String) argumentos[0]);
+                    if (linha == null) {
+                        throw new SQLSyntaxErrorException("You have an error in your SQL syntax");
+                    }
+                    yield resultado(linha);
+                }
+                case "close" -> null;
+                default -> throw new UnsupportedOperationException(metodo.getName());
+            });
+        }
+
+        private static ResultSet resultado(Map<String, Long> linha) {
+            boolean[] lida = {false};
+            boolean[] nulo = {false};
+            return proxy(ResultSet.class, (proxy, metodo, argumentos) -> switch (metodo.getName()) {
+                case "next" -> {
+                    boolean proxima = !lida[0] && !linha.isEmpty();
+                    lida[0] = true;
+                    yield proxima;
+                }
+                case "getLong" -> {
+                    if (!linha.containsKey((String) argumentos[0])) {
+                        throw new SQLException("Column '" + argumentos[0] + "' not found");
+                    }
+                    Long valor = linha.get((String) argumentos[0]);
+                    nulo[0] = valor == null;
+                    yield valor == null ? 0L : valor;
+                }
+                case "wasNull" -> nulo[0];
+                case "close" -> null;
+                default -> throw new UnsupportedOperationException(metodo.getName());
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(ReplicaMonitorServiceTest.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+        }
+    }
+}
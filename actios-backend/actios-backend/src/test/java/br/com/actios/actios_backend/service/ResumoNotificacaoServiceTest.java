@@ -0,0 +1,176 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.model.Evento;
+import br.com.actios.actios_backend.model.Notificacao;
+import br.com.actios.actios_backend.model.Usuario;
+import br.com.actios.actios_backend.repositorys.EventoRepository;
+import br.com.actios.actios_backend.repositorys.NotificacaoRepository;
+import br.com.actios.actios_backend.repositorys.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumoNotificacaoServiceTest {
+
+    private final List<Notificacao> gravadas = new ArrayList<>();
+    private boolean falharGravacao;
+    private ResumoNotificacaoService servico;
+
+    @BeforeEach
+    void criar() {
+        servico = new ResumoNotificacaoService(notificacoes(), referencias(UsuarioRepository.class, Usuario.class),
+                referencias(EventoRepository.class, Evento.class), new TransactionTemplate(new TransacaoSemBanco()));
+        ReflectionTestUtils.setField(servico, "maxMensagens", 5);
+        ReflectionTestUtils.setField(servico, "maxMensagensPorUsuario", 3);
+        ReflectionTestUtils.setField(servico, "usuariosPorLote", 2);
+    }
+
+    @AfterEach
+    void limpar() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void umaLinhaPorUsuarioComMensagensRepetidasUmaVezSo() {
+        servico.acumular(1, evento(10, "Semana de TI"), "Sala alterada");
+        servico.acumular(1, evento(10, "Semana de TI"), "Sala alterada");
+        servico.acumular(1, evento(11, "Hackathon"), "Inscrições abertas");
+        servico.acumular(2, evento(10, "Semana de TI"), "Sala alterada");
+        servico.acumular(3, evento(10, "Semana de TI"), "Sala alterada");
+
+        servico.consolidar();
+
+        assertEquals(3, gravadas.size());
+        Notificacao primeiro = gravadas.get(0);
+        assertTrue(primeiro.isResumo());
+        assertNull(primeiro.getEvento(), "Resumo de vários eventos não fica vinculado a um deles");
+        assertEquals("Resumo de notificações (3 notificações):\n- Semana de TI: Sala alterada\n- Hackathon: Inscrições abertas",
+                primeiro.getMensagem());
+        assertEquals(10, gravadas.get(1).getEvento().getIdEvento());
+        assertEquals(0, servico.totalUsuariosPendentes());
+    }
+
+    @Test
+    void itemSoEntraNoResumoDepoisDoCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(servico.acumular(1, evento(10, "Semana de TI"), "Sala alterada"));
+        assertEquals(0, servico.totalUsuariosPendentes());
+
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        sincronizacoes.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(1, servico.totalUsuariosPendentes());
+    }
+
+    @Test
+    void bufferCheioDevolveFalseSemPerderRepetidas() {
+        servico.acumular(1, evento(10, "A"), "m1");
+        servico.acumular(1, evento(10, "A"), "m2");
+        servico.acumular(1, evento(10, "A"), "m3");
+
+        // Limite por usuário: mensagem nova é gravada na hora por quem chamou; repetida ainda entra
+        assertFalse(servico.acumular(1, evento(10, "A"), "m4"));
+        assertTrue(servico.acumular(1, evento(10, "A"), "m1"));
+
+        servico.acumular(2, evento(10, "A"), "m1");
+        servico.acumular(3, evento(10, "A"), "m1");
+        // Limite total de mensagens distintas
+        assertFalse(servico.acumular(4, evento(10, "A"), "m1"));
+
+        servico.consolidar();
+        assertTrue(servico.acumular(4, evento(10, "A"), "m1"));
+    }
+
+    @Test
+    void loteQueFalhaVoltaParaOBuffer() {
+        servico.acumular(1, evento(10, "A"), "m1");
+        servico.acumular(2, evento(10, "A"), "m1");
+        servico.acumular(3, evento(10, "A"), "m1");
+
+        falharGravacao = true;
+        servico.consolidar();
+        assertEquals(3, servico.totalUsuariosPendentes());
+
+        // Mais uma para o usuário 1 antes da próxima execução: entra no mesmo resumo
+        servico.acumular(1, evento(10, "A"), "m2");
+        falharGravacao = false;
+        servico.consolidar();
+
+        assertEquals(3, gravadas.size());
+        assertEquals("Resumo de notificações (2 notificações):\n- A: m1 | m2", gravadas.stream()
+                .filter(n -> n.getUsuario().getIdUsuario() == 1).findFirst().orElseThrow().getMensagem());
+    }
+
+    private static Evento evento(int id, String titulo) {
+        Evento evento = new Evento();
+        evento.setIdEvento(id);
+        evento.setTitulo(titulo);
+        return evento;
+    }
+
+    @SuppressWarnings("unchecked")
+    private NotificacaoRepository notificacoes() {
+        return (NotificacaoRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{NotificacaoRepository.class}, (proxy, metodo, argumentos) -> {
+                    if (!metodo.getName().equals("saveAll")) {
+                        throw new UnsupportedOperationException(metodo.getName());
+                    }
+                    if (falharGravacao) {
+                        throw new IllegalStateException("banco fora");
+                    }
+                    ((Iterable<Notificacao>) argumentos[0]).forEach(gravadas::add);
+                    return argumentos[0];
+                });
+    }
+
+    // getReferenceById devolve uma entidade só com o ID
+    private static <R> R referencias(Class<R> repositorio, Class<?> entidade) {
+        return repositorio.cast(Proxy.newProxyInstance(ResumoNotificacaoServiceTest.class.getClassLoader(),
+                new Class<?>[]{repositorio}, (proxy, metodo, argumentos) -> {
+                    if (!metodo.getName().equals("getReferenceById")) {
+                        throw new UnsupportedOperationException(metodo.getName());
+                    }
+                    if (entidade == Usuario.class) {
+                        Usuario usuario = new Usuario();
+                        usuario.setIdUsuario((Integer) argumentos[0]);
+                        return usuario;
+                    }
+                    return evento((Integer) argumentos[0], null);
+                }));
+    }
+
+    private static final class TransacaoSemBanco implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definicao) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
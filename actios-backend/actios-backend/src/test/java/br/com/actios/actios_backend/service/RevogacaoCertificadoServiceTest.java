@@ -0,0 +1,50 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.repositorys.CertificadoRevogadoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevogacaoCertificadoServiceTest {
+
+    // Conteúdo de certificados_revogados no momento da leitura
+    private final List<Integer> tabela = new ArrayList<>();
+    private final RevogacaoCertificadoService revogacoes = new RevogacaoCertificadoService(repositorio(), null);
+
+    @Test
+    void recargaTrazRevogacoesDeOutrosNos() {
+        tabela.add(3);
+
+        revogacoes.recarregar();
+
+        assertTrue(revogacoes.estaRevogado(3));
+        assertFalse(revogacoes.estaRevogado(4));
+    }
+
+    @Test
+    void recargaQueLeuAntesDoCommitNaoDesfazRevogacaoLocal() {
+        tabela.add(3);
+        // Confirmada aqui depois de a recarga ter lido a tabela
+        revogacoes.registrarRevogado(9);
+
+        revogacoes.recarregar();
+
+        assertTrue(revogacoes.estaRevogado(9));
+        assertTrue(revogacoes.estaRevogado(3));
+    }
+
+    private CertificadoRevogadoRepository repositorio() {
+        return (CertificadoRevogadoRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CertificadoRevogadoRepository.class}, (proxy, metodo, argumentos) -> {
+                    if (!metodo.getName().equals("findAllIds")) {
+                        throw new UnsupportedOperationException(metodo.getName());
+                    }
+                    return List.copyOf(tabela);
+                });
+    }
+}
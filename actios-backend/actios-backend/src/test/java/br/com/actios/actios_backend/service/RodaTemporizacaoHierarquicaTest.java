@@ -0,0 +1,143 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RodaTemporizacaoHierarquicaTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void recusaInstanteJaVencido() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 10_000);
+
+        assertFalse(roda.agendar("a", 10_000, "a"));
+        assertFalse(roda.agendar("b", 5_000, "b"));
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    void disparaNoPrimeiroTickAposOVencimentoENuncaAntes() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        assertTrue(roda.agendar("a", 2_500, "a"));
+
+        assertTrue(roda.avancar(2_000).isEmpty());
+        assertTrue(roda.avancar(2_999).isEmpty());
+        assertEquals(List.of("a"), roda.avancar(3_000));
+        assertFalse(roda.contem("a"));
+    }
+
+    @Test
+    void vencimentoDentroDoTickCorrenteVaiParaOProximo() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        assertTrue(roda.agendar("a", 1, "a"));
+
+        assertEquals(List.of("a"), roda.avancar(1_000));
+    }
+
+    @Test
+    void entradaAlemDaBaseDesceDeNivelAteVencer() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        // Além de 60 ticks (segundo nível) e de 3600 ticks (terceiro nível)
+        long minutos = 90 * 60_000L + 500;
+        long horas = 3 * 3_600_000L + 250;
+        roda.agendar("minutos", minutos, "minutos");
+        roda.agendar("horas", horas, "horas");
+
+        Map<String, Long> disparos = avancarAte(roda, horas + 2 * TICK);
+
+        assertPrazo(minutos, disparos.get("minutos"));
+        assertPrazo(horas, disparos.get("horas"));
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    void cadaEntradaDisparaUmaVezDentroDeUmTick() {
+        RodaTemporizacaoHierarquica<Integer> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        Random aleatorio = new Random(42);
+        Map<String, Long> vencimentos = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long vencimento = 1 + aleatorio.nextInt(2 * 3_600_000);
+            vencimentos.put(String.valueOf(i), vencimento);
+            assertTrue(roda.agendar(String.valueOf(i), vencimento, i));
+        }
+
+        Map<String, Long> disparos = avancarAte(roda, 2 * 3_600_000L + 2 * TICK);
+
+        assertEquals(vencimentos.size(), disparos.size());
+        vencimentos.forEach((chave, vencimento) -> assertPrazo(vencimento, disparos.get(chave)));
+    }
+
+    @Test
+    void saltoGrandeEntregaTodosOsVencidosDeUmaVez() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        roda.agendar("a", 30_000, "a");
+        roda.agendar("b", 600_000, "b");
+        roda.agendar("c", 7_200_000, "c");
+        roda.agendar("d", 7_300_000, "d");
+
+        List<String> vencidas = roda.avancar(7_250_000);
+
+        assertEquals(3, vencidas.size());
+        assertTrue(vencidas.containsAll(List.of("a", "b", "c")));
+        assertTrue(roda.contem("d"));
+    }
+
+    @Test
+    void cancelarRetiraAEntrada() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        roda.agendar("a", 5_000, "a");
+        roda.agendar("b", 5_000, "b");
+
+        assertTrue(roda.cancelar("a"));
+        assertFalse(roda.cancelar("a"));
+        assertEquals(1, roda.tamanho());
+        assertEquals(List.of("b"), roda.avancar(10_000));
+    }
+
+    @Test
+    void reagendarMesmaChaveSubstituiOVencimento() {
+        RodaTemporizacaoHierarquica<String> roda = new RodaTemporizacaoHierarquica<>(TICK, 60, 0);
+        roda.agendar("a", 5_000, "antigo");
+        roda.agendar("a", 120_000, "novo");
+
+        assertEquals(1, roda.tamanho());
+        assertTrue(roda.avancar(60_000).isEmpty());
+        assertEquals(List.of("novo"), roda.avancar(121_000));
+    }
+
+    @Test
+    void recusaTickOuTamanhoInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizacaoHierarquica<String>(0, 60, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizacaoHierarquica<String>(TICK, 0, 0));
+    }
+
+    // Avança tick a tick, como o agendador faz, e anota em que instante cada chave venceu
+    private static <T> Map<String, Long> avancarAte(RodaTemporizacaoHierarquica<T> roda, long fim) {
+        Map<String, Long> disparos = new HashMap<>();
+        for (long agora = TICK; agora <= fim; agora += TICK) {
+            for (T valor : roda.avancar(agora)) {
+                Long anterior = disparos.put(String.valueOf(valor), agora);
+                assertNull(anterior, "Entrada " + valor + " disparou duas vezes");
+            }
+        }
+        return disparos;
+    }
+
+    private static void assertPrazo(long vencimento, Long disparo) {
+        assertNotNull(disparo, "Entrada com vencimento " + vencimento + " não disparou");
+        assertTrue(disparo >= vencimento, "Disparou antes da hora: " + disparo + " < " + vencimento);
+        assertTrue(disparo <= vencimento + TICK, "Disparou com mais de um tick de atraso: " + disparo);
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.ServicoSobrecarregadoException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SenhaServiceTest {
+
+    // Custo baixo para os testes: o que se testa é o pool, não o bcrypt
+    private final SenhaService senhas = criar(4);
+    private final CountDownLatch liberar = new CountDownLatch(1);
+
+    @AfterEach
+    void encerrar() {
+        liberar.countDown();
+        senhas.encerrar();
+    }
+
+    @Test
+    void hashGeradoConfereSoComASenhaCerta() {
+        String hash = senhas.gerarHash("segredo");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(senhas.confere("segredo", hash));
+        assertFalse(senhas.confere("outra", hash));
+    }
+
+    @Test
+    void senhaLegadaEmTextoPuroConfereEPedeRehash() {
+        assertTrue(senhas.confere("segredo", "segredo"));
+        assertFalse(senhas.confere("segred", "segredo"));
+        assertTrue(senhas.precisaRehash("segredo"));
+    }
+
+    @Test
+    void hashComCustoMenorPedeRehash() {
+        SenhaService custoMaior = criar(5);
+        try {
+            assertTrue(custoMaior.precisaRehash(new BCryptPasswordEncoder(4).encode("segredo")));
+            assertFalse(custoMaior.precisaRehash(custoMaior.gerarHash("segredo")));
+        } finally {
+            custoMaior.encerrar();
+        }
+    }
+
+    @Test
+    void filaCheiaRejeitaNaHora() {
+        ocuparPool();
+
+        assertThrows(ServicoSobrecarregadoException.class, () -> senhas.gerarHash("segredo"));
+        assertEquals(1, senhas.getRejeitadas());
+    }
+
+    @Test
+    void semHashArmazenadoAindaPassaPeloPool() {
+        // Com o pool cheio a rejeição mostra que o bcrypt fictício roda, em vez de um false imediato
+        ocuparPool();
+
+        assertThrows(ServicoSobrecarregadoException.class, () -> senhas.confere("segredo", null));
+    }
+
+    @Test
+    void esperaAlemDoLimiteViraSobrecarga() {
+        ReflectionTestUtils.setField(senhas, "esperaMaximaMs", 50L);
+        executor().submit(this::aguardarLiberacao);
+
+        // Vai para a fila (cabe uma) e não é atendida dentro do prazo
+        assertThrows(ServicoSobrecarregadoException.class, () -> senhas.gerarHash("segredo"));
+        assertEquals(1, senhas.getRejeitadas());
+    }
+
+    @Test
+    void calibracaoRespeitaOsLimitesDeCusto() {
+        // Latência alvo menor que qualquer hash: fica no custo mínimo
+        SenhaService calibrado = new SenhaService(0, 1, 1, 1);
+        try {
+            assertEquals(10, calibrado.getCusto());
+        } finally {
+            calibrado.encerrar();
+        }
+        assertEquals(4, senhas.getCusto());
+    }
+
+    // Fora do Spring a espera máxima não vem do @Value
+    private static SenhaService criar(int custo) {
+        SenhaService servico = new SenhaService(custo, 50, 1, 1);
+        ReflectionTestUtils.setField(servico, "esperaMaximaMs", 2000L);
+        return servico;
+    }
+
+    // Uma tarefa presa na única thread e outra ocupando a única vaga da fila
+    private void ocuparPool() {
+        ThreadPoolExecutor executor = executor();
+        executor.submit(this::aguardarLiberacao);
+        executor.submit(this::aguardarLiberacao);
+    }
+
+    private ThreadPoolExecutor executor() {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(senhas, "executor");
+    }
+
+    private void aguardarLiberacao() {
+        try {
+            liberar.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
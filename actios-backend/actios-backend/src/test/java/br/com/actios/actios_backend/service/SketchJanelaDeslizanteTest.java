@@ -0,0 +1,106 @@
+package br.com.actios.actios_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SketchJanelaDeslizanteTest {
+
+    private static final long JANELA = 60_000;
+
+    @Test
+    void contaExatoSemColisoes() {
+        SketchJanelaDeslizante sketch = new SketchJanelaDeslizante(JANELA, 4, 4, 16_384);
+        for (int i = 0; i < 7; i++) {
+            sketch.incrementar("a", 1_000);
+        }
+        sketch.incrementar("b", 1_000);
+
+        assertEquals(7, sketch.estimar("a", 1_000));
+        assertEquals(1, sketch.estimar("b", 1_000));
+        assertEquals(0, sketch.estimar("c", 1_000));
+    }
+
+    @Test
+    void nuncaSubestimaMesmoComColisoes() {
+        // Largura pequena de propósito: muitas chaves por coluna
+        SketchJanelaDeslizante sketch = new SketchJanelaDeslizante(JANELA, 4, 4, 64);
+        Random aleatorio = new Random(7);
+        int[] reais = new int[2_000];
+        for (int i = 0; i < 20_000; i++) {
+            int chave = aleatorio.nextInt(reais.length);
+            reais[chave]++;
+            sketch.incrementar("chave-" + chave, 5_000);
+        }
+
+        for (int chave = 0; chave < reais.length; chave++) {
+            assertTrue(sketch.estimar("chave-" + chave, 5_000) >= reais[chave], "Chave " + chave + " subestimada");
+        }
+    }
+
+    @Test
+    void contagemSaiDaJanelaComAFatia() {
+        // 4 fatias de 15 s: a contagem de t=0 vale até o fim da quarta fatia
+        SketchJanelaDeslizante sketch = new SketchJanelaDeslizante(JANELA, 4, 4, 1_024);
+        sketch.incrementar("ip", 0);
+        sketch.incrementar("ip", 20_000);
+
+        assertEquals(15_000, sketch.getDuracaoFatiaMs());
+        assertEquals(2, sketch.estimar("ip", 59_999));
+        assertEquals(1, sketch.estimar("ip", 60_000));
+        assertEquals(1, sketch.estimar("ip", 74_999));
+        assertEquals(0, sketch.estimar("ip", 75_000));
+    }
+
+    @Test
+    void fatiaReaproveitadaComecaZerada() {
+        SketchJanelaDeslizante sketch = new SketchJanelaDeslizante(JANELA, 4, 4, 1_024);
+        sketch.incrementar("ip", 0);
+        sketch.incrementar("ip", 0);
+
+        // Mesma posição do anel, uma volta depois
+        sketch.incrementar("ip", 60_000);
+
+        assertEquals(1, sketch.estimar("ip", 60_000));
+    }
+
+    @Test
+    void incrementosConcorrentesNaoSePerdem() throws Exception {
+        SketchJanelaDeslizante sketch = new SketchJanelaDeslizante(JANELA, 4, 4, 16_384);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tarefas = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        sketch.incrementar("compartilhada", 1_000);
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(80_000, sketch.estimar("compartilhada", 1_000));
+    }
+
+    @Test
+    void recusaParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new SketchJanelaDeslizante(0, 4, 4, 64));
+        assertThrows(IllegalArgumentException.class, () -> new SketchJanelaDeslizante(JANELA, 0, 4, 64));
+        assertThrows(IllegalArgumentException.class, () -> new SketchJanelaDeslizante(JANELA, 4, 0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new SketchJanelaDeslizante(JANELA, 4, 4, 0));
+    }
+}
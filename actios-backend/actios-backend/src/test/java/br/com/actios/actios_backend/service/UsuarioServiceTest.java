@@ -0,0 +1,56 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.exceptions.CampoObrigatorioException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Cursor do diretório (listarDiretorio): posição (nome, id) em Base64 URL
+class UsuarioServiceTest {
+
+    @Test
+    void cursorIdaEVoltaPreservaNomeEId() {
+        assertIdaEVolta("Maria da Silva", 42);
+        assertIdaEVolta("João Ñandú Ærøskøbing", 7);
+        assertIdaEVolta("Nome; com, separadores \"e aspas\"", 1);
+        assertIdaEVolta("", Integer.MAX_VALUE);
+    }
+
+    @Test
+    void quebraDeLinhaNoNomeNaoConfundeOSeparador() {
+        assertIdaEVolta("linha\num\ndois", 99);
+    }
+
+    @Test
+    void nomeNuloViraVazio() {
+        assertArrayEquals(new Object[]{"", 5}, UsuarioService.lerCursor(UsuarioService.gerarCursor(null, 5)));
+    }
+
+    @Test
+    void cursorSoUsaCaracteresSegurosNaUrl() {
+        String cursor = UsuarioService.gerarCursor("Ação ?&=/+ teste", 123);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), cursor);
+    }
+
+    @Test
+    void cursorAdulteradoEhRecusado() {
+        assertThrows(CampoObrigatorioException.class, () -> UsuarioService.lerCursor("***"));
+        assertThrows(CampoObrigatorioException.class, () -> UsuarioService.lerCursor(codificar("sem separador")));
+        assertThrows(CampoObrigatorioException.class, () -> UsuarioService.lerCursor(codificar("Maria\nabc")));
+        assertThrows(CampoObrigatorioException.class, () -> UsuarioService.lerCursor(codificar("Maria\n")));
+    }
+
+    private static void assertIdaEVolta(String nome, int id) {
+        assertArrayEquals(new Object[]{nome, id}, UsuarioService.lerCursor(UsuarioService.gerarCursor(nome, id)));
+    }
+
+    private static String codificar(String posicao) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.actios.actios_backend.service;
+
+import br.com.actios.actios_backend.enums.OperacaoVinculoLote;
+import br.com.actios.actios_backend.enums.ResultadoVinculoLote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VinculoCursoUsuarioLoteServiceTest {
+
+    private VinculoCursoUsuarioLoteService servico;
+
+    @BeforeEach
+    void criar() {
+        // JdbcTemplate sem DataSource: qualquer chunk que chegue ao banco falha
+        servico = new VinculoCursoUsuarioLoteService(new JdbcTemplate(), new TransactionTemplate(new TransacaoSemBanco()));
+        ReflectionTestUtils.setField(servico, "tamanhoChunk", 2);
+    }
+
+    @Test
+    void saidaCompletaTerminaComFimConcluido() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        Map<ResultadoVinculoLote, Long> totais = servico.processar(OperacaoVinculoLote.CONCLUIR,
+                entrada("id_usuario;id_curso;concluido", "x;1", "1;x", "2;2;talvez"), saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, linhas.length);
+        assertEquals("linha;id_usuario;id_curso;resultado;detalhe", linhas[0]);
+        assertTrue(linhas[1].startsWith("2;;1;INVALIDO;"));
+        assertTrue(linhas[4].startsWith("fim;;;CONCLUIDO;3 linhas"), linhas[4]);
+        assertEquals(3L, totais.get(ResultadoVinculoLote.INVALIDO));
+    }
+
+    @Test
+    void falhaNoMeioRelataOndeParou() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        servico.processar(OperacaoVinculoLote.CONCLUIR,
+                entrada("id_usuario;id_curso", "x;1", "1;x", "5;7", "6;8"), saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        // Só o primeiro chunk (sem acesso ao banco) saiu; o segundo falhou e não aparece
+        assertEquals(4, linhas.length);
+        assertTrue(linhas[3].startsWith("fim;;;FALHA;Linhas até 3 confirmadas, a partir da 4 nada foi gravado"),
+                linhas[3]);
+    }
+
+    private static ByteArrayInputStream entrada(String... linhas) {
+        return new ByteArrayInputStream(String.join("\n", linhas).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TransacaoSemBanco implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definicao) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+-- Massa para o ExplainConsultasTest: volume suficiente para o otimizador preferir índices quando eles
+-- existem, com datas no passado para que filtros "a partir de agora" sejam seletivos.
+
+CREATE TABLE numeros_teste (n INT PRIMARY KEY);
+
+INSERT INTO numeros_teste (n)
+SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + 1
+FROM (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+CROSS JOIN (SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e;
+
+INSERT INTO faculdades (id_faculdade, nome, localizacao)
+SELECT n, CONCAT('Faculdade ', n), 'Cidade' FROM numeros_teste WHERE n <= 10;
+
+INSERT INTO categorias (id_categoria, nome)
+SELECT n, CONCAT('Categoria ', n) FROM numeros_teste WHERE n <= 10;
+
+INSERT INTO cursos (id_curso, nome, area_academica, id_faculdade)
+SELECT n, CONCAT('Curso ', n), CONCAT('Area ', n % 5), 1 + n % 10 FROM numeros_teste WHERE n <= 50;
+
+INSERT INTO usuarios (id_usuario, nome, email, senha, curso, faculdade_id, tipo, ativo, resumo_notificacoes)
+SELECT n, CONCAT('Usuario ', n), CONCAT('usuario', n, '@teste.com'), 'hash', 'Curso', 1 + n % 10,
+       IF(n % 50 = 0, 'FACULDADE', 'ALUNO'), n % 20 <> 0, FALSE
+FROM numeros_teste WHERE n <= 5000;
+
+INSERT INTO organizadores (id_organizador, nome, email, id_faculdade, data_cadastro, ativo)
+SELECT n, CONCAT('Organizador ', n), CONCAT('org', n, '@teste.com'), 1 + n % 10, NOW(), TRUE
+FROM numeros_teste WHERE n <= 1000;
+
+INSERT INTO palestrantes (id_palestrante, nome, email)
+SELECT n, CONCAT('Palestrante ', n), CONCAT('palestrante', n, '@teste.com') FROM numeros_teste WHERE n <= 200;
+
+INSERT INTO eventos (id_evento, titulo, descricao, data, horario, local, faculdade_id, categoria_id, ativo)
+SELECT n, CONCAT('Evento ', n), 'Descricao', CURDATE() - INTERVAL (n % 700) DAY, '19:00', 'Auditorio',
+       1 + n % 10, 1 + n % 10, n % 10 <> 0
+FROM numeros_teste WHERE n <= 1000;
+
+INSERT INTO eventos_detalhes (id_evento, data_fim, formato, certificado, valor)
+SELECT n, CURDATE() - INTERVAL (n % 700) DAY + INTERVAL 1 DAY,
+       IF(n % 20 = 0, 'online', IF(n % 2 = 0, 'presencial', 'hibrido')), n % 2 = 0, 10 + n % 500
+FROM numeros_teste WHERE n <= 1000;
+
+INSERT IGNORE INTO evento_palestrante (evento_id, palestrante_id)
+SELECT 1 + n % 1000, 1 + (n * 7) % 200 FROM numeros_teste WHERE n <= 2000;
+
+INSERT IGNORE INTO inscricoes (id_inscricao, usuario_id, evento_id, numero_inscricao, data_inscricao, ativo)
+SELECT n, 1 + n % 5000, 1 + (n * 13) % 1000, CONCAT('INS-', n), NOW() - INTERVAL n MINUTE, n % 20 <> 0
+FROM numeros_teste;
+
+INSERT INTO notificacoes (id_notificacao, id_usuario, id_evento, data_envio, mensagem, lida, resumo)
+SELECT n, 1 + n % 5000, 1 + n % 1000, NOW() - INTERVAL 1 DAY - INTERVAL n MINUTE, 'Mensagem', n % 2 = 0, FALSE
+FROM numeros_teste;
+
+INSERT INTO participacoes (id_participacao, id_usuario, id_evento, checkin, feedback, data_criacao)
+SELECT n, 1 + n % 5000, 1 + (n * 7) % 1000, n % 3 = 0, IF(n % 2 = 0, 'Bom', NULL), NOW() - INTERVAL n MINUTE
+FROM numeros_teste;
+
+INSERT INTO feedback_eventos (id_feedback, id_usuario, id_evento, nota, comentario, data_feedback)
+SELECT n, 1 + n % 5000, 1 + (n * 11) % 1000, 1 + n % 5, 'Comentario', NOW() - INTERVAL n MINUTE
+FROM numeros_teste WHERE n <= 5000;
+
+INSERT INTO registro_certificados (id_certificado, id_usuario, id_curso, data_emissao, codigo_validacao)
+SELECT n, 1 + n % 5000, 1 + n % 50, CURDATE() - INTERVAL (n % 365) DAY, CONCAT('COD-', n)
+FROM numeros_teste WHERE n <= 3000;
+
+INSERT IGNORE INTO vinculo_curso_usuario (id_usuario, id_curso, concluido)
+SELECT 1 + n % 5000, 1 + (n * 3) % 50, n % 3 = 0 FROM numeros_teste;
+
+INSERT INTO eventos_outbox (tipo_agregado, id_agregado, tipo_evento, payload, data_criacao, data_processamento,
+                            processado, tentativas)
+SELECT 'EVENTO', 1 + n % 1000, 'EVENTO_CRIADO', '{}', NOW() - INTERVAL n MINUTE, NOW(), n % 100 <> 0, 0
+FROM numeros_teste WHERE n <= 3000;
+
+INSERT INTO lembretes_enviados (id_evento, tipo, inicio_evento, data_envio, total_destinatarios)
+SELECT 1 + n % 1000, 'UMA_HORA', NOW() - INTERVAL n HOUR, NOW() - INTERVAL n HOUR, 10
+FROM numeros_teste WHERE n <= 2000;
+
+INSERT INTO tokens_revogados (identificador, id_usuario, data_revogacao, data_expiracao)
+SELECT CONCAT('token-', n), 1 + n % 5000, NOW() - INTERVAL n HOUR, NOW() - INTERVAL n MINUTE
+FROM numeros_teste WHERE n <= 2000;
+
+INSERT INTO importacoes_usuarios (id_importacao, id_faculdade, status, arquivo, linhas_processadas, importados,
+                                  rejeitados, data_criacao)
+SELECT n, 1 + n % 10, 'CONCLUIDA', CONCAT('importacao-', n, '.csv'), 2000, 1000, 1000, NOW() - INTERVAL n DAY
+FROM numeros_teste WHERE n <= 10;
+
+INSERT INTO importacoes_usuarios_erros (id_importacao, linha, email, motivo)
+SELECT 1 + n % 10, n, CONCAT('rejeitado', n, '@teste.com'), 'E-mail já cadastrado' FROM numeros_teste;
+
+-- IGNORE: a reconstrução dos rollups na subida pode ter chegado antes
+INSERT IGNORE INTO rollups_faculdade_dia (id_faculdade, dia, eventos, inscricoes, participacoes, recalculado_em)
+SELECT 1 + n % 10, CURDATE() - INTERVAL (n DIV 10) DAY, n % 3, n % 7, n % 5, NOW() FROM numeros_teste;
+
+DROP TABLE numeros_teste;
+
+ANALYZE TABLE faculdades, categorias, cursos, usuarios, organizadores, palestrantes, eventos, eventos_detalhes,
+    evento_palestrante, inscricoes, notificacoes, participacoes, feedback_eventos, registro_certificados,
+    vinculo_curso_usuario, eventos_outbox, lembretes_enviados, tokens_revogados, importacoes_usuarios,
+    importacoes_usuarios_erros, rollups_faculdade_dia;
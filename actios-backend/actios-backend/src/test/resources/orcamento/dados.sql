@@ -0,0 +1,81 @@
+-- Complemento da massa do EXPLAIN para o OrcamentoConsultasTest. Cada listagem por dono tem uma versão
+-- pequena (usuário 2, evento 1001, curso 51, faculdade 11) e uma grande (usuário 1, evento 1, curso 1,
+-- faculdade 1) com dezenas de linhas apontando para associações distintas, onde um N+1 aparece.
+
+INSERT INTO faculdades (id_faculdade, nome, localizacao) VALUES
+    (11, 'Faculdade Pequena', 'Cidade'),
+    (12, 'Faculdade Sem Vinculos', 'Cidade');
+
+INSERT INTO categorias (id_categoria, nome) VALUES (11, 'Categoria Sem Eventos');
+
+INSERT INTO cursos (id_curso, nome, area_academica, id_faculdade) VALUES
+    (51, 'Curso Pequeno', 'Area 1', 11),
+    (52, 'Curso Sem Vinculos', 'Area 1', 11);
+
+INSERT INTO palestrantes (id_palestrante, nome, email) VALUES (201, 'Palestrante Sem Eventos', 'palestrante201@teste.com');
+
+INSERT INTO usuarios (id_usuario, nome, email, senha, curso, faculdade_id, tipo, ativo, resumo_notificacoes)
+VALUES (5001, 'Usuario Sem Vinculos', 'usuario5001@teste.com', 'hash', 'Curso', 11, 'ALUNO', TRUE, FALSE);
+
+INSERT INTO organizadores (id_organizador, nome, email, id_faculdade, data_cadastro, ativo)
+VALUES (1001, 'Organizador Unico', 'org1001@teste.com', 11, NOW(), TRUE);
+
+INSERT INTO eventos (id_evento, titulo, descricao, data, horario, local, faculdade_id, categoria_id, ativo) VALUES
+    (1001, 'Evento Pequeno', 'Descricao', CURDATE() + INTERVAL 10 DAY, '19:00', 'Sala 1', 11, 1, TRUE),
+    (1002, 'Evento Sem Vinculos', 'Descricao', CURDATE() + INTERVAL 10 DAY, '19:00', 'Sala 2', 11, 1, TRUE);
+
+INSERT INTO eventos_detalhes (id_evento, data_fim, formato, certificado, valor)
+VALUES (1001, CURDATE() + INTERVAL 11 DAY, 'presencial', TRUE, 10);
+
+INSERT INTO evento_palestrante (evento_id, palestrante_id) VALUES (1001, 1);
+
+-- Versões pequenas: uma linha cada
+INSERT INTO inscricoes (id_inscricao, usuario_id, evento_id, numero_inscricao, data_inscricao, ativo)
+VALUES (40001, 2, 1001, 'INS-P-1', NOW(), TRUE);
+INSERT INTO notificacoes (id_notificacao, id_usuario, id_evento, data_envio, mensagem, lida, resumo)
+VALUES (40001, 2, 1001, NOW() - INTERVAL 2 DAY, 'Mensagem', FALSE, FALSE);
+INSERT INTO participacoes (id_participacao, id_usuario, id_evento, checkin, feedback, data_criacao)
+VALUES (40001, 2, 1001, FALSE, NULL, NOW());
+INSERT INTO feedback_eventos (id_feedback, id_usuario, id_evento, nota, comentario, data_feedback)
+VALUES (40001, 2, 1001, 5, 'Comentario', NOW());
+INSERT INTO registro_certificados (id_certificado, id_usuario, id_curso, data_emissao, codigo_validacao)
+VALUES (40001, 3, 51, CURDATE(), 'COD-P-1');
+INSERT INTO vinculo_curso_usuario (id_usuario, id_curso, concluido) VALUES (2, 51, TRUE);
+
+-- Usuário 1: 40 linhas em eventos e cursos distintos
+INSERT IGNORE INTO inscricoes (id_inscricao, usuario_id, evento_id, numero_inscricao, data_inscricao, ativo)
+SELECT 20000 + id_evento, 1, id_evento, CONCAT('INS-U-', id_evento), NOW(), TRUE
+FROM eventos WHERE id_evento BETWEEN 100 AND 139;
+INSERT INTO notificacoes (id_notificacao, id_usuario, id_evento, data_envio, mensagem, lida, resumo)
+SELECT 20000 + id_evento, 1, id_evento, NOW() - INTERVAL 2 DAY, 'Mensagem', FALSE, FALSE
+FROM eventos WHERE id_evento BETWEEN 100 AND 139;
+INSERT INTO participacoes (id_participacao, id_usuario, id_evento, checkin, feedback, data_criacao)
+SELECT 20000 + id_evento, 1, id_evento, FALSE, NULL, NOW()
+FROM eventos WHERE id_evento BETWEEN 100 AND 139;
+INSERT INTO feedback_eventos (id_feedback, id_usuario, id_evento, nota, comentario, data_feedback)
+SELECT 20000 + id_evento, 1, id_evento, 4, 'Comentario', NOW()
+FROM eventos WHERE id_evento BETWEEN 100 AND 139;
+INSERT INTO registro_certificados (id_certificado, id_usuario, id_curso, data_emissao, codigo_validacao)
+SELECT 20000 + id_curso, 1, id_curso, CURDATE(), CONCAT('COD-U-', id_curso)
+FROM cursos WHERE id_curso <= 40;
+INSERT IGNORE INTO vinculo_curso_usuario (id_usuario, id_curso, concluido)
+SELECT 1, id_curso, TRUE FROM cursos WHERE id_curso <= 40;
+
+-- Evento 1: 40 linhas de usuários distintos
+INSERT IGNORE INTO inscricoes (id_inscricao, usuario_id, evento_id, numero_inscricao, data_inscricao, ativo)
+SELECT 30000 + id_usuario, id_usuario, 1, CONCAT('INS-E-', id_usuario), NOW(), TRUE
+FROM usuarios WHERE id_usuario BETWEEN 100 AND 139;
+INSERT INTO notificacoes (id_notificacao, id_usuario, id_evento, data_envio, mensagem, lida, resumo)
+SELECT 30000 + id_usuario, id_usuario, 1, NOW() - INTERVAL 2 DAY, 'Mensagem', FALSE, FALSE
+FROM usuarios WHERE id_usuario BETWEEN 100 AND 139;
+INSERT INTO participacoes (id_participacao, id_usuario, id_evento, checkin, feedback, data_criacao)
+SELECT 30000 + id_usuario, id_usuario, 1, FALSE, NULL, NOW()
+FROM usuarios WHERE id_usuario BETWEEN 100 AND 139;
+INSERT INTO feedback_eventos (id_feedback, id_usuario, id_evento, nota, comentario, data_feedback)
+SELECT 30000 + id_usuario, id_usuario, 1, 4, 'Comentario', NOW()
+FROM usuarios WHERE id_usuario BETWEEN 100 AND 139;
+
+-- O AlocadorIds alinhou as sequências antes desta massa existir
+UPDATE sequencias_id SET proximo_valor = 100000;
+
+ANALYZE TABLE inscricoes, notificacoes, participacoes, feedback_eventos, registro_certificados, vinculo_curso_usuario;